@@ -0,0 +1,106 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.benchmarks.support.InMemoryProvider;
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.dod.hub.facade.HubWebDriver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-command overhead of {@link HubWebDriver} and its command pipeline on
+ * top of the provider call it wraps, using {@link InMemoryProvider} so that
+ * the provider itself costs next to nothing.
+ * <ul>
+ * <li>{@code providerGetTitle} and {@code providerFind}: the provider calls
+ * alone</li>
+ * <li>{@code driverGetTitle}: the same title through the facade and
+ * pipeline</li>
+ * <li>{@code driverFindElement}: the same lookup, including {@code By}
+ * conversion and the element wrapper</li>
+ * <li>{@code driverFindElements}: a lookup returning
+ * {@link InMemoryProvider#ELEMENTS_PER_FIND} elements</li>
+ * <li>{@code elementClick} and {@code elementGetText}: commands on an
+ * element found beforehand</li>
+ * </ul>
+ * Run with {@code java -jar hub-benchmarks/target/benchmarks.jar CommandBenchmark};
+ * add {@code -prof gc} to see the allocation per command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandBenchmark {
+
+    private InMemoryProvider provider;
+    private ProviderSession session;
+    private HubWebDriver driver;
+    private WebElement element;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        provider = new InMemoryProvider();
+        driver = new HubWebDriver(provider, new SessionCapabilities());
+        driver.get("https://example.com/login");
+        session = driver.getSession();
+        element = driver.findElement(By.id("submit"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        driver.quit();
+    }
+
+    @Benchmark
+    public String providerGetTitle() {
+        return provider.getTitle(session);
+    }
+
+    @Benchmark
+    public String driverGetTitle() {
+        return driver.getTitle();
+    }
+
+    @Benchmark
+    public Object providerFind() {
+        return provider.find(session, HubLocator.id("email"));
+    }
+
+    @Benchmark
+    public WebElement driverFindElement() {
+        return driver.findElement(By.id("email"));
+    }
+
+    @Benchmark
+    public List<WebElement> driverFindElements() {
+        return driver.findElements(By.cssSelector(".results .row"));
+    }
+
+    @Benchmark
+    public void elementClick() {
+        element.click();
+    }
+
+    @Benchmark
+    public String elementGetText() {
+        return element.getText();
+    }
+}
@@ -0,0 +1,71 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.benchmarks.support.DefaultInMemoryProvider;
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.pool.HubDriverPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Borrowing a driver from {@link HubDriverPool} and returning it, with the
+ * health check and state reset of {@link HubDriverPool#returnDriver}, from
+ * four threads at once. Drivers come from {@link DefaultInMemoryProvider}, so
+ * only the pool and the reset commands are measured.
+ * <ul>
+ * <li>{@code borrowAndReturn}: one cycle per call; with {@code poolMaxActive}
+ * below the thread count, threads wait for each other's drivers</li>
+ * </ul>
+ * Run with {@code java -jar hub-benchmarks/target/benchmarks.jar DriverPoolBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class DriverPoolBenchmark {
+
+    @Param({ "1", "4" })
+    public int poolMaxActive;
+
+    private HubDriverPool pool;
+    private HubConfig config;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pool = HubDriverPool.getInstance();
+        config = new HubConfig();
+        config.setProvider(HubProviderType.DEFAULT);
+        config.setPoolingEnabled(true);
+        config.setPoolMaxActive(poolMaxActive);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.clear();
+    }
+
+    @Benchmark
+    public HubWebDriver borrowAndReturn() {
+        HubWebDriver driver = pool.borrowDriver(config);
+        pool.returnDriver(driver, config);
+        return driver;
+    }
+}
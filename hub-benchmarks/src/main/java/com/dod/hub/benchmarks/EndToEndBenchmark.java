@@ -0,0 +1,321 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.facade.HubFactory;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.test.HubFixtureServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end cost of the browser providers against pages served by a
+ * {@link HubFixtureServer} on the loopback interface, so that runs need no
+ * network and always see the same content. Each benchmark runs once per
+ * {@code provider}; a provider whose browser cannot start is reported as
+ * missing instead of failing the run.
+ * <ul>
+ * <li>{@code sessionStart}: starting a headless browser session</li>
+ * <li>{@code sessionQuit}: quitting a started session</li>
+ * <li>{@code navigate}: loading the login page</li>
+ * <li>{@code navigateSlow}: loading a page answered after
+ * {@value #SLOW_MS} ms; the score minus the delay is the provider's
+ * wait overhead</li>
+ * <li>{@code spaRoute}: switching a single-page app route by a click and
+ * reading the rendered heading</li>
+ * <li>{@code findElement}: one lookup on a loaded page</li>
+ * <li>{@code readRowByRow}: the names of a {@value #ROWS}-row table, a
+ * lookup and a read per row</li>
+ * <li>{@code readAll}: the same names through
+ * {@link HubWebDriver#readAll(By, By, String)}</li>
+ * </ul>
+ * Browsers must be installed beforehand: Chrome for Selenium and Hybrid,
+ * and Playwright's Chromium. Run with
+ * {@code java -cp hub-benchmarks/target/benchmarks.jar com.dod.hub.benchmarks.EndToEndBenchmark},
+ * which prints a matrix of benchmarks by provider and writes
+ * {@code target/e2e-result.json}; any JMH option can be appended, e.g.
+ * {@code -p provider=PLAYWRIGHT}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndToEndBenchmark {
+
+    static final int ROWS = 200;
+    static final int SLOW_MS = 200;
+
+    @State(Scope.Benchmark)
+    public static class Fixture {
+        HubFixtureServer server;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            server = HubFixtureServer.start();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            server.close();
+        }
+    }
+
+    /**
+     * A driver whose session is started by the benchmark and quit after it.
+     */
+    @State(Scope.Thread)
+    public static class Unstarted {
+        @Param({ "SELENIUM", "PLAYWRIGHT", "HYBRID" })
+        public HubProviderType provider;
+
+        HubWebDriver driver;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            driver = newDriver(provider);
+        }
+
+        @TearDown(Level.Invocation)
+        public void tearDown() {
+            quit(driver);
+        }
+    }
+
+    /**
+     * A driver whose session is started before the benchmark quits it.
+     */
+    @State(Scope.Thread)
+    public static class Started {
+        @Param({ "SELENIUM", "PLAYWRIGHT", "HYBRID" })
+        public HubProviderType provider;
+
+        HubWebDriver driver;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            driver = newDriver(provider);
+            driver.getSession();
+        }
+    }
+
+    /**
+     * One started session per trial.
+     */
+    @State(Scope.Thread)
+    public static class Session {
+        @Param({ "SELENIUM", "PLAYWRIGHT", "HYBRID" })
+        public HubProviderType provider;
+
+        HubWebDriver driver;
+        String index;
+        String slow;
+
+        @Setup(Level.Trial)
+        public void setUp(Fixture fixture) {
+            driver = newDriver(provider);
+            index = fixture.server.url("/");
+            slow = fixture.server.url("/slow?ms=" + SLOW_MS);
+            driver.get(index);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            quit(driver);
+        }
+    }
+
+    /**
+     * A session on the {@value #ROWS}-row table page.
+     */
+    @State(Scope.Thread)
+    public static class OnTable {
+        @Param({ "SELENIUM", "PLAYWRIGHT", "HYBRID" })
+        public HubProviderType provider;
+
+        HubWebDriver driver;
+
+        @Setup(Level.Trial)
+        public void setUp(Fixture fixture) {
+            driver = newDriver(provider);
+            driver.get(fixture.server.url("/table?rows=" + ROWS));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            quit(driver);
+        }
+    }
+
+    /**
+     * A session on the single-page app.
+     */
+    @State(Scope.Thread)
+    public static class OnSpa {
+        @Param({ "SELENIUM", "PLAYWRIGHT", "HYBRID" })
+        public HubProviderType provider;
+
+        HubWebDriver driver;
+        int clicks;
+
+        @Setup(Level.Trial)
+        public void setUp(Fixture fixture) {
+            driver = newDriver(provider);
+            driver.get(fixture.server.url("/spa/home"));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            quit(driver);
+        }
+    }
+
+    @Benchmark
+    public Object sessionStart(Unstarted unstarted) {
+        return unstarted.driver.getSession();
+    }
+
+    @Benchmark
+    public void sessionQuit(Started started) {
+        started.driver.quit();
+    }
+
+    @Benchmark
+    public void navigate(Session session) {
+        session.driver.get(session.index);
+    }
+
+    @Benchmark
+    public void navigateSlow(Session session) {
+        session.driver.get(session.slow);
+    }
+
+    @Benchmark
+    public String spaRoute(OnSpa spa) {
+        String route = spa.clicks++ % 2 == 0 ? "orders" : "profile";
+        spa.driver.findElement(By.cssSelector("a[data-route='/spa/" + route + "']")).click();
+        return spa.driver.findElement(By.id("route")).getText();
+    }
+
+    @Benchmark
+    public WebElement findElement(Session session) {
+        return session.driver.findElement(By.id("email"));
+    }
+
+    @Benchmark
+    public List<String> readRowByRow(OnTable table) {
+        List<String> names = new ArrayList<>(ROWS);
+        for (WebElement cell : table.driver.findElements(By.cssSelector("#results .row .name"))) {
+            names.add(cell.getText());
+        }
+        return names;
+    }
+
+    @Benchmark
+    public List<String> readAll(OnTable table) {
+        return table.driver.readAll(By.cssSelector("#results .row"), By.cssSelector(".name"), null);
+    }
+
+    private static HubWebDriver newDriver(HubProviderType provider) {
+        HubConfig config = new HubConfig();
+        config.setProvider(provider);
+        config.setHeadless(true);
+        return HubFactory.create(config);
+    }
+
+    private static void quit(HubWebDriver driver) {
+        if (driver != null) {
+            try {
+                driver.quit();
+            } catch (RuntimeException ignored) {
+                // A browser that failed to start
+            }
+        }
+    }
+
+    /**
+     * Runs the suite and prints the average time of each benchmark by
+     * provider.
+     *
+     * @param args JMH command line options, added to the defaults of this
+     *             suite.
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(EndToEndBenchmark.class.getName() + "\\.")
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/e2e-result.json")
+                .build()).run();
+        System.out.println();
+        System.out.print(matrix(results));
+    }
+
+    /**
+     * Formats results as a table with a row per benchmark and a column per
+     * provider.
+     */
+    static String matrix(Collection<RunResult> results) {
+        // Benchmarks and providers without a result, e.g. a browser that is not installed, show n/a
+        Map<String, Map<String, String>> cells = new TreeMap<>();
+        for (Method method : EndToEndBenchmark.class.getMethods()) {
+            if (method.isAnnotationPresent(Benchmark.class)) {
+                cells.put(method.getName(), new LinkedHashMap<>());
+            }
+        }
+        Set<String> providers = new LinkedHashSet<>(List.of("SELENIUM", "PLAYWRIGHT", "HYBRID"));
+        for (RunResult result : results) {
+            String benchmark = result.getParams().getBenchmark();
+            String name = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            String provider = result.getParams().getParam("provider");
+            providers.add(provider);
+            cells.computeIfAbsent(name, key -> new LinkedHashMap<>()).put(provider,
+                    String.format("%.3f %s", result.getPrimaryResult().getScore(),
+                            result.getPrimaryResult().getScoreUnit()));
+        }
+        StringBuilder table = new StringBuilder(String.format("%-14s", "Benchmark"));
+        for (String provider : providers) {
+            table.append(String.format("%16s", provider));
+        }
+        table.append(System.lineSeparator());
+        for (Map.Entry<String, Map<String, String>> row : cells.entrySet()) {
+            table.append(String.format("%-14s", row.getKey()));
+            for (String provider : providers) {
+                table.append(String.format("%16s", row.getValue().getOrDefault(provider, "n/a")));
+            }
+            table.append(System.lineSeparator());
+        }
+        return table.toString();
+    }
+}
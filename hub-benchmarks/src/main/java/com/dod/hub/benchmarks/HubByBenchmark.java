@@ -0,0 +1,70 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.facade.HubBy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting a Selenium {@link By} into a {@link HubLocator}, which
+ * every facade lookup pays before reaching the provider.
+ * <ul>
+ * <li>{@code byToString}: {@link By#toString()} alone, which the conversion
+ * parses</li>
+ * <li>{@code toHubLocator}: {@link HubBy#toHubLocator(By)}</li>
+ * </ul>
+ * Run with {@code java -jar hub-benchmarks/target/benchmarks.jar HubByBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HubByBenchmark {
+
+    @Param({ "id", "css", "xpath", "linkText" })
+    public String strategy;
+
+    private By by;
+
+    @Setup
+    public void setUp() {
+        switch (strategy) {
+            case "id":
+                by = By.id("email");
+                break;
+            case "css":
+                by = By.cssSelector("form.login input[type=email]");
+                break;
+            case "xpath":
+                by = By.xpath("//form[@id='login']//input[@name='email']");
+                break;
+            default:
+                by = By.linkText("Forgot your password?");
+                break;
+        }
+    }
+
+    @Benchmark
+    public String byToString() {
+        return by.toString();
+    }
+
+    @Benchmark
+    public HubLocator toHubLocator() {
+        return HubBy.toHubLocator(by);
+    }
+}
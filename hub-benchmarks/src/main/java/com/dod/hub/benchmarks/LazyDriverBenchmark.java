@@ -0,0 +1,146 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.benchmarks.support.InMemoryProvider;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
+import com.dod.hub.starter.context.ContextBoundHubWebDriver;
+import com.dod.hub.starter.context.HubContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.target.AbstractLazyCreationTargetSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ScopedProxyMode;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of the lazy driver paths on top of a direct
+ * {@link HubWebDriver} call, using {@link InMemoryProvider} so that only the
+ * wrapping layers are measured.
+ * <ul>
+ * <li>{@code direct}: the driver itself</li>
+ * <li>{@code aopLazyProxy}: the former Spring AOP CGLIB proxy with an
+ * {@link AbstractLazyCreationTargetSource}</li>
+ * <li>{@code lazyHandle}: {@link LazyHubWebDriver}</li>
+ * <li>{@code scopedProxyBean}: the former injected bean, a prototype-scoped
+ * CGLIB proxy that returned {@link HubContext#get()} (an AOP lazy proxy)</li>
+ * <li>{@code contextBoundBean}: the injected {@link ContextBoundHubWebDriver}
+ * over a {@link LazyHubWebDriver}</li>
+ * </ul>
+ * Run with {@code java -jar hub-benchmarks/target/benchmarks.jar LazyDriverBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LazyDriverBenchmark {
+
+    private HubWebDriver direct;
+    private HubWebDriver aopLazyProxy;
+    private HubWebDriver lazyHandle;
+    private HubWebDriver scopedProxyBean;
+    private HubWebDriver contextBoundBean;
+    private AnnotationConfigApplicationContext legacyContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        direct = new HubWebDriver(new InMemoryProvider(), new SessionCapabilities());
+        direct.get("https://example.com");
+
+        ProxyFactory factory = new ProxyFactory();
+        factory.setTargetSource(new LegacyLazyTargetSource(direct));
+        factory.setProxyTargetClass(true);
+        aopLazyProxy = (HubWebDriver) factory.getProxy();
+        aopLazyProxy.getTitle();
+
+        lazyHandle = new LazyHubWebDriver(() -> direct);
+        lazyHandle.getTitle();
+
+        legacyContext = new AnnotationConfigApplicationContext(LegacyBeanConfig.class);
+        scopedProxyBean = legacyContext.getBean(HubWebDriver.class);
+        contextBoundBean = new ContextBoundHubWebDriver();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        legacyContext.close();
+        HubContext.remove();
+    }
+
+    @Benchmark
+    public String direct() {
+        return direct.getTitle();
+    }
+
+    @Benchmark
+    public String aopLazyProxy() {
+        return aopLazyProxy.getTitle();
+    }
+
+    @Benchmark
+    public String lazyHandle() {
+        return lazyHandle.getTitle();
+    }
+
+    @Benchmark
+    public String scopedProxyBean() {
+        HubContext.set(aopLazyProxy);
+        return scopedProxyBean.getTitle();
+    }
+
+    @Benchmark
+    public String contextBoundBean() {
+        HubContext.set(lazyHandle);
+        return contextBoundBean.getTitle();
+    }
+
+    /**
+     * The target source used by the starter before {@link LazyHubWebDriver}.
+     */
+    static final class LegacyLazyTargetSource extends AbstractLazyCreationTargetSource {
+        private final HubWebDriver driver;
+
+        LegacyLazyTargetSource(HubWebDriver driver) {
+            this.driver = driver;
+        }
+
+        @Override
+        protected Object createObject() {
+            return driver;
+        }
+
+        @Override
+        public Class<?> getTargetClass() {
+            return HubWebDriver.class;
+        }
+    }
+
+    /**
+     * The bean definition used by the starter before
+     * {@link ContextBoundHubWebDriver}.
+     */
+    @Configuration
+    static class LegacyBeanConfig {
+        @Bean
+        @org.springframework.context.annotation.Scope(value = "prototype", proxyMode = ScopedProxyMode.TARGET_CLASS)
+        public HubWebDriver hubWebDriver() {
+            return HubContext.get();
+        }
+    }
+}
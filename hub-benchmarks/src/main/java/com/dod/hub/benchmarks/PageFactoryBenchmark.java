@@ -0,0 +1,135 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.benchmarks.support.InMemoryProvider;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.pagefactory.HubComponent;
+import com.dod.hub.facade.pagefactory.HubElementLocatorFactory;
+import com.dod.hub.facade.pagefactory.HubFieldDecorator;
+import com.dod.hub.facade.pagefactory.HubPageFactory;
+import com.dod.hub.starter.pagefactory.HubSpringFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating a page object with eight element fields, a component and a
+ * component list. Nothing is looked up: element proxies resolve on use.
+ * <ul>
+ * <li>{@code pageFactoryWalk}: Selenium's {@link PageFactory} with the Hub
+ * decorator, which walks and decorates the fields reflectively per page</li>
+ * <li>{@code hubPageFactory}: {@link HubPageFactory}, initializing from
+ * metadata cached per class</li>
+ * <li>{@code springCreatePage}: {@link HubSpringFactory#createPage}, a new
+ * autowired bean per call</li>
+ * <li>{@code springReusedPage}: the same with page reuse, returning the
+ * instance created since the last navigation</li>
+ * </ul>
+ * Run with {@code java -jar hub-benchmarks/target/benchmarks.jar PageFactoryBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageFactoryBenchmark {
+
+    private HubWebDriver driver;
+    private AnnotationConfigApplicationContext context;
+    private HubSpringFactory creatingFactory;
+    private HubSpringFactory reusingFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        driver = new HubWebDriver(new InMemoryProvider(), new SessionCapabilities());
+        driver.get("https://example.com/checkout");
+        context = new AnnotationConfigApplicationContext();
+        context.refresh();
+        creatingFactory = new HubSpringFactory(context);
+        reusingFactory = new HubSpringFactory(context, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        driver.quit();
+    }
+
+    @Benchmark
+    public CheckoutPage pageFactoryWalk() {
+        CheckoutPage page = new CheckoutPage();
+        PageFactory.initElements(new HubFieldDecorator(new HubElementLocatorFactory(driver)), page);
+        return page;
+    }
+
+    @Benchmark
+    public CheckoutPage hubPageFactory() {
+        CheckoutPage page = new CheckoutPage();
+        HubPageFactory.initElements(driver, page);
+        return page;
+    }
+
+    @Benchmark
+    public CheckoutPage springCreatePage() {
+        return creatingFactory.createPage(driver, CheckoutPage.class);
+    }
+
+    @Benchmark
+    public CheckoutPage springReusedPage() {
+        return reusingFactory.createPage(driver, CheckoutPage.class);
+    }
+
+    public static class CheckoutPage {
+        @FindBy(id = "email")
+        WebElement email;
+        @FindBy(id = "name")
+        WebElement name;
+        @FindBy(id = "street")
+        WebElement street;
+        @FindBy(id = "city")
+        WebElement city;
+        @FindBy(id = "zip")
+        WebElement zip;
+        @FindBy(css = "select.country")
+        WebElement country;
+        @FindBy(css = "input[type=checkbox].terms")
+        WebElement terms;
+        @FindBy(css = "button[type=submit]")
+        WebElement submit;
+        @FindBy(css = ".summary")
+        Summary summary;
+        @FindBy(css = ".cart .line")
+        List<CartLine> lines;
+    }
+
+    public static class Summary extends HubComponent {
+        @FindBy(css = ".subtotal")
+        WebElement subtotal;
+        @FindBy(css = ".total")
+        WebElement total;
+    }
+
+    public static class CartLine extends HubComponent {
+        @FindBy(css = ".name")
+        WebElement name;
+        @FindBy(css = ".price")
+        WebElement price;
+    }
+}
@@ -0,0 +1,74 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.core.telemetry.FileTelemetryListener;
+import com.dod.hub.core.telemetry.HubTestEvent;
+import com.dod.hub.core.telemetry.HubTestResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Sustained event throughput of one {@link FileTelemetryListener} shared by
+ * four test threads, as in a parallel run. Once the writer's queue is full,
+ * {@link FileTelemetryListener#onEvent} waits for the disk, so the score is
+ * bounded by how fast records are written.
+ * <ul>
+ * <li>{@code onEvent}: one passed-test event per call</li>
+ * </ul>
+ * Run with {@code java -jar hub-benchmarks/target/benchmarks.jar TelemetryListenerBenchmark};
+ * {@link TelemetryWriterBenchmark} times whole runs from one thread.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TelemetryListenerBenchmark {
+
+    private Path dir;
+    private FileTelemetryListener listener;
+    private HubTestResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory("hub-telemetry-throughput");
+        listener = new FileTelemetryListener(dir.toString());
+        result = new HubTestResult("LoginTest", "shouldLogin", HubTestEvent.TEST_PASSED, 1250, null, List.of());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        listener.close();
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public void onEvent() {
+        listener.onEvent(HubTestEvent.TEST_PASSED, result);
+    }
+}
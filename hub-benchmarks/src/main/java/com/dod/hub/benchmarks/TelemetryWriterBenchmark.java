@@ -0,0 +1,162 @@
+package com.dod.hub.benchmarks;
+
+import com.dod.hub.core.telemetry.FileTelemetryListener;
+import com.dod.hub.core.telemetry.HubTelemetryListener;
+import com.dod.hub.core.telemetry.HubTestEvent;
+import com.dod.hub.core.telemetry.HubTestResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Time to record a run of test events, including writing them to disk.
+ * <ul>
+ * <li>{@code legacyJsonFile}: the former listener, which kept every event and
+ * rewrote the whole indented JSON array on each one. It is quadratic, so it
+ * only runs up to 5k events; 50k would rewrite several hundred gigabytes.</li>
+ * <li>{@code ndjsonFile}: {@link FileTelemetryListener}, which appends lines
+ * from a background writer; the result includes the final flush.</li>
+ * </ul>
+ * Run with {@code java -jar hub-benchmarks/target/benchmarks.jar TelemetryWriterBenchmark};
+ * add {@code -prof gc} to compare allocation.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TelemetryWriterBenchmark {
+
+    @State(Scope.Thread)
+    public static class LegacyRun {
+        @Param({ "1000", "5000" })
+        public int legacyEvents;
+
+        Path dir;
+        HubTelemetryListener listener;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("hub-telemetry-legacy");
+            listener = new LegacyJsonFileTelemetryListener(dir.toString());
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            delete(dir);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class NdjsonRun {
+        @Param({ "1000", "5000", "50000" })
+        public int events;
+
+        Path dir;
+        FileTelemetryListener listener;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            dir = Files.createTempDirectory("hub-telemetry-ndjson");
+            listener = new FileTelemetryListener(dir.toString());
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            listener.close();
+            delete(dir);
+        }
+    }
+
+    @Benchmark
+    public void legacyJsonFile(LegacyRun run) {
+        emit(run.listener, run.legacyEvents);
+    }
+
+    @Benchmark
+    public void ndjsonFile(NdjsonRun run) {
+        emit(run.listener, run.events);
+        run.listener.flush();
+    }
+
+    private static void emit(HubTelemetryListener listener, int events) {
+        List<Path> artifacts = List.of(Paths.get("target/hub-artifacts/LoginTest/screenshot.png"));
+        for (int i = 0; i < events; i++) {
+            boolean failed = i % 10 == 0;
+            HubTestEvent event = failed ? HubTestEvent.TEST_FAILED : HubTestEvent.TEST_PASSED;
+            listener.onEvent(event, new HubTestResult("LoginTest", "shouldLogin" + i, event, 1250,
+                    failed ? "Expected condition failed" : null, failed ? artifacts : List.of()));
+        }
+    }
+
+    private static void delete(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The telemetry listener used before {@link FileTelemetryListener} wrote
+     * NDJSON.
+     */
+    static final class LegacyJsonFileTelemetryListener implements HubTelemetryListener {
+        private final Path outputPath;
+        private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        private final List<Map<String, Object>> events = new ArrayList<>();
+
+        LegacyJsonFileTelemetryListener(String basePath) {
+            this.outputPath = Paths.get(basePath, "hub-telemetry.json");
+        }
+
+        @Override
+        public synchronized void onEvent(HubTestEvent event, HubTestResult result) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("event", event.name());
+            entry.put("timestamp", java.time.Instant.now().toString());
+            entry.put("testClass", result.getTestClass());
+            entry.put("testMethod", result.getTestMethod());
+            entry.put("durationMs", result.getDurationMs());
+            if (result.getErrorMessage() != null) {
+                entry.put("errorMessage", result.getErrorMessage());
+            }
+            if (!result.getArtifactPaths().isEmpty()) {
+                entry.put("artifacts", result.getArtifactPaths().stream().map(Path::toString).toList());
+            }
+            events.add(entry);
+            try {
+                Files.writeString(outputPath, mapper.writeValueAsString(events),
+                        StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.dod.hub.benchmarks.support;
+
+import com.dod.hub.core.config.HubProviderType;
+
+/**
+ * {@link InMemoryProvider} registered as the {@link HubProviderType#DEFAULT}
+ * provider, so that code creating drivers from a
+ * {@link com.dod.hub.core.config.HubConfig HubConfig}, such as the driver
+ * pool, runs without a browser.
+ */
+public class DefaultInMemoryProvider extends InMemoryProvider {
+
+    @Override
+    public String getName() {
+        return "default";
+    }
+}
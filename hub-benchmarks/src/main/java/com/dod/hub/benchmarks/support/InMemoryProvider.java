@@ -0,0 +1,172 @@
+package com.dod.hub.benchmarks.support;
+
+import com.dod.hub.core.locator.HubElementRef;
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * A {@link HubProvider} without a browser. Every operation completes in memory
+ * so that benchmarks measure the cost of the Hub layers, not of an engine.
+ * <p>
+ * Each session keeps a URL history; {@link #findAll} returns
+ * {@link #ELEMENTS_PER_FIND} elements.
+ */
+public class InMemoryProvider implements HubProvider {
+
+    public static final int ELEMENTS_PER_FIND = 10;
+    private static final byte[] SCREENSHOT = new byte[] { (byte) 0x89, 'P', 'N', 'G' };
+
+    /**
+     * The raw "driver" of an in-memory session.
+     */
+    static final class Browser {
+        final Deque<String> back = new ArrayDeque<>();
+        final Deque<String> forward = new ArrayDeque<>();
+        String url = "about:blank";
+    }
+
+    @Override
+    public String getName() {
+        return "in-memory";
+    }
+
+    @Override
+    public ProviderSession start(SessionCapabilities caps) {
+        return new ProviderSession(getName(), caps, new Browser());
+    }
+
+    @Override
+    public void stop(ProviderSession session) {
+    }
+
+    private static Browser browser(ProviderSession session) {
+        return (Browser) session.getRawDriver();
+    }
+
+    @Override
+    public HubElementRef find(ProviderSession session, HubLocator locator) {
+        return new HubElementRef(locator, locator.getValue());
+    }
+
+    @Override
+    public List<HubElementRef> findAll(ProviderSession session, HubLocator locator) {
+        List<HubElementRef> refs = new ArrayList<>(ELEMENTS_PER_FIND);
+        for (int i = 0; i < ELEMENTS_PER_FIND; i++) {
+            refs.add(new HubElementRef(locator, locator.getValue() + "#" + i));
+        }
+        return refs;
+    }
+
+    @Override
+    public HubElementRef find(ProviderSession session, HubElementRef parent, HubLocator locator) {
+        return find(session, locator);
+    }
+
+    @Override
+    public List<HubElementRef> findAll(ProviderSession session, HubElementRef parent, HubLocator locator) {
+        return findAll(session, locator);
+    }
+
+    @Override
+    public void click(ProviderSession session, HubElementRef element) {
+    }
+
+    @Override
+    public void type(ProviderSession session, HubElementRef element, String text) {
+    }
+
+    @Override
+    public void clear(ProviderSession session, HubElementRef element) {
+    }
+
+    @Override
+    public String getText(ProviderSession session, HubElementRef element) {
+        return String.valueOf(element.getProviderHandle());
+    }
+
+    @Override
+    public String getAttribute(ProviderSession session, HubElementRef element, String attributeName) {
+        return null;
+    }
+
+    @Override
+    public boolean isDisplayed(ProviderSession session, HubElementRef element) {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled(ProviderSession session, HubElementRef element) {
+        return true;
+    }
+
+    @Override
+    public boolean isSelected(ProviderSession session, HubElementRef element) {
+        return false;
+    }
+
+    @Override
+    public void navigate(ProviderSession session, String url) {
+        Browser browser = browser(session);
+        browser.back.push(browser.url);
+        browser.forward.clear();
+        browser.url = url;
+    }
+
+    @Override
+    public void back(ProviderSession session) {
+        Browser browser = browser(session);
+        if (!browser.back.isEmpty()) {
+            browser.forward.push(browser.url);
+            browser.url = browser.back.pop();
+        }
+    }
+
+    @Override
+    public void forward(ProviderSession session) {
+        Browser browser = browser(session);
+        if (!browser.forward.isEmpty()) {
+            browser.back.push(browser.url);
+            browser.url = browser.forward.pop();
+        }
+    }
+
+    @Override
+    public void refresh(ProviderSession session) {
+    }
+
+    @Override
+    public String getTitle(ProviderSession session) {
+        return "Title of " + browser(session).url;
+    }
+
+    @Override
+    public String getCurrentUrl(ProviderSession session) {
+        return browser(session).url;
+    }
+
+    @Override
+    public String getPageSource(ProviderSession session) {
+        return "<html><head><title>" + getTitle(session) + "</title></head><body></body></html>";
+    }
+
+    @Override
+    public byte[] takeScreenshot(ProviderSession session) {
+        return SCREENSHOT.clone();
+    }
+
+    @Override
+    public void setTimeouts(ProviderSession session, long implicitWaitMs, long pageLoadMs) {
+    }
+
+    @Override
+    public Object executeScript(ProviderSession session, String script, Object... args) {
+        return null;
+    }
+}
@@ -7,6 +7,7 @@ public enum CommandType {
     // Session Management
     SESSION_START,
     SESSION_END,
+    RESET_STATE,
 
     // Navigation
     NAVIGATE_TO,
@@ -27,6 +28,7 @@ public enum CommandType {
     IS_DISPLAYED,
     IS_ENABLED,
     IS_SELECTED,
+    READ_ALL,
 
     // Page Actions
     SCREENSHOT,
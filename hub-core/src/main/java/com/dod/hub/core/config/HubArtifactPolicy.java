@@ -3,5 +3,28 @@ package com.dod.hub.core.config;
 public enum HubArtifactPolicy {
     ALWAYS,
     ON_FAILURE,
-    NEVER
+    NEVER;
+
+    /**
+     * Decides whether a finished test gets a screenshot. Under {@link #ALWAYS}
+     * passing tests are sampled by a hash of their id, so the same tests are
+     * captured in every run.
+     *
+     * @param failed     Whether the test failed.
+     * @param sampleRate Fraction of passing tests to capture, see
+     *                   {@link HubConfig#getArtifactSampleRate()}.
+     * @param testId     A stable id of the test, e.g. {@code class#method}.
+     */
+    public boolean shouldCapture(boolean failed, double sampleRate, String testId) {
+        if (this == NEVER) {
+            return false;
+        }
+        if (failed) {
+            return true;
+        }
+        if (this == ON_FAILURE || sampleRate <= 0) {
+            return false;
+        }
+        return sampleRate >= 1 || Math.floorMod(testId.hashCode(), 10_000) < sampleRate * 10_000;
+    }
 }
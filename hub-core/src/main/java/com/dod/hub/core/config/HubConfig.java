@@ -17,10 +17,15 @@ public class HubConfig {
     private Map<String, Object> providerOptions = new HashMap<>();
     private boolean poolingEnabled = false;
     private boolean lazyInit = false;
+    private boolean elementCaching = true;
     private int poolMinIdle = 0;
     private int poolMaxActive = 5;
     private String artifactPath = "target/hub-artifacts";
     private HubArtifactPolicy artifactPolicy = HubArtifactPolicy.ON_FAILURE;
+    private double artifactSampleRate = 1.0;
+    private HubNavigationPolicy navigationPolicy = HubNavigationPolicy.normal();
+    private HubScreenshotSpec screenshotSpec;
+    private HubVideoOptions videoOptions;
 
     public HubConfig() {
     }
@@ -45,6 +50,21 @@ public class HubConfig {
         this.lazyInit = lazyInit;
     }
 
+    /**
+     * Checks if page objects cache the elements of their {@code @FindBy}
+     * fields until the next navigation.
+     *
+     * @return true if element caching is enabled; false to look elements up
+     *         on every access.
+     */
+    public boolean isElementCaching() {
+        return elementCaching;
+    }
+
+    public void setElementCaching(boolean elementCaching) {
+        this.elementCaching = elementCaching;
+    }
+
     public HubProviderType getProvider() {
         return provider;
     }
@@ -144,4 +164,69 @@ public class HubConfig {
     public void setArtifactPolicy(HubArtifactPolicy artifactPolicy) {
         this.artifactPolicy = artifactPolicy;
     }
+
+    /**
+     * Returns the fraction of passing tests that get a screenshot under
+     * {@link HubArtifactPolicy#ALWAYS}. Failing tests are always captured.
+     *
+     * @return A value between 0 and 1; 1 captures every test.
+     */
+    public double getArtifactSampleRate() {
+        return artifactSampleRate;
+    }
+
+    public void setArtifactSampleRate(double artifactSampleRate) {
+        if (!(artifactSampleRate >= 0 && artifactSampleRate <= 1)) {
+            throw new IllegalArgumentException("Artifact sample rate must be between 0 and 1");
+        }
+        this.artifactSampleRate = artifactSampleRate;
+    }
+
+    /**
+     * Returns the default readiness policy applied to every navigation.
+     *
+     * @return The navigation policy; never null.
+     */
+    public HubNavigationPolicy getNavigationPolicy() {
+        return navigationPolicy;
+    }
+
+    /**
+     * Sets the default readiness policy applied to every navigation. Individual
+     * calls may still override it.
+     *
+     * @param navigationPolicy The navigation policy; null resets to
+     *                         {@link HubNavigationPolicy#normal()}.
+     */
+    public void setNavigationPolicy(HubNavigationPolicy navigationPolicy) {
+        this.navigationPolicy = navigationPolicy != null ? navigationPolicy : HubNavigationPolicy.normal();
+    }
+
+    /**
+     * Returns the spec used for screenshots that do not request one explicitly,
+     * including failure artifacts.
+     *
+     * @return The screenshot spec, or null to use each provider's default capture.
+     */
+    public HubScreenshotSpec getScreenshotSpec() {
+        return screenshotSpec;
+    }
+
+    public void setScreenshotSpec(HubScreenshotSpec screenshotSpec) {
+        this.screenshotSpec = screenshotSpec;
+    }
+
+    /**
+     * Returns the limits for recording sessions of this configuration. Only
+     * Chromium sessions are recorded; the video is kept for failing tests.
+     *
+     * @return The recording options, or null if sessions are not recorded.
+     */
+    public HubVideoOptions getVideoOptions() {
+        return videoOptions;
+    }
+
+    public void setVideoOptions(HubVideoOptions videoOptions) {
+        this.videoOptions = videoOptions;
+    }
 }
@@ -0,0 +1,20 @@
+package com.dod.hub.core.config;
+
+/**
+ * How long a test-managed driver lives.
+ */
+public enum HubDriverScope {
+    /**
+     * A driver per test method, released after the test.
+     */
+    METHOD,
+    /**
+     * One driver shared by all tests of a class, released after the class.
+     */
+    CLASS,
+    /**
+     * One driver per configuration shared by all test classes of the run,
+     * released when the run ends.
+     */
+    SUITE
+}
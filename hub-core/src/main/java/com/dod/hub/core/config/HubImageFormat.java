@@ -0,0 +1,16 @@
+package com.dod.hub.core.config;
+
+/**
+ * Image encoding of a captured screenshot.
+ */
+public enum HubImageFormat {
+    /**
+     * Lossless; the format WebDriver returns by default.
+     */
+    PNG,
+    /**
+     * Lossy with configurable quality; typically several times smaller and
+     * faster to encode than PNG for page content.
+     */
+    JPEG
+}
@@ -0,0 +1,180 @@
+package com.dod.hub.core.config;
+
+import java.util.Objects;
+
+/**
+ * Describes when a navigation is considered ready.
+ * <p>
+ * A policy either maps directly to a {@link HubPageLoadStrategy}, or defines a
+ * custom readiness condition (a CSS selector that must be present, or a
+ * JavaScript predicate that must evaluate to true). Custom conditions are
+ * evaluated in-page after the navigation has been committed, so the caller does
+ * not pay for sub-resources it does not depend on.
+ * <p>
+ * Instances are immutable.
+ */
+public final class HubNavigationPolicy {
+
+    private static final HubNavigationPolicy NORMAL = new HubNavigationPolicy(HubPageLoadStrategy.NORMAL, null, null, 0);
+    private static final HubNavigationPolicy EAGER = new HubNavigationPolicy(HubPageLoadStrategy.EAGER, null, null, 0);
+    private static final HubNavigationPolicy NONE = new HubNavigationPolicy(HubPageLoadStrategy.NONE, null, null, 0);
+
+    private final HubPageLoadStrategy strategy;
+    private final String readySelector;
+    private final String readyScript;
+    private final long timeoutMs;
+
+    private HubNavigationPolicy(HubPageLoadStrategy strategy, String readySelector, String readyScript,
+            long timeoutMs) {
+        this.strategy = strategy;
+        this.readySelector = readySelector;
+        this.readyScript = readyScript;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Waits for the load event. This is the default policy.
+     */
+    public static HubNavigationPolicy normal() {
+        return NORMAL;
+    }
+
+    /**
+     * Waits for DOMContentLoaded only.
+     */
+    public static HubNavigationPolicy eager() {
+        return EAGER;
+    }
+
+    /**
+     * Returns as soon as the navigation is committed.
+     */
+    public static HubNavigationPolicy none() {
+        return NONE;
+    }
+
+    public static HubNavigationPolicy of(HubPageLoadStrategy strategy) {
+        switch (Objects.requireNonNull(strategy, "strategy")) {
+            case EAGER:
+                return EAGER;
+            case NONE:
+                return NONE;
+            default:
+                return NORMAL;
+        }
+    }
+
+    /**
+     * Considers the page ready once an element matching the CSS selector is
+     * attached to the DOM.
+     *
+     * @param cssSelector The CSS selector to wait for.
+     * @return A custom readiness policy.
+     */
+    public static HubNavigationPolicy whenSelector(String cssSelector) {
+        if (cssSelector == null || cssSelector.isBlank()) {
+            throw new IllegalArgumentException("Ready selector must not be empty");
+        }
+        return new HubNavigationPolicy(HubPageLoadStrategy.NONE, cssSelector, null, 0);
+    }
+
+    /**
+     * Considers the page ready once the JavaScript expression evaluates to a
+     * truthy value, e.g. {@code "window.appReady === true"}.
+     *
+     * @param jsPredicate A JavaScript expression (not a function body).
+     * @return A custom readiness policy.
+     */
+    public static HubNavigationPolicy whenScript(String jsPredicate) {
+        if (jsPredicate == null || jsPredicate.isBlank()) {
+            throw new IllegalArgumentException("Ready script must not be empty");
+        }
+        return new HubNavigationPolicy(HubPageLoadStrategy.NONE, null, jsPredicate, 0);
+    }
+
+    /**
+     * Returns a copy of this policy with an explicit timeout for the readiness
+     * wait. A value of 0 falls back to the provider's page load timeout.
+     *
+     * @param timeoutMs Timeout in milliseconds.
+     * @return A new policy instance.
+     */
+    public HubNavigationPolicy withTimeout(long timeoutMs) {
+        if (timeoutMs < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative");
+        }
+        return new HubNavigationPolicy(strategy, readySelector, readyScript, timeoutMs);
+    }
+
+    public HubPageLoadStrategy getStrategy() {
+        return strategy;
+    }
+
+    public String getReadySelector() {
+        return readySelector;
+    }
+
+    public String getReadyScript() {
+        return readyScript;
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    /**
+     * @return true if readiness is defined by a selector or script rather than a
+     *         plain load strategy.
+     */
+    public boolean isCustom() {
+        return readySelector != null || readyScript != null;
+    }
+
+    /**
+     * Builds a JavaScript expression that evaluates to true once the custom
+     * readiness condition holds. Only meaningful for custom policies.
+     *
+     * @return The readiness expression, or null for plain strategies.
+     */
+    public String toReadyExpression() {
+        if (readyScript != null) {
+            return "!!(" + readyScript + ")";
+        }
+        if (readySelector != null) {
+            return "document.querySelector('" + escapeJs(readySelector) + "') !== null";
+        }
+        return null;
+    }
+
+    private static String escapeJs(String value) {
+        return value.replace("\\", "\\\\").replace("'", "\\'");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        HubNavigationPolicy that = (HubNavigationPolicy) o;
+        return timeoutMs == that.timeoutMs && strategy == that.strategy
+                && Objects.equals(readySelector, that.readySelector)
+                && Objects.equals(readyScript, that.readyScript);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(strategy, readySelector, readyScript, timeoutMs);
+    }
+
+    @Override
+    public String toString() {
+        if (readySelector != null) {
+            return "selector(" + readySelector + ")";
+        }
+        if (readyScript != null) {
+            return "script(" + readyScript + ")";
+        }
+        return strategy.name().toLowerCase();
+    }
+}
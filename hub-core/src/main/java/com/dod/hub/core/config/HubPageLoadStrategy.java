@@ -0,0 +1,20 @@
+package com.dod.hub.core.config;
+
+/**
+ * Defines how long a navigation blocks before control returns to the caller.
+ */
+public enum HubPageLoadStrategy {
+    /**
+     * Waits for the load event (document.readyState == "complete").
+     */
+    NORMAL,
+    /**
+     * Waits for DOMContentLoaded (document.readyState == "interactive"); images,
+     * stylesheets and iframes may still be loading.
+     */
+    EAGER,
+    /**
+     * Returns as soon as the navigation has been committed.
+     */
+    NONE
+}
@@ -4,5 +4,6 @@ public enum HubProviderType {
     DEFAULT,
     SELENIUM,
     PLAYWRIGHT,
-    HYBRID
+    HYBRID,
+    STATIC
 }
@@ -0,0 +1,17 @@
+package com.dod.hub.core.config;
+
+/**
+ * Defines which part of the page a screenshot covers. Element screenshots are
+ * always clipped to the element's bounding box.
+ */
+public enum HubScreenshotArea {
+    /**
+     * The currently visible viewport.
+     */
+    VIEWPORT,
+    /**
+     * The whole scrollable document. Considerably slower and larger than a
+     * viewport capture on tall pages.
+     */
+    FULL_PAGE
+}
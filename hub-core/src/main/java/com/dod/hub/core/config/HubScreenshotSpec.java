@@ -0,0 +1,167 @@
+package com.dod.hub.core.config;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Describes how a screenshot is captured and encoded: the captured area, the
+ * image format (with quality for JPEG) and an optional scale factor applied
+ * to CSS pixels.
+ * <p>
+ * Instances are immutable; start from {@link #viewport()} or
+ * {@link #fullPage()} and refine with {@link #jpeg(int)}, {@link #png()} and
+ * {@link #withScale(double)}.
+ */
+public final class HubScreenshotSpec {
+
+    /**
+     * JPEG quality used when none is given.
+     */
+    public static final int DEFAULT_JPEG_QUALITY = 80;
+
+    private static final HubScreenshotSpec VIEWPORT = new HubScreenshotSpec(HubScreenshotArea.VIEWPORT,
+            HubImageFormat.PNG, 0, 1.0);
+    private static final HubScreenshotSpec FULL_PAGE = new HubScreenshotSpec(HubScreenshotArea.FULL_PAGE,
+            HubImageFormat.PNG, 0, 1.0);
+
+    private final HubScreenshotArea area;
+    private final HubImageFormat format;
+    private final int quality;
+    private final double scale;
+
+    private HubScreenshotSpec(HubScreenshotArea area, HubImageFormat format, int quality, double scale) {
+        this.area = area;
+        this.format = format;
+        this.quality = quality;
+        this.scale = scale;
+    }
+
+    /**
+     * A PNG of the visible viewport at full resolution. This is the default.
+     */
+    public static HubScreenshotSpec viewport() {
+        return VIEWPORT;
+    }
+
+    /**
+     * A PNG of the whole document at full resolution.
+     */
+    public static HubScreenshotSpec fullPage() {
+        return FULL_PAGE;
+    }
+
+    public static HubScreenshotSpec of(HubScreenshotArea area) {
+        return Objects.requireNonNull(area, "area") == HubScreenshotArea.FULL_PAGE ? FULL_PAGE : VIEWPORT;
+    }
+
+    /**
+     * Returns a copy of this spec encoded as PNG.
+     */
+    public HubScreenshotSpec png() {
+        return new HubScreenshotSpec(area, HubImageFormat.PNG, 0, scale);
+    }
+
+    /**
+     * Returns a copy of this spec encoded as JPEG.
+     *
+     * @param quality JPEG quality between 1 and 100.
+     * @return A new spec instance.
+     */
+    public HubScreenshotSpec jpeg(int quality) {
+        if (quality < 1 || quality > 100) {
+            throw new IllegalArgumentException("JPEG quality must be between 1 and 100");
+        }
+        return new HubScreenshotSpec(area, HubImageFormat.JPEG, quality, scale);
+    }
+
+    /**
+     * Returns a copy of this spec encoded with the given format, using
+     * {@link #DEFAULT_JPEG_QUALITY} for JPEG.
+     */
+    public HubScreenshotSpec withFormat(HubImageFormat format) {
+        return Objects.requireNonNull(format, "format") == HubImageFormat.JPEG ? jpeg(DEFAULT_JPEG_QUALITY) : png();
+    }
+
+    /**
+     * Returns a copy of this spec with a scale factor applied to the captured
+     * image, e.g. {@code 0.5} halves width and height.
+     *
+     * @param scale A factor greater than 0 and at most 1.
+     * @return A new spec instance.
+     */
+    public HubScreenshotSpec withScale(double scale) {
+        if (!(scale > 0 && scale <= 1)) {
+            throw new IllegalArgumentException("Scale must be greater than 0 and at most 1");
+        }
+        return new HubScreenshotSpec(area, format, quality, scale);
+    }
+
+    public HubScreenshotArea getArea() {
+        return area;
+    }
+
+    public HubImageFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return JPEG quality between 1 and 100, or 0 for PNG.
+     */
+    public int getQuality() {
+        return quality;
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * @return true if the image must be rescaled after capture.
+     */
+    public boolean isScaled() {
+        return scale != 1.0;
+    }
+
+    /**
+     * @return The MIME type matching the image format.
+     */
+    public String getMimeType() {
+        return format == HubImageFormat.JPEG ? "image/jpeg" : "image/png";
+    }
+
+    /**
+     * @return The file extension matching the image format, without a dot.
+     */
+    public String getFileExtension() {
+        return format == HubImageFormat.JPEG ? "jpg" : "png";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (o == null || getClass() != o.getClass())
+            return false;
+        HubScreenshotSpec that = (HubScreenshotSpec) o;
+        return quality == that.quality && Double.compare(scale, that.scale) == 0 && area == that.area
+                && format == that.format;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(area, format, quality, scale);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(area.name().toLowerCase(Locale.ROOT).replace('_', '-'))
+                .append('/').append(format.name().toLowerCase(Locale.ROOT));
+        if (format == HubImageFormat.JPEG) {
+            sb.append("(q=").append(quality).append(')');
+        }
+        if (isScaled()) {
+            sb.append('@').append(scale).append('x');
+        }
+        return sb.toString();
+    }
+}
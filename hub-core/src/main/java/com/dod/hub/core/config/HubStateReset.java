@@ -0,0 +1,21 @@
+package com.dod.hub.core.config;
+
+/**
+ * Browser state cleared when a driver is reused by another test.
+ */
+public enum HubStateReset {
+    /**
+     * Keep everything; suitable for read-only suites.
+     */
+    NONE,
+    /**
+     * Delete cookies and clear local/session storage of the current page.
+     */
+    COOKIES_AND_STORAGE,
+    /**
+     * Start from a fresh browser context (all cookies, storage, cache and open
+     * pages). Providers without isolated contexts clear as much as their engine
+     * allows and load {@code about:blank}.
+     */
+    NEW_CONTEXT
+}
@@ -0,0 +1,107 @@
+package com.dod.hub.core.config;
+
+/**
+ * Limits of a session recording: the highest frame rate kept, the memory the
+ * frames of one session may occupy, and quality and size of the frames the
+ * browser sends.
+ * <p>
+ * Instances are immutable; start from {@link #defaults()} and refine with the
+ * {@code with} methods.
+ */
+public final class HubVideoOptions {
+
+    private static final HubVideoOptions DEFAULTS = new HubVideoOptions(5, 32L * 1024 * 1024, 60, 1280, 720);
+
+    private final int maxFps;
+    private final long maxBufferBytes;
+    private final int quality;
+    private final int maxWidth;
+    private final int maxHeight;
+
+    private HubVideoOptions(int maxFps, long maxBufferBytes, int quality, int maxWidth, int maxHeight) {
+        if (maxFps < 1 || maxFps > 60) {
+            throw new IllegalArgumentException("Video frame rate must be between 1 and 60");
+        }
+        if (maxBufferBytes <= 0) {
+            throw new IllegalArgumentException("Video buffer size must be positive");
+        }
+        if (quality < 1 || quality > 100) {
+            throw new IllegalArgumentException("Video JPEG quality must be between 1 and 100");
+        }
+        if (maxWidth < 1 || maxHeight < 1) {
+            throw new IllegalArgumentException("Video frame size must be positive");
+        }
+        this.maxFps = maxFps;
+        this.maxBufferBytes = maxBufferBytes;
+        this.quality = quality;
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    /**
+     * 5 frames per second, 32 MiB per session, JPEG quality 60, frames of at
+     * most 1280x720.
+     */
+    public static HubVideoOptions defaults() {
+        return DEFAULTS;
+    }
+
+    public HubVideoOptions withMaxFps(int maxFps) {
+        return new HubVideoOptions(maxFps, maxBufferBytes, quality, maxWidth, maxHeight);
+    }
+
+    /**
+     * @param maxBufferBytes Memory for the frames of one session; the oldest
+     *                       frames are dropped beyond it.
+     */
+    public HubVideoOptions withMaxBufferBytes(long maxBufferBytes) {
+        return new HubVideoOptions(maxFps, maxBufferBytes, quality, maxWidth, maxHeight);
+    }
+
+    public HubVideoOptions withQuality(int quality) {
+        return new HubVideoOptions(maxFps, maxBufferBytes, quality, maxWidth, maxHeight);
+    }
+
+    /**
+     * Frames larger than the page's viewport are scaled down by the browser
+     * to fit into this size.
+     */
+    public HubVideoOptions withMaxSize(int maxWidth, int maxHeight) {
+        return new HubVideoOptions(maxFps, maxBufferBytes, quality, maxWidth, maxHeight);
+    }
+
+    public int getMaxFps() {
+        return maxFps;
+    }
+
+    public long getMaxBufferBytes() {
+        return maxBufferBytes;
+    }
+
+    public int getQuality() {
+        return quality;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    /**
+     * The {@code everyNthFrame} screencast parameter for the frame rate: the
+     * browser then encodes no more frames than are kept, assuming a 60 Hz
+     * compositor.
+     */
+    public int getEveryNthFrame() {
+        return Math.max(1, 60 / maxFps);
+    }
+
+    @Override
+    public String toString() {
+        return "HubVideoOptions{maxFps=" + maxFps + ", maxBufferBytes=" + maxBufferBytes + ", quality=" + quality
+                + ", maxSize=" + maxWidth + "x" + maxHeight + "}";
+    }
+}
@@ -0,0 +1,221 @@
+package com.dod.hub.core.locator;
+
+import java.util.regex.Pattern;
+
+/**
+ * Translates locators into the CSS selectors and XPath expressions a browser
+ * evaluates itself, so that lookups can be answered by a single script
+ * instead of one provider call per element.
+ */
+public final class HubSelectors {
+
+    /** Query kind of a CSS selector, see {@link #kind(HubLocator)}. */
+    public static final String CSS = "css";
+
+    /** Query kind of an XPath expression, see {@link #kind(HubLocator)}. */
+    public static final String XPATH = "xpath";
+
+    private static final Pattern TAG = Pattern.compile("[A-Za-z][\\w-]*");
+
+    /** A leading id selector followed by a descendant or child combinator, or nothing. */
+    private static final Pattern ID_PREFIX =
+            Pattern.compile("(#[A-Za-z_][\\w-]*|\\[id=\"(?:[^\"\\\\]|\\\\.)*\"\\])(?=\\s|>|$)");
+
+    /**
+     * Script function {@code (scope, kind, selector) => elements} returning
+     * all elements matching a query inside {@code scope}, or inside the
+     * document when {@code scope} is null.
+     */
+    public static final String QUERY_ALL = "function(scope, kind, selector) {"
+            + " scope = scope || document;"
+            + " if (kind === 'css') { return Array.prototype.slice.call(scope.querySelectorAll(selector)); }"
+            + " var found = document.evaluate(selector, scope, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);"
+            + " var all = [];"
+            + " for (var i = 0; i < found.snapshotLength; i++) { all.push(found.snapshotItem(i)); }"
+            + " return all; }";
+
+    /**
+     * Script function {@code (roots, kind, selector, read) => values}
+     * returning, for each root, {@code read(element)} of the first element
+     * matching the query inside it. Roots without such an element yield null.
+     * {@code read} is made by {@link #READ_RAW} or {@link #READ_WEBDRIVER},
+     * whichever matches the provider's own reads.
+     */
+    public static final String READ_FIRST = "function(roots, kind, selector, read) {"
+            + " return roots.map(function(root) {"
+            + " var child = kind === 'css' ? root.querySelector(selector)"
+            + " : document.evaluate(selector, root, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;"
+            + " return child ? read(child) : null; }); }";
+
+    /**
+     * Script function {@code (attribute, textProperty) => read} whose reader
+     * returns the attribute as written in the markup, or the text property
+     * when {@code attribute} is null.
+     */
+    public static final String READ_RAW = "function(attribute, textProperty) {"
+            + " return function(e) { return attribute == null ? e[textProperty] : e.getAttribute(attribute); }; }";
+
+    /**
+     * Script function {@code (attribute) => read} whose reader follows
+     * WebDriver's {@code getAttribute} and {@code getText}: the live property
+     * comes before the attribute (the current {@code value}, absolute
+     * {@code href}), {@code checked} and {@code selected} report the current
+     * state, boolean attributes read {@code "true"} or null, and the text is
+     * the rendered text with each line trimmed, empty for hidden elements.
+     */
+    public static final String READ_WEBDRIVER = "function(attribute) {"
+            + " var booleans = /^(allowfullscreen|async|autofocus|autoplay|checked|compact|controls|declare|default"
+            + "|defer|disabled|formnovalidate|hidden|indeterminate|ismap|itemscope|loop|multiple|muted|nohref"
+            + "|nomodule|noresize|noshade|novalidate|nowrap|open|paused|playsinline|readonly|required|reversed"
+            + "|scoped|seamless|selected|truespeed)$/;"
+            + " var aliases = { 'class': 'className', 'readonly': 'readOnly' };"
+            + " return function(e) {"
+            + " if (attribute == null) {"
+            + " if (!(e.offsetWidth || e.offsetHeight || e.getClientRects().length)) { return ''; }"
+            + " return e.innerText.replace(/\\u00a0/g, ' ').split('\\n')"
+            + ".map(function(line) { return line.trim(); }).join('\\n').trim(); }"
+            + " var name = attribute.toLowerCase(); var tag = e.tagName.toLowerCase();"
+            + " if ((name === 'checked' || name === 'selected') && (tag === 'option'"
+            + " || tag === 'input' && (e.type === 'checkbox' || e.type === 'radio'))) {"
+            + " return (tag === 'option' ? e.selected : e.checked) ? 'true' : null; }"
+            + " if (name === 'href' && tag === 'a' || name === 'src' && tag === 'img') {"
+            + " return e.getAttribute(name) == null ? null : e[name]; }"
+            + " if (name === 'style') { return e.style.cssText; }"
+            + " var property = e[aliases[name] || attribute];"
+            + " if (booleans.test(name)) { return e.hasAttribute(name) || property === true ? 'true' : null; }"
+            + " if (property == null || typeof property === 'object' || typeof property === 'function') {"
+            + " property = e.getAttribute(attribute); }"
+            + " return property == null ? null : String(property); }; }";
+
+    private HubSelectors() {
+    }
+
+    /**
+     * Returns {@link #CSS} or {@link #XPATH} for locators a browser can
+     * evaluate, or null for text based strategies such as link text.
+     */
+    public static String kind(HubLocator locator) {
+        if (locator.getStrategy() == LocatorStrategy.XPATH) {
+            return XPATH;
+        }
+        return toCss(locator) != null ? CSS : null;
+    }
+
+    /**
+     * Returns the CSS selector or XPath expression of the given locator, or
+     * null if {@link #kind(HubLocator)} is null.
+     */
+    public static String selector(HubLocator locator) {
+        if (locator.getStrategy() == LocatorStrategy.XPATH) {
+            return locator.getValue();
+        }
+        return toCss(locator);
+    }
+
+    /**
+     * Combines the locator of an element and that of a child inside it into
+     * one locator, so the child is found with a single lookup instead of one
+     * per level. Returns null when the pair has no equivalent single locator,
+     * in which case the caller falls back to a chained lookup.
+     * <p>
+     * A CSS pair is combined into {@code "parent child"} only when the parent
+     * starts with an id, e.g. {@code #cart} or a locator combined from it:
+     * otherwise the descendant selector would match children of any parent
+     * match, not only of the first one. All other pairs are combined into the
+     * XPath {@code (parent)[1]//child}, which keeps the chained semantics
+     * exactly, if both convert to XPath: XPath child expressions must be
+     * relative ({@code ./} or {@code .//}), and CSS selectors never convert.
+     */
+    public static HubLocator compose(HubLocator parent, HubLocator child) {
+        String inner = toCss(child);
+        if (startsWithId(parent) && inner != null && !inner.contains(",")) {
+            return HubLocator.css(toCss(parent) + " " + inner);
+        }
+        String root = toXPath(parent);
+        String path = child.getStrategy() == LocatorStrategy.XPATH ? child.getValue().trim() : toXPath(child);
+        if (root == null || path == null || path.contains("|")) {
+            return null;
+        }
+        if (child.getStrategy() == LocatorStrategy.XPATH) {
+            if (!path.startsWith("./")) {
+                return null;
+            }
+            path = path.substring(1);
+        }
+        return HubLocator.xpath("(" + root + ")[1]" + path);
+    }
+
+    /**
+     * Returns a locator of the element at {@code index} among the matches of
+     * {@code list}, or null unless it is an XPath.
+     */
+    public static HubLocator item(HubLocator list, int index) {
+        if (list.getStrategy() != LocatorStrategy.XPATH) {
+            return null;
+        }
+        return HubLocator.xpath("(" + list.getValue() + ")[" + (index + 1) + "]");
+    }
+
+    /**
+     * Returns the CSS selector equivalent to the given locator, or null if it
+     * has none.
+     */
+    public static String toCss(HubLocator locator) {
+        String value = locator.getValue();
+        switch (locator.getStrategy()) {
+            case CSS:
+            case TAG_NAME:
+                return value;
+            case ID:
+                return "[id=" + quote(value) + "]";
+            case NAME:
+                return "[name=" + quote(value) + "]";
+            case CLASS_NAME:
+                return value.trim().isEmpty() || value.trim().contains(" ") ? null : "." + value.trim();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Returns the XPath expression equivalent to the given locator, or null
+     * if it has none.
+     */
+    static String toXPath(HubLocator locator) {
+        String value = locator.getValue().trim();
+        switch (locator.getStrategy()) {
+            case XPATH:
+                return value;
+            case ID:
+                return xpathTest("@id=", locator.getValue(), "");
+            case NAME:
+                return xpathTest("@name=", locator.getValue(), "");
+            case TAG_NAME:
+                return TAG.matcher(value).matches() ? "//" + value : null;
+            case CLASS_NAME:
+                return value.isEmpty() || value.contains(" ") ? null
+                        : xpathTest("contains(concat(' ', normalize-space(@class), ' '), ", " " + value + " ", ")");
+            default:
+                return null;
+        }
+    }
+
+    private static String xpathTest(String prefix, String value, String suffix) {
+        String literal = !value.contains("'") ? "'" + value + "'"
+                : !value.contains("\"") ? "\"" + value + "\"" : null;
+        return literal == null ? null : "//*[" + prefix + literal + suffix + "]";
+    }
+
+    private static boolean startsWithId(HubLocator locator) {
+        if (locator.getStrategy() == LocatorStrategy.ID) {
+            return true;
+        }
+        String value = locator.getValue();
+        return locator.getStrategy() == LocatorStrategy.CSS && !value.contains(",")
+                && ID_PREFIX.matcher(value.trim()).lookingAt();
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -2,6 +2,8 @@ package com.dod.hub.core.pipeline;
 
 import com.dod.hub.core.command.CommandResult;
 import com.dod.hub.core.command.HubCommand;
+import com.dod.hub.core.tracing.HubSpan;
+import com.dod.hub.core.tracing.HubTracer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,6 +12,8 @@ import java.util.function.Supplier;
 /**
  * Orchestrates the execution of a command.
  * Handles Start -> Stabilize -> Execute -> Stop/Verify -> Error logic.
+ * When a {@link HubTracer} is installed, each execution is recorded as a span
+ * nested under the span of the running test.
  */
 public class CommandPipeline {
     private static final Logger logger = LoggerFactory.getLogger(CommandPipeline.class);
@@ -27,6 +31,7 @@ public class CommandPipeline {
     public <T> T execute(CommandContext context, Supplier<T> action) {
         HubCommand command = context.getCommand();
         logger.info("[{}] Requesting execution for {}", command.getId(), command.getType());
+        HubSpan span = HubTracer.get().startCommandSpan(command);
 
         try {
             // Future extension: Stabilization logic (e.g., waiting for document readiness)
@@ -35,12 +40,14 @@ public class CommandPipeline {
 
             logger.info("[{}] Completed execution for {}", command.getId(), command.getType());
             command.complete(CommandResult.success(value));
+            span.setOk();
 
             return value;
 
         } catch (Exception e) {
             logger.error("[{}] Execution failed for {}: {}", command.getId(), command.getType(), e.getMessage());
             CommandResult failure = CommandResult.failure(e);
+            span.setError(e);
 
             // Capture diagnostic artifacts on failure
             try {
@@ -53,7 +60,12 @@ public class CommandPipeline {
             command.complete(failure);
             throw e;
         } finally {
-            // Hook for telemetry emission or cleanup
+            if (span.isRecording()) {
+                span.setAttribute("hub.command.outcome", command.getResult() != null
+                        ? command.getResult().getStatus().name()
+                        : CommandResult.Status.FAILURE.name());
+                span.end();
+            }
         }
     }
 }
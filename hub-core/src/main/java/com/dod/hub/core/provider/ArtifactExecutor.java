@@ -0,0 +1,128 @@
+package com.dod.hub.core.provider;
+
+import com.dod.hub.core.config.HubScreenshotSpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Produces and stores test artifacts on a small worker pool: screenshots are
+ * scaled and encoded here, failure videos muxed.
+ * <p>
+ * The test thread only captures the image (see {@link #captureSpec}) or stops
+ * the recording and hands the data over; encoding and writing happen on a
+ * worker while the test releases its browser. When all workers are busy and
+ * the queue is full the submitting thread does the work itself, which bounds
+ * memory held by pending artifacts.
+ */
+public final class ArtifactExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtifactExecutor.class);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static volatile ArtifactExecutor shared;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+
+    /**
+     * @param threads       Worker threads.
+     * @param queueCapacity Artifacts waiting for a worker before submitters
+     *                      produce them themselves.
+     */
+    public ArtifactExecutor(int threads, int queueCapacity) {
+        this.executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "hub-artifact-worker-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the executor of this JVM, sized to half the available
+     * processors. Pending work is finished before the JVM exits.
+     */
+    public static ArtifactExecutor shared() {
+        ArtifactExecutor executor = shared;
+        if (executor == null) {
+            synchronized (ArtifactExecutor.class) {
+                executor = shared;
+                if (executor == null) {
+                    int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+                    executor = new ArtifactExecutor(threads, threads * 8);
+                    Runtime.getRuntime().addShutdownHook(new Thread(executor::awaitIdle, "hub-artifact-shutdown"));
+                    shared = executor;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * The spec to capture with on the test thread for an artifact that should
+     * end up as {@code target}: the same area as an unscaled PNG, as every
+     * provider captures it without converting.
+     *
+     * @param target The configured spec, or null for the provider's default.
+     * @return The capture spec, or null for the provider's default.
+     */
+    public static HubScreenshotSpec captureSpec(HubScreenshotSpec target) {
+        return target != null ? HubScreenshotSpec.of(target.getArea()) : null;
+    }
+
+    /**
+     * Converts a capture to the target spec and passes the result to the sink,
+     * off the calling thread.
+     *
+     * @param capture A capture taken with {@link #captureSpec(HubScreenshotSpec)}.
+     * @param target  The configured spec, or null to keep the capture as is.
+     * @param sink    Stores the encoded image, e.g. an artifact manager.
+     * @return Completes with the sink's result; failures are also logged.
+     */
+    public <T> CompletableFuture<T> submit(byte[] capture, HubScreenshotSpec target, Function<byte[], T> sink) {
+        return submit(() -> sink.apply(target != null ? ScreenshotTranscoder.transcode(capture, target) : capture));
+    }
+
+    /**
+     * Runs other artifact work on the workers, e.g. muxing a video.
+     *
+     * @param work Produces and stores the artifact.
+     * @return Completes with the work's result; failures are also logged.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        submitted.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                result.complete(work.get());
+            } catch (RuntimeException e) {
+                log.error("Failed to store artifact: {}", e.getMessage());
+                result.completeExceptionally(e);
+            } finally {
+                completed.incrementAndGet();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Waits until all work submitted before the call is done.
+     */
+    public void awaitIdle() {
+        long target = submitted.get();
+        while (completed.get() < target) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+}
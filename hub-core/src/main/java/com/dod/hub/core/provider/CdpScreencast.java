@@ -0,0 +1,238 @@
+package com.dod.hub.core.provider;
+
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.exception.HubException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Streams screencast frames of a Chromium page over the DevTools protocol.
+ * <p>
+ * Frames are received on the threads of a {@link Channel}, whatever the test
+ * thread is doing, and acknowledged from a separate pool because a channel
+ * cannot wait for a response on the thread that delivers its events. The
+ * browser sends the next frame only after the previous one is acknowledged.
+ */
+public final class CdpScreencast {
+
+    private static final Logger log = LoggerFactory.getLogger(CdpScreencast.class);
+    private static final long RESPONSE_TIMEOUT_MS = 10000;
+    private static final ExecutorService ACKS = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "hub-screencast-ack");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * A DevTools connection to one page that delivers events on its own
+     * threads rather than on the caller's.
+     */
+    public interface Channel {
+
+        /**
+         * Sends a command and waits for its response.
+         */
+        void send(String method, Map<String, Object> params);
+
+        void addListener(String event, Consumer<Map<String, Object>> listener);
+
+        /**
+         * Removes the listeners and releases the connection.
+         */
+        void close();
+    }
+
+    private CdpScreencast() {
+    }
+
+    /**
+     * Starts the screencast; the channel is closed when it stops or fails to
+     * start.
+     */
+    public static HubScreencast start(Channel channel, HubVideoOptions options, Consumer<byte[]> frames) {
+        channel.addListener("Page.screencastFrame", frame -> {
+            frames.accept(Base64.getDecoder().decode((String) frame.get("data")));
+            Map<String, Object> ack = Collections.singletonMap("sessionId", frame.get("sessionId"));
+            ACKS.execute(() -> {
+                try {
+                    channel.send("Page.screencastFrameAck", ack);
+                } catch (RuntimeException ignored) {
+                    // The screencast or session ended meanwhile
+                }
+            });
+        });
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", "jpeg");
+        params.put("quality", options.getQuality());
+        params.put("maxWidth", options.getMaxWidth());
+        params.put("maxHeight", options.getMaxHeight());
+        params.put("everyNthFrame", options.getEveryNthFrame());
+        try {
+            channel.send("Page.startScreencast", params);
+        } catch (RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return () -> {
+            try {
+                channel.send("Page.stopScreencast", Collections.emptyMap());
+            } finally {
+                channel.close();
+            }
+        };
+    }
+
+    /**
+     * Opens a connection of its own to the DevTools endpoint of a page, e.g.
+     * {@code ws://127.0.0.1:9222/devtools/page/<targetId>}, for providers
+     * whose client only delivers events while the test thread is inside one
+     * of its calls.
+     */
+    public static Channel connect(URI endpoint) {
+        WebSocketChannel channel = new WebSocketChannel();
+        try {
+            channel.socket = HttpClient.newHttpClient().newWebSocketBuilder()
+                    .connectTimeout(Duration.ofMillis(RESPONSE_TIMEOUT_MS))
+                    .buildAsync(endpoint, channel)
+                    .get(RESPONSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return channel;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HubException("Interrupted while connecting to DevTools at " + endpoint, e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new HubException("Failed to connect to DevTools at " + endpoint, e);
+        }
+    }
+
+    /**
+     * Talks JSON over a WebSocket. Responses are matched to commands by id;
+     * events are dispatched on the socket's thread.
+     */
+    private static final class WebSocketChannel implements Channel, WebSocket.Listener {
+
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private final AtomicInteger ids = new AtomicInteger();
+        private final Map<Integer, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+        private final Map<String, List<Consumer<Map<String, Object>>>> listeners = new ConcurrentHashMap<>();
+        private final StringBuilder message = new StringBuilder();
+        private volatile WebSocket socket;
+
+        @Override
+        public void send(String method, Map<String, Object> params) {
+            int id = ids.incrementAndGet();
+            CompletableFuture<JsonNode> response = new CompletableFuture<>();
+            pending.put(id, response);
+            try {
+                ObjectNode command = MAPPER.createObjectNode();
+                command.put("id", id);
+                command.put("method", method);
+                command.set("params", MAPPER.valueToTree(params));
+                String text = MAPPER.writeValueAsString(command);
+                // A WebSocket takes one message at a time
+                synchronized (this) {
+                    socket.sendText(text, true).get(RESPONSE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                }
+                JsonNode error = response.get(RESPONSE_TIMEOUT_MS, TimeUnit.MILLISECONDS).get("error");
+                if (error != null) {
+                    throw new HubException("DevTools command " + method + " failed: " + error.path("message").asText());
+                }
+            } catch (JsonProcessingException e) {
+                throw new HubException("Failed to serialize DevTools command " + method, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HubException("Interrupted while sending DevTools command " + method, e);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new HubException("DevTools command " + method + " got no response", e);
+            } finally {
+                pending.remove(id);
+            }
+        }
+
+        @Override
+        public void addListener(String event, Consumer<Map<String, Object>> listener) {
+            listeners.computeIfAbsent(event, k -> new CopyOnWriteArrayList<>()).add(listener);
+        }
+
+        @Override
+        public void close() {
+            listeners.clear();
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "").whenComplete((ws, e) -> socket.abort());
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            message.append(data);
+            if (last) {
+                String text = message.toString();
+                message.setLength(0);
+                dispatch(text);
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void dispatch(String text) {
+            try {
+                JsonNode node = MAPPER.readTree(text);
+                if (node.has("id")) {
+                    CompletableFuture<JsonNode> response = pending.get(node.get("id").asInt());
+                    if (response != null) {
+                        response.complete(node);
+                    }
+                    return;
+                }
+                List<Consumer<Map<String, Object>>> handlers = listeners.get(node.path("method").asText());
+                if (handlers != null) {
+                    Map<String, Object> params = MAPPER.convertValue(node.get("params"), Map.class);
+                    handlers.forEach(handler -> handler.accept(params));
+                }
+            } catch (JsonProcessingException | RuntimeException e) {
+                // Keep reading: one bad message must not end the screencast
+                log.debug("Failed to handle DevTools message: {}", e.getMessage());
+            }
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            failPending(new HubException("DevTools connection closed: " + statusCode + " " + reason));
+            return null;
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            failPending(new HubException("DevTools connection failed", error));
+        }
+
+        private void failPending(HubException error) {
+            pending.values().forEach(response -> response.completeExceptionally(error));
+        }
+    }
+}
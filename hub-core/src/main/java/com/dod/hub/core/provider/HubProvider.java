@@ -1,12 +1,20 @@
 package com.dod.hub.core.provider;
 
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubScreenshotArea;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.core.config.HubVideoOptions;
 import com.dod.hub.core.locator.HubElementRef;
 import com.dod.hub.core.locator.HubLocator;
 
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * The SPI interface that all concrete automation providers (Selenium,
@@ -120,6 +128,38 @@ public interface HubProvider {
      */
     boolean isSelected(ProviderSession session, HubElementRef element);
 
+    /**
+     * Reads the text, or the value of {@code attribute} when it is not null,
+     * of the first element matching {@code child} inside each element matching
+     * {@code items}. Items without such an element yield null.
+     * <p>
+     * The default implementation costs a call per item; providers that can
+     * evaluate both locators in the browser answer it in one round trip.
+     *
+     * @param session   The active provider session.
+     * @param scope     The element to look items up in, or null for the page.
+     * @param items     The locator of the items.
+     * @param child     The locator of the element to read, relative to each item.
+     * @param attribute The attribute to read, or null to read the text.
+     * @return One value per item, in document order.
+     */
+    default List<String> readAll(ProviderSession session, HubElementRef scope, HubLocator items, HubLocator child,
+            String attribute) {
+        List<HubElementRef> roots = scope == null ? findAll(session, items) : findAll(session, scope, items);
+        List<String> values = new ArrayList<>(roots.size());
+        for (HubElementRef root : roots) {
+            List<HubElementRef> matches = findAll(session, root, child);
+            if (matches.isEmpty()) {
+                values.add(null);
+            } else if (attribute == null) {
+                values.add(getText(session, matches.get(0)));
+            } else {
+                values.add(getAttribute(session, matches.get(0), attribute));
+            }
+        }
+        return values;
+    }
+
     /**
      * Navigates the browser to the specified URL.
      *
@@ -128,6 +168,19 @@ public interface HubProvider {
      */
     void navigate(ProviderSession session, String url);
 
+    /**
+     * Navigates the browser to the specified URL and returns once the given
+     * readiness policy is satisfied. Providers that cannot honor per-call
+     * policies fall back to {@link #navigate(ProviderSession, String)}.
+     *
+     * @param session The active provider session.
+     * @param url     The target URL.
+     * @param policy  The readiness policy for this navigation.
+     */
+    default void navigate(ProviderSession session, String url, HubNavigationPolicy policy) {
+        navigate(session, url);
+    }
+
     /**
      * Navigates the browser one step back in history.
      *
@@ -178,6 +231,63 @@ public interface HubProvider {
      */
     byte[] takeScreenshot(ProviderSession session);
 
+    /**
+     * Captures the same screenshot as {@link #takeScreenshot(ProviderSession)}
+     * as base64. Providers whose engine transfers base64 should override it
+     * to return that string instead of decoding and encoding it again.
+     */
+    default String takeScreenshotBase64(ProviderSession session) {
+        return Base64.getEncoder().encodeToString(takeScreenshot(session));
+    }
+
+    /**
+     * Captures a screenshot of the page as described by the spec.
+     * <p>
+     * The default implementation captures with {@link #takeScreenshot(ProviderSession)},
+     * assumed to be a viewport PNG, and converts format and scale in Java.
+     * Providers should override it to capture natively.
+     *
+     * @param session The active provider session.
+     * @param spec    Area, format and scale of the screenshot.
+     * @return The encoded image bytes.
+     */
+    default byte[] takeScreenshot(ProviderSession session, HubScreenshotSpec spec) {
+        if (spec.getArea() == HubScreenshotArea.FULL_PAGE) {
+            throw new UnsupportedOperationException("Full-page screenshots are not supported by this provider.");
+        }
+        return ScreenshotTranscoder.transcode(takeScreenshot(session), spec);
+    }
+
+    /**
+     * Captures a screenshot clipped to an element's bounding box. The area of
+     * the spec is ignored.
+     *
+     * @param session The active provider session.
+     * @param element The element to capture.
+     * @param spec    Format and scale of the screenshot.
+     * @return The encoded image bytes.
+     */
+    default byte[] takeElementScreenshot(ProviderSession session, HubElementRef element, HubScreenshotSpec spec) {
+        throw new UnsupportedOperationException("Element screenshots are not supported by this provider.");
+    }
+
+    /**
+     * Starts streaming JPEG frames of the page whenever it repaints, bounded by
+     * the frame rate and size of the options. Frames are passed to the consumer
+     * on a provider thread or while the session executes a command, so the
+     * consumer must be fast and thread-safe.
+     *
+     * @param session The active provider session.
+     * @param options Frame rate, quality and size of the frames.
+     * @param frames  Receives each frame's JPEG bytes.
+     * @return The running screencast.
+     * @throws UnsupportedOperationException If the provider or browser cannot
+     *                                       stream frames.
+     */
+    default HubScreencast startScreencast(ProviderSession session, HubVideoOptions options, Consumer<byte[]> frames) {
+        throw new UnsupportedOperationException("Screencasts are not supported by this provider.");
+    }
+
     /**
      * Sets timeouts for the session.
      */
@@ -264,6 +374,34 @@ public interface HubProvider {
         return null;
     }
 
+    // ==================== State Reset ====================
+
+    /**
+     * Clears browser state so that the session can be reused by another test.
+     * <p>
+     * The default implementation deletes cookies and clears local/session
+     * storage of the current page; for {@link HubStateReset#NEW_CONTEXT} it then
+     * loads {@code about:blank}. Providers with isolated browser contexts should
+     * override this to replace the context instead.
+     *
+     * @param session The active provider session.
+     * @param reset   The state to clear.
+     */
+    default void resetState(ProviderSession session, HubStateReset reset) {
+        if (reset == HubStateReset.NONE) {
+            return;
+        }
+        deleteAllCookies(session);
+        try {
+            executeScript(session, "window.sessionStorage.clear(); window.localStorage.clear();");
+        } catch (RuntimeException ignored) {
+            // Pages without storage access (about:blank, data: URLs) or providers without scripting
+        }
+        if (reset == HubStateReset.NEW_CONTEXT) {
+            navigate(session, "about:blank");
+        }
+    }
+
     // ==================== Window Management ====================
 
     /**
@@ -0,0 +1,14 @@
+package com.dod.hub.core.provider;
+
+/**
+ * A running screencast started with
+ * {@link HubProvider#startScreencast(ProviderSession, com.dod.hub.core.config.HubVideoOptions, java.util.function.Consumer)}.
+ */
+public interface HubScreencast {
+
+    /**
+     * Stops the browser from sending frames. Frames already in flight may
+     * still be delivered while this returns.
+     */
+    void stop();
+}
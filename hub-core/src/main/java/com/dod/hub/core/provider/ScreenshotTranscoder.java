@@ -0,0 +1,105 @@
+package com.dod.hub.core.provider;
+
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.exception.HubException;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Converts a captured image (PNG or JPEG) into the encoding and scale
+ * requested by a {@link HubScreenshotSpec}.
+ * <p>
+ * Providers should prefer their engine's native options and only use this for
+ * the parts the engine cannot do itself. An unscaled capture already in the
+ * requested format is returned unchanged without decoding; a JPEG capture is
+ * taken to be at the requested quality, since only an engine encoding natively
+ * for the spec produces one.
+ */
+public final class ScreenshotTranscoder {
+
+    private ScreenshotTranscoder() {
+    }
+
+    /**
+     * Applies format and scale of the spec to a screenshot.
+     *
+     * @param image The captured image bytes, PNG or JPEG.
+     * @param spec  The requested spec.
+     * @return The converted image bytes.
+     */
+    public static byte[] transcode(byte[] image, HubScreenshotSpec spec) {
+        if (formatOf(image) == spec.getFormat() && !spec.isScaled()) {
+            return image;
+        }
+        try {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image));
+            if (decoded == null) {
+                throw new HubException("Screenshot could not be decoded");
+            }
+            return encode(scale(decoded, spec.getScale(), spec.getFormat() == HubImageFormat.JPEG), spec);
+        } catch (IOException e) {
+            throw new HubException("Failed to transcode screenshot to " + spec, e);
+        }
+    }
+
+    private static HubImageFormat formatOf(byte[] image) {
+        // JPEG streams start with the SOI marker FF D8
+        return image.length > 1 && (image[0] & 0xFF) == 0xFF && (image[1] & 0xFF) == 0xD8
+                ? HubImageFormat.JPEG
+                : HubImageFormat.PNG;
+    }
+
+    private static BufferedImage scale(BufferedImage source, double scale, boolean opaque) {
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        if (scale == 1.0 && (!opaque || source.getType() == BufferedImage.TYPE_INT_RGB)) {
+            return source;
+        }
+        // JPEG has no alpha channel, so draw onto an opaque canvas
+        BufferedImage target = new BufferedImage(width, height,
+                opaque ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(source, 0, 0, width, height, java.awt.Color.WHITE, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, HubScreenshotSpec spec) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (spec.getFormat() == HubImageFormat.PNG) {
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        }
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new HubException("No JPEG encoder available");
+        }
+        ImageWriter writer = writers.next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(spec.getQuality() / 100f);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
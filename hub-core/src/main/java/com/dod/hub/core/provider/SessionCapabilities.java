@@ -1,6 +1,9 @@
 package com.dod.hub.core.provider;
 
 import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubVideoOptions;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -12,6 +15,10 @@ public class SessionCapabilities {
     private boolean headless = false;
     private String gridUrl;
     private Map<String, Object> options = new HashMap<>();
+    private HubNavigationPolicy navigationPolicy = HubNavigationPolicy.normal();
+    private HubScreenshotSpec screenshotSpec;
+    private boolean elementCaching = true;
+    private HubVideoOptions videoOptions;
 
     public SessionCapabilities() {
     }
@@ -56,4 +63,41 @@ public class SessionCapabilities {
     public void setGridUrl(String gridUrl) {
         this.gridUrl = gridUrl;
     }
+
+    public HubNavigationPolicy getNavigationPolicy() {
+        return navigationPolicy;
+    }
+
+    public void setNavigationPolicy(HubNavigationPolicy navigationPolicy) {
+        this.navigationPolicy = navigationPolicy != null ? navigationPolicy : HubNavigationPolicy.normal();
+    }
+
+    public HubScreenshotSpec getScreenshotSpec() {
+        return screenshotSpec;
+    }
+
+    public void setScreenshotSpec(HubScreenshotSpec screenshotSpec) {
+        this.screenshotSpec = screenshotSpec;
+    }
+
+    public boolean isElementCaching() {
+        return elementCaching;
+    }
+
+    public void setElementCaching(boolean elementCaching) {
+        this.elementCaching = elementCaching;
+    }
+
+    /**
+     * @return Options of the screencast the session will be recorded with, or
+     *         null if it is not recorded; providers only open the debugging
+     *         connection a recording needs when this is set.
+     */
+    public HubVideoOptions getVideoOptions() {
+        return videoOptions;
+    }
+
+    public void setVideoOptions(HubVideoOptions videoOptions) {
+        this.videoOptions = videoOptions;
+    }
 }
@@ -0,0 +1,215 @@
+package com.dod.hub.core.telemetry;
+
+import com.dod.hub.core.exception.HubException;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes telemetry events to {@code hub-telemetry.ndjson} below a base
+ * directory, one JSON object per line.
+ * <p>
+ * {@link #onEvent} only builds the record and hands it to a background
+ * writer, so test threads neither serialize nor wait for the disk. Listeners
+ * for the same file share one writer, which is closed with the last listener
+ * or when the JVM exits; {@link #flush()} waits for pending records.
+ */
+public class FileTelemetryListener implements HubTelemetryListener, AutoCloseable {
+
+    public static final String FILE_NAME = "hub-telemetry.ndjson";
+
+    private static final Map<Path, SharedWriter> WRITERS = new ConcurrentHashMap<>();
+
+    /**
+     * When written records are forced to the storage device.
+     */
+    public enum FsyncPolicy {
+        /** Leave it to the operating system. */
+        NONE,
+        /** Once, when the writer is closed. */
+        ON_CLOSE,
+        /** After every batch; the most durable and the slowest. */
+        PER_BATCH
+    }
+
+    private final SharedWriter writer;
+    private volatile boolean closed;
+
+    public FileTelemetryListener(String basePath) {
+        this(basePath, Options.defaults());
+    }
+
+    /**
+     * @param basePath Directory of the telemetry file.
+     * @param options  Writer options; ignored when another listener already
+     *                 writes the same file.
+     */
+    public FileTelemetryListener(String basePath, Options options) {
+        Path file = Paths.get(basePath, FILE_NAME).toAbsolutePath().normalize();
+        this.writer = WRITERS.compute(file, (key, existing) -> {
+            SharedWriter shared = existing != null ? existing : new SharedWriter(new NdjsonTelemetryWriter(key,
+                    options));
+            shared.references++;
+            return shared;
+        });
+    }
+
+    /**
+     * @return The file currently written.
+     */
+    public Path getFile() {
+        return writer.writer.getFile();
+    }
+
+    @Override
+    public void onEvent(HubTestEvent event, HubTestResult result) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("event", event.name());
+        entry.put("timestamp", Instant.now().toString());
+
+        if (result != null) {
+            entry.put("testClass", result.getTestClass());
+            entry.put("testMethod", result.getTestMethod());
+            entry.put("durationMs", result.getDurationMs());
+            if (result.getErrorMessage() != null) {
+                entry.put("errorMessage", result.getErrorMessage());
+            }
+            if (result.getArtifactPaths() != null && !result.getArtifactPaths().isEmpty()) {
+                entry.put("artifacts", result.getArtifactPaths().stream()
+                        .map(Path::toString)
+                        .toList());
+            }
+        }
+
+        writer.writer.append(entry);
+    }
+
+    /**
+     * Waits until all events received so far are written.
+     */
+    public void flush() {
+        writer.writer.flush();
+    }
+
+    /**
+     * Releases this listener's share of the writer; the last listener of a
+     * file flushes and closes it.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Path file = writer.writer.getFile();
+        WRITERS.computeIfPresent(file, (key, shared) -> {
+            if (--shared.references > 0) {
+                return shared;
+            }
+            shared.close();
+            return null;
+        });
+    }
+
+    private static final class SharedWriter {
+        final NdjsonTelemetryWriter writer;
+        final Thread shutdownHook;
+        int references;
+
+        SharedWriter(NdjsonTelemetryWriter writer) {
+            this.writer = writer;
+            this.shutdownHook = new Thread(writer::close, "hub-telemetry-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
+
+        void close() {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // Already shutting down; the hook closes the writer
+            }
+            writer.close();
+        }
+    }
+
+    /**
+     * Writer tuning. Defaults: 64 MiB files, 5 files in total, fsync on close,
+     * batches of up to 512 records flushed at least every 200 ms, at most
+     * 16384 pending records.
+     */
+    public static final class Options {
+        private final long maxFileBytes;
+        private final int maxFiles;
+        private final FsyncPolicy fsyncPolicy;
+        private final long flushIntervalMs;
+        private final int batchSize;
+        private final int queueCapacity;
+
+        private Options(long maxFileBytes, int maxFiles, FsyncPolicy fsyncPolicy, long flushIntervalMs,
+                int batchSize, int queueCapacity) {
+            if (maxFileBytes <= 0 || maxFiles < 1 || flushIntervalMs <= 0 || batchSize < 1
+                    || queueCapacity < batchSize) {
+                throw new HubException("Invalid telemetry writer options");
+            }
+            this.maxFileBytes = maxFileBytes;
+            this.maxFiles = maxFiles;
+            this.fsyncPolicy = fsyncPolicy != null ? fsyncPolicy : FsyncPolicy.ON_CLOSE;
+            this.flushIntervalMs = flushIntervalMs;
+            this.batchSize = batchSize;
+            this.queueCapacity = queueCapacity;
+        }
+
+        public static Options defaults() {
+            return new Options(64L * 1024 * 1024, 5, FsyncPolicy.ON_CLOSE, 200, 512, 16384);
+        }
+
+        /**
+         * @param maxFileBytes Size after which the file is rotated.
+         * @param maxFiles     Files kept including the current one; 1 keeps no
+         *                     backups.
+         */
+        public Options withRotation(long maxFileBytes, int maxFiles) {
+            return new Options(maxFileBytes, maxFiles, fsyncPolicy, flushIntervalMs, batchSize, queueCapacity);
+        }
+
+        public Options withFsyncPolicy(FsyncPolicy fsyncPolicy) {
+            return new Options(maxFileBytes, maxFiles, fsyncPolicy, flushIntervalMs, batchSize, queueCapacity);
+        }
+
+        public Options withFlushInterval(long flushIntervalMs) {
+            return new Options(maxFileBytes, maxFiles, fsyncPolicy, flushIntervalMs, batchSize, queueCapacity);
+        }
+
+        public Options withBatching(int batchSize, int queueCapacity) {
+            return new Options(maxFileBytes, maxFiles, fsyncPolicy, flushIntervalMs, batchSize, queueCapacity);
+        }
+
+        public long getMaxFileBytes() {
+            return maxFileBytes;
+        }
+
+        public int getMaxFiles() {
+            return maxFiles;
+        }
+
+        public FsyncPolicy getFsyncPolicy() {
+            return fsyncPolicy;
+        }
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+    }
+}
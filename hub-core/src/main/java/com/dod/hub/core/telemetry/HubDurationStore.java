@@ -0,0 +1,334 @@
+package com.dod.hub.core.telemetry;
+
+import com.dod.hub.core.config.HubConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Test durations from previous runs, kept in a small tab-separated file.
+ * <p>
+ * Each test has one line with an exponentially weighted average of its
+ * durations, the number of runs, the last duration, the drivers it used and
+ * the day it last ran; tests that have not run for {@value #RETENTION_DAYS}
+ * days are dropped. Predictions come from the file as it was when the store
+ * was opened plus the durations recorded since.
+ * <p>
+ * Recorded durations are merged into the file by {@link #save()}, which holds
+ * a lock on {@code <file>.lock} and re-reads the file first, so several forks
+ * or runs sharing the file do not lose each other's updates. Stores returned
+ * by {@link #open(Path)} save when the JVM exits.
+ */
+public final class HubDurationStore {
+
+    public static final String DEFAULT_FILE = ".hub/hub-durations.tsv";
+    public static final int RETENTION_DAYS = 90;
+
+    private static final Logger log = LoggerFactory.getLogger(HubDurationStore.class);
+    private static final String HEADER = "# hub-durations v1: class\tmethod\tavgMs\truns\tlastMs\tdrivers\tlastRunEpochDay";
+    private static final double WEIGHT = 0.3;
+    private static final Map<Path, HubDurationStore> OPEN = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Sample> pending = new ConcurrentLinkedQueue<>();
+    private volatile Map<String, Long> classTotals;
+
+    /**
+     * Loads a store without registering it for saving at exit; prefer
+     * {@link #open(Path)}.
+     */
+    public HubDurationStore(Path file) {
+        this.file = file.toAbsolutePath().normalize();
+        try {
+            entries.putAll(read(this.file));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable duration store {}: {}", this.file, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the store of a file, loading it on first use. It is saved when
+     * the JVM exits.
+     */
+    public static HubDurationStore open(Path file) {
+        return OPEN.computeIfAbsent(file.toAbsolutePath().normalize(), key -> {
+            HubDurationStore store = new HubDurationStore(key);
+            Runtime.getRuntime().addShutdownHook(new Thread(store::save, "hub-durations-save"));
+            return store;
+        });
+    }
+
+    /**
+     * Describes the drivers of a test, e.g. {@code SELENIUM/CHROME+PLAYWRIGHT/FIREFOX}.
+     */
+    public static String driverKey(Collection<HubConfig> configs) {
+        return configs.stream()
+                .map(config -> config.getProvider() + "/" + config.getBrowser())
+                .collect(Collectors.joining("+"));
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Records the duration of one test execution.
+     *
+     * @param testClass  Fully qualified class name, or another stable group
+     *                   such as a feature file.
+     * @param testMethod Method or scenario name.
+     * @param driverKey  See {@link #driverKey(Collection)}; may be null.
+     */
+    public void record(String testClass, String testMethod, long durationMs, String driverKey) {
+        Sample sample = new Sample(clean(testClass), clean(testMethod), Math.max(0, durationMs),
+                driverKey != null ? clean(driverKey) : "", LocalDate.now().toEpochDay());
+        entries.compute(sample.key(), (key, entry) -> sample.applyTo(entry));
+        pending.add(sample);
+        classTotals = null;
+    }
+
+    /**
+     * @return The entry of a test, or null if it has no recorded runs.
+     */
+    public Entry get(String testClass, String testMethod) {
+        return entries.get(clean(testClass) + '#' + clean(testMethod));
+    }
+
+    /**
+     * @return The predicted duration of a test, or -1 if unknown.
+     */
+    public long predictMs(String testClass, String testMethod) {
+        Entry entry = get(testClass, testMethod);
+        return entry != null ? entry.getAverageMs() : -1;
+    }
+
+    /**
+     * @return The predicted duration of all recorded tests of a class, or -1
+     *         if none is known.
+     */
+    public long predictClassMs(String testClass) {
+        return classTotals().getOrDefault(clean(testClass), -1L);
+    }
+
+    /**
+     * @return Classes with recorded tests.
+     */
+    public Set<String> testClasses() {
+        return Collections.unmodifiableSet(classTotals().keySet());
+    }
+
+    /**
+     * @return The mean predicted duration of a test, or 0 for an empty store.
+     */
+    public long averageTestMs() {
+        return (long) entries.values().stream().mapToLong(Entry::getAverageMs).average().orElse(0);
+    }
+
+    /**
+     * @return The mean predicted duration of a class, or 0 for an empty store.
+     */
+    public long averageClassMs() {
+        return (long) classTotals().values().stream().mapToLong(Long::longValue).average().orElse(0);
+    }
+
+    /**
+     * Merges the durations recorded since the last save into the file.
+     */
+    public synchronized void save() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Sample> samples = new ArrayList<>();
+        for (Sample sample; (sample = pending.poll()) != null; ) {
+            samples.add(sample);
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path lockFile = file.resolveSibling(file.getFileName() + ".lock");
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE); FileLock ignored = lockChannel.lock()) {
+                Map<String, Entry> merged = read(file);
+                for (Sample sample : samples) {
+                    merged.compute(sample.key(), (key, entry) -> sample.applyTo(entry));
+                }
+                long oldest = LocalDate.now().toEpochDay() - RETENTION_DAYS;
+                merged.values().removeIf(entry -> entry.lastRunEpochDay < oldest);
+                write(merged);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to save test durations to {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Map<String, Long> classTotals() {
+        Map<String, Long> totals = classTotals;
+        if (totals == null) {
+            Map<String, Long> computed = new HashMap<>();
+            for (Entry entry : entries.values()) {
+                computed.merge(entry.testClass, entry.averageMs, Long::sum);
+            }
+            totals = Collections.unmodifiableMap(computed);
+            classTotals = totals;
+        }
+        return totals;
+    }
+
+    private static Map<String, Entry> read(Path file) throws IOException {
+        Map<String, Entry> entries = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                if (columns.length < 7) {
+                    continue;
+                }
+                try {
+                    Entry entry = new Entry(columns[0], columns[1], Long.parseLong(columns[2]),
+                            Integer.parseInt(columns[3]), Long.parseLong(columns[4]), columns[5],
+                            Long.parseLong(columns[6]));
+                    entries.put(entry.key(), entry);
+                } catch (NumberFormatException e) {
+                    log.debug("Skipping malformed duration line: {}", line);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // First run
+        }
+        return entries;
+    }
+
+    private void write(Map<String, Entry> merged) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Entry entry : new TreeMap<>(merged).values()) {
+                writer.write(entry.testClass + '\t' + entry.testMethod + '\t' + entry.averageMs + '\t' + entry.runs
+                        + '\t' + entry.lastMs + '\t' + entry.driverKey + '\t' + entry.lastRunEpochDay);
+                writer.newLine();
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    /**
+     * Recorded durations of one test.
+     */
+    public static final class Entry {
+        private final String testClass;
+        private final String testMethod;
+        private final long averageMs;
+        private final int runs;
+        private final long lastMs;
+        private final String driverKey;
+        private final long lastRunEpochDay;
+
+        Entry(String testClass, String testMethod, long averageMs, int runs, long lastMs, String driverKey,
+                long lastRunEpochDay) {
+            this.testClass = testClass;
+            this.testMethod = testMethod;
+            this.averageMs = averageMs;
+            this.runs = runs;
+            this.lastMs = lastMs;
+            this.driverKey = driverKey;
+            this.lastRunEpochDay = lastRunEpochDay;
+        }
+
+        String key() {
+            return testClass + '#' + testMethod;
+        }
+
+        public String getTestClass() {
+            return testClass;
+        }
+
+        public String getTestMethod() {
+            return testMethod;
+        }
+
+        /**
+         * @return Weighted average duration, favouring recent runs.
+         */
+        public long getAverageMs() {
+            return averageMs;
+        }
+
+        public int getRuns() {
+            return runs;
+        }
+
+        public long getLastMs() {
+            return lastMs;
+        }
+
+        public String getDriverKey() {
+            return driverKey;
+        }
+    }
+
+    private static final class Sample {
+        final String testClass;
+        final String testMethod;
+        final long durationMs;
+        final String driverKey;
+        final long epochDay;
+
+        Sample(String testClass, String testMethod, long durationMs, String driverKey, long epochDay) {
+            this.testClass = testClass;
+            this.testMethod = testMethod;
+            this.durationMs = durationMs;
+            this.driverKey = driverKey;
+            this.epochDay = epochDay;
+        }
+
+        String key() {
+            return testClass + '#' + testMethod;
+        }
+
+        Entry applyTo(Entry entry) {
+            if (entry == null) {
+                return new Entry(testClass, testMethod, durationMs, 1, durationMs, driverKey, epochDay);
+            }
+            long average = Math.round(WEIGHT * durationMs + (1 - WEIGHT) * entry.averageMs);
+            String drivers = driverKey.isEmpty() ? entry.driverKey : driverKey;
+            return new Entry(testClass, testMethod, average, entry.runs + 1, durationMs, drivers, epochDay);
+        }
+    }
+}
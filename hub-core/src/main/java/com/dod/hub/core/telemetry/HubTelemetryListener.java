@@ -0,0 +1,21 @@
+package com.dod.hub.core.telemetry;
+
+/**
+ * Receives test execution events from a test framework integration.
+ * <p>
+ * The Spring starter collects listeners as beans; Spring-free integrations
+ * discover them with {@link java.util.ServiceLoader}. Implementations may be
+ * called from several test threads at once.
+ */
+@FunctionalInterface
+public interface HubTelemetryListener {
+
+    /**
+     * Called when a test lifecycle event occurs.
+     *
+     * @param event  The type of event.
+     * @param result The test result data (may be null for
+     *               DRIVER_CREATED/DESTROYED).
+     */
+    void onEvent(HubTestEvent event, HubTestResult result);
+}
@@ -0,0 +1,248 @@
+package com.dod.hub.core.telemetry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Appends JSON records, one per line, to a file from a background thread.
+ * <p>
+ * Producers only enqueue on a lock-free queue; a daemon flusher serializes
+ * records in batches, appends them with a single write, rotates the file when
+ * it would exceed {@link FileTelemetryListener.Options#getMaxFileBytes()} and
+ * forces it to disk according to the {@link FileTelemetryListener.FsyncPolicy}.
+ * The queue is bounded: producers that get ahead of the disk by more than
+ * {@link FileTelemetryListener.Options#getQueueCapacity()} records wait, so
+ * memory use does not grow with the length of the run. A batch that cannot be
+ * written, e.g. on a full disk, is dropped and the flusher carries on, so
+ * producers never wait for a writer that gave up.
+ * <p>
+ * A file that existed before this JVM first opened it is rotated away, so each
+ * run starts a new file while earlier runs are kept as numbered backups.
+ */
+final class NdjsonTelemetryWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonTelemetryWriter.class);
+    private static final Set<Path> OPENED = ConcurrentHashMap.newKeySet();
+    private static final byte NEWLINE = '\n';
+
+    private final Path file;
+    private final FileTelemetryListener.Options options;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Queue<Map<String, Object>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final Thread flusher;
+    private final ByteArrayOutputStream batch = new ByteArrayOutputStream(64 * 1024);
+
+    private volatile boolean closed;
+    private FileChannel channel;
+    private long size;
+    private boolean failing;
+
+    NdjsonTelemetryWriter(Path file, FileTelemetryListener.Options options) {
+        this.file = file.toAbsolutePath().normalize();
+        this.options = options;
+        try {
+            Files.createDirectories(this.file.getParent());
+            if (OPENED.add(this.file) && Files.size(this.file) > 0) {
+                rotate();
+            }
+        } catch (IOException ignored) {
+            // No previous file to keep
+        }
+        this.flusher = new Thread(this::run, "hub-telemetry-writer");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Enqueues a record. Waits only while the queue is at capacity.
+     */
+    void append(Map<String, Object> record) {
+        if (closed) {
+            log.debug("Telemetry writer for {} is closed, dropping record", file);
+            return;
+        }
+        while (enqueued.get() - written.get() >= options.getQueueCapacity() && !closed) {
+            if (!flusher.isAlive()) {
+                log.debug("Telemetry writer for {} has stopped, dropping record", file);
+                return;
+            }
+            LockSupport.unpark(flusher);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        queue.offer(record);
+        if (enqueued.incrementAndGet() - written.get() >= options.getBatchSize()) {
+            LockSupport.unpark(flusher);
+        }
+    }
+
+    /**
+     * Waits until every record enqueued before the call has been written.
+     */
+    void flush() {
+        long target = enqueued.get();
+        while (written.get() < target && flusher.isAlive()) {
+            LockSupport.unpark(flusher);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(flusher);
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(options.getFlushIntervalMs());
+        try {
+            while (!closed) {
+                drain();
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(this, intervalNanos);
+                }
+            }
+            drain();
+            if (channel != null && options.getFsyncPolicy() != FileTelemetryListener.FsyncPolicy.NONE) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            log.error("Failed to force telemetry to disk for {}: {}", file, e.getMessage());
+        } finally {
+            closeChannel();
+        }
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            batch.reset();
+            int count = 0;
+            Map<String, Object> record;
+            while (count < options.getBatchSize() && (record = queue.poll()) != null) {
+                try {
+                    batch.write(mapper.writeValueAsBytes(record));
+                    batch.write(NEWLINE);
+                } catch (IOException e) {
+                    log.warn("Skipping telemetry record that cannot be serialized: {}", e.getMessage());
+                }
+                count++;
+            }
+            try {
+                write(batch.toByteArray());
+                if (failing) {
+                    failing = false;
+                    log.info("Writing telemetry to {} again", file);
+                }
+            } catch (IOException e) {
+                // Reopened for the next batch; logged once per failure streak so a full disk does not flood the log
+                closeChannel();
+                if (!failing) {
+                    failing = true;
+                    log.error("Failed to write telemetry to {}, dropping records until writes succeed: {}", file,
+                            e.getMessage());
+                } else {
+                    log.debug("Dropped {} telemetry records for {}: {}", count, file, e.getMessage());
+                }
+            }
+            written.addAndGet(count);
+        }
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        if (bytes.length == 0) {
+            return;
+        }
+        if (channel != null && size > 0 && size + bytes.length > options.getMaxFileBytes()) {
+            closeChannel();
+            rotate();
+        }
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            size = channel.size();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        size += bytes.length;
+        if (options.getFsyncPolicy() == FileTelemetryListener.FsyncPolicy.PER_BATCH) {
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Shifts {@code name.ndjson} to {@code name.1.ndjson}, {@code name.1} to
+     * {@code name.2} and so on, dropping the oldest beyond the configured
+     * number of files.
+     */
+    private void rotate() throws IOException {
+        int backups = options.getMaxFiles() - 1;
+        if (backups <= 0) {
+            Files.deleteIfExists(file);
+            return;
+        }
+        Files.deleteIfExists(backup(backups));
+        for (int i = backups - 1; i >= 1; i--) {
+            if (Files.exists(backup(i))) {
+                Files.move(backup(i), backup(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (Files.exists(file)) {
+            Files.move(file, backup(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Path backup(int index) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String backupName = dot > 0
+                ? name.substring(0, dot) + "." + index + name.substring(dot)
+                : name + "." + index;
+        return file.resolveSibling(backupName);
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close {}: {}", file, e.getMessage());
+        }
+        channel = null;
+        size = 0;
+    }
+}
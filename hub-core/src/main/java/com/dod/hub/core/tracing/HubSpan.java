@@ -0,0 +1,191 @@
+package com.dod.hub.core.tracing;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed operation: a test, or a command executed through the
+ * {@link com.dod.hub.core.pipeline.CommandPipeline}.
+ * <p>
+ * Spans are created by {@link HubTracer} as children of the span that is
+ * current on the calling thread and handed to its exporter when
+ * {@link #end()} is called. When tracing is disabled the tracer returns
+ * {@link #NOOP}, whose methods do nothing.
+ */
+public class HubSpan {
+
+    /**
+     * Outcome of the operation, mapped to the OTLP status code.
+     */
+    public enum Status {
+        UNSET,
+        OK,
+        ERROR
+    }
+
+    /**
+     * The span returned while tracing is disabled.
+     */
+    public static final HubSpan NOOP = new HubSpan();
+
+    private final HubTracer tracer;
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final String name;
+    private final long startEpochNanos;
+    private final long startNanoTime;
+    private final Map<String, Object> attributes;
+
+    private volatile long endEpochNanos;
+    private Status status = Status.UNSET;
+    private String statusMessage;
+
+    // Span that was current on the thread before this one was activated
+    HubSpan previous;
+    Thread activeThread;
+
+    private HubSpan() {
+        this.tracer = null;
+        this.traceId = null;
+        this.spanId = null;
+        this.parentSpanId = null;
+        this.name = "noop";
+        this.startEpochNanos = 0;
+        this.startNanoTime = 0;
+        this.attributes = Collections.emptyMap();
+    }
+
+    HubSpan(HubTracer tracer, String traceId, String spanId, String parentSpanId, String name) {
+        Instant now = Instant.now();
+        this.tracer = tracer;
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.startEpochNanos = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+        this.startNanoTime = System.nanoTime();
+        this.attributes = new LinkedHashMap<>();
+    }
+
+    /**
+     * @return False for {@link #NOOP}.
+     */
+    public boolean isRecording() {
+        return tracer != null;
+    }
+
+    /**
+     * Adds an attribute; strings, booleans and numbers are exported with
+     * their type, anything else as its string value. Null values are ignored.
+     */
+    public HubSpan setAttribute(String key, Object value) {
+        if (tracer != null && value != null && endEpochNanos == 0) {
+            synchronized (this) {
+                attributes.put(key, value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Marks the span as successful.
+     */
+    public HubSpan setOk() {
+        if (tracer != null) {
+            status = Status.OK;
+        }
+        return this;
+    }
+
+    /**
+     * Marks the span as failed with the message of the error.
+     */
+    public HubSpan setError(Throwable error) {
+        if (tracer != null) {
+            status = Status.ERROR;
+            statusMessage = error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : null;
+        }
+        return this;
+    }
+
+    /**
+     * Ends the span and queues it for export. If it is current on the calling
+     * thread, the span that was current before becomes current again. Calls
+     * after the first are ignored.
+     */
+    public void end() {
+        if (tracer == null || endEpochNanos != 0) {
+            return;
+        }
+        endEpochNanos = startEpochNanos + Math.max(0, System.nanoTime() - startNanoTime);
+        tracer.ended(this);
+    }
+
+    /**
+     * Sets the status from the outcome and ends the span.
+     *
+     * @param failure The failure, or null if the operation succeeded.
+     */
+    public void end(Throwable failure) {
+        if (failure != null) {
+            setError(failure);
+        } else {
+            setOk();
+        }
+        end();
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    /**
+     * @return The parent's span id, or null for a root span.
+     */
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getStartEpochNanos() {
+        return startEpochNanos;
+    }
+
+    /**
+     * @return The end time, or 0 while the span is open.
+     */
+    public long getEndEpochNanos() {
+        return endEpochNanos;
+    }
+
+    public long getDurationNanos() {
+        return endEpochNanos == 0 ? 0 : endEpochNanos - startEpochNanos;
+    }
+
+    public synchronized Map<String, Object> getAttributes() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getStatusMessage() {
+        return statusMessage;
+    }
+
+    @Override
+    public String toString() {
+        return "HubSpan{" + name + ", trace=" + traceId + ", span=" + spanId + ", parent=" + parentSpanId + "}";
+    }
+}
@@ -0,0 +1,28 @@
+package com.dod.hub.core.tracing;
+
+import java.util.List;
+
+/**
+ * Receives finished spans from {@link HubTracer}.
+ * <p>
+ * Exports are called from the tracer's background thread, one batch at a
+ * time, so implementations need not be thread-safe. A failing export is
+ * logged and its spans are dropped.
+ */
+@FunctionalInterface
+public interface HubSpanExporter {
+
+    /**
+     * Exports a batch of ended spans.
+     *
+     * @param spans Spans in the order they ended.
+     * @throws Exception If the batch could not be delivered.
+     */
+    void export(List<HubSpan> spans) throws Exception;
+
+    /**
+     * Releases resources after the final export.
+     */
+    default void shutdown() {
+    }
+}
@@ -0,0 +1,289 @@
+package com.dod.hub.core.tracing;
+
+import com.dod.hub.core.command.HubCommand;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Creates spans for tests and commands and exports them in batches.
+ * <p>
+ * A single tracer is installed per JVM with {@link #install(HubSpanExporter)};
+ * until then {@link #get()} returns a disabled tracer whose spans are
+ * {@link HubSpan#NOOP}, so untraced runs only pay for a volatile read per
+ * command. A span started on a thread becomes a child of the span current on
+ * that thread: test integrations {@linkplain #startTestSpan start} and
+ * activate one span per test, and the pipeline nests a span per command
+ * under it.
+ * <p>
+ * Ended spans go to a bounded queue drained by a daemon thread. When the
+ * queue is full, further spans are dropped rather than slowing down tests.
+ */
+public final class HubTracer {
+
+    private static final Logger log = LoggerFactory.getLogger(HubTracer.class);
+    private static final HubTracer DISABLED = new HubTracer();
+    private static final ThreadLocal<HubSpan> CURRENT = new ThreadLocal<>();
+    private static volatile HubTracer installed;
+
+    public static final int DEFAULT_BATCH_SIZE = 512;
+    public static final int DEFAULT_QUEUE_CAPACITY = 8192;
+    public static final long DEFAULT_EXPORT_INTERVAL_MS = 1000;
+
+    private final HubSpanExporter exporter;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final Queue<HubSpan> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong exported = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean shutdown;
+
+    private HubTracer() {
+        this.exporter = null;
+        this.batchSize = 0;
+        this.queueCapacity = 0;
+        this.worker = null;
+    }
+
+    private HubTracer(HubSpanExporter exporter, int batchSize, int queueCapacity, long exportIntervalMs) {
+        this.exporter = exporter;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.worker = new Thread(() -> run(TimeUnit.MILLISECONDS.toNanos(exportIntervalMs)), "hub-span-exporter");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Installs a tracer with default batching; see
+     * {@link #install(HubSpanExporter, int, int, long)}.
+     */
+    public static HubTracer install(HubSpanExporter exporter) {
+        return install(exporter, DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY, DEFAULT_EXPORT_INTERVAL_MS);
+    }
+
+    /**
+     * Creates a tracer and makes it the one returned by {@link #get()}. A
+     * previously installed tracer is shut down.
+     *
+     * @param exporter         Receives the finished spans.
+     * @param batchSize        Maximum spans per export call.
+     * @param queueCapacity    Spans held before new ones are dropped.
+     * @param exportIntervalMs Longest time a span waits for export.
+     */
+    public static HubTracer install(HubSpanExporter exporter, int batchSize, int queueCapacity,
+            long exportIntervalMs) {
+        HubTracer tracer = new HubTracer(exporter, batchSize, queueCapacity, exportIntervalMs);
+        HubTracer previous;
+        synchronized (HubTracer.class) {
+            previous = installed;
+            installed = tracer;
+        }
+        if (previous != null) {
+            previous.shutdown();
+        }
+        return tracer;
+    }
+
+    /**
+     * @return The installed tracer, or a disabled one.
+     */
+    public static HubTracer get() {
+        HubTracer tracer = installed;
+        return tracer != null ? tracer : DISABLED;
+    }
+
+    /**
+     * @return The span current on this thread, or {@link HubSpan#NOOP}.
+     */
+    public static HubSpan currentSpan() {
+        HubSpan span = CURRENT.get();
+        return span != null ? span : HubSpan.NOOP;
+    }
+
+    public boolean isEnabled() {
+        return exporter != null && !shutdown;
+    }
+
+    /**
+     * Starts a span as a child of the span current on this thread, or as the
+     * root of a new trace.
+     */
+    public HubSpan startSpan(String name) {
+        if (!isEnabled()) {
+            return HubSpan.NOOP;
+        }
+        HubSpan parent = CURRENT.get();
+        String traceId = parent != null ? parent.getTraceId() : randomHex(2);
+        return new HubSpan(this, traceId, randomHex(1), parent != null ? parent.getSpanId() : null, name);
+    }
+
+    /**
+     * Starts the span of a test and makes it current on this thread until it
+     * ends, so commands of the test are nested under it.
+     */
+    public HubSpan startTestSpan(String testClass, String testMethod) {
+        HubSpan span = startSpan(testClass + "." + testMethod);
+        if (span.isRecording()) {
+            span.setAttribute("hub.test.class", testClass);
+            span.setAttribute("hub.test.method", testMethod);
+            activate(span);
+        }
+        return span;
+    }
+
+    /**
+     * Starts the span of a pipeline command with its session, type, target
+     * and provider as attributes.
+     */
+    public HubSpan startCommandSpan(HubCommand command) {
+        HubSpan span = startSpan(command.getType().name());
+        if (span.isRecording()) {
+            span.setAttribute("hub.session.id", command.getSessionId());
+            span.setAttribute("hub.command.type", command.getType().name());
+            span.setAttribute("hub.command.target", command.getTarget());
+            span.setAttribute("hub.provider", command.getProviderName());
+        }
+        return span;
+    }
+
+    /**
+     * Makes a span current on this thread until it ends.
+     */
+    public void activate(HubSpan span) {
+        if (!span.isRecording()) {
+            return;
+        }
+        span.previous = CURRENT.get();
+        span.activeThread = Thread.currentThread();
+        CURRENT.set(span);
+    }
+
+    void ended(HubSpan span) {
+        if (span.activeThread == Thread.currentThread() && CURRENT.get() == span) {
+            if (span.previous != null) {
+                CURRENT.set(span.previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+        if (shutdown) {
+            return;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            if (dropped.incrementAndGet() == 1) {
+                log.warn("Span queue is full; dropping spans until the exporter catches up");
+            }
+            return;
+        }
+        queue.offer(span);
+        if (enqueued.incrementAndGet() - exported.get() >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * Waits until all spans ended so far have been exported.
+     */
+    public void flush() {
+        if (worker == null) {
+            return;
+        }
+        long target = enqueued.get();
+        while (exported.get() < target && worker.isAlive()) {
+            LockSupport.unpark(worker);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * @return Spans dropped because the queue was full.
+     */
+    public long getDroppedSpans() {
+        return dropped.get();
+    }
+
+    /**
+     * Exports the remaining spans and shuts down the exporter. If this tracer
+     * is installed, {@link #get()} returns a disabled tracer afterwards.
+     */
+    public void shutdown() {
+        synchronized (HubTracer.class) {
+            if (installed == this) {
+                installed = null;
+            }
+        }
+        if (worker == null || shutdown) {
+            return;
+        }
+        shutdown = true;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(long intervalNanos) {
+        try {
+            while (!shutdown) {
+                exportQueued();
+                if (queue.isEmpty()) {
+                    LockSupport.parkNanos(this, intervalNanos);
+                }
+            }
+            exportQueued();
+        } finally {
+            try {
+                exporter.shutdown();
+            } catch (RuntimeException e) {
+                log.warn("Span exporter shutdown failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void exportQueued() {
+        while (!queue.isEmpty()) {
+            List<HubSpan> batch = new ArrayList<>(Math.min(batchSize, queued.get()));
+            HubSpan span;
+            while (batch.size() < batchSize && (span = queue.poll()) != null) {
+                batch.add(span);
+            }
+            queued.addAndGet(-batch.size());
+            try {
+                exporter.export(batch);
+            } catch (Exception e) {
+                log.warn("Failed to export {} spans: {}", batch.size(), e.getMessage());
+            }
+            exported.addAndGet(batch.size());
+        }
+    }
+
+    private static String randomHex(int longs) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder hex = new StringBuilder(longs * 16);
+        for (int i = 0; i < longs; i++) {
+            long value;
+            do {
+                value = random.nextLong();
+            } while (value == 0);
+            String part = Long.toHexString(value);
+            hex.append("0".repeat(16 - part.length())).append(part);
+        }
+        return hex.toString();
+    }
+}
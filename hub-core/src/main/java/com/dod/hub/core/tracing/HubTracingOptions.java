@@ -0,0 +1,119 @@
+package com.dod.hub.core.tracing;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Selects and configures the built-in span exporter.
+ */
+public final class HubTracingOptions {
+
+    public static final String DEFAULT_FILE_NAME = "hub-traces.jsonl";
+    public static final String DEFAULT_SERVICE_NAME = "hub-tests";
+
+    /**
+     * Built-in exporters.
+     */
+    public enum Exporter {
+        /** {@link OtlpFileSpanExporter} */
+        FILE,
+        /** {@link OtlpHttpSpanExporter} */
+        OTLP_HTTP
+    }
+
+    private final Exporter exporter;
+    private final Path file;
+    private final String endpoint;
+    private final Map<String, String> headers;
+    private final String serviceName;
+    private final Duration timeout;
+
+    private HubTracingOptions(Exporter exporter, Path file, String endpoint, Map<String, String> headers,
+            String serviceName, Duration timeout) {
+        this.exporter = exporter;
+        this.file = file;
+        this.endpoint = endpoint;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.serviceName = serviceName;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Writes spans as OTLP JSON lines to a file.
+     */
+    public static HubTracingOptions file(Path file) {
+        return new HubTracingOptions(Exporter.FILE, file, OtlpHttpSpanExporter.DEFAULT_ENDPOINT,
+                Collections.emptyMap(), DEFAULT_SERVICE_NAME, Duration.ofSeconds(10));
+    }
+
+    /**
+     * Posts spans to an OTLP/HTTP traces endpoint.
+     */
+    public static HubTracingOptions otlpHttp(String endpoint) {
+        return new HubTracingOptions(Exporter.OTLP_HTTP, null, endpoint, Collections.emptyMap(),
+                DEFAULT_SERVICE_NAME, Duration.ofSeconds(10));
+    }
+
+    /**
+     * @param artifactPath Directory holding {@value #DEFAULT_FILE_NAME} for the
+     *                     file exporter.
+     */
+    public static HubTracingOptions of(Exporter exporter, String artifactPath, String endpoint) {
+        return exporter == Exporter.OTLP_HTTP
+                ? otlpHttp(endpoint != null ? endpoint : OtlpHttpSpanExporter.DEFAULT_ENDPOINT)
+                : file(Path.of(artifactPath, DEFAULT_FILE_NAME));
+    }
+
+    public HubTracingOptions withFile(Path file) {
+        return new HubTracingOptions(exporter, file, endpoint, headers, serviceName, timeout);
+    }
+
+    public HubTracingOptions withHeaders(Map<String, String> headers) {
+        return new HubTracingOptions(exporter, file, endpoint, headers, serviceName, timeout);
+    }
+
+    public HubTracingOptions withServiceName(String serviceName) {
+        return new HubTracingOptions(exporter, file, endpoint, headers, serviceName, timeout);
+    }
+
+    public HubTracingOptions withTimeout(Duration timeout) {
+        return new HubTracingOptions(exporter, file, endpoint, headers, serviceName, timeout);
+    }
+
+    /**
+     * Creates the configured exporter.
+     */
+    public HubSpanExporter createExporter() {
+        if (exporter == Exporter.OTLP_HTTP) {
+            return new OtlpHttpSpanExporter(endpoint, serviceName, headers, timeout);
+        }
+        return new OtlpFileSpanExporter(file, serviceName);
+    }
+
+    public Exporter getExporter() {
+        return exporter;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
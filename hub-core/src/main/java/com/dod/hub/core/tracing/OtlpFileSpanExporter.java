@@ -0,0 +1,56 @@
+package com.dod.hub.core.tracing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each batch of spans to a file as one line of OTLP JSON, the format
+ * written by the OpenTelemetry Collector's file exporter. The file can be
+ * replayed into a collector with its {@code otlpjsonfile} receiver or read
+ * line by line.
+ */
+public class OtlpFileSpanExporter implements HubSpanExporter {
+
+    private final Path file;
+    private final String serviceName;
+    private OutputStream out;
+
+    public OtlpFileSpanExporter(Path file, String serviceName) {
+        this.file = file;
+        this.serviceName = serviceName;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void export(List<HubSpan> spans) throws Exception {
+        if (out == null) {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            out = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        out.write(OtlpJson.encode(spans, serviceName));
+        out.write('\n');
+        out.flush();
+    }
+
+    @Override
+    public void shutdown() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // Nothing left to write
+        }
+        out = null;
+    }
+}
@@ -0,0 +1,60 @@
+package com.dod.hub.core.tracing;
+
+import com.dod.hub.core.exception.HubException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Posts batches of spans to an OTLP/HTTP endpoint using the JSON encoding
+ * ({@code Content-Type: application/json}), which every OpenTelemetry
+ * Collector and most tracing backends accept on {@code /v1/traces}.
+ */
+public class OtlpHttpSpanExporter implements HubSpanExporter {
+
+    public static final String DEFAULT_ENDPOINT = "http://localhost:4318/v1/traces";
+
+    private final URI endpoint;
+    private final String serviceName;
+    private final Map<String, String> headers;
+    private final Duration timeout;
+    private final HttpClient client;
+
+    /**
+     * @param endpoint    The traces URL, e.g. {@value #DEFAULT_ENDPOINT}.
+     * @param serviceName Value of the {@code service.name} resource attribute.
+     * @param headers     Extra request headers such as authentication tokens.
+     * @param timeout     Connect and request timeout.
+     */
+    public OtlpHttpSpanExporter(String endpoint, String serviceName, Map<String, String> headers,
+            Duration timeout) {
+        this.endpoint = URI.create(endpoint);
+        this.serviceName = serviceName;
+        this.headers = Map.copyOf(headers);
+        this.timeout = timeout;
+        this.client = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    public URI getEndpoint() {
+        return endpoint;
+    }
+
+    @Override
+    public void export(List<HubSpan> spans) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(OtlpJson.encode(spans, serviceName)));
+        headers.forEach(request::header);
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new HubException("OTLP endpoint " + endpoint + " returned " + response.statusCode() + ": "
+                    + response.body());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dod.hub.core.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes spans as an OTLP {@code ExportTraceServiceRequest} in the JSON
+ * protobuf mapping used by OTLP/HTTP and the collector's file exporter: ids
+ * are lowercase hex, 64-bit integers are strings and enums are numbers.
+ */
+final class OtlpJson {
+
+    static final String SCOPE_NAME = "com.dod.hub";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int SPAN_KIND_INTERNAL = 1;
+
+    private OtlpJson() {
+    }
+
+    static byte[] encode(List<HubSpan> spans, String serviceName) throws Exception {
+        ObjectNode request = MAPPER.createObjectNode();
+        ObjectNode resourceSpans = request.putArray("resourceSpans").addObject();
+        addAttribute(resourceSpans.putObject("resource").putArray("attributes"), "service.name", serviceName);
+
+        ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", SCOPE_NAME);
+        ArrayNode encoded = scopeSpans.putArray("spans");
+        for (HubSpan span : spans) {
+            ObjectNode node = encoded.addObject();
+            node.put("traceId", span.getTraceId());
+            node.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                node.put("parentSpanId", span.getParentSpanId());
+            }
+            node.put("name", span.getName());
+            node.put("kind", SPAN_KIND_INTERNAL);
+            node.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+            node.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+            ArrayNode attributes = node.putArray("attributes");
+            for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+                addAttribute(attributes, attribute.getKey(), attribute.getValue());
+            }
+            ObjectNode status = node.putObject("status");
+            status.put("code", span.getStatus().ordinal());
+            if (span.getStatusMessage() != null) {
+                status.put("message", span.getStatusMessage());
+            }
+        }
+        return MAPPER.writeValueAsBytes(request);
+    }
+
+    private static void addAttribute(ArrayNode attributes, String key, Object value) {
+        ObjectNode attribute = attributes.addObject();
+        attribute.put("key", key);
+        ObjectNode any = attribute.putObject("value");
+        if (value instanceof Boolean bool) {
+            any.put("boolValue", bool);
+        } else if (value instanceof Double || value instanceof Float) {
+            any.put("doubleValue", ((Number) value).doubleValue());
+        } else if (value instanceof Number number) {
+            any.put("intValue", Long.toString(number.longValue()));
+        } else {
+            any.put("stringValue", String.valueOf(value));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.dod.hub.core.video;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recent frames of a recording within a byte budget.
+ * <p>
+ * Frames arriving sooner than the minimum interval after the last kept frame
+ * are dropped; once the budget is exceeded the oldest frames are evicted, so
+ * a long test keeps its last seconds rather than its first.
+ */
+final class FrameBuffer {
+
+    private final ArrayDeque<HubVideo.Frame> frames = new ArrayDeque<>();
+    private final long maxBytes;
+    private final long minIntervalNanos;
+
+    private long bytes;
+    private long lastNanos;
+    private int dropped;
+
+    FrameBuffer(long maxBytes, int maxFps) {
+        this.maxBytes = maxBytes;
+        this.minIntervalNanos = 1_000_000_000L / maxFps;
+    }
+
+    /**
+     * @return Whether the frame was kept.
+     */
+    synchronized boolean add(byte[] jpeg, long nanos) {
+        if (!frames.isEmpty() && nanos - lastNanos < minIntervalNanos) {
+            dropped++;
+            return false;
+        }
+        if (jpeg.length > maxBytes) {
+            dropped++;
+            return false;
+        }
+        frames.addLast(new HubVideo.Frame(jpeg, nanos));
+        lastNanos = nanos;
+        bytes += jpeg.length;
+        while (bytes > maxBytes) {
+            bytes -= frames.removeFirst().getJpeg().length;
+            dropped++;
+        }
+        return true;
+    }
+
+    /**
+     * Hands the kept frames over and empties the buffer.
+     */
+    synchronized List<HubVideo.Frame> drain() {
+        List<HubVideo.Frame> result = new ArrayList<>(frames);
+        frames.clear();
+        bytes = 0;
+        return result;
+    }
+
+    synchronized int size() {
+        return frames.size();
+    }
+
+    synchronized long bytes() {
+        return bytes;
+    }
+
+    synchronized int dropped() {
+        return dropped;
+    }
+}
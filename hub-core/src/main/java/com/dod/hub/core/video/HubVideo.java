@@ -0,0 +1,82 @@
+package com.dod.hub.core.video;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The frames of a stopped recording. Nothing is encoded until
+ * {@link #toAvi()} is called, so a recording that is not needed costs no more
+ * than the memory of its frames.
+ */
+public final class HubVideo {
+
+    /**
+     * File extension of {@link #toAvi()}.
+     */
+    public static final String FILE_EXTENSION = "avi";
+
+    private final List<Frame> frames;
+    private final int fps;
+    private final int dropped;
+
+    HubVideo(List<Frame> frames, int fps, int dropped) {
+        this.frames = Collections.unmodifiableList(frames);
+        this.fps = fps;
+        this.dropped = dropped;
+    }
+
+    public boolean isEmpty() {
+        return frames.isEmpty();
+    }
+
+    public int getFrameCount() {
+        return frames.size();
+    }
+
+    /**
+     * @return Frames not kept because they came too fast or did not fit into
+     *         the memory budget.
+     */
+    public int getDroppedFrames() {
+        return dropped;
+    }
+
+    /**
+     * @return Time between the first and the last kept frame.
+     */
+    public long getDurationMs() {
+        if (frames.size() < 2) {
+            return 0;
+        }
+        return (frames.get(frames.size() - 1).getNanos() - frames.get(0).getNanos()) / 1_000_000;
+    }
+
+    /**
+     * Muxes the frames into a Motion-JPEG AVI. The JPEGs are copied as they
+     * are, so this takes about as long as copying the buffer.
+     *
+     * @return The AVI file content.
+     * @throws com.dod.hub.core.exception.HubException If there are no frames.
+     */
+    public byte[] toAvi() {
+        return MjpegAviWriter.write(frames, fps);
+    }
+
+    static final class Frame {
+        private final byte[] jpeg;
+        private final long nanos;
+
+        Frame(byte[] jpeg, long nanos) {
+            this.jpeg = jpeg;
+            this.nanos = nanos;
+        }
+
+        byte[] getJpeg() {
+            return jpeg;
+        }
+
+        long getNanos() {
+            return nanos;
+        }
+    }
+}
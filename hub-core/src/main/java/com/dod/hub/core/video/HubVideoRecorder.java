@@ -0,0 +1,85 @@
+package com.dod.hub.core.video;
+
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.HubScreencast;
+import com.dod.hub.core.provider.ProviderSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Records a session from the browser's screencast.
+ * <p>
+ * The browser encodes JPEG frames itself and pushes them over its debugging
+ * connection; the recorder only keeps the latest ones in a
+ * {@link HubVideoOptions#getMaxBufferBytes() bounded buffer}. The test thread
+ * neither captures nor encodes, and a recording that is discarded never gets
+ * muxed: call {@link #stop()} after the test and {@link HubVideo#toAvi()} only
+ * if the video is kept.
+ */
+public final class HubVideoRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(HubVideoRecorder.class);
+
+    private final HubVideoOptions options;
+    private final FrameBuffer buffer;
+    private volatile HubScreencast screencast;
+    private volatile boolean stopped;
+
+    private HubVideoRecorder(HubVideoOptions options) {
+        this.options = options;
+        this.buffer = new FrameBuffer(options.getMaxBufferBytes(), options.getMaxFps());
+    }
+
+    /**
+     * Starts recording a session.
+     *
+     * @return The recorder, or null if the provider or browser cannot stream
+     *         frames; recording is best effort and never fails a test.
+     */
+    public static HubVideoRecorder start(HubProvider provider, ProviderSession session, HubVideoOptions options) {
+        HubVideoRecorder recorder = new HubVideoRecorder(options);
+        try {
+            recorder.screencast = provider.startScreencast(session, options, recorder::onFrame);
+            return recorder;
+        } catch (UnsupportedOperationException e) {
+            log.debug("Not recording session {}: {}", session.getSessionId(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.warn("Failed to start recording session {}: {}", session.getSessionId(), e.getMessage());
+        }
+        return null;
+    }
+
+    private void onFrame(byte[] jpeg) {
+        if (!stopped) {
+            buffer.add(jpeg, System.nanoTime());
+        }
+    }
+
+    public boolean isRecording() {
+        return !stopped;
+    }
+
+    /**
+     * @return Frames currently held.
+     */
+    public int getFrameCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Stops the screencast and hands the frames over. Later calls return an
+     * empty video.
+     */
+    public synchronized HubVideo stop() {
+        if (!stopped) {
+            stopped = true;
+            try {
+                screencast.stop();
+            } catch (RuntimeException e) {
+                log.debug("Failed to stop screencast: {}", e.getMessage());
+            }
+        }
+        return new HubVideo(buffer.drain(), options.getMaxFps(), buffer.dropped());
+    }
+}
@@ -0,0 +1,169 @@
+package com.dod.hub.core.video;
+
+import com.dod.hub.core.exception.HubException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Muxes JPEG frames into a Motion-JPEG AVI without decoding them.
+ * <p>
+ * AVI has a constant frame rate, so the recording's timing is kept by
+ * following a frame with empty chunks for the slots it stays on screen, which
+ * players treat as repeating the previous frame. Gaps are capped at a minute.
+ */
+final class MjpegAviWriter {
+
+    private static final int AVIF_HASINDEX = 0x10;
+    private static final int AVIIF_KEYFRAME = 0x10;
+    private static final int HDRL_SIZE = 4 + (8 + 56) + (8 + 4 + (8 + 56) + (8 + 40));
+
+    private MjpegAviWriter() {
+    }
+
+    static byte[] write(List<HubVideo.Frame> frames, int fps) {
+        if (frames.isEmpty()) {
+            throw new HubException("A video needs at least one frame");
+        }
+        long slotNanos = 1_000_000_000L / fps;
+        int maxRepeat = fps * 60;
+        int[] slots = new int[frames.size()];
+        long moviSize = 4;
+        int chunks = 0;
+        int largest = 0;
+        for (int i = 0; i < frames.size(); i++) {
+            byte[] jpeg = frames.get(i).getJpeg();
+            long gap = i + 1 < frames.size() ? frames.get(i + 1).getNanos() - frames.get(i).getNanos() : 0;
+            slots[i] = (int) Math.min(maxRepeat, Math.max(1, Math.round((double) gap / slotNanos)));
+            moviSize += 8 + padded(jpeg.length) + 8L * (slots[i] - 1);
+            chunks += slots[i];
+            largest = Math.max(largest, jpeg.length);
+        }
+        long total = 12 + (8 + HDRL_SIZE) + (8 + moviSize) + (8 + 16L * chunks);
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new HubException("Video of " + total + " bytes exceeds the AVI size limit");
+        }
+        int[] size = frameSize(frames.get(0).getJpeg());
+
+        ByteBuffer out = ByteBuffer.allocate((int) total).order(ByteOrder.LITTLE_ENDIAN);
+        fourcc(out, "RIFF");
+        out.putInt((int) total - 8);
+        fourcc(out, "AVI ");
+
+        fourcc(out, "LIST");
+        out.putInt(HDRL_SIZE);
+        fourcc(out, "hdrl");
+        fourcc(out, "avih");
+        out.putInt(56);
+        out.putInt((int) (slotNanos / 1000));
+        out.putInt(largest * fps);
+        out.putInt(0);
+        out.putInt(AVIF_HASINDEX);
+        out.putInt(chunks);
+        out.putInt(0);
+        out.putInt(1);
+        out.putInt(largest);
+        out.putInt(size[0]);
+        out.putInt(size[1]);
+        out.putInt(0).putInt(0).putInt(0).putInt(0);
+
+        fourcc(out, "LIST");
+        out.putInt(4 + (8 + 56) + (8 + 40));
+        fourcc(out, "strl");
+        fourcc(out, "strh");
+        out.putInt(56);
+        fourcc(out, "vids");
+        fourcc(out, "MJPG");
+        out.putInt(0);
+        out.putShort((short) 0).putShort((short) 0);
+        out.putInt(0);
+        out.putInt(1);
+        out.putInt(fps);
+        out.putInt(0);
+        out.putInt(chunks);
+        out.putInt(largest);
+        out.putInt(-1);
+        out.putInt(0);
+        out.putShort((short) 0).putShort((short) 0).putShort((short) size[0]).putShort((short) size[1]);
+        fourcc(out, "strf");
+        out.putInt(40);
+        out.putInt(40);
+        out.putInt(size[0]);
+        out.putInt(size[1]);
+        out.putShort((short) 1);
+        out.putShort((short) 24);
+        fourcc(out, "MJPG");
+        out.putInt(size[0] * size[1] * 3);
+        out.putInt(0).putInt(0).putInt(0).putInt(0);
+
+        fourcc(out, "LIST");
+        out.putInt((int) moviSize);
+        int moviStart = out.position();
+        fourcc(out, "movi");
+        int[] offsets = new int[chunks];
+        int[] lengths = new int[chunks];
+        int chunk = 0;
+        for (int i = 0; i < frames.size(); i++) {
+            byte[] jpeg = frames.get(i).getJpeg();
+            offsets[chunk] = out.position() - moviStart;
+            lengths[chunk++] = jpeg.length;
+            fourcc(out, "00dc");
+            out.putInt(jpeg.length);
+            out.put(jpeg);
+            if ((jpeg.length & 1) != 0) {
+                out.put((byte) 0);
+            }
+            for (int repeat = 1; repeat < slots[i]; repeat++) {
+                offsets[chunk] = out.position() - moviStart;
+                lengths[chunk++] = 0;
+                fourcc(out, "00dc");
+                out.putInt(0);
+            }
+        }
+
+        fourcc(out, "idx1");
+        out.putInt(16 * chunks);
+        for (int i = 0; i < chunks; i++) {
+            fourcc(out, "00dc");
+            out.putInt(lengths[i] > 0 ? AVIIF_KEYFRAME : 0);
+            out.putInt(offsets[i]);
+            out.putInt(lengths[i]);
+        }
+        return out.array();
+    }
+
+    /**
+     * Reads width and height from a JPEG's start-of-frame segment.
+     *
+     * @return {width, height}, or zeros if the data has no such segment.
+     */
+    static int[] frameSize(byte[] jpeg) {
+        int i = 2;
+        while (i + 8 < jpeg.length && (jpeg[i] & 0xFF) == 0xFF) {
+            int marker = jpeg[i + 1] & 0xFF;
+            if (marker == 0xD8 || marker == 0x01 || (marker >= 0xD0 && marker <= 0xD7) || marker == 0xFF) {
+                i += marker == 0xFF ? 1 : 2;
+                continue;
+            }
+            if (marker >= 0xC0 && marker <= 0xCF && marker != 0xC4 && marker != 0xC8 && marker != 0xCC) {
+                return new int[]{uint16(jpeg, i + 7), uint16(jpeg, i + 5)};
+            }
+            i += 2 + uint16(jpeg, i + 2);
+        }
+        return new int[]{0, 0};
+    }
+
+    private static int uint16(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+    }
+
+    private static long padded(int length) {
+        return length + (length & 1);
+    }
+
+    private static void fourcc(ByteBuffer out, String code) {
+        out.put(code.getBytes(StandardCharsets.US_ASCII));
+    }
+}
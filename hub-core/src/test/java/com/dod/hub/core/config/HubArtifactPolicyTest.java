@@ -0,0 +1,26 @@
+package com.dod.hub.core.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubArtifactPolicyTest {
+
+    @Test
+    @DisplayName("ALWAYS should sample passing tests by id and capture every failure")
+    void samplesPassingTests() {
+        long captured = IntStream.range(0, 2_000)
+                .filter(i -> HubArtifactPolicy.ALWAYS.shouldCapture(false, 0.25, "LoginTest#case" + i))
+                .count();
+
+        assertThat(captured).isBetween(400L, 600L);
+        assertThat(HubArtifactPolicy.ALWAYS.shouldCapture(false, 0.25, "LoginTest#case7"))
+                .isEqualTo(HubArtifactPolicy.ALWAYS.shouldCapture(false, 0.25, "LoginTest#case7"));
+        assertThat(HubArtifactPolicy.ALWAYS.shouldCapture(true, 0, "LoginTest#fails")).isTrue();
+        assertThat(HubArtifactPolicy.ON_FAILURE.shouldCapture(false, 1, "LoginTest#passes")).isFalse();
+        assertThat(HubArtifactPolicy.NEVER.shouldCapture(true, 1, "LoginTest#fails")).isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package com.dod.hub.core.locator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubSelectorsTest {
+
+    @Test
+    @DisplayName("CSS and XPath pairs should flatten into one scoped locator")
+    void composesSameKindLocators() {
+        assertThat(HubSelectors.compose(HubLocator.id("cart"), HubLocator.className("total")))
+                .isEqualTo(HubLocator.css("[id=\"cart\"] .total"));
+        assertThat(HubSelectors.compose(HubLocator.css("#cart .summary"), HubLocator.css(".total")))
+                .isEqualTo(HubLocator.css("#cart .summary .total"));
+        assertThat(HubSelectors.compose(HubLocator.xpath("//table"), HubLocator.xpath(".//td")))
+                .isEqualTo(HubLocator.xpath("(//table)[1]//td"));
+        assertThat(HubSelectors.item(HubLocator.xpath("//tr"), 2))
+                .isEqualTo(HubLocator.xpath("(//tr)[3]"));
+    }
+
+    @Test
+    @DisplayName("Roots that may match several elements should scope the child to their first match")
+    void composesNonUniqueRootsAsXPath() {
+        assertThat(HubSelectors.compose(HubLocator.tagName("nav"), HubLocator.tagName("a")))
+                .isEqualTo(HubLocator.xpath("(//nav)[1]//a"));
+        assertThat(HubSelectors.compose(HubLocator.className("row"), HubLocator.name("qty")))
+                .isEqualTo(HubLocator.xpath(
+                        "(//*[contains(concat(' ', normalize-space(@class), ' '), ' row ')])[1]//*[@name='qty']"));
+        assertThat(HubSelectors.compose(HubLocator.xpath("//table"), HubLocator.id("total")))
+                .isEqualTo(HubLocator.xpath("(//table)[1]//*[@id='total']"));
+        assertThat(HubSelectors.compose(HubLocator.css("nav"), HubLocator.tagName("a"))).isNull();
+        assertThat(HubSelectors.compose(HubLocator.css("#cart, .cart"), HubLocator.tagName("a"))).isNull();
+        assertThat(HubSelectors.compose(HubLocator.css("#cart.open"), HubLocator.tagName("a"))).isNull();
+    }
+
+    @Test
+    @DisplayName("Mixed or ambiguous locators should be left to a chained lookup")
+    void rejectsMixedLocators() {
+        assertThat(HubSelectors.compose(HubLocator.css("nav"), HubLocator.xpath(".//a"))).isNull();
+        assertThat(HubSelectors.compose(HubLocator.xpath("//nav"), HubLocator.xpath("//a"))).isNull();
+        assertThat(HubSelectors.compose(HubLocator.css("nav, aside"), HubLocator.css("a"))).isNull();
+        assertThat(HubSelectors.compose(HubLocator.css("nav"),
+                new HubLocator(LocatorStrategy.LINK_TEXT, "Home"))).isNull();
+        assertThat(HubSelectors.item(HubLocator.css("tr"), 0)).isNull();
+    }
+}
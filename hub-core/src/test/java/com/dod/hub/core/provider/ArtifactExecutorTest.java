@@ -0,0 +1,50 @@
+package com.dod.hub.core.provider;
+
+import com.dod.hub.core.config.HubScreenshotSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArtifactExecutorTest {
+
+    @Test
+    @DisplayName("Captures should be scaled and re-encoded on a worker before reaching the sink")
+    void encodesOffTheCallingThread() throws Exception {
+        ArtifactExecutor executor = new ArtifactExecutor(1, 4);
+        HubScreenshotSpec target = HubScreenshotSpec.viewport().jpeg(70).withScale(0.5);
+        AtomicReference<String> sinkThread = new AtomicReference<>();
+
+        byte[] stored = executor.submit(png(200, 100), target, image -> {
+            sinkThread.set(Thread.currentThread().getName());
+            return image;
+        }).get();
+
+        assertThat(sinkThread.get()).startsWith("hub-artifact-worker-");
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(stored));
+        assertThat(decoded.getWidth()).isEqualTo(100);
+        assertThat(decoded.getHeight()).isEqualTo(50);
+        assertThat(stored[0] & 0xFF).isEqualTo(0xFF); // JPEG SOI marker
+    }
+
+    @Test
+    @DisplayName("The capture spec should keep the area and drop format and scale")
+    void capturesUnconvertedArea() {
+        assertThat(ArtifactExecutor.captureSpec(HubScreenshotSpec.fullPage().jpeg(60).withScale(0.25)))
+                .isEqualTo(HubScreenshotSpec.fullPage());
+        assertThat(ArtifactExecutor.captureSpec(null)).isNull();
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,94 @@
+package com.dod.hub.core.provider;
+
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.exception.HubException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CdpScreencastTest {
+
+    @Test
+    @DisplayName("Frames should be decoded as they arrive and acknowledged from another thread")
+    void acknowledgesFramesOffTheChannelThread() throws Exception {
+        FakeChannel channel = new FakeChannel();
+        List<byte[]> frames = new CopyOnWriteArrayList<>();
+        HubScreencast screencast = CdpScreencast.start(channel, HubVideoOptions.defaults(), frames::add);
+        assertThat(channel.commands.poll()).isEqualTo("Page.startScreencast");
+        assertThat(channel.params.get("Page.startScreencast")).containsEntry("format", "jpeg");
+
+        Thread channelThread = new Thread(() -> channel.emit("Page.screencastFrame", Map.of(
+                "data", Base64.getEncoder().encodeToString("frame".getBytes(StandardCharsets.UTF_8)),
+                "sessionId", 7)), "devtools");
+        channelThread.start();
+        channelThread.join();
+
+        assertThat(channel.commands.poll(5, TimeUnit.SECONDS)).isEqualTo("Page.screencastFrameAck");
+        assertThat(channel.params.get("Page.screencastFrameAck")).containsEntry("sessionId", 7);
+        assertThat(channel.senders.get("Page.screencastFrameAck")).startsWith("hub-screencast-ack");
+        assertThat(frames).hasSize(1);
+        assertThat(new String(frames.get(0), StandardCharsets.UTF_8)).isEqualTo("frame");
+
+        screencast.stop();
+        assertThat(channel.commands.poll()).isEqualTo("Page.stopScreencast");
+        assertThat(channel.closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("A screencast that fails to start should release its channel")
+    void closesChannelWhenStartFails() {
+        FakeChannel channel = new FakeChannel();
+        channel.failing = true;
+
+        assertThatThrownBy(() -> CdpScreencast.start(channel, HubVideoOptions.defaults(), frame -> { }))
+                .isInstanceOf(HubException.class);
+        assertThat(channel.closed).isTrue();
+    }
+
+    private static final class FakeChannel implements CdpScreencast.Channel {
+        final BlockingQueue<String> commands = new LinkedBlockingQueue<>();
+        final Map<String, Map<String, Object>> params = new ConcurrentHashMap<>();
+        final Map<String, String> senders = new ConcurrentHashMap<>();
+        final Map<String, List<Consumer<Map<String, Object>>>> listeners = new ConcurrentHashMap<>();
+        volatile boolean failing;
+        volatile boolean closed;
+
+        @Override
+        public void send(String method, Map<String, Object> params) {
+            if (failing) {
+                throw new HubException("DevTools command " + method + " failed");
+            }
+            this.params.put(method, params);
+            senders.put(method, Thread.currentThread().getName());
+            commands.add(method);
+        }
+
+        @Override
+        public void addListener(String event, Consumer<Map<String, Object>> listener) {
+            listeners.computeIfAbsent(event, k -> new ArrayList<>()).add(listener);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        void emit(String event, Map<String, Object> params) {
+            listeners.getOrDefault(event, List.of()).forEach(listener -> listener.accept(params));
+        }
+    }
+}
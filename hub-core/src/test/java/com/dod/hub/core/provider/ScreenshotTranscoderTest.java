@@ -0,0 +1,45 @@
+package com.dod.hub.core.provider;
+
+import com.dod.hub.core.config.HubScreenshotSpec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScreenshotTranscoderTest {
+
+    @Test
+    @DisplayName("An unscaled capture already in the requested format should be returned unchanged")
+    void keepsMatchingCaptures() throws IOException {
+        byte[] png = encode("png");
+        byte[] jpeg = encode("jpeg");
+
+        assertThat(ScreenshotTranscoder.transcode(png, HubScreenshotSpec.viewport())).isSameAs(png);
+        assertThat(ScreenshotTranscoder.transcode(jpeg, HubScreenshotSpec.viewport().jpeg(70))).isSameAs(jpeg);
+    }
+
+    @Test
+    @DisplayName("Captures in another format or scale should be converted")
+    void convertsOtherCaptures() throws IOException {
+        byte[] jpeg = encode("jpeg");
+
+        byte[] png = ScreenshotTranscoder.transcode(jpeg, HubScreenshotSpec.viewport());
+        byte[] half = ScreenshotTranscoder.transcode(jpeg, HubScreenshotSpec.viewport().jpeg(70).withScale(0.5));
+
+        assertThat(new String(png, 1, 3, StandardCharsets.US_ASCII)).isEqualTo("PNG");
+        assertThat(ImageIO.read(new ByteArrayInputStream(half)).getWidth()).isEqualTo(20);
+    }
+
+    private static byte[] encode(String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(40, 20, BufferedImage.TYPE_INT_RGB), format, out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,131 @@
+package com.dod.hub.core.telemetry;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileTelemetryListenerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Events from concurrent threads should each be written as one JSON line")
+    void writesOneLinePerEvent(@TempDir Path dir) throws Exception {
+        FileTelemetryListener listener = new FileTelemetryListener(dir.toString(),
+                FileTelemetryListener.Options.defaults().withBatching(64, 256));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                String testClass = "Class" + t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        listener.onEvent(HubTestEvent.TEST_PASSED, result(testClass, "test" + i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        listener.close();
+
+        List<String> lines = Files.readAllLines(dir.resolve(FileTelemetryListener.FILE_NAME));
+        assertThat(lines).hasSize(16_000);
+        Set<String> keys = new HashSet<>();
+        for (String line : lines) {
+            JsonNode node = mapper.readTree(line);
+            assertThat(node.get("event").asText()).isEqualTo("TEST_PASSED");
+            keys.add(node.get("testClass").asText() + "#" + node.get("testMethod").asText());
+        }
+        assertThat(keys).hasSize(16_000);
+    }
+
+    @Test
+    @DisplayName("The file should rotate at the size limit and keep only the configured number of files")
+    void rotatesBySize(@TempDir Path dir) throws IOException {
+        FileTelemetryListener listener = new FileTelemetryListener(dir.toString(),
+                FileTelemetryListener.Options.defaults().withRotation(4 * 1024, 3).withBatching(8, 64));
+        for (int i = 0; i < 1_000; i++) {
+            listener.onEvent(HubTestEvent.TEST_FAILED, result("RotatingTest", "test" + i));
+        }
+        listener.close();
+
+        List<Path> files;
+        try (Stream<Path> list = Files.list(dir)) {
+            files = list.sorted().toList();
+        }
+        assertThat(files).extracting(file -> file.getFileName().toString())
+                .containsExactly("hub-telemetry.1.ndjson", "hub-telemetry.2.ndjson", "hub-telemetry.ndjson");
+        for (Path file : files) {
+            assertThat(Files.size(file)).isLessThanOrEqualTo(4 * 1024);
+        }
+        List<String> current = Files.readAllLines(dir.resolve(FileTelemetryListener.FILE_NAME));
+        assertThat(current.get(current.size() - 1)).contains("\"testMethod\":\"test999\"");
+    }
+
+    @Test
+    @DisplayName("Listeners of one file should share a writer and keep the previous run as a backup")
+    void sharesWriterAndKeepsPreviousRun(@TempDir Path dir) throws IOException {
+        Files.writeString(dir.resolve(FileTelemetryListener.FILE_NAME), "{\"event\":\"PREVIOUS_RUN\"}\n");
+
+        FileTelemetryListener first = new FileTelemetryListener(dir.toString());
+        FileTelemetryListener second = new FileTelemetryListener(dir.toString());
+        first.onEvent(HubTestEvent.TEST_PASSED, result("SharedTest", "first"));
+        first.close();
+        second.onEvent(HubTestEvent.TEST_PASSED, result("SharedTest", "second"));
+        second.flush();
+
+        assertThat(Files.readAllLines(dir.resolve(FileTelemetryListener.FILE_NAME)))
+                .hasSize(2)
+                .allMatch(line -> line.contains("SharedTest"));
+        assertThat(Files.readString(dir.resolve("hub-telemetry.1.ndjson"))).contains("PREVIOUS_RUN");
+        second.close();
+    }
+
+    @Test
+    @DisplayName("Events should be dropped instead of blocking producers when the file cannot be written")
+    void dropsEventsWhenWritesFail(@TempDir Path dir) throws Exception {
+        // A regular file where the telemetry directory should be
+        Path blocker = Files.writeString(dir.resolve("blocker"), "");
+        FileTelemetryListener listener = new FileTelemetryListener(blocker.toString(),
+                FileTelemetryListener.Options.defaults().withBatching(8, 16));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    listener.onEvent(HubTestEvent.TEST_FAILED, result("FullDiskTest", "test" + i));
+                }
+            });
+            producer.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+            listener.close();
+        }
+
+        assertThat(blocker).isEmptyFile();
+    }
+
+    private static HubTestResult result(String testClass, String testMethod) {
+        return new HubTestResult(testClass, testMethod, HubTestEvent.TEST_PASSED, 5, null, List.of());
+    }
+}
@@ -0,0 +1,65 @@
+package com.dod.hub.core.telemetry;
+
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubProviderType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubDurationStoreTest {
+
+    @Test
+    @DisplayName("Predictions should favour recent runs and survive a reload")
+    void averagesAndPersists(@TempDir Path dir) {
+        Path file = dir.resolve("durations.tsv");
+        HubDurationStore store = new HubDurationStore(file);
+        store.record("com.example.LoginTest", "logsIn", 1000, "SELENIUM/CHROME");
+        store.record("com.example.LoginTest", "logsIn", 2000, "SELENIUM/CHROME");
+        store.record("com.example.LoginTest", "logsOut", 500, null);
+        store.save();
+
+        HubDurationStore reloaded = new HubDurationStore(file);
+        HubDurationStore.Entry entry = reloaded.get("com.example.LoginTest", "logsIn");
+        assertThat(entry.getAverageMs()).isEqualTo(1300);
+        assertThat(entry.getRuns()).isEqualTo(2);
+        assertThat(entry.getLastMs()).isEqualTo(2000);
+        assertThat(entry.getDriverKey()).isEqualTo("SELENIUM/CHROME");
+        assertThat(reloaded.predictClassMs("com.example.LoginTest")).isEqualTo(1800);
+        assertThat(reloaded.predictMs("com.example.LoginTest", "unknown")).isEqualTo(-1);
+        assertThat(reloaded.predictClassMs("com.example.Other")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Stores saving the same file should merge rather than overwrite each other")
+    void mergesConcurrentWriters(@TempDir Path dir) {
+        Path file = dir.resolve("durations.tsv");
+        HubDurationStore forkA = new HubDurationStore(file);
+        HubDurationStore forkB = new HubDurationStore(file);
+        forkA.record("com.example.ATest", "a", 100, null);
+        forkB.record("com.example.BTest", "b", 200, null);
+        forkA.save();
+        forkB.save();
+
+        HubDurationStore merged = new HubDurationStore(file);
+        assertThat(merged.testClasses()).containsExactlyInAnyOrder("com.example.ATest", "com.example.BTest");
+        assertThat(merged.averageTestMs()).isEqualTo(150);
+    }
+
+    @Test
+    @DisplayName("Driver keys should name provider and browser of each driver")
+    void describesDrivers() {
+        HubConfig chrome = new HubConfig();
+        HubConfig firefox = new HubConfig();
+        firefox.setProvider(HubProviderType.PLAYWRIGHT);
+        firefox.setBrowser(HubBrowserType.FIREFOX);
+
+        assertThat(HubDurationStore.driverKey(List.of(chrome, firefox)))
+                .isEqualTo(chrome.getProvider() + "/" + chrome.getBrowser() + "+PLAYWRIGHT/FIREFOX");
+    }
+}
@@ -0,0 +1,100 @@
+package com.dod.hub.core.tracing;
+
+import com.dod.hub.core.command.CommandType;
+import com.dod.hub.core.command.HubCommand;
+import com.dod.hub.core.pipeline.CommandContext;
+import com.dod.hub.core.pipeline.CommandPipeline;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HubTracerTest {
+
+    private final CommandPipeline pipeline = new CommandPipeline();
+
+    @AfterEach
+    void uninstall() {
+        HubTracer.get().shutdown();
+    }
+
+    @Test
+    @DisplayName("Pipeline commands should become child spans of the test span")
+    void nestsCommandSpansUnderTestSpan() {
+        List<HubSpan> exported = new CopyOnWriteArrayList<>();
+        HubTracer tracer = HubTracer.install(exported::addAll);
+
+        HubSpan test = tracer.startTestSpan("LoginTest", "shouldLogin");
+        pipeline.execute(context(CommandType.NAVIGATE_TO, "https://example.com"), () -> null);
+        assertThatThrownBy(() -> pipeline.execute(context(CommandType.CLICK, "css=#missing"), () -> {
+            throw new IllegalStateException("no such element");
+        })).isInstanceOf(IllegalStateException.class);
+        test.end(null);
+        assertThat(HubTracer.currentSpan()).isSameAs(HubSpan.NOOP);
+        tracer.flush();
+
+        assertThat(exported).extracting(HubSpan::getName)
+                .containsExactly("NAVIGATE_TO", "CLICK", "LoginTest.shouldLogin");
+        HubSpan navigate = exported.get(0);
+        HubSpan click = exported.get(1);
+        assertThat(navigate.getParentSpanId()).isEqualTo(test.getSpanId());
+        assertThat(click.getTraceId()).isEqualTo(test.getTraceId());
+        assertThat(test.getParentSpanId()).isNull();
+        assertThat(navigate.getAttributes())
+                .containsEntry("hub.session.id", "session-1")
+                .containsEntry("hub.command.type", "NAVIGATE_TO")
+                .containsEntry("hub.command.target", "https://example.com")
+                .containsEntry("hub.command.outcome", "SUCCESS");
+        assertThat(navigate.getStatus()).isEqualTo(HubSpan.Status.OK);
+        assertThat(click.getStatus()).isEqualTo(HubSpan.Status.ERROR);
+        assertThat(click.getStatusMessage()).contains("no such element");
+        assertThat(click.getEndEpochNanos()).isGreaterThanOrEqualTo(click.getStartEpochNanos());
+    }
+
+    @Test
+    @DisplayName("Without an installed tracer the pipeline should record nothing")
+    void disabledByDefault() {
+        assertThat(HubTracer.get().isEnabled()).isFalse();
+        assertThat(HubTracer.get().startTestSpan("LoginTest", "shouldLogin")).isSameAs(HubSpan.NOOP);
+        assertThat(pipeline.execute(context(CommandType.GET_TITLE, null), () -> "Title")).isEqualTo("Title");
+    }
+
+    @Test
+    @DisplayName("The file exporter should write one OTLP JSON request per batch")
+    void writesOtlpJsonLines(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("traces/hub-traces.jsonl");
+        HubTracer tracer = HubTracer.install(HubTracingOptions.file(file).withServiceName("checkout-suite")
+                .createExporter());
+
+        HubSpan test = tracer.startTestSpan("CheckoutTest", "pays");
+        pipeline.execute(context(CommandType.FIND_ELEMENT, "id=pay"), () -> null);
+        test.end(null);
+        tracer.shutdown();
+
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1);
+        JsonNode resourceSpans = new ObjectMapper().readTree(lines.get(0)).get("resourceSpans").get(0);
+        assertThat(resourceSpans.at("/resource/attributes/0/value/stringValue").asText()).isEqualTo("checkout-suite");
+        JsonNode spans = resourceSpans.at("/scopeSpans/0/spans");
+        assertThat(spans).hasSize(2);
+        assertThat(spans.get(0).get("parentSpanId").asText()).isEqualTo(spans.get(1).get("spanId").asText());
+        assertThat(spans.get(0).get("traceId").asText()).hasSize(32);
+        assertThat(spans.get(0).get("status").get("code").asInt()).isEqualTo(1);
+    }
+
+    private static CommandContext context(CommandType type, String target) {
+        HubCommand command = new HubCommand(type, "session-1", "test");
+        command.setTarget(target);
+        return new CommandContext(null, null, command);
+    }
+}
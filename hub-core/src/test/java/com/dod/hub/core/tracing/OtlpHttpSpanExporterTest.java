@@ -0,0 +1,103 @@
+package com.dod.hub.core.tracing;
+
+import com.dod.hub.core.command.CommandType;
+import com.dod.hub.core.command.HubCommand;
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.pipeline.CommandContext;
+import com.dod.hub.core.pipeline.CommandPipeline;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the OTLP/HTTP exporter against a minimal stand-in for a collector's
+ * {@code /v1/traces} endpoint.
+ */
+class OtlpHttpSpanExporterTest {
+
+    private final List<String> bodies = new CopyOnWriteArrayList<>();
+    private final List<String> contentTypes = new CopyOnWriteArrayList<>();
+    private final List<String> tokens = new CopyOnWriteArrayList<>();
+    private HttpServer collector;
+    private volatile int status = 200;
+
+    @BeforeEach
+    void startCollector() throws IOException {
+        collector = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        collector.createContext("/v1/traces", exchange -> {
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            contentTypes.add(exchange.getRequestHeaders().getFirst("Content-Type"));
+            tokens.add(String.valueOf(exchange.getRequestHeaders().getFirst("X-Api-Key")));
+            byte[] response = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        collector.start();
+    }
+
+    @AfterEach
+    void stopCollector() {
+        HubTracer.get().shutdown();
+        collector.stop(0);
+    }
+
+    @Test
+    @DisplayName("Spans should be posted to the collector as OTLP JSON")
+    void postsSpans() throws Exception {
+        HubTracer tracer = HubTracer.install(HubTracingOptions.otlpHttp(endpoint())
+                .withHeaders(Map.of("X-Api-Key", "secret"))
+                .createExporter());
+
+        HubSpan test = tracer.startTestSpan("SearchTest", "findsResults");
+        HubCommand command = new HubCommand(CommandType.TYPE, "session-7", "playwright");
+        command.setTarget("css=input[name=q]");
+        new CommandPipeline().execute(new CommandContext(null, null, command), () -> null);
+        test.end(new AssertionError("expected 10 results"));
+        tracer.flush();
+
+        assertThat(bodies).hasSize(1);
+        assertThat(contentTypes).containsExactly("application/json");
+        assertThat(tokens).containsExactly("secret");
+        JsonNode spans = new ObjectMapper().readTree(bodies.get(0)).at("/resourceSpans/0/scopeSpans/0/spans");
+        assertThat(spans).hasSize(2);
+        JsonNode type = spans.get(0);
+        assertThat(type.get("name").asText()).isEqualTo("TYPE");
+        assertThat(type.get("parentSpanId").asText()).isEqualTo(test.getSpanId());
+        assertThat(type.get("attributes").findValuesAsText("stringValue"))
+                .contains("session-7", "css=input[name=q]", "playwright", "SUCCESS");
+        assertThat(spans.get(1).get("status").get("code").asInt()).isEqualTo(2);
+        assertThat(spans.get(1).get("status").get("message").asText()).contains("expected 10 results");
+    }
+
+    @Test
+    @DisplayName("A rejected export should fail with the collector's response")
+    void reportsRejectedExports() {
+        status = 400;
+        OtlpHttpSpanExporter exporter = new OtlpHttpSpanExporter(endpoint(), "hub-tests", Map.of(),
+                Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> exporter.export(List.of()))
+                .isInstanceOf(HubException.class)
+                .hasMessageContaining("400");
+    }
+
+    private String endpoint() {
+        return "http://127.0.0.1:" + collector.getAddress().getPort() + "/v1/traces";
+    }
+}
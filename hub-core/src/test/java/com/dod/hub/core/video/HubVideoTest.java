@@ -0,0 +1,71 @@
+package com.dod.hub.core.video;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubVideoTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    @DisplayName("The buffer should drop frames above the frame rate and evict the oldest beyond its budget")
+    void boundsFrameRateAndMemory() {
+        FrameBuffer buffer = new FrameBuffer(250, 10);
+
+        assertThat(buffer.add(new byte[100], 0)).isTrue();
+        assertThat(buffer.add(new byte[100], 50 * MS)).isFalse();
+        assertThat(buffer.add(new byte[100], 100 * MS)).isTrue();
+        assertThat(buffer.add(new byte[100], 200 * MS)).isTrue();
+
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.bytes()).isEqualTo(200);
+        assertThat(buffer.dropped()).isEqualTo(2);
+        assertThat(buffer.drain()).extracting(HubVideo.Frame::getNanos).containsExactly(100 * MS, 200 * MS);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Frames should be muxed into an MJPEG AVI that keeps their timing")
+    void muxesMjpegAvi() throws IOException {
+        byte[] jpeg = jpeg(320, 180);
+        HubVideo video = new HubVideo(List.of(
+                new HubVideo.Frame(jpeg, 0),
+                new HubVideo.Frame(jpeg, 600 * MS)), 5, 0);
+
+        byte[] avi = video.toAvi();
+
+        ByteBuffer in = ByteBuffer.wrap(avi).order(ByteOrder.LITTLE_ENDIAN);
+        assertThat(fourcc(avi, 0)).isEqualTo("RIFF");
+        assertThat(in.getInt(4)).isEqualTo(avi.length - 8);
+        assertThat(fourcc(avi, 8)).isEqualTo("AVI ");
+        // avih: microseconds per frame, total chunks, width, height
+        assertThat(fourcc(avi, 24)).isEqualTo("avih");
+        assertThat(in.getInt(32)).isEqualTo(200_000);
+        assertThat(in.getInt(48)).isEqualTo(4);
+        assertThat(in.getInt(64)).isEqualTo(320);
+        assertThat(in.getInt(68)).isEqualTo(180);
+        assertThat(new String(avi, StandardCharsets.US_ASCII)).contains("MJPG", "movi", "idx1");
+        assertThat(video.getDurationMs()).isEqualTo(600);
+    }
+
+    private static String fourcc(byte[] data, int offset) {
+        return new String(data, offset, 4, StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,58 @@
+package com.dod.hub.provider.hybrid;
+
+import java.time.Duration;
+
+/**
+ * Observed latency of one engine for one command type in a hybrid session.
+ */
+public final class BackendLatency {
+
+    private final long samples;
+    private final Duration average;
+    private final Duration recent;
+    private final Duration min;
+    private final Duration max;
+
+    BackendLatency(long samples, long totalNanos, long ewmaNanos, long minNanos, long maxNanos) {
+        this.samples = samples;
+        this.average = Duration.ofNanos(samples == 0 ? 0 : totalNanos / samples);
+        this.recent = Duration.ofNanos(ewmaNanos);
+        this.min = Duration.ofNanos(minNanos);
+        this.max = Duration.ofNanos(maxNanos);
+    }
+
+    /**
+     * @return Number of successful calls measured.
+     */
+    public long getSamples() {
+        return samples;
+    }
+
+    /**
+     * @return Arithmetic mean over all samples.
+     */
+    public Duration getAverage() {
+        return average;
+    }
+
+    /**
+     * @return Exponentially weighted moving average, the value adaptive routing compares.
+     */
+    public Duration getRecent() {
+        return recent;
+    }
+
+    public Duration getMin() {
+        return min;
+    }
+
+    public Duration getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d samples, avg=%.2fms, recent=%.2fms, min=%.2fms, max=%.2fms",
+                samples, average.toNanos() / 1e6, recent.toNanos() / 1e6, min.toNanos() / 1e6, max.toNanos() / 1e6);
+    }
+}
@@ -0,0 +1,9 @@
+package com.dod.hub.provider.hybrid;
+
+/**
+ * The two automation engines attached to a hybrid session.
+ */
+public enum HybridBackend {
+    SELENIUM,
+    PLAYWRIGHT
+}
@@ -0,0 +1,109 @@
+package com.dod.hub.provider.hybrid;
+
+import com.microsoft.playwright.Locator;
+import org.openqa.selenium.WebElement;
+
+import java.util.function.Supplier;
+
+/**
+ * Provider handle for elements found through the {@link HybridProvider}.
+ * <p>
+ * An element is resolved exactly once, by the engine that performed the
+ * lookup. The handle for the other engine is derived lazily, only when an
+ * operation actually needs it. Building a Playwright {@link Locator} costs no
+ * round trip. A Selenium {@link WebElement} costs one lookup, paid at most once
+ * per element.
+ */
+public class HybridElementHandle {
+
+    private final HybridBackend resolvedBy;
+    private final Supplier<WebElement> seleniumResolver;
+    private final Supplier<Locator> playwrightResolver;
+    private volatile WebElement seleniumElement;
+    private volatile Locator playwrightLocator;
+
+    private HybridElementHandle(HybridBackend resolvedBy, WebElement seleniumElement,
+            Supplier<WebElement> seleniumResolver, Locator playwrightLocator, Supplier<Locator> playwrightResolver) {
+        this.resolvedBy = resolvedBy;
+        this.seleniumElement = seleniumElement;
+        this.seleniumResolver = seleniumResolver;
+        this.playwrightLocator = playwrightLocator;
+        this.playwrightResolver = playwrightResolver;
+    }
+
+    /**
+     * Creates a handle for an element that Playwright has already waited for and
+     * resolved.
+     *
+     * @param locator          The resolved Playwright locator.
+     * @param seleniumResolver Looks up the same element in Selenium on demand.
+     */
+    public static HybridElementHandle resolvedByPlaywright(Locator locator, Supplier<WebElement> seleniumResolver) {
+        return new HybridElementHandle(HybridBackend.PLAYWRIGHT, null, seleniumResolver, locator, null);
+    }
+
+    /**
+     * Creates a handle for an element that Selenium has already resolved.
+     *
+     * @param element            The resolved Selenium element.
+     * @param playwrightResolver Builds an equivalent Playwright locator on demand.
+     */
+    public static HybridElementHandle resolvedBySelenium(WebElement element, Supplier<Locator> playwrightResolver) {
+        return new HybridElementHandle(HybridBackend.SELENIUM, element, null, null, playwrightResolver);
+    }
+
+    /**
+     * @return The engine that resolved this element.
+     */
+    public HybridBackend getResolvedBy() {
+        return resolvedBy;
+    }
+
+    /**
+     * Returns the Selenium element, looking it up on first access if the element
+     * was resolved by Playwright.
+     *
+     * @return The Selenium WebElement.
+     */
+    public WebElement getSeleniumElement() {
+        WebElement element = seleniumElement;
+        if (element == null) {
+            synchronized (this) {
+                element = seleniumElement;
+                if (element == null) {
+                    element = seleniumResolver.get();
+                    seleniumElement = element;
+                }
+            }
+        }
+        return element;
+    }
+
+    /**
+     * Returns the Playwright locator, building it on first access if the element
+     * was resolved by Selenium.
+     *
+     * @return The Playwright Locator.
+     */
+    public Locator getPlaywrightLocator() {
+        Locator locator = playwrightLocator;
+        if (locator == null) {
+            synchronized (this) {
+                locator = playwrightLocator;
+                if (locator == null) {
+                    locator = playwrightResolver.get();
+                    playwrightLocator = locator;
+                }
+            }
+        }
+        return locator;
+    }
+
+    /**
+     * @return true if a Selenium WebElement is already available without a
+     *         lookup.
+     */
+    public boolean isSeleniumResolved() {
+        return seleniumElement != null;
+    }
+}
@@ -1,20 +1,35 @@
 package com.dod.hub.provider.hybrid;
 
+import com.dod.hub.core.command.CommandType;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubPageLoadStrategy;
+import com.dod.hub.core.config.HubScreenshotArea;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubVideoOptions;
 import com.dod.hub.core.exception.HubException;
 import com.dod.hub.core.locator.HubElementRef;
 import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.locator.HubSelectors;
 import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.HubScreencast;
 import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.ScreenshotTranscoder;
 import com.dod.hub.core.provider.SessionCapabilities;
+import com.dod.hub.provider.playwright.PlaywrightScreenshots;
+import com.dod.hub.provider.selenium.SeleniumScreencast;
 import com.dod.hub.core.exception.HubTimeoutException;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import com.microsoft.playwright.options.WaitUntilState;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.Dimension;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
 import org.openqa.selenium.Point;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -26,18 +41,39 @@ import org.openqa.selenium.HasCapabilities;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
 
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * A dual-driver provider that connects both Selenium and Playwright to the same
@@ -57,9 +93,30 @@ import java.util.stream.Collectors;
 public class HybridProvider implements HubProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(HybridProvider.class);
-    private static final int DEFAULT_CDP_PORT = 9222;
+    private static final int EPHEMERAL_CDP_PORT = 0;
     private static final int CDP_READY_TIMEOUT_MS = 10000;
     private static final int CDP_POLL_INTERVAL_MS = 200;
+    private static final int CDP_INITIAL_BACKOFF_MS = 10;
+    private static final String DEVTOOLS_PORT_FILE = "DevToolsActivePort";
+    private static final Pattern DEVTOOLS_LISTENING = Pattern.compile("DevTools listening on (ws://\\S+)");
+    /** WebDriver key codes live in this private-use range, e.g. {@code Keys.ENTER}. */
+    private static final Pattern WEBDRIVER_KEYS = Pattern.compile("[\\uE000-\\uE0FF]");
+
+    /** WebDriver's {@code isSelected}: selected options, checked check boxes and radios. */
+    private static final String IS_SELECTED_SCRIPT = "e => e.tagName === 'OPTION' ? e.selected"
+            + " : e.tagName === 'INPUT' && (e.type === 'checkbox' || e.type === 'radio') && e.checked";
+    private static final Pattern WS_DEBUGGER_URL = Pattern.compile("\"webSocketDebuggerUrl\"\\s*:\\s*\"([^\"]+)\"");
+
+    /**
+     * Explicitly configured CDP ports held by live local sessions of this JVM.
+     * Ephemeral ports are chosen by the browser and never collide.
+     */
+    private static final Set<Integer> RESERVED_PORTS = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Guards lazy warm-up of profile templates shared by sessions of this JVM.
+     */
+    private static final Map<Path, Object> TEMPLATE_LOCKS = new ConcurrentHashMap<>();
 
     @Override
     public String getName() {
@@ -68,6 +125,8 @@ public class HybridProvider implements HubProvider {
 
     @Override
     public ProviderSession start(SessionCapabilities caps) {
+        // Fail fast on routing misconfiguration before a browser is launched
+        HybridRoutingTable.fromOptions(caps.getOptions());
         String gridUrl = caps.getGridUrl();
         if (gridUrl != null && !gridUrl.isEmpty()) {
             return startRemote(caps, gridUrl);
@@ -131,32 +190,93 @@ public class HybridProvider implements HubProvider {
         );
     }
 
+    /**
+     * Starts a local browser and attaches both drivers to it.
+     * <p>
+     * Unless {@code hybrid.cdp.port} is set, the browser is launched with
+     * {@code --remote-debugging-port=0} and picks a free port itself. Readiness
+     * is detected from the "DevTools listening on ws://..." line the browser
+     * prints to stderr; the profile's {@code DevToolsActivePort} file (or
+     * {@code /json/version} for explicit ports) is polled with backoff as a
+     * fallback. Both drivers then attach to the WebSocket endpoint directly.
+     * Every session owns its profile directory and port, so sessions can be
+     * started concurrently.
+     */
     private ProviderSession startLocal(SessionCapabilities caps) {
-        int cdpPort = resolveCdpPort(caps);
-        Path userDataDir = createTempProfile();
-
-        Process browserProcess = launchBrowserWithCDP(caps, cdpPort, userDataDir);
-
-        waitForCdpReady(cdpPort);
-
-        WebDriver seleniumDriver = connectSeleniumLocal(cdpPort, caps);
-
-        Playwright playwright = Playwright.create();
-        Browser playwrightBrowser = playwright.chromium().connectOverCDP("http://localhost:" + cdpPort);
-        Page playwrightPage = playwrightBrowser.contexts().get(0).pages().get(0);
+        int requestedPort = resolveCdpPort(caps);
+        if (requestedPort != EPHEMERAL_CDP_PORT && !RESERVED_PORTS.add(requestedPort)) {
+            throw new HubException("CDP port " + requestedPort + " is already used by another hybrid session. "
+                    + "Remove 'hybrid.cdp.port' to let each session pick a free port.");
+        }
 
-        HybridSession session = new HybridSession(
-                getName(),
-                caps,
-                browserProcess,
-                seleniumDriver,
-                playwright,
-                playwrightBrowser,
-                playwrightPage,
-                userDataDir);
+        StartupPhases phases = new StartupPhases();
+        Path userDataDir = null;
+        Process browserProcess = null;
+        WebDriver seleniumDriver = null;
+        Playwright playwright = null;
+        try {
+            userDataDir = createProfile(caps);
+            phases.mark("profile");
+
+            browserProcess = launchBrowserWithCDP(caps, requestedPort, userDataDir);
+            CompletableFuture<String> announced = watchDevToolsEndpoint(browserProcess);
+            phases.mark("launch");
+
+            String wsEndpoint = awaitCdpEndpoint(announced, browserProcess, userDataDir, requestedPort);
+            URI wsUri = URI.create(wsEndpoint);
+            int cdpPort = wsUri.getPort();
+            phases.mark("cdp-ready");
+
+            seleniumDriver = connectSeleniumLocal(wsUri.getHost() + ":" + cdpPort, caps);
+            phases.mark("selenium-attach");
+
+            playwright = createPlaywright();
+            Browser playwrightBrowser = connectPlaywright(playwright, wsEndpoint);
+            Page playwrightPage = playwrightBrowser.contexts().get(0).pages().get(0);
+            phases.mark("playwright-connect");
+
+            HybridSession session = new HybridSession(
+                    getName(),
+                    caps,
+                    browserProcess,
+                    seleniumDriver,
+                    playwright,
+                    playwrightBrowser,
+                    playwrightPage,
+                    userDataDir,
+                    cdpPort);
+            session.setStartupPhases(phases.asMap());
+
+            logger.info("HybridSession started LOCAL on CDP port {} in {} ms {}", cdpPort, phases.total().toMillis(),
+                    phases);
+            return session;
+        } catch (RuntimeException e) {
+            releaseFailedStart(seleniumDriver, playwright, browserProcess, userDataDir);
+            if (requestedPort != EPHEMERAL_CDP_PORT) {
+                RESERVED_PORTS.remove(requestedPort);
+            }
+            throw e;
+        }
+    }
 
-        logger.info("HybridSession started LOCAL on CDP port {}", cdpPort);
-        return session;
+    private void releaseFailedStart(WebDriver seleniumDriver, Playwright playwright, Process browserProcess,
+            Path userDataDir) {
+        try {
+            if (playwright != null)
+                playwright.close();
+        } catch (Exception e) {
+            logger.debug("Error closing Playwright after failed start", e);
+        }
+        try {
+            if (seleniumDriver != null)
+                seleniumDriver.quit();
+        } catch (Exception e) {
+            logger.debug("Error closing Selenium after failed start", e);
+        }
+        if (browserProcess != null && browserProcess.isAlive()) {
+            browserProcess.destroyForcibly();
+        }
+        getProfileReaper().reap(userDataDir);
     }
 
     @Override
@@ -195,161 +315,386 @@ public class HybridProvider implements HubProvider {
             logger.warn("Error terminating browser process", e);
         }
 
-        try {
-            deleteDirectory(hybrid.getUserDataDir());
-        } catch (Exception e) {
-            logger.warn("Failed to cleanup temp profile: {}", hybrid.getUserDataDir(), e);
+        if (hybrid.getBrowserProcess() != null) {
+            RESERVED_PORTS.remove(hybrid.getCdpPort());
         }
 
+        // Profile deletion runs in the background so teardown does not wait on disk I/O
+        getProfileReaper().reap(hybrid.getUserDataDir());
+
         logger.info("HybridSession stopped");
     }
 
     // ==================== Element Operations (Hybrid Strategy)
     // ====================
 
+    /**
+     * Resolves the element exactly once. With auto-wait enabled (or
+     * {@code FIND_ELEMENT} routed to Playwright) Playwright waits for visibility
+     * and its locator becomes the element handle; otherwise Selenium resolves
+     * it. The other engine's handle is derived lazily by
+     * {@link HybridElementHandle}.
+     */
     @Override
     public HubElementRef find(ProviderSession session, HubLocator locator) {
         HybridSession hybrid = (HybridSession) session;
-
-        boolean usePlaywrightWait = resolveUsePlaywrightWait(hybrid.getCapabilities());
-
-        if (usePlaywrightWait) {
-            Page page = hybrid.getPlaywrightPage();
-            String selector = toPlaywrightSelector(locator);
-            try {
-                Locator loc = page.locator(selector).first();
-                loc.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
-            } catch (TimeoutError e) {
-                throw new HubTimeoutException("Playwright auto-wait timed out for: " + locator, e);
-            }
-        }
-
+        Page page = hybrid.getPlaywrightPage();
         WebDriver driver = hybrid.getSeleniumDriver();
-        try {
-            WebElement el = driver.findElement(toSeleniumBy(locator));
-            return new HubElementRef(locator, el);
-        } catch (TimeoutException e) {
-            throw new HubTimeoutException("Timed out waiting for element: " + locator, e);
-        } catch (NoSuchElementException e) {
-            throw new HubException("Element not found: " + locator, e);
-        }
+        String selector = toPlaywrightSelector(locator);
+        HybridBackend fallback = resolveUsePlaywrightWait(hybrid.getCapabilities())
+                ? HybridBackend.PLAYWRIGHT
+                : HybridBackend.SELENIUM;
+
+        return router(session).route(CommandType.FIND_ELEMENT, fallback,
+                () -> {
+                    WebElement el = findSelenium(driver, locator);
+                    return new HubElementRef(locator,
+                            HybridElementHandle.resolvedBySelenium(el, () -> page.locator(selector).first()));
+                },
+                () -> {
+                    Locator loc = page.locator(selector).first();
+                    waitVisible(loc, locator);
+                    return new HubElementRef(locator,
+                            HybridElementHandle.resolvedByPlaywright(loc, () -> findSelenium(driver, locator)));
+                });
     }
 
+    /**
+     * Lists matches through Selenium unless {@code FIND_ELEMENTS} is routed to
+     * Playwright, which snapshots the current matches without waiting.
+     */
     @Override
     public List<HubElementRef> findAll(ProviderSession session, HubLocator locator) {
+        Page page = getPlaywrightPage(session);
         WebDriver driver = getSelenium(session);
-        List<WebElement> els = driver.findElements(toSeleniumBy(locator));
-        return els.stream()
-                .map(el -> new HubElementRef(locator, el))
-                .collect(Collectors.toList());
+        String selector = toPlaywrightSelector(locator);
+        return router(session).route(CommandType.FIND_ELEMENTS, HybridBackend.SELENIUM,
+                () -> seleniumRefs(locator, driver.findElements(toSeleniumBy(locator)),
+                        index -> page.locator(selector).nth(index)),
+                () -> playwrightRefs(locator, page.locator(selector), () -> driver));
     }
 
+    /**
+     * Resolves a child element with the engine that resolved its parent, so
+     * nested lookups never force the parent to be resolved a second time.
+     */
     @Override
     public HubElementRef find(ProviderSession session, HubElementRef parent, HubLocator locator) {
-        WebElement parentEl = (WebElement) parent.getProviderHandle();
-        try {
-            WebElement el = parentEl.findElement(toSeleniumBy(locator));
-            return new HubElementRef(locator, el);
-        } catch (TimeoutException e) {
-            throw new HubTimeoutException("Timed out waiting for element: " + locator, e);
-        } catch (NoSuchElementException e) {
-            throw new HubException("Element not found: " + locator, e);
+        HybridElementHandle parentHandle = handle(parent);
+        String selector = toPlaywrightSelector(locator);
+
+        if (parentHandle.getResolvedBy() == HybridBackend.PLAYWRIGHT
+                && resolveUsePlaywrightWait(session.getCapabilities())) {
+            Locator loc = parentHandle.getPlaywrightLocator().locator(selector).first();
+            waitVisible(loc, locator);
+            return new HubElementRef(locator, HybridElementHandle.resolvedByPlaywright(loc,
+                    () -> findSelenium(parentHandle.getSeleniumElement(), locator)));
         }
+
+        WebElement el = findSelenium(parentHandle.getSeleniumElement(), locator);
+        return new HubElementRef(locator, HybridElementHandle.resolvedBySelenium(el,
+                () -> parentHandle.getPlaywrightLocator().locator(selector).first()));
     }
 
     @Override
     public List<HubElementRef> findAll(ProviderSession session, HubElementRef parent, HubLocator locator) {
-        WebElement parentEl = (WebElement) parent.getProviderHandle();
-        List<WebElement> els = parentEl.findElements(toSeleniumBy(locator));
-        return els.stream()
-                .map(el -> new HubElementRef(locator, el))
-                .collect(Collectors.toList());
+        HybridElementHandle parentHandle = handle(parent);
+        String selector = toPlaywrightSelector(locator);
+        return router(session).route(CommandType.FIND_ELEMENTS, HybridBackend.SELENIUM,
+                () -> seleniumRefs(locator,
+                        parentHandle.getSeleniumElement().findElements(toSeleniumBy(locator)),
+                        index -> parentHandle.getPlaywrightLocator().locator(selector).nth(index)),
+                () -> playwrightRefs(locator, parentHandle.getPlaywrightLocator().locator(selector),
+                        parentHandle::getSeleniumElement));
+    }
+
+    private List<HubElementRef> seleniumRefs(HubLocator locator, List<WebElement> els,
+            IntFunction<Locator> playwrightResolver) {
+        List<HubElementRef> refs = new ArrayList<>(els.size());
+        for (int i = 0; i < els.size(); i++) {
+            int index = i;
+            refs.add(new HubElementRef(locator, HybridElementHandle.resolvedBySelenium(els.get(i),
+                    () -> playwrightResolver.apply(index))));
+        }
+        return refs;
+    }
+
+    private List<HubElementRef> playwrightRefs(HubLocator locator, Locator matches,
+            Supplier<SearchContext> seleniumContext) {
+        List<Locator> locs = matches.all();
+        List<HubElementRef> refs = new ArrayList<>(locs.size());
+        for (int i = 0; i < locs.size(); i++) {
+            int index = i;
+            refs.add(new HubElementRef(locator, HybridElementHandle.resolvedByPlaywright(locs.get(i), () -> {
+                List<WebElement> els = seleniumContext.get().findElements(toSeleniumBy(locator));
+                if (index >= els.size()) {
+                    throw new HubException("Element not found: " + locator + " [" + index + "]");
+                }
+                return els.get(index);
+            })));
+        }
+        return refs;
     }
 
+
+    /**
+     * Clicks through the engine that resolved the element unless routed
+     * otherwise. Playwright clicks keep its actionability checks; Selenium
+     * clicks are unchanged.
+     */
     @Override
     public void click(ProviderSession session, HubElementRef element) {
-        ((WebElement) element.getProviderHandle()).click();
+        HybridElementHandle h = handle(element);
+        router(session).run(CommandType.CLICK, h.getResolvedBy(),
+                () -> h.getSeleniumElement().click(),
+                () -> {
+                    try {
+                        h.getPlaywrightLocator().click();
+                    } catch (TimeoutError e) {
+                        throw new HubTimeoutException("Playwright click timed out for: " + element.getLocator(), e);
+                    }
+                });
     }
 
+    /**
+     * Types through the engine that resolved the element unless routed
+     * otherwise. Text with WebDriver key codes ({@code Keys.ENTER} etc.) is
+     * always sent by Selenium, which knows their semantics.
+     */
     @Override
     public void type(ProviderSession session, HubElementRef element, String text) {
-        ((WebElement) element.getProviderHandle()).sendKeys(text);
+        HybridElementHandle h = handle(element);
+        router(session).run(CommandType.TYPE, h.getResolvedBy(),
+                () -> h.getSeleniumElement().sendKeys(text),
+                () -> {
+                    if (WEBDRIVER_KEYS.matcher(text).find()) {
+                        h.getSeleniumElement().sendKeys(text);
+                    } else {
+                        h.getPlaywrightLocator().pressSequentially(text);
+                    }
+                });
     }
 
     @Override
     public void clear(ProviderSession session, HubElementRef element) {
-        ((WebElement) element.getProviderHandle()).clear();
+        HybridElementHandle h = handle(element);
+        router(session).run(CommandType.CLEAR, HybridBackend.SELENIUM,
+                () -> h.getSeleniumElement().clear(),
+                () -> h.getPlaywrightLocator().clear());
     }
 
     @Override
     public String getText(ProviderSession session, HubElementRef element) {
-        return ((WebElement) element.getProviderHandle()).getText();
+        HybridElementHandle h = handle(element);
+        return router(session).route(CommandType.GET_TEXT, HybridBackend.SELENIUM,
+                () -> h.getSeleniumElement().getText(),
+                () -> h.getPlaywrightLocator().innerText());
     }
 
+    /**
+     * Reads through the engine that resolved the element unless routed
+     * otherwise; Playwright evaluates {@link HubSelectors#READ_WEBDRIVER}, so
+     * both return what WebDriver's {@code getAttribute} does.
+     */
     @Override
     public String getAttribute(ProviderSession session, HubElementRef element, String attributeName) {
-        return ((WebElement) element.getProviderHandle()).getAttribute(attributeName);
+        HybridElementHandle h = handle(element);
+        return router(session).route(CommandType.GET_ATTRIBUTE, h.getResolvedBy(),
+                () -> h.getSeleniumElement().getAttribute(attributeName),
+                () -> (String) h.getPlaywrightLocator().evaluate(
+                        "(e, name) => (" + HubSelectors.READ_WEBDRIVER + ")(name)(e)", attributeName));
     }
 
     @Override
     public boolean isDisplayed(ProviderSession session, HubElementRef element) {
-        return ((WebElement) element.getProviderHandle()).isDisplayed();
+        HybridElementHandle h = handle(element);
+        return router(session).route(CommandType.IS_DISPLAYED, h.getResolvedBy(),
+                () -> h.getSeleniumElement().isDisplayed(),
+                () -> h.getPlaywrightLocator().isVisible());
     }
 
     @Override
     public boolean isEnabled(ProviderSession session, HubElementRef element) {
-        return ((WebElement) element.getProviderHandle()).isEnabled();
+        HybridElementHandle h = handle(element);
+        return router(session).route(CommandType.IS_ENABLED, h.getResolvedBy(),
+                () -> h.getSeleniumElement().isEnabled(),
+                () -> h.getPlaywrightLocator().isEnabled());
     }
 
     @Override
     public boolean isSelected(ProviderSession session, HubElementRef element) {
-        return ((WebElement) element.getProviderHandle()).isSelected();
+        HybridElementHandle h = handle(element);
+        return router(session).route(CommandType.IS_SELECTED, h.getResolvedBy(),
+                () -> h.getSeleniumElement().isSelected(),
+                () -> Boolean.TRUE.equals(h.getPlaywrightLocator().evaluate(IS_SELECTED_SCRIPT)));
     }
 
-    // ==================== Navigation (Selenium-based) ====================
+    private HybridElementHandle handle(HubElementRef ref) {
+        return (HybridElementHandle) ref.getProviderHandle();
+    }
+
+    private void waitVisible(Locator loc, HubLocator locator) {
+        try {
+            loc.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        } catch (TimeoutError e) {
+            throw new HubTimeoutException("Playwright auto-wait timed out for: " + locator, e);
+        }
+    }
+
+    private WebElement findSelenium(SearchContext context, HubLocator locator) {
+        try {
+            return context.findElement(toSeleniumBy(locator));
+        } catch (TimeoutException e) {
+            throw new HubTimeoutException("Timed out waiting for element: " + locator, e);
+        } catch (NoSuchElementException e) {
+            throw new HubException("Element not found: " + locator, e);
+        }
+    }
+
+    // ==================== Navigation (Selenium-based by default) ====================
 
     @Override
     public void navigate(ProviderSession session, String url) {
-        getSelenium(session).get(url);
+        navigate(session, url, session.getCapabilities().getNavigationPolicy());
+    }
+
+    /**
+     * Navigates with a per-call readiness policy. The default (load event) is
+     * served by the {@code NAVIGATE_TO} route, Selenium unless configured
+     * otherwise; any other policy goes through Playwright, whose
+     * {@link WaitUntilState} can be chosen per navigation on the shared tab.
+     */
+    @Override
+    public void navigate(ProviderSession session, String url, HubNavigationPolicy policy) {
+        if (!policy.isCustom() && policy.getStrategy() == HubPageLoadStrategy.NORMAL) {
+            router(session).run(CommandType.NAVIGATE_TO, HybridBackend.SELENIUM,
+                    () -> getSelenium(session).get(url),
+                    () -> getPlaywrightPage(session).navigate(url,
+                            new Page.NavigateOptions().setWaitUntil(WaitUntilState.LOAD)));
+            return;
+        }
+
+        Page page = getPlaywrightPage(session);
+        WaitUntilState waitUntil = policy.getStrategy() == HubPageLoadStrategy.EAGER
+                ? WaitUntilState.DOMCONTENTLOADED
+                : WaitUntilState.COMMIT;
+        page.navigate(url, new Page.NavigateOptions().setWaitUntil(waitUntil));
+        if (!policy.isCustom()) {
+            return;
+        }
+
+        try {
+            if (policy.getReadySelector() != null) {
+                Page.WaitForSelectorOptions options = new Page.WaitForSelectorOptions()
+                        .setState(WaitForSelectorState.ATTACHED);
+                if (policy.getTimeoutMs() > 0)
+                    options.setTimeout((double) policy.getTimeoutMs());
+                page.waitForSelector("css=" + policy.getReadySelector(), options);
+            } else {
+                Page.WaitForFunctionOptions options = new Page.WaitForFunctionOptions();
+                if (policy.getTimeoutMs() > 0)
+                    options.setTimeout((double) policy.getTimeoutMs());
+                page.waitForFunction(policy.toReadyExpression(), null, options);
+            }
+        } catch (TimeoutError e) {
+            throw new HubTimeoutException("Page did not become ready (" + policy + "): " + url, e);
+        }
     }
 
     @Override
     public void back(ProviderSession session) {
-        getSelenium(session).navigate().back();
+        router(session).run(CommandType.NAV_BACK, HybridBackend.SELENIUM,
+                () -> getSelenium(session).navigate().back(),
+                () -> getPlaywrightPage(session).goBack());
     }
 
     @Override
     public void forward(ProviderSession session) {
-        getSelenium(session).navigate().forward();
+        router(session).run(CommandType.NAV_FORWARD, HybridBackend.SELENIUM,
+                () -> getSelenium(session).navigate().forward(),
+                () -> getPlaywrightPage(session).goForward());
     }
 
     @Override
     public void refresh(ProviderSession session) {
-        getSelenium(session).navigate().refresh();
+        router(session).run(CommandType.NAV_REFRESH, HybridBackend.SELENIUM,
+                () -> getSelenium(session).navigate().refresh(),
+                () -> getPlaywrightPage(session).reload());
     }
 
     @Override
     public String getTitle(ProviderSession session) {
-        return getSelenium(session).getTitle();
+        return router(session).route(CommandType.GET_TITLE, HybridBackend.SELENIUM,
+                () -> getSelenium(session).getTitle(),
+                () -> getPlaywrightPage(session).title());
     }
 
     @Override
     public String getCurrentUrl(ProviderSession session) {
-        return getSelenium(session).getCurrentUrl();
+        return router(session).route(CommandType.GET_CURRENT_URL, HybridBackend.SELENIUM,
+                () -> getSelenium(session).getCurrentUrl(),
+                () -> getPlaywrightPage(session).url());
     }
 
     @Override
     public String getPageSource(ProviderSession session) {
-        return getSelenium(session).getPageSource();
+        return router(session).route(CommandType.PAGE_SOURCE, HybridBackend.SELENIUM,
+                () -> getSelenium(session).getPageSource(),
+                () -> getPlaywrightPage(session).content());
     }
 
     // ==================== Screenshot (Playwright-based for higher quality)
     // ====================
 
+    /**
+     * Captures a full-page screenshot through Playwright. Routing
+     * {@code SCREENSHOT} to Selenium captures the viewport only.
+     */
     @Override
     public byte[] takeScreenshot(ProviderSession session) {
-        Page page = getPlaywrightPage(session);
-        return page.screenshot(new Page.ScreenshotOptions().setFullPage(true));
+        return router(session).route(CommandType.SCREENSHOT, HybridBackend.PLAYWRIGHT,
+                () -> ((TakesScreenshot) getSelenium(session)).getScreenshotAs(OutputType.BYTES),
+                () -> getPlaywrightPage(session).screenshot(new Page.ScreenshotOptions().setFullPage(true)));
+    }
+
+    /**
+     * Captures through the {@code SCREENSHOT} route. Playwright handles every
+     * spec natively; Selenium captures the viewport and converts it.
+     */
+    @Override
+    public byte[] takeScreenshot(ProviderSession session, HubScreenshotSpec spec) {
+        return router(session).route(CommandType.SCREENSHOT, HybridBackend.PLAYWRIGHT,
+                () -> {
+                    if (spec.getArea() == HubScreenshotArea.FULL_PAGE) {
+                        throw new UnsupportedOperationException(
+                                "Full-page screenshots require the Playwright route in hybrid sessions");
+                    }
+                    byte[] png = ((TakesScreenshot) getSelenium(session)).getScreenshotAs(OutputType.BYTES);
+                    return ScreenshotTranscoder.transcode(png, spec);
+                },
+                () -> PlaywrightScreenshots.capture(getPlaywrightPage(session), spec));
+    }
+
+    /**
+     * Screencasts always use the WebDriver connection, whose DevTools events
+     * arrive on Selenium's threads; it shares the browser with the Playwright
+     * session, so the recording covers both routes.
+     */
+    @Override
+    public HubScreencast startScreencast(ProviderSession session, HubVideoOptions options, Consumer<byte[]> frames) {
+        return SeleniumScreencast.start(getSelenium(session), options, frames);
+    }
+
+    /**
+     * Captures the element through the {@code SCREENSHOT} route; Selenium
+     * captures the element and converts it to the spec.
+     */
+    @Override
+    public byte[] takeElementScreenshot(ProviderSession session, HubElementRef element, HubScreenshotSpec spec) {
+        HybridElementHandle h = handle(element);
+        return router(session).route(CommandType.SCREENSHOT, HybridBackend.PLAYWRIGHT,
+                () -> ScreenshotTranscoder.transcode(h.getSeleniumElement().getScreenshotAs(OutputType.BYTES), spec),
+                () -> PlaywrightScreenshots.capture(h.getPlaywrightLocator(), spec));
     }
 
     @Override
@@ -367,18 +712,68 @@ public class HybridProvider implements HubProvider {
             page.setDefaultNavigationTimeout((double) pageLoadMs);
     }
 
-    // ==================== JavaScript Execution (Selenium-based) =================
+    // ==================== JavaScript Execution (Selenium-based by default) =====
 
+    /**
+     * Runs the script through Selenium unless {@code EXECUTE_SCRIPT} is routed
+     * to Playwright, which evaluates the same function body with
+     * {@code arguments} bound. Element arguments cannot be passed to
+     * Playwright, so such calls stay on Selenium.
+     */
     @Override
     public Object executeScript(ProviderSession session, String script, Object... args) {
-        return ((JavascriptExecutor) getSelenium(session)).executeScript(script, args);
+        return router(session).route(CommandType.EXECUTE_SCRIPT, HybridBackend.SELENIUM,
+                () -> ((JavascriptExecutor) getSelenium(session)).executeScript(script, args),
+                () -> isPlainValue(args)
+                        ? getPlaywrightPage(session).evaluate(
+                                "args => (function() {" + script + "\n}).apply(null, args)", scriptArgs(args))
+                        : ((JavascriptExecutor) getSelenium(session)).executeScript(script, args));
     }
 
+    /**
+     * Like {@link #executeScript}; on Playwright the callback is appended to
+     * {@code arguments} and the call is bounded by the page's default timeout
+     * instead of WebDriver's script timeout.
+     */
     @Override
     public Object executeAsyncScript(ProviderSession session, String script, Object... args) {
-        return ((JavascriptExecutor) getSelenium(session)).executeAsyncScript(script, args);
+        return router(session).route(CommandType.EXECUTE_ASYNC_SCRIPT, HybridBackend.SELENIUM,
+                () -> ((JavascriptExecutor) getSelenium(session)).executeAsyncScript(script, args),
+                () -> isPlainValue(args)
+                        ? getPlaywrightPage(session).evaluate("args => new Promise(resolve => (function() {"
+                                + script + "\n}).apply(null, args.concat([resolve])))", scriptArgs(args))
+                        : ((JavascriptExecutor) getSelenium(session)).executeAsyncScript(script, args));
     }
 
+    private static List<Object> scriptArgs(Object[] args) {
+        return args == null ? List.of() : Arrays.asList(args);
+    }
+
+    /**
+     * Whether a script argument can be serialized by Playwright: JSON-like
+     * values only, no element references.
+     */
+    private static boolean isPlainValue(Object value) {
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return true;
+        }
+        if (value instanceof Object[]) {
+            return Arrays.stream((Object[]) value).allMatch(HybridProvider::isPlainValue);
+        }
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).stream().allMatch(HybridProvider::isPlainValue);
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).entrySet().stream()
+                    .allMatch(e -> e.getKey() instanceof String && isPlainValue(e.getValue()));
+        }
+        return false;
+    }
+
+    // Cookies and windows stay on Selenium: both engines drive the same browser,
+    // so there is one cookie store and one window, and Playwright has no window
+    // management beyond viewport emulation. See "Strategy Routing" in the README.
+
     // ==================== Cookie Management (Selenium-based) ====================
 
     @Override
@@ -484,6 +879,10 @@ public class HybridProvider implements HubProvider {
         return ((HybridSession) session).getPlaywrightPage();
     }
 
+    private HybridRouter router(ProviderSession session) {
+        return ((HybridSession) session).getRouter();
+    }
+
     private int resolveCdpPort(SessionCapabilities caps) {
         Object portOpt = caps.getOptions().get("hybrid.cdp.port");
         if (portOpt instanceof Number) {
@@ -491,17 +890,112 @@ public class HybridProvider implements HubProvider {
         } else if (portOpt instanceof String) {
             return Integer.parseInt((String) portOpt);
         }
-        return DEFAULT_CDP_PORT;
+        return EPHEMERAL_CDP_PORT;
     }
 
-    private Path createTempProfile() {
+    /**
+     * Creates the session profile, cloned from {@code hybrid.profile.template}
+     * when one is configured. A missing or empty template directory is warmed
+     * up once by launching the browser against it, so later sessions skip the
+     * browser's first-run initialization.
+     */
+    private Path createProfile(SessionCapabilities caps) {
+        Path profile = getProfileReaper().createProfileDir();
+        Object templateOpt = caps.getOptions().get("hybrid.profile.template");
+        if (templateOpt == null || templateOpt.toString().isBlank()) {
+            return profile;
+        }
         try {
-            return Files.createTempDirectory("hub-hybrid-profile-");
+            Path template = Paths.get(templateOpt.toString()).toAbsolutePath().normalize();
+            ensureProfileTemplate(caps, template);
+            ProfileCloner.cloneInto(template, profile,
+                    ProfileCloner.CloneMode.parse(caps.getOptions().get("hybrid.profile.clone")));
+            return profile;
+        } catch (RuntimeException e) {
+            getProfileReaper().reap(profile);
+            throw e;
+        }
+    }
+
+    /**
+     * Warms the template up unless it is populated. Sessions of this JVM are
+     * serialized by {@link #TEMPLATE_LOCKS}, those of other JVMs (e.g.
+     * parallel Surefire forks) by a file lock on {@code <template>.lock}.
+     */
+    private void ensureProfileTemplate(SessionCapabilities caps, Path template) {
+        synchronized (TEMPLATE_LOCKS.computeIfAbsent(template, k -> new Object())) {
+            if (isPopulated(template)) {
+                return;
+            }
+            try {
+                Files.createDirectories(template.getParent());
+                Path lockFile = template.resolveSibling(template.getFileName() + ".lock");
+                try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                     FileLock ignored = channel.lock()) {
+                    if (!isPopulated(template)) {
+                        warmUpProfileTemplate(caps, template);
+                    }
+                }
+            } catch (IOException e) {
+                throw new HubException("Failed to prepare profile template: " + template, e);
+            }
+        }
+    }
+
+    private void warmUpProfileTemplate(SessionCapabilities caps, Path template) throws IOException {
+        logger.info("Warming up hybrid profile template: {}", template);
+        Path staging = null;
+        try {
+            staging = Files.createTempDirectory(template.getParent(), template.getFileName() + ".warming-");
+            Process process = launchBrowserWithCDP(caps, EPHEMERAL_CDP_PORT, staging);
+            try {
+                awaitCdpEndpoint(watchDevToolsEndpoint(process), process, staging, EPHEMERAL_CDP_PORT);
+            } finally {
+                process.destroy();
+                if (!process.waitFor(CDP_READY_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    process.destroyForcibly();
+                }
+            }
+            try {
+                if (Files.exists(template)) {
+                    Files.delete(template); // empty directory left by the user
+                }
+                Files.move(staging, template, StandardCopyOption.ATOMIC_MOVE);
+                staging = null;
+            } catch (DirectoryNotEmptyException | FileAlreadyExistsException e) {
+                if (!isPopulated(template)) {
+                    throw e;
+                }
+                // Warmed up meanwhile by a process that did not take the lock; ours is reaped
+                logger.debug("Profile template {} was warmed up by another process", template);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HubException("Interrupted while preparing profile template: " + template, e);
+        } finally {
+            getProfileReaper().reap(staging);
+        }
+    }
+
+    private static boolean isPopulated(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return false;
+        }
+        try (Stream<Path> entries = Files.list(dir)) {
+            return entries.findAny().isPresent();
         } catch (IOException e) {
-            throw new HubException("Failed to create temp profile directory", e);
+            return false;
         }
     }
 
+    /**
+     * Returns the reaper that creates and deletes session profiles. Overridable for testing.
+     */
+    ProfileReaper getProfileReaper() {
+        return ProfileReaper.getDefault();
+    }
+
     private Process launchBrowserWithCDP(SessionCapabilities caps, int cdpPort, Path userDataDir) {
         String chromePath = findChromePath();
         List<String> command = List.of(
@@ -516,55 +1010,169 @@ public class HybridProvider implements HubProvider {
                 .collect(Collectors.toList());
 
         try {
-            ProcessBuilder pb = new ProcessBuilder(command);
-            pb.inheritIO();
-            return pb.start();
+            return startBrowserProcess(command);
         } catch (IOException e) {
             throw new HubException("Failed to launch browser for HybridProvider", e);
         }
     }
 
-    private String findChromePath() {
-        String[] windowsPaths = {
+    /**
+     * Starts the browser OS process. Overridable for testing.
+     *
+     * @param command The full browser command line.
+     * @return The started process.
+     */
+    protected Process startBrowserProcess(List<String> command) throws IOException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        pb.redirectError(ProcessBuilder.Redirect.PIPE);
+        return pb.start();
+    }
+
+    /**
+     * Locates the Chrome executable. Overridable for testing.
+     *
+     * @return Absolute path to the Chrome binary.
+     */
+    protected String findChromePath() {
+        String[] candidates = {
                 System.getenv("PROGRAMFILES") + "\\Google\\Chrome\\Application\\chrome.exe",
                 System.getenv("PROGRAMFILES(X86)") + "\\Google\\Chrome\\Application\\chrome.exe",
-                System.getenv("LOCALAPPDATA") + "\\Google\\Chrome\\Application\\chrome.exe"
+                System.getenv("LOCALAPPDATA") + "\\Google\\Chrome\\Application\\chrome.exe",
+                "/Applications/Google Chrome.app/Contents/MacOS/Google Chrome",
+                "/usr/bin/google-chrome",
+                "/usr/bin/google-chrome-stable",
+                "/usr/bin/chromium",
+                "/usr/bin/chromium-browser"
         };
-        for (String path : windowsPaths) {
+        for (String path : candidates) {
             if (new File(path).exists())
                 return path;
         }
         throw new HubException("Chrome executable not found. Please ensure Chrome is installed.");
     }
 
-    private void waitForCdpReady(int port) {
-        long start = System.currentTimeMillis();
-        while (System.currentTimeMillis() - start < CDP_READY_TIMEOUT_MS) {
-            try {
-                URL url = new URL("http://localhost:" + port + "/json/version");
-                HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-                conn.setConnectTimeout(CDP_POLL_INTERVAL_MS);
-                conn.setReadTimeout(CDP_POLL_INTERVAL_MS);
-                if (conn.getResponseCode() == 200) {
-                    logger.debug("CDP ready on port {}", port);
-                    return;
+    /**
+     * Drains the browser's stderr on a daemon thread, forwarding it to the debug
+     * log. The returned future completes with the DevTools WebSocket URL as soon
+     * as the browser announces it, or with null if stderr closes first.
+     */
+    private CompletableFuture<String> watchDevToolsEndpoint(Process browserProcess) {
+        CompletableFuture<String> endpoint = new CompletableFuture<>();
+        InputStream stderr = browserProcess.getErrorStream();
+        Thread reader = new Thread(() -> {
+            try (BufferedReader in = new BufferedReader(new InputStreamReader(stderr, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = in.readLine()) != null) {
+                    if (!endpoint.isDone()) {
+                        Matcher matcher = DEVTOOLS_LISTENING.matcher(line);
+                        if (matcher.find()) {
+                            endpoint.complete(matcher.group(1));
+                        }
+                    }
+                    logger.debug("[browser] {}", line);
                 }
-            } catch (Exception ignored) {
-                // Not ready yet
+            } catch (IOException e) {
+                logger.trace("Browser stderr closed", e);
+            } finally {
+                endpoint.complete(null);
             }
+        }, "hub-hybrid-browser-stderr");
+        reader.setDaemon(true);
+        reader.start();
+        return endpoint;
+    }
+
+    /**
+     * Waits for the browser's DevTools WebSocket endpoint. The stderr
+     * announcement normally wins; polling with exponential backoff covers
+     * browsers whose stderr is unavailable.
+     */
+    private String awaitCdpEndpoint(CompletableFuture<String> announced, Process browserProcess, Path userDataDir,
+            int requestedPort) {
+        long deadline = System.currentTimeMillis() + CDP_READY_TIMEOUT_MS;
+        long backoff = CDP_INITIAL_BACKOFF_MS;
+        while (System.currentTimeMillis() < deadline) {
             try {
-                Thread.sleep(CDP_POLL_INTERVAL_MS);
+                String endpoint = announced.get(backoff, TimeUnit.MILLISECONDS);
+                if (endpoint != null) {
+                    logger.debug("CDP endpoint announced on stderr: {}", endpoint);
+                    return endpoint;
+                }
+                // stderr closed without an announcement; keep polling at the current pace
+                Thread.sleep(backoff);
+            } catch (java.util.concurrent.TimeoutException ignored) {
+                // Not announced yet
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new HubException("Interrupted while waiting for CDP", e);
+            } catch (ExecutionException e) {
+                throw new HubException("Failed to read browser output", e.getCause());
+            }
+
+            String polled = pollCdpEndpoint(userDataDir, requestedPort);
+            if (polled != null) {
+                logger.debug("CDP endpoint found by polling: {}", polled);
+                return polled;
+            }
+            if (!browserProcess.isAlive()) {
+                throw new HubException("Browser exited with code " + browserProcess.exitValue()
+                        + " before opening a CDP endpoint");
             }
+            backoff = Math.min(backoff * 2, CDP_POLL_INTERVAL_MS);
         }
         throw new HubTimeoutException("CDP did not become ready within " + CDP_READY_TIMEOUT_MS + "ms", null);
     }
 
-    private WebDriver connectSeleniumLocal(int cdpPort, SessionCapabilities caps) {
+    /**
+     * Single fallback probe: the {@code DevToolsActivePort} file for ephemeral
+     * ports, {@code /json/version} for explicitly configured ones.
+     *
+     * @return The WebSocket endpoint, or null if the browser is not ready yet.
+     */
+    private String pollCdpEndpoint(Path userDataDir, int requestedPort) {
+        if (requestedPort == EPHEMERAL_CDP_PORT) {
+            try {
+                List<String> lines = Files.readAllLines(userDataDir.resolve(DEVTOOLS_PORT_FILE));
+                if (lines.size() >= 2 && !lines.get(0).isBlank()) {
+                    return "ws://127.0.0.1:" + Integer.parseInt(lines.get(0).trim()) + lines.get(1).trim();
+                }
+            } catch (IOException | NumberFormatException ignored) {
+                // Not written yet (or partially written)
+            }
+            return null;
+        }
+
+        try {
+            URL url = new URL("http://127.0.0.1:" + requestedPort + "/json/version");
+            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+            conn.setConnectTimeout(CDP_POLL_INTERVAL_MS);
+            conn.setReadTimeout(CDP_POLL_INTERVAL_MS);
+            if (conn.getResponseCode() == 200) {
+                try (InputStream body = conn.getInputStream()) {
+                    Matcher matcher = WS_DEBUGGER_URL.matcher(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+                    if (matcher.find()) {
+                        return matcher.group(1);
+                    }
+                }
+            }
+        } catch (Exception ignored) {
+            // Not ready yet
+        }
+        return null;
+    }
+
+    /**
+     * Attaches a ChromeDriver to the already running browser. Overridable for
+     * testing.
+     *
+     * @param debuggerAddress host:port of the browser's CDP endpoint.
+     * @param caps            The session capabilities.
+     * @return The attached WebDriver.
+     */
+    protected WebDriver connectSeleniumLocal(String debuggerAddress, SessionCapabilities caps) {
         ChromeOptions options = new ChromeOptions();
-        options.setExperimentalOption("debuggerAddress", "localhost:" + cdpPort);
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
         if (caps.getOptions() != null) {
             caps.getOptions().forEach(options::setCapability);
         }
@@ -594,19 +1202,6 @@ public class HybridProvider implements HubProvider {
         }
     }
 
-    private void deleteDirectory(Path path) throws IOException {
-        if (path == null || !Files.exists(path))
-            return;
-        Files.walk(path)
-                .sorted(java.util.Comparator.reverseOrder())
-                .forEach(p -> {
-                    try {
-                        Files.delete(p);
-                    } catch (IOException ignored) {
-                    }
-                });
-    }
-
     private boolean resolveUsePlaywrightWait(SessionCapabilities caps) {
         Object opt = caps.getOptions().get("hybrid.playwright.autowait");
         if (opt instanceof Boolean) {
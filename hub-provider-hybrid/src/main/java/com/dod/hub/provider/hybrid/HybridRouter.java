@@ -0,0 +1,143 @@
+package com.dod.hub.provider.hybrid;
+
+import com.dod.hub.core.command.CommandType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Executes routable commands of one hybrid session on the engine chosen by its
+ * {@link HybridRoutingTable} and records per-engine latency.
+ * <p>
+ * Adaptive routes first sample each engine {@value #WARMUP_SAMPLES} times, then
+ * use the engine with the lower moving average. Every
+ * {@value #EXPLORE_INTERVAL}th decision goes to the slower engine so that its
+ * figure keeps up with changing page conditions.
+ */
+final class HybridRouter {
+
+    static final int WARMUP_SAMPLES = 3;
+    static final int EXPLORE_INTERVAL = 20;
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final HybridRoutingTable table;
+    private final Map<CommandType, Stats> stats = new EnumMap<>(CommandType.class);
+
+    HybridRouter(HybridRoutingTable table) {
+        this.table = table;
+        for (CommandType type : HybridRoutingTable.ROUTABLE) {
+            stats.put(type, new Stats());
+        }
+    }
+
+    HybridRoutingTable getTable() {
+        return table;
+    }
+
+    /**
+     * Selects the engine for a command.
+     *
+     * @param type     The command type.
+     * @param fallback The built-in engine used when no route is configured.
+     */
+    HybridBackend select(CommandType type, HybridBackend fallback) {
+        HybridRoutingTable.Route route = table.getRoute(type);
+        if (route == null) {
+            return fallback;
+        }
+        switch (route) {
+            case SELENIUM:
+                return HybridBackend.SELENIUM;
+            case PLAYWRIGHT:
+                return HybridBackend.PLAYWRIGHT;
+            default:
+                return stats.get(type).choose(fallback);
+        }
+    }
+
+    <T> T route(CommandType type, HybridBackend fallback, Supplier<T> selenium, Supplier<T> playwright) {
+        HybridBackend backend = select(type, fallback);
+        long start = System.nanoTime();
+        T result = backend == HybridBackend.SELENIUM ? selenium.get() : playwright.get();
+        record(type, backend, System.nanoTime() - start);
+        return result;
+    }
+
+    void run(CommandType type, HybridBackend fallback, Runnable selenium, Runnable playwright) {
+        route(type, fallback, () -> {
+            selenium.run();
+            return null;
+        }, () -> {
+            playwright.run();
+            return null;
+        });
+    }
+
+    /**
+     * Records a successful call. Failed calls are not recorded so that timeouts
+     * do not distort the comparison.
+     */
+    void record(CommandType type, HybridBackend backend, long nanos) {
+        Stats s = stats.get(type);
+        if (s != null) {
+            s.record(backend, nanos);
+        }
+    }
+
+    /**
+     * Returns the latencies observed so far, for commands with at least one sample.
+     */
+    Map<CommandType, Map<HybridBackend, BackendLatency>> snapshot() {
+        Map<CommandType, Map<HybridBackend, BackendLatency>> result = new EnumMap<>(CommandType.class);
+        stats.forEach((type, s) -> {
+            Map<HybridBackend, BackendLatency> perBackend = s.snapshot();
+            if (!perBackend.isEmpty()) {
+                result.put(type, perBackend);
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static final class Stats {
+        private final long[] samples = new long[2];
+        private final long[] totalNanos = new long[2];
+        private final double[] ewmaNanos = new double[2];
+        private final long[] minNanos = { Long.MAX_VALUE, Long.MAX_VALUE };
+        private final long[] maxNanos = new long[2];
+        private long decisions;
+
+        synchronized HybridBackend choose(HybridBackend preferred) {
+            HybridBackend other = preferred == HybridBackend.SELENIUM ? HybridBackend.PLAYWRIGHT
+                    : HybridBackend.SELENIUM;
+            if (samples[preferred.ordinal()] < WARMUP_SAMPLES || samples[other.ordinal()] < WARMUP_SAMPLES) {
+                return samples[other.ordinal()] < samples[preferred.ordinal()] ? other : preferred;
+            }
+            HybridBackend faster = ewmaNanos[other.ordinal()] < ewmaNanos[preferred.ordinal()] ? other : preferred;
+            HybridBackend slower = faster == preferred ? other : preferred;
+            return ++decisions % EXPLORE_INTERVAL == 0 ? slower : faster;
+        }
+
+        synchronized void record(HybridBackend backend, long nanos) {
+            int i = backend.ordinal();
+            ewmaNanos[i] = samples[i] == 0 ? nanos : EWMA_ALPHA * nanos + (1 - EWMA_ALPHA) * ewmaNanos[i];
+            samples[i]++;
+            totalNanos[i] += nanos;
+            minNanos[i] = Math.min(minNanos[i], nanos);
+            maxNanos[i] = Math.max(maxNanos[i], nanos);
+        }
+
+        synchronized Map<HybridBackend, BackendLatency> snapshot() {
+            Map<HybridBackend, BackendLatency> result = new EnumMap<>(HybridBackend.class);
+            for (HybridBackend backend : HybridBackend.values()) {
+                int i = backend.ordinal();
+                if (samples[i] > 0) {
+                    result.put(backend, new BackendLatency(samples[i], totalNanos[i], (long) ewmaNanos[i],
+                            minNanos[i], maxNanos[i]));
+                }
+            }
+            return result;
+        }
+    }
+}
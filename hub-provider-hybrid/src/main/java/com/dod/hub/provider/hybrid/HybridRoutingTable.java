@@ -0,0 +1,160 @@
+package com.dod.hub.provider.hybrid;
+
+import com.dod.hub.core.command.CommandType;
+import com.dod.hub.core.exception.HubException;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Decides which engine serves each {@link CommandType} of a hybrid session.
+ * <p>
+ * Routes are configured through provider options:
+ * <ul>
+ * <li>{@code hybrid.routing.<command>} = {@code selenium | playwright | adaptive},
+ * e.g. {@code hybrid.routing.get_title: playwright}</li>
+ * <li>{@code hybrid.routing.adaptive} = {@code true} makes every adaptive-capable
+ * command without an explicit route adaptive</li>
+ * </ul>
+ * Adaptive routes measure the latency of both engines and prefer the faster
+ * one. Only commands whose results are equivalent on both engines can be
+ * adaptive; {@link #STATIC_ONLY} commands may be pinned but never switch on
+ * their own. Commands outside {@link #ROUTABLE} always use their built-in
+ * engine.
+ */
+public final class HybridRoutingTable {
+
+    /** Option prefix for per-command routes. */
+    public static final String OPTION_PREFIX = "hybrid.routing.";
+    /** Option enabling adaptive routing for every eligible command. */
+    public static final String ADAPTIVE_OPTION = OPTION_PREFIX + "adaptive";
+
+    /** Commands with equivalent implementations on both engines. */
+    public static final Set<CommandType> ADAPTIVE_CAPABLE = Collections.unmodifiableSet(EnumSet.of(
+            CommandType.NAVIGATE_TO, CommandType.NAV_BACK, CommandType.NAV_FORWARD, CommandType.NAV_REFRESH,
+            CommandType.CLICK, CommandType.CLEAR, CommandType.GET_ATTRIBUTE, CommandType.IS_DISPLAYED,
+            CommandType.IS_ENABLED, CommandType.IS_SELECTED, CommandType.GET_TITLE, CommandType.GET_CURRENT_URL, CommandType.PAGE_SOURCE));
+
+    /**
+     * Commands that can be pinned to either engine but differ in semantics:
+     * wait behaviour for finds, key events for typing, text normalization,
+     * screenshot extent, script result types and timeouts.
+     */
+    public static final Set<CommandType> STATIC_ONLY = Collections.unmodifiableSet(EnumSet.of(
+            CommandType.FIND_ELEMENT, CommandType.FIND_ELEMENTS, CommandType.TYPE, CommandType.GET_TEXT,
+            CommandType.SCREENSHOT, CommandType.EXECUTE_SCRIPT, CommandType.EXECUTE_ASYNC_SCRIPT));
+
+    /** Every command that accepts a route. */
+    public static final Set<CommandType> ROUTABLE;
+
+    static {
+        EnumSet<CommandType> routable = EnumSet.copyOf(ADAPTIVE_CAPABLE);
+        routable.addAll(STATIC_ONLY);
+        ROUTABLE = Collections.unmodifiableSet(routable);
+    }
+
+    /**
+     * A configured route: a fixed engine, or adaptive selection.
+     */
+    public enum Route {
+        SELENIUM,
+        PLAYWRIGHT,
+        ADAPTIVE
+    }
+
+    private final Map<CommandType, Route> routes;
+
+    private HybridRoutingTable(Map<CommandType, Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * A table without explicit routes; every command uses its built-in engine.
+     */
+    public static HybridRoutingTable defaults() {
+        return new HybridRoutingTable(Collections.emptyMap());
+    }
+
+    /**
+     * Builds the table from provider options.
+     *
+     * @param options The session's provider options, may be null.
+     * @return The routing table.
+     * @throws HubException if a route names an unknown command, an unknown engine,
+     *                      or asks for adaptive routing of a static-only command.
+     */
+    public static HybridRoutingTable fromOptions(Map<String, Object> options) {
+        if (options == null || options.isEmpty()) {
+            return defaults();
+        }
+        EnumMap<CommandType, Route> routes = new EnumMap<>(CommandType.class);
+        for (Map.Entry<String, Object> entry : options.entrySet()) {
+            String key = entry.getKey();
+            if (!key.startsWith(OPTION_PREFIX) || key.equals(ADAPTIVE_OPTION) || entry.getValue() == null) {
+                continue;
+            }
+            CommandType type = parseCommand(key.substring(OPTION_PREFIX.length()));
+            Route route = parseRoute(key, entry.getValue());
+            if (route == Route.ADAPTIVE && !ADAPTIVE_CAPABLE.contains(type)) {
+                throw new HubException("Command " + type + " cannot be routed adaptively; pin it to selenium or playwright");
+            }
+            routes.put(type, route);
+        }
+        Object adaptive = options.get(ADAPTIVE_OPTION);
+        if (adaptive != null && Boolean.parseBoolean(adaptive.toString())) {
+            for (CommandType type : ADAPTIVE_CAPABLE) {
+                routes.putIfAbsent(type, Route.ADAPTIVE);
+            }
+        }
+        return new HybridRoutingTable(Collections.unmodifiableMap(routes));
+    }
+
+    private static CommandType parseCommand(String name) {
+        try {
+            CommandType type = CommandType.valueOf(name.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+            if (!ROUTABLE.contains(type)) {
+                throw new HubException("Command " + type + " is not routable; routable commands: " + ROUTABLE);
+            }
+            return type;
+        } catch (IllegalArgumentException e) {
+            throw new HubException("Unknown command in " + OPTION_PREFIX + name + "; routable commands: " + ROUTABLE);
+        }
+    }
+
+    private static Route parseRoute(String key, Object value) {
+        try {
+            return Route.valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new HubException("Unsupported value for " + key + ": " + value
+                    + " (expected selenium, playwright or adaptive)");
+        }
+    }
+
+    /**
+     * Returns the configured route for a command.
+     *
+     * @param type The command type.
+     * @return The route, or null if the command uses its built-in engine.
+     */
+    public Route getRoute(CommandType type) {
+        return routes.get(type);
+    }
+
+    /**
+     * Returns all explicitly configured routes.
+     *
+     * @return An unmodifiable command-to-route map.
+     */
+    public Map<CommandType, Route> getRoutes() {
+        return routes;
+    }
+
+    @Override
+    public String toString() {
+        return "HybridRoutingTable" + routes;
+    }
+}
@@ -1,5 +1,6 @@
 package com.dod.hub.provider.hybrid;
 
+import com.dod.hub.core.command.CommandType;
 import com.dod.hub.core.provider.ProviderSession;
 import com.dod.hub.core.provider.SessionCapabilities;
 import com.microsoft.playwright.Browser;
@@ -8,6 +9,9 @@ import com.microsoft.playwright.Playwright;
 import org.openqa.selenium.WebDriver;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * A specialized session that holds references to both Selenium and Playwright driver instances,
@@ -24,6 +28,9 @@ public class HybridSession extends ProviderSession {
     private final Browser playwrightBrowser;
     private final Page playwrightPage;
     private final Path userDataDir;
+    private final int cdpPort;
+    private final HybridRouter router;
+    private volatile Map<String, Duration> startupPhases = Collections.emptyMap();
 
     /**
      * Constructs a new HybridSession.
@@ -46,6 +53,34 @@ public class HybridSession extends ProviderSession {
             Browser playwrightBrowser,
             Page playwrightPage,
             Path userDataDir
+    ) {
+        this(providerName, caps, browserProcess, seleniumDriver, playwright, playwrightBrowser, playwrightPage,
+                userDataDir, -1);
+    }
+
+    /**
+     * Constructs a new HybridSession for a locally launched browser.
+     *
+     * @param providerName      The name of the provider ("hybrid").
+     * @param caps              The session capabilities.
+     * @param browserProcess    The browser OS process.
+     * @param seleniumDriver    The Selenium WebDriver connected via CDP.
+     * @param playwright        The Playwright instance.
+     * @param playwrightBrowser The Playwright Browser connected via CDP.
+     * @param playwrightPage    The active Playwright Page.
+     * @param userDataDir       The temporary user data directory for the browser profile.
+     * @param cdpPort           The CDP port the browser is listening on, or -1 if unknown.
+     */
+    public HybridSession(
+            String providerName,
+            SessionCapabilities caps,
+            Process browserProcess,
+            WebDriver seleniumDriver,
+            Playwright playwright,
+            Browser playwrightBrowser,
+            Page playwrightPage,
+            Path userDataDir,
+            int cdpPort
     ) {
         super(providerName, caps, new DualDriverHandle(seleniumDriver, playwrightPage));
         this.browserProcess = browserProcess;
@@ -54,6 +89,8 @@ public class HybridSession extends ProviderSession {
         this.playwrightBrowser = playwrightBrowser;
         this.playwrightPage = playwrightPage;
         this.userDataDir = userDataDir;
+        this.cdpPort = cdpPort;
+        this.router = new HybridRouter(HybridRoutingTable.fromOptions(caps.getOptions()));
     }
 
     /**
@@ -110,6 +147,53 @@ public class HybridSession extends ProviderSession {
         return userDataDir;
     }
 
+    /**
+     * Returns the local CDP port of the browser.
+     *
+     * @return The CDP port, or -1 for remote sessions.
+     */
+    public int getCdpPort() {
+        return cdpPort;
+    }
+
+    /**
+     * Returns how long each startup step took, in execution order (e.g.
+     * profile, launch, cdp-ready, selenium-attach, playwright-connect).
+     *
+     * @return An unmodifiable phase-to-duration map; empty for remote sessions.
+     */
+    public Map<String, Duration> getStartupPhases() {
+        return startupPhases;
+    }
+
+    void setStartupPhases(Map<String, Duration> startupPhases) {
+        this.startupPhases = startupPhases;
+    }
+
+    /**
+     * Returns the routes configured through {@code hybrid.routing.*} options.
+     *
+     * @return The routing table of this session.
+     */
+    public HybridRoutingTable getRoutingTable() {
+        return router.getTable();
+    }
+
+    /**
+     * Returns the latency observed per engine for each routable command executed
+     * so far. Latencies are recorded for fixed routes too, so they can be used
+     * to decide how to pin commands.
+     *
+     * @return An unmodifiable snapshot; commands without samples are omitted.
+     */
+    public Map<CommandType, Map<HybridBackend, BackendLatency>> getBackendLatencies() {
+        return router.snapshot();
+    }
+
+    HybridRouter getRouter() {
+        return router;
+    }
+
     /**
      * Returns a wrapper providing access to advanced Playwright-specific capabilities.
      * <p>
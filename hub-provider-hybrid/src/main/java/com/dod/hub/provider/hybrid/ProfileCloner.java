@@ -0,0 +1,168 @@
+package com.dod.hub.provider.hybrid;
+
+import com.dod.hub.core.exception.HubException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.FileSystemException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Clones a pre-warmed browser profile template into a fresh session profile.
+ * <p>
+ * Files that only make sense for a running browser (singleton locks, the
+ * DevTools port file) are never carried over, and the target's owner marker
+ * written by {@link ProfileReaper} is left untouched.
+ */
+final class ProfileCloner {
+
+    /**
+     * How template files are materialized in the session profile.
+     */
+    enum CloneMode {
+        /** Copy-on-write clone where the OS supports it, otherwise a plain copy. */
+        AUTO,
+        /** Plain recursive copy. */
+        COPY,
+        /**
+         * Hardlinks to the template files. Cheapest, but the browser writes some
+         * profile files in place, so sessions can change the shared template;
+         * only use it when that drift is acceptable.
+         */
+        HARDLINK;
+
+        static CloneMode parse(Object value) {
+            if (value == null) {
+                return AUTO;
+            }
+            try {
+                return valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new HubException("Unsupported hybrid.profile.clone value: " + value
+                        + " (expected auto, copy or hardlink)");
+            }
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileCloner.class);
+    private static final Set<String> TRANSIENT_FILES = Set.of(
+            "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile",
+            "DevToolsActivePort");
+    private static final long NATIVE_CLONE_TIMEOUT_SECONDS = 60;
+
+    private ProfileCloner() {
+    }
+
+    /**
+     * Clones {@code template} into the existing, empty directory {@code target}.
+     */
+    static void cloneInto(Path template, Path target, CloneMode mode) {
+        try {
+            if (mode == CloneMode.AUTO && nativeClone(template, target)) {
+                removeTransientFiles(target);
+                return;
+            }
+            walkCopy(template, target, mode == CloneMode.HARDLINK);
+        } catch (IOException e) {
+            throw new HubException("Failed to clone profile template " + template + " into " + target, e);
+        }
+    }
+
+    /**
+     * Uses the platform {@code cp} to get reflink/clonefile copy-on-write
+     * copies on filesystems that support them (btrfs, xfs, APFS).
+     */
+    private static boolean nativeClone(Path template, Path target) {
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        List<String> command;
+        if (os.contains("linux")) {
+            command = List.of("cp", "-a", "--reflink=auto", template + "/.", target.toString());
+        } else if (os.contains("mac")) {
+            command = List.of("cp", "-c", "-R", template + "/.", target.toString());
+        } else {
+            return false;
+        }
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor(NATIVE_CLONE_TIMEOUT_SECONDS, TimeUnit.SECONDS) && process.exitValue() == 0) {
+                return true;
+            }
+            process.destroyForcibly();
+        } catch (IOException e) {
+            logger.debug("Native profile clone unavailable, falling back to copy", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HubException("Interrupted while cloning profile template", e);
+        }
+        // Start the fallback from a clean slate
+        clearDirectory(target);
+        return false;
+    }
+
+    private static void walkCopy(Path template, Path target, boolean hardlink) throws IOException {
+        Files.walkFileTree(template, new SimpleFileVisitor<>() {
+            private boolean linkFailed;
+
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                Files.createDirectories(target.resolve(template.relativize(dir).toString()));
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                String name = file.getFileName().toString();
+                if (TRANSIENT_FILES.contains(name) || ProfileReaper.OWNER_FILE.equals(name) || !attrs.isRegularFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                Path dest = target.resolve(template.relativize(file).toString());
+                if (hardlink && !linkFailed) {
+                    try {
+                        Files.createLink(dest, file);
+                        return FileVisitResult.CONTINUE;
+                    } catch (FileSystemException | UnsupportedOperationException e) {
+                        // e.g. template on another filesystem; copy the rest
+                        logger.debug("Hardlinking profile files failed, falling back to copy", e);
+                        linkFailed = true;
+                    }
+                }
+                Files.copy(file, dest, StandardCopyOption.COPY_ATTRIBUTES);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void removeTransientFiles(Path target) throws IOException {
+        for (String name : TRANSIENT_FILES) {
+            Files.deleteIfExists(target.resolve(name));
+        }
+    }
+
+    private static void clearDirectory(Path dir) {
+        try (var paths = Files.walk(dir)) {
+            paths.sorted(java.util.Comparator.reverseOrder())
+                    .filter(p -> !p.equals(dir) && !p.equals(dir.resolve(ProfileReaper.OWNER_FILE)))
+                    .forEach(p -> {
+                        try {
+                            Files.deleteIfExists(p);
+                        } catch (IOException ignored) {
+                        }
+                    });
+        } catch (IOException e) {
+            logger.debug("Failed to clear {}", dir, e);
+        }
+    }
+}
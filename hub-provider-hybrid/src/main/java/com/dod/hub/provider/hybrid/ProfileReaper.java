@@ -0,0 +1,185 @@
+package com.dod.hub.provider.hybrid;
+
+import com.dod.hub.core.exception.HubException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Owns the lifecycle of temporary browser profiles on disk.
+ * <p>
+ * Profiles are created under the temp directory with an owner marker holding
+ * the creating JVM's pid. Deletion happens on a single background thread so
+ * that session teardown never blocks on disk I/O, and the first profile
+ * created by a JVM triggers a sweep of profiles left behind by crashed runs.
+ */
+final class ProfileReaper {
+
+    static final String PROFILE_PREFIX = "hub-hybrid-profile-";
+    static final String OWNER_FILE = ".hub-owner";
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfileReaper.class);
+    private static final int DELETE_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_MS = 200;
+    private static final long SHUTDOWN_DRAIN_SECONDS = 5;
+    /** Profiles without an owner marker are only treated as orphans after this grace period. */
+    private static final Duration UNOWNED_GRACE = Duration.ofHours(1);
+
+    private static final ProfileReaper DEFAULT = new ProfileReaper(Paths.get(System.getProperty("java.io.tmpdir")));
+
+    private final Path root;
+    private final long pid = ProcessHandle.current().pid();
+    private final AtomicBoolean swept = new AtomicBoolean();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "hub-hybrid-profile-reaper");
+        t.setDaemon(true);
+        return t;
+    });
+
+    ProfileReaper(Path root) {
+        this.root = root;
+    }
+
+    static ProfileReaper getDefault() {
+        return DEFAULT;
+    }
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DEFAULT::drain, "hub-hybrid-profile-reaper-drain"));
+    }
+
+    /**
+     * Creates a new, empty profile directory owned by this JVM.
+     */
+    Path createProfileDir() {
+        if (swept.compareAndSet(false, true)) {
+            executor.submit(this::sweepOrphans);
+        }
+        try {
+            Path dir = Files.createTempDirectory(root, PROFILE_PREFIX);
+            // Moved into place so a concurrent sweep never reads an empty owner file
+            Path owner = Files.writeString(dir.resolve(OWNER_FILE + ".tmp"), Long.toString(pid), StandardCharsets.UTF_8);
+            Files.move(owner, dir.resolve(OWNER_FILE), StandardCopyOption.ATOMIC_MOVE);
+            return dir;
+        } catch (IOException e) {
+            throw new HubException("Failed to create temp profile directory", e);
+        }
+    }
+
+    /**
+     * Schedules a profile directory for deletion in the background.
+     *
+     * @param dir The profile directory, may be null.
+     * @return A future completing once the directory is gone or deletion gave up.
+     */
+    CompletableFuture<Void> reap(Path dir) {
+        if (dir == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> deleteWithRetry(dir), executor);
+    }
+
+    /**
+     * Deletes profile directories whose owning JVM is no longer running.
+     *
+     * @return The number of orphaned profiles removed.
+     */
+    int sweepOrphans() {
+        int removed = 0;
+        try (DirectoryStream<Path> dirs = Files.newDirectoryStream(root, PROFILE_PREFIX + "*")) {
+            for (Path dir : dirs) {
+                if (Files.isDirectory(dir) && isOrphan(dir)) {
+                    logger.debug("Removing orphaned browser profile: {}", dir);
+                    deleteWithRetry(dir);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to scan {} for orphaned profiles", root, e);
+        }
+        if (removed > 0) {
+            logger.info("Removed {} orphaned browser profile(s) from {}", removed, root);
+        }
+        return removed;
+    }
+
+    private boolean isOrphan(Path dir) throws IOException {
+        Path owner = dir.resolve(OWNER_FILE);
+        if (!Files.exists(owner)) {
+            Instant modified = Files.getLastModifiedTime(dir).toInstant();
+            return modified.isBefore(Instant.now().minus(UNOWNED_GRACE));
+        }
+        long ownerPid;
+        try {
+            ownerPid = Long.parseLong(Files.readString(owner, StandardCharsets.UTF_8).trim());
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        if (ownerPid == pid) {
+            return false;
+        }
+        return !ProcessHandle.of(ownerPid).map(ProcessHandle::isAlive).orElse(false);
+    }
+
+    private void deleteWithRetry(Path dir) {
+        for (int attempt = 1; attempt <= DELETE_ATTEMPTS; attempt++) {
+            deleteTree(dir);
+            if (!Files.exists(dir)) {
+                return;
+            }
+            // Browsers may still hold file handles for a moment after exit (notably on Windows)
+            try {
+                Thread.sleep(RETRY_DELAY_MS * attempt);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        logger.warn("Failed to cleanup temp profile: {}", dir);
+    }
+
+    private static void deleteTree(Path dir) {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(p -> {
+                try {
+                    Files.deleteIfExists(p);
+                } catch (IOException ignored) {
+                }
+            });
+        } catch (IOException | java.io.UncheckedIOException e) {
+            logger.debug("Error while deleting {}", dir, e);
+        }
+    }
+
+    /**
+     * Lets already scheduled deletions finish before the JVM exits. Anything
+     * still pending is picked up by the orphan sweep of a later run.
+     */
+    void drain() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(SHUTDOWN_DRAIN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
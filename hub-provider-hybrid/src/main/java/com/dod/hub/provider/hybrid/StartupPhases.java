@@ -0,0 +1,43 @@
+package com.dod.hub.provider.hybrid;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Records how long each step of a hybrid session start took, in order.
+ */
+final class StartupPhases {
+
+    private final Map<String, Duration> phases = new LinkedHashMap<>();
+    private final long startNanos = System.nanoTime();
+    private long lastMarkNanos = startNanos;
+
+    /**
+     * Ends the current phase under the given name and starts the next one.
+     *
+     * @param phase Name of the phase that just finished.
+     */
+    void mark(String phase) {
+        long now = System.nanoTime();
+        phases.put(phase, Duration.ofNanos(now - lastMarkNanos));
+        lastMarkNanos = now;
+    }
+
+    Duration total() {
+        return Duration.ofNanos(lastMarkNanos - startNanos);
+    }
+
+    Map<String, Duration> asMap() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(phases));
+    }
+
+    @Override
+    public String toString() {
+        return phases.entrySet().stream()
+                .map(e -> e.getKey() + "=" + e.getValue().toMillis() + "ms")
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
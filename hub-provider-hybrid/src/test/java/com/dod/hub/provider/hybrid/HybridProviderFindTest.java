@@ -0,0 +1,146 @@
+package com.dod.hub.provider.hybrid;
+
+import com.dod.hub.core.locator.HubElementRef;
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies that a hybrid find resolves the element with a single engine and
+ * only touches the other engine when an operation actually needs it.
+ */
+class HybridProviderFindTest {
+
+    private final HybridProvider provider = new HybridProvider();
+    private WebDriver driver;
+    private Page page;
+    private Locator locator;
+    private WebElement element;
+
+    @BeforeEach
+    void setUp() {
+        driver = mock(WebDriver.class);
+        page = mock(Page.class);
+        locator = mock(Locator.class);
+        element = mock(WebElement.class);
+        Locator all = mock(Locator.class);
+        when(page.locator("css=#submit")).thenReturn(all);
+        when(all.first()).thenReturn(locator);
+        when(driver.findElement(any(By.class))).thenReturn(element);
+    }
+
+    private HybridSession session(boolean autowait) {
+        SessionCapabilities caps = new SessionCapabilities();
+        caps.addOption("hybrid.playwright.autowait", autowait);
+        return new HybridSession("hybrid", caps, null, driver, mock(Playwright.class), null, page, null);
+    }
+
+    @Test
+    @DisplayName("Auto-wait find should resolve through Playwright only")
+    void autowaitFindDoesNotQuerySelenium() {
+        HybridSession session = session(true);
+
+        HubElementRef ref = provider.find(session, HubLocator.css("#submit"));
+        provider.click(session, ref);
+
+        verify(locator).waitFor(any());
+        verify(locator).click();
+        verify(driver, never()).findElement(any(By.class));
+        HybridElementHandle handle = (HybridElementHandle) ref.getProviderHandle();
+        assertEquals(HybridBackend.PLAYWRIGHT, handle.getResolvedBy());
+        assertFalse(handle.isSeleniumResolved());
+    }
+
+    @Test
+    @DisplayName("Selenium handle should be materialized lazily and only once")
+    void seleniumHandleIsLazyAndCached() {
+        HybridSession session = session(true);
+        when(element.getText()).thenReturn("Submit");
+
+        HubElementRef ref = provider.find(session, HubLocator.css("#submit"));
+        assertEquals("Submit", provider.getText(session, ref));
+        provider.clear(session, ref);
+
+        verify(driver, times(1)).findElement(any(By.class));
+        assertTrue(((HybridElementHandle) ref.getProviderHandle()).isSeleniumResolved());
+    }
+
+    @Test
+    @DisplayName("Typing and reads on a Playwright-resolved element should not query Selenium")
+    void playwrightResolvedOpsDoNotQuerySelenium() {
+        HybridSession session = session(true);
+        when(locator.evaluate(any(String.class), eq("name"))).thenReturn("q");
+        when(locator.evaluate(any(String.class))).thenReturn(true);
+
+        HubElementRef ref = provider.find(session, HubLocator.css("#submit"));
+        provider.type(session, ref, "hello");
+        assertEquals("q", provider.getAttribute(session, ref, "name"));
+        assertTrue(provider.isSelected(session, ref));
+
+        verify(locator).pressSequentially("hello");
+        verify(driver, never()).findElement(any(By.class));
+    }
+
+    @Test
+    @DisplayName("Text with WebDriver key codes should be typed by Selenium")
+    void keyCodesAreTypedBySelenium() {
+        HybridSession session = session(true);
+        String text = "hello" + Keys.ENTER;
+
+        HubElementRef ref = provider.find(session, HubLocator.css("#submit"));
+        provider.type(session, ref, text);
+
+        verify(element).sendKeys(text);
+        verify(locator, never()).pressSequentially(any(String.class));
+    }
+
+    @Test
+    @DisplayName("Without auto-wait find should resolve through Selenium only")
+    void seleniumFindDoesNotQueryPlaywright() {
+        HybridSession session = session(false);
+
+        HubElementRef ref = provider.find(session, HubLocator.css("#submit"));
+        provider.click(session, ref);
+
+        verify(element).click();
+        verify(page, never()).locator(any(String.class));
+        assertEquals(HybridBackend.SELENIUM, ((HybridElementHandle) ref.getProviderHandle()).getResolvedBy());
+    }
+
+    @Test
+    @DisplayName("Find-all routed to Playwright should map each match to its Selenium element by index")
+    void playwrightFindAllResolvesSeleniumByIndex() {
+        SessionCapabilities caps = new SessionCapabilities();
+        caps.addOption("hybrid.routing.find_elements", "playwright");
+        HybridSession session = new HybridSession("hybrid", caps, null, driver, mock(Playwright.class), null, page,
+                null);
+        Locator second = mock(Locator.class);
+        when(page.locator("css=#submit").all()).thenReturn(List.of(locator, second));
+        WebElement secondElement = mock(WebElement.class);
+        when(driver.findElements(any(By.class))).thenReturn(List.of(element, secondElement));
+
+        List<HubElementRef> refs = provider.findAll(session, HubLocator.css("#submit"));
+        provider.click(session, refs.get(1));
+        verify(driver, never()).findElements(any(By.class));
+
+        provider.clear(session, refs.get(1));
+        verify(second).click();
+        verify(secondElement).clear();
+    }
+}
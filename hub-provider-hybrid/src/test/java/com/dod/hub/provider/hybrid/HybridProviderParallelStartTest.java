@@ -0,0 +1,369 @@
+package com.dod.hub.provider.hybrid;
+
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Starts several local hybrid sessions concurrently against fake browser
+ * processes that behave like Chrome with {@code --remote-debugging-port=0}:
+ * each binds a free port, announces it on stderr and publishes it in its
+ * profile directory.
+ */
+class HybridProviderParallelStartTest {
+
+    private static final int SESSIONS = 6;
+
+    static class FakeBrowserProcess extends Process {
+        final List<String> command;
+        final ServerSocket socket;
+        final Path userDataDir;
+        final PipedInputStream stderr = new PipedInputStream();
+        volatile boolean alive = true;
+
+        FakeBrowserProcess(List<String> command, boolean announceOnStderr) throws IOException {
+            this.command = command;
+            this.socket = new ServerSocket(0);
+            this.userDataDir = Paths.get(argValue(command, "--user-data-dir="));
+            assertEquals("0", argValue(command, "--remote-debugging-port="));
+            PipedOutputStream stderrSink = new PipedOutputStream(stderr);
+
+            // Publish the endpoint asynchronously, like a real browser does after startup
+            Thread publisher = new Thread(() -> {
+                String path = "/devtools/browser/" + UUID.randomUUID();
+                try (stderrSink) {
+                    Thread.sleep(30);
+                    Files.writeString(userDataDir.resolve("First Run"), "");
+                    stderrSink.write("[0101/000000.000:WARNING:chrome_main.cc] noise\n".getBytes(StandardCharsets.UTF_8));
+                    Files.writeString(userDataDir.resolve("DevToolsActivePort"), socket.getLocalPort() + "\n" + path);
+                    if (announceOnStderr) {
+                        String line = "DevTools listening on ws://127.0.0.1:" + socket.getLocalPort() + path + "\n";
+                        stderrSink.write(line.getBytes(StandardCharsets.UTF_8));
+                    }
+                } catch (Exception ignored) {
+                }
+            });
+            publisher.setDaemon(true);
+            publisher.start();
+        }
+
+        static String argValue(List<String> command, String prefix) {
+            return command.stream()
+                    .filter(arg -> arg.startsWith(prefix))
+                    .map(arg -> arg.substring(prefix.length()))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("Missing argument " + prefix));
+        }
+
+        @Override
+        public OutputStream getOutputStream() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        @Override
+        public InputStream getErrorStream() {
+            return stderr;
+        }
+
+        @Override
+        public int waitFor() {
+            return 0;
+        }
+
+        @Override
+        public int exitValue() {
+            if (alive)
+                throw new IllegalThreadStateException("running");
+            return 0;
+        }
+
+        @Override
+        public boolean isAlive() {
+            return alive;
+        }
+
+        @Override
+        public void destroy() {
+            alive = false;
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    static class FakeLaunchHybridProvider extends HybridProvider {
+        final List<FakeBrowserProcess> processes = new CopyOnWriteArrayList<>();
+        final List<String> seleniumAddresses = new CopyOnWriteArrayList<>();
+        final List<String> playwrightEndpoints = new CopyOnWriteArrayList<>();
+        final boolean announceOnStderr;
+        final ProfileReaper reaper;
+
+        FakeLaunchHybridProvider(boolean announceOnStderr) {
+            this.announceOnStderr = announceOnStderr;
+            try {
+                this.reaper = new ProfileReaper(Files.createTempDirectory("hub-hybrid-test-"));
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        ProfileReaper getProfileReaper() {
+            return reaper;
+        }
+
+        @Override
+        protected String findChromePath() {
+            return "chrome";
+        }
+
+        @Override
+        protected Process startBrowserProcess(List<String> command) throws IOException {
+            FakeBrowserProcess process = new FakeBrowserProcess(command, announceOnStderr);
+            processes.add(process);
+            return process;
+        }
+
+        @Override
+        protected WebDriver connectSeleniumLocal(String debuggerAddress, SessionCapabilities caps) {
+            seleniumAddresses.add(debuggerAddress);
+            return mock(WebDriver.class);
+        }
+
+        @Override
+        protected Playwright createPlaywright() {
+            return mock(Playwright.class);
+        }
+
+        @Override
+        protected Browser connectPlaywright(Playwright playwright, String cdpUrl) {
+            playwrightEndpoints.add(cdpUrl);
+            Browser browser = mock(Browser.class);
+            BrowserContext context = mock(BrowserContext.class);
+            when(browser.contexts()).thenReturn(List.of(context));
+            when(context.pages()).thenReturn(List.of(mock(Page.class)));
+            return browser;
+        }
+    }
+
+    @Test
+    @DisplayName("Parallel local sessions should each get their own ephemeral CDP port and profile")
+    void parallelLocalSessionsUseDistinctPorts() throws Exception {
+        FakeLaunchHybridProvider provider = new FakeLaunchHybridProvider(true);
+        List<HybridSession> sessions = startConcurrently(provider);
+
+        Set<Integer> ports = new HashSet<>();
+        Set<Path> profiles = new HashSet<>();
+        for (HybridSession session : sessions) {
+            assertTrue(session.getCdpPort() > 0, "Session should expose the port chosen by the browser");
+            ports.add(session.getCdpPort());
+            profiles.add(session.getUserDataDir());
+            assertEquals(List.of("profile", "launch", "cdp-ready", "selenium-attach", "playwright-connect"),
+                    new ArrayList<>(session.getStartupPhases().keySet()));
+        }
+        assertEquals(SESSIONS, ports.size(), "Every session must get a distinct CDP port");
+        assertEquals(SESSIONS, profiles.size(), "Every session must get a distinct profile directory");
+        for (Integer port : ports) {
+            assertTrue(provider.seleniumAddresses.contains("127.0.0.1:" + port));
+            assertTrue(provider.playwrightEndpoints.stream()
+                    .anyMatch(url -> url.startsWith("ws://127.0.0.1:" + port + "/devtools/browser/")),
+                    "Playwright should connect straight to the announced WebSocket URL");
+        }
+
+        for (HybridSession session : sessions) {
+            provider.stop(session);
+        }
+        for (FakeBrowserProcess process : provider.processes) {
+            assertFalse(process.isAlive());
+            awaitDeleted(process.userDataDir);
+        }
+    }
+
+    @Test
+    @DisplayName("Sessions should clone a template profile that is warmed up only once")
+    void sessionsCloneWarmedTemplate() throws Exception {
+        FakeLaunchHybridProvider provider = new FakeLaunchHybridProvider(true);
+        Path template = Files.createTempDirectory("hub-hybrid-template-").resolve("chrome-template");
+        SessionCapabilities caps = new SessionCapabilities();
+        caps.addOption("hybrid.profile.template", template.toString());
+
+        HybridSession first = (HybridSession) provider.start(caps);
+        HybridSession second = (HybridSession) provider.start(caps);
+
+        assertEquals(3, provider.processes.size(), "Template should be warmed by a single extra launch");
+        assertTrue(Files.exists(template.resolve("First Run")), "Warm-up should leave first-run state in the template");
+        assertFalse(Files.exists(template.resolve(ProfileReaper.OWNER_FILE)));
+        for (HybridSession session : List.of(first, second)) {
+            assertNotEquals(template, session.getUserDataDir());
+            assertTrue(Files.exists(session.getUserDataDir().resolve(ProfileReaper.OWNER_FILE)));
+            provider.stop(session);
+            awaitDeleted(session.getUserDataDir());
+        }
+        assertTrue(Files.exists(template.resolve("First Run")), "Stopping sessions must not touch the template");
+    }
+
+    @Test
+    @DisplayName("A template warmed up meanwhile by another process should be used and the own warm-up reaped")
+    void templateWarmedByAnotherProcessWins() throws Exception {
+        Path template = Files.createTempDirectory("hub-hybrid-template-").resolve("chrome-template");
+        FakeLaunchHybridProvider provider = new FakeLaunchHybridProvider(true) {
+            @Override
+            protected Process startBrowserProcess(List<String> command) throws IOException {
+                if (FakeBrowserProcess.argValue(command, "--user-data-dir=").contains(".warming-")) {
+                    Files.createDirectories(template);
+                    Files.writeString(template.resolve("Other Fork"), "");
+                }
+                return super.startBrowserProcess(command);
+            }
+        };
+        SessionCapabilities caps = new SessionCapabilities();
+        caps.addOption("hybrid.profile.template", template.toString());
+
+        HybridSession session = (HybridSession) provider.start(caps);
+
+        assertTrue(Files.exists(template.resolve("Other Fork")));
+        assertTrue(Files.exists(session.getUserDataDir().resolve("Other Fork")));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (hasWarmingDirs(template.getParent()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(hasWarmingDirs(template.getParent()), "The losing warm-up should be reaped");
+        provider.stop(session);
+        awaitDeleted(session.getUserDataDir());
+    }
+
+    private static boolean hasWarmingDirs(Path dir) throws IOException {
+        try (Stream<Path> entries = Files.list(dir)) {
+            return entries.anyMatch(entry -> entry.getFileName().toString().contains(".warming-"));
+        }
+    }
+
+    @Test
+    @DisplayName("Template cloning should skip lock files of the template browser")
+    void cloneSkipsTransientFiles() throws Exception {
+        Path template = Files.createTempDirectory("hub-hybrid-template-");
+        Files.createDirectories(template.resolve("Default"));
+        Files.writeString(template.resolve("Default/Preferences"), "{}");
+        Files.writeString(template.resolve("SingletonLock"), "host-1");
+        Files.writeString(template.resolve("DevToolsActivePort"), "9222");
+
+        for (ProfileCloner.CloneMode mode : ProfileCloner.CloneMode.values()) {
+            Path target = Files.createTempDirectory("hub-hybrid-clone-");
+            Files.writeString(target.resolve(ProfileReaper.OWNER_FILE), "42");
+            ProfileCloner.cloneInto(template, target, mode);
+
+            assertEquals("{}", Files.readString(target.resolve("Default/Preferences")), mode.name());
+            assertFalse(Files.exists(target.resolve("SingletonLock")), mode.name());
+            assertFalse(Files.exists(target.resolve("DevToolsActivePort")), mode.name());
+            assertEquals("42", Files.readString(target.resolve(ProfileReaper.OWNER_FILE)), mode.name());
+        }
+    }
+
+    private static void awaitDeleted(Path dir) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (Files.exists(dir) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertFalse(Files.exists(dir), "Profile should be removed after stop: " + dir);
+    }
+
+    @Test
+    @DisplayName("Startup should fall back to polling when the browser does not announce on stderr")
+    void fallsBackToPollingWithoutStderrAnnouncement() throws Exception {
+        FakeLaunchHybridProvider provider = new FakeLaunchHybridProvider(false);
+        List<HybridSession> sessions = startConcurrently(provider);
+
+        for (HybridSession session : sessions) {
+            assertTrue(provider.playwrightEndpoints.stream()
+                    .anyMatch(url -> url.startsWith("ws://127.0.0.1:" + session.getCdpPort() + "/devtools/browser/")));
+            provider.stop(session);
+        }
+    }
+
+    private List<HybridSession> startConcurrently(HybridProvider provider) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(SESSIONS);
+        CountDownLatch go = new CountDownLatch(1);
+
+        List<Future<ProviderSession>> futures = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            futures.add(executor.submit(() -> {
+                go.await();
+                return provider.start(new SessionCapabilities());
+            }));
+        }
+        go.countDown();
+
+        List<HybridSession> sessions = new ArrayList<>();
+        try {
+            for (Future<ProviderSession> future : futures) {
+                sessions.add((HybridSession) future.get(20, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return sessions;
+    }
+
+    @Test
+    @DisplayName("A failed start should release an explicitly configured CDP port")
+    void failedStartReleasesExplicitPort() throws Exception {
+        int port;
+        try (ServerSocket probe = new ServerSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        HybridProvider provider = new FakeLaunchHybridProvider(true) {
+            @Override
+            protected Process startBrowserProcess(List<String> command) throws IOException {
+                throw new IOException("browser not available");
+            }
+        };
+        SessionCapabilities caps = new SessionCapabilities();
+        caps.addOption("hybrid.cdp.port", port);
+
+        // The second attempt must fail on launch again, not on a leaked port reservation
+        assertThrows(HubException.class, () -> provider.start(caps));
+        HubException retry = assertThrows(HubException.class, () -> provider.start(caps));
+        assertEquals("Failed to launch browser for HybridProvider", retry.getMessage());
+    }
+}
@@ -0,0 +1,181 @@
+package com.dod.hub.provider.hybrid;
+
+import com.dod.hub.core.command.CommandType;
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class HybridRoutingTest {
+
+    @Nested
+    @DisplayName("Routing table configuration")
+    class TableTests {
+
+        @Test
+        @DisplayName("Per-command options should pin routes and the adaptive flag should fill the rest")
+        void parsesRoutes() {
+            Map<String, Object> options = new HashMap<>();
+            options.put("hybrid.routing.get_title", "playwright");
+            options.put("hybrid.routing.nav-back", "Selenium");
+            options.put("hybrid.routing.screenshot", "selenium");
+            options.put("hybrid.routing.execute_script", "playwright");
+            options.put("hybrid.routing.adaptive", "true");
+            options.put("hybrid.cdp.port", 9222);
+
+            HybridRoutingTable table = HybridRoutingTable.fromOptions(options);
+
+            assertEquals(HybridRoutingTable.Route.PLAYWRIGHT, table.getRoute(CommandType.GET_TITLE));
+            assertEquals(HybridRoutingTable.Route.SELENIUM, table.getRoute(CommandType.NAV_BACK));
+            assertEquals(HybridRoutingTable.Route.SELENIUM, table.getRoute(CommandType.SCREENSHOT));
+            assertEquals(HybridRoutingTable.Route.PLAYWRIGHT, table.getRoute(CommandType.EXECUTE_SCRIPT));
+            assertEquals(HybridRoutingTable.Route.ADAPTIVE, table.getRoute(CommandType.CLICK));
+            assertEquals(HybridRoutingTable.Route.ADAPTIVE, table.getRoute(CommandType.GET_ATTRIBUTE));
+            assertNull(table.getRoute(CommandType.GET_TEXT), "Static-only commands are never made adaptive");
+            assertNull(table.getRoute(CommandType.TYPE));
+        }
+
+        @Test
+        @DisplayName("Invalid routes should be rejected")
+        void rejectsInvalidRoutes() {
+            assertThrows(HubException.class,
+                    () -> HybridRoutingTable.fromOptions(Map.of("hybrid.routing.find_element", "adaptive")));
+            assertThrows(HubException.class,
+                    () -> HybridRoutingTable.fromOptions(Map.of("hybrid.routing.type", "adaptive")));
+            assertThrows(HubException.class,
+                    () -> HybridRoutingTable.fromOptions(Map.of("hybrid.routing.set_timeouts", "playwright")));
+            assertThrows(HubException.class,
+                    () -> HybridRoutingTable.fromOptions(Map.of("hybrid.routing.no_such_command", "selenium")));
+            assertThrows(HubException.class,
+                    () -> HybridRoutingTable.fromOptions(Map.of("hybrid.routing.get_title", "webkit")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptive selection")
+    class AdaptiveTests {
+
+        private final HybridRouter router = new HybridRouter(
+                HybridRoutingTable.fromOptions(Map.of("hybrid.routing.adaptive", true)));
+
+        @Test
+        @DisplayName("Both engines should be sampled before the faster one is preferred")
+        void warmsUpThenPrefersFaster() {
+            int selenium = 0;
+            int playwright = 0;
+            for (int i = 0; i < 2 * HybridRouter.WARMUP_SAMPLES; i++) {
+                HybridBackend backend = router.select(CommandType.GET_TITLE, HybridBackend.SELENIUM);
+                router.record(CommandType.GET_TITLE, backend, backend == HybridBackend.SELENIUM ? 5_000_000 : 1_000_000);
+                if (backend == HybridBackend.SELENIUM) selenium++; else playwright++;
+            }
+            assertEquals(HybridRouter.WARMUP_SAMPLES, selenium);
+            assertEquals(HybridRouter.WARMUP_SAMPLES, playwright);
+
+            int explored = 0;
+            for (int i = 0; i < HybridRouter.EXPLORE_INTERVAL; i++) {
+                if (router.select(CommandType.GET_TITLE, HybridBackend.SELENIUM) == HybridBackend.SELENIUM) {
+                    explored++;
+                }
+            }
+            assertEquals(1, explored, "The slower engine should only be re-sampled periodically");
+
+            Map<HybridBackend, BackendLatency> latencies = router.snapshot().get(CommandType.GET_TITLE);
+            assertEquals(5, latencies.get(HybridBackend.SELENIUM).getAverage().toMillis());
+            assertEquals(1, latencies.get(HybridBackend.PLAYWRIGHT).getRecent().toMillis());
+        }
+    }
+
+    @Nested
+    @DisplayName("Provider routing")
+    class ProviderTests {
+
+        private final WebDriver driver = mock(WebDriver.class);
+        private final Page page = mock(Page.class);
+        private final HybridProvider provider = new HybridProvider();
+
+        private HybridSession session(Map<String, Object> options) {
+            SessionCapabilities caps = new SessionCapabilities();
+            options.forEach(caps::addOption);
+            return new HybridSession("hybrid", caps, null, driver, mock(Playwright.class), null, page, null);
+        }
+
+        @Test
+        @DisplayName("Built-in routes should be kept and measured when nothing is configured")
+        void defaultRoutes() {
+            HybridSession session = session(Map.of());
+            when(driver.getTitle()).thenReturn("Selenium title");
+
+            assertEquals("Selenium title", provider.getTitle(session));
+            provider.takeScreenshot(session);
+
+            verify(page, never()).title();
+            verify(page).screenshot(any());
+            assertEquals(Map.of(HybridBackend.SELENIUM, 1L),
+                    samples(session.getBackendLatencies().get(CommandType.GET_TITLE)));
+            assertEquals(Map.of(HybridBackend.PLAYWRIGHT, 1L),
+                    samples(session.getBackendLatencies().get(CommandType.SCREENSHOT)));
+        }
+
+        @Test
+        @DisplayName("Pinned routes should send the command to the configured engine")
+        void pinnedRoute() {
+            HybridSession session = session(Map.of("hybrid.routing.get_title", "playwright",
+                    "hybrid.routing.get_current_url", "playwright"));
+            when(page.title()).thenReturn("Playwright title");
+            when(page.url()).thenReturn("about:blank");
+
+            assertEquals("Playwright title", provider.getTitle(session));
+            assertEquals("about:blank", provider.getCurrentUrl(session));
+            verify(driver, never()).getTitle();
+            verify(driver, never()).getCurrentUrl();
+        }
+
+        @Test
+        @DisplayName("Scripts routed to Playwright should bind arguments and keep element arguments on Selenium")
+        void routedScripts() {
+            HybridSession session = session(Map.of("hybrid.routing.execute_script", "playwright"));
+            WebDriver jsDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+            HybridSession jsSession = new HybridSession("hybrid", session.getCapabilities(), null, jsDriver,
+                    mock(Playwright.class), null, page, null);
+            when(page.evaluate(anyString(), any())).thenReturn(3);
+            WebElement element = mock(WebElement.class);
+
+            assertEquals(3, provider.executeScript(jsSession, "return arguments[0] + arguments[1];", 1, 2));
+            provider.executeScript(jsSession, "arguments[0].click();", element);
+
+            verify(page).evaluate(
+                    "args => (function() {return arguments[0] + arguments[1];\n}).apply(null, args)", List.of(1, 2));
+            verify((JavascriptExecutor) jsDriver).executeScript("arguments[0].click();", element);
+            verify((JavascriptExecutor) jsDriver, never()).executeScript(eq("return arguments[0] + arguments[1];"),
+                    any(Object[].class));
+        }
+
+        @Test
+        @DisplayName("Invalid routing should fail before a browser is launched")
+        void invalidRoutingFailsFast() {
+            SessionCapabilities caps = new SessionCapabilities();
+            caps.addOption("hybrid.routing.get_title", "firefox");
+            HubException e = assertThrows(HubException.class, () -> provider.start(caps));
+            assertTrue(e.getMessage().contains("hybrid.routing.get_title"));
+        }
+
+        private Map<HybridBackend, Long> samples(Map<HybridBackend, BackendLatency> latencies) {
+            Map<HybridBackend, Long> result = new HashMap<>();
+            latencies.forEach((backend, latency) -> result.put(backend, latency.getSamples()));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.dod.hub.provider.hybrid;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfileReaperTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("Created profiles should carry the owner pid and be deleted in the background")
+    void createAndReap() throws Exception {
+        ProfileReaper reaper = new ProfileReaper(root);
+        Path profile = reaper.createProfileDir();
+        Files.createDirectories(profile.resolve("Default/Cache"));
+        Files.writeString(profile.resolve("Default/Cache/data_0"), "cached");
+
+        assertTrue(profile.getFileName().toString().startsWith(ProfileReaper.PROFILE_PREFIX));
+        assertEquals(Long.toString(ProcessHandle.current().pid()),
+                Files.readString(profile.resolve(ProfileReaper.OWNER_FILE)));
+
+        reaper.reap(profile).get(5, TimeUnit.SECONDS);
+        assertFalse(Files.exists(profile));
+    }
+
+    @Test
+    @DisplayName("Orphan sweep should only remove profiles of dead or unknown owners")
+    void sweepRemovesOnlyOrphans() throws Exception {
+        Path deadOwner = profile("dead", Long.toString(Long.MAX_VALUE));
+        Path liveOwner = profile("live", Long.toString(ProcessHandle.current().pid()));
+        Path staleUnowned = profile("stale", null);
+        Files.setLastModifiedTime(staleUnowned, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        Path freshUnowned = profile("fresh", null);
+        Path unrelated = Files.createDirectory(root.resolve("other-dir"));
+
+        assertEquals(2, new ProfileReaper(root).sweepOrphans());
+
+        assertFalse(Files.exists(deadOwner));
+        assertFalse(Files.exists(staleUnowned));
+        assertTrue(Files.exists(liveOwner));
+        assertTrue(Files.exists(freshUnowned), "Unowned profiles may belong to an older running version");
+        assertTrue(Files.exists(unrelated));
+    }
+
+    private Path profile(String suffix, String ownerPid) throws Exception {
+        Path dir = Files.createDirectory(root.resolve(ProfileReaper.PROFILE_PREFIX + suffix));
+        Files.writeString(dir.resolve("Local State"), "{}");
+        if (ownerPid != null) {
+            Files.writeString(dir.resolve(ProfileReaper.OWNER_FILE), ownerPid);
+        }
+        return dir;
+    }
+}
@@ -1,16 +1,26 @@
 package com.dod.hub.provider.playwright;
 
 import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubPageLoadStrategy;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.core.config.HubVideoOptions;
 import com.dod.hub.core.locator.HubElementRef;
 import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.locator.HubSelectors;
 import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.HubScreencast;
 import com.dod.hub.core.provider.ProviderSession;
 import com.dod.hub.core.provider.SessionCapabilities;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.Cookie;
+import com.microsoft.playwright.options.ViewportSize;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import com.microsoft.playwright.options.WaitUntilState;
 import com.dod.hub.core.exception.HubTimeoutException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -18,6 +28,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -27,12 +38,18 @@ import java.util.stream.Collectors;
  */
 public class PlaywrightProvider implements HubProvider {
 
+    private static final long DEFAULT_READY_TIMEOUT_MS = 30000;
+
     // Internal wrapper to hold all Playwright objects
     private static class PlaywrightSessionContext {
         Playwright playwright;
         Browser browser;
         BrowserContext context;
         Page page;
+        long implicitWaitMs;
+        long pageLoadTimeoutMs;
+        /** Whether the browser is a local Chromium launched with a DevTools port for recording. */
+        boolean debuggable;
 
         PlaywrightSessionContext(Playwright playwright, Browser browser, BrowserContext context, Page page) {
             this.playwright = playwright;
@@ -58,6 +75,7 @@ public class PlaywrightProvider implements HubProvider {
         options.setHeadless(caps.isHeadless());
 
         Browser browser;
+        boolean debuggable = false;
         HubBrowserType bName = caps.getBrowserName();
         String gridUrl = caps.getGridUrl();
         boolean isRemote = gridUrl != null && !gridUrl.isEmpty();
@@ -72,6 +90,13 @@ public class PlaywrightProvider implements HubProvider {
             case EDGE:
             case CHROME:
             default:
+                if (!isRemote && caps.getVideoOptions() != null) {
+                    // Only recorded sessions open a DevTools port; the browser picks a free one
+                    List<String> args = new ArrayList<>(options.args != null ? options.args : Collections.emptyList());
+                    args.add("--remote-debugging-port=0");
+                    options.setArgs(args);
+                    debuggable = true;
+                }
                 browser = isRemote ? playwright.chromium().connect(gridUrl) : playwright.chromium().launch(options);
                 break;
         }
@@ -80,6 +105,7 @@ public class PlaywrightProvider implements HubProvider {
         Page page = context.newPage();
 
         PlaywrightSessionContext raw = new PlaywrightSessionContext(playwright, browser, context, page);
+        raw.debuggable = debuggable;
         return new ProviderSession(getName(), caps, raw);
     }
 
@@ -242,9 +268,73 @@ public class PlaywrightProvider implements HubProvider {
         return getLocator(element).isChecked();
     }
 
+    /**
+     * Reads all values with one evaluation over the matched items when the
+     * browser can evaluate the child locator, i.e. it is not a link text.
+     */
+    @Override
+    public List<String> readAll(ProviderSession session, HubElementRef scope, HubLocator items, HubLocator child,
+            String attribute) {
+        String childKind = HubSelectors.kind(child);
+        if (childKind == null) {
+            return HubProvider.super.readAll(session, scope, items, child, attribute);
+        }
+        Locator roots = scope == null
+                ? getPage(session).locator(toSelector(items))
+                : getLocator(scope).locator(toSelector(items));
+        Object values = roots.evaluateAll("(roots, q) => (" + HubSelectors.READ_FIRST
+                + ")(roots, q[0], q[1], (" + HubSelectors.READ_RAW + ")(q[2], 'textContent'))",
+                Arrays.asList(childKind, HubSelectors.selector(child), attribute));
+        return ((List<?>) values).stream()
+                .map(value -> value == null ? null : value.toString())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void navigate(ProviderSession session, String url) {
-        getPage(session).navigate(url);
+        SessionCapabilities caps = session.getCapabilities();
+        navigate(session, url, caps != null ? caps.getNavigationPolicy() : HubNavigationPolicy.normal());
+    }
+
+    /**
+     * Navigates with a per-call readiness policy. Load strategies map to
+     * Playwright's {@link WaitUntilState}; custom conditions navigate with
+     * {@code COMMIT} and are then awaited in-page.
+     */
+    @Override
+    public void navigate(ProviderSession session, String url, HubNavigationPolicy policy) {
+        PlaywrightSessionContext ctx = getCtx(session);
+        ctx.page.navigate(url, new Page.NavigateOptions().setWaitUntil(toWaitUntil(policy.getStrategy())));
+        if (!policy.isCustom()) {
+            return;
+        }
+
+        long timeoutMs = policy.getTimeoutMs() > 0 ? policy.getTimeoutMs()
+                : ctx.pageLoadTimeoutMs > 0 ? ctx.pageLoadTimeoutMs : DEFAULT_READY_TIMEOUT_MS;
+        try {
+            if (policy.getReadySelector() != null) {
+                ctx.page.waitForSelector("css=" + policy.getReadySelector(), new Page.WaitForSelectorOptions()
+                        .setState(WaitForSelectorState.ATTACHED)
+                        .setTimeout((double) timeoutMs));
+            } else {
+                ctx.page.waitForFunction(policy.toReadyExpression(), null,
+                        new Page.WaitForFunctionOptions().setTimeout((double) timeoutMs));
+            }
+        } catch (TimeoutError e) {
+            throw new HubTimeoutException(
+                    "Page did not become ready (" + policy + ") within " + timeoutMs + " ms: " + url, e);
+        }
+    }
+
+    private WaitUntilState toWaitUntil(HubPageLoadStrategy strategy) {
+        switch (strategy) {
+            case EAGER:
+                return WaitUntilState.DOMCONTENTLOADED;
+            case NONE:
+                return WaitUntilState.COMMIT;
+            default:
+                return WaitUntilState.LOAD;
+        }
     }
 
     @Override
@@ -282,13 +372,38 @@ public class PlaywrightProvider implements HubProvider {
         return getPage(session).screenshot();
     }
 
+    @Override
+    public byte[] takeScreenshot(ProviderSession session, HubScreenshotSpec spec) {
+        return PlaywrightScreenshots.capture(getPage(session), spec);
+    }
+
+    @Override
+    public byte[] takeElementScreenshot(ProviderSession session, HubElementRef element, HubScreenshotSpec spec) {
+        return PlaywrightScreenshots.capture(getLocator(element), spec);
+    }
+
+    /**
+     * Streams frames of a local Chromium over a DevTools connection of its
+     * own, see {@link PlaywrightScreencast}. Only sessions started with
+     * {@link SessionCapabilities#getVideoOptions() video options} can be
+     * recorded.
+     */
+    @Override
+    public HubScreencast startScreencast(ProviderSession session, HubVideoOptions options, Consumer<byte[]> frames) {
+        return PlaywrightScreencast.start(getPage(session), getCtx(session).debuggable, options, frames);
+    }
+
     @Override
     public void setTimeouts(ProviderSession session, long implicitWaitMs, long pageLoadMs) {
         Page page = getPage(session);
-        if (implicitWaitMs > 0)
+        if (implicitWaitMs > 0) {
             page.setDefaultTimeout((double) implicitWaitMs);
-        if (pageLoadMs > 0)
+            getCtx(session).implicitWaitMs = implicitWaitMs;
+        }
+        if (pageLoadMs > 0) {
             page.setDefaultNavigationTimeout((double) pageLoadMs);
+            getCtx(session).pageLoadTimeoutMs = pageLoadMs;
+        }
     }
 
     // ==================== JavaScript Execution ====================
@@ -310,6 +425,31 @@ public class PlaywrightProvider implements HubProvider {
         return executeScript(session, script, args);
     }
 
+    // ==================== State Reset ====================
+
+    /**
+     * {@link HubStateReset#NEW_CONTEXT} replaces the browser context and page
+     * while keeping the browser process, viewport and timeouts.
+     */
+    @Override
+    public void resetState(ProviderSession session, HubStateReset reset) {
+        if (reset != HubStateReset.NEW_CONTEXT) {
+            HubProvider.super.resetState(session, reset);
+            return;
+        }
+        PlaywrightSessionContext ctx = getCtx(session);
+        Browser.NewContextOptions options = new Browser.NewContextOptions();
+        ViewportSize viewport = ctx.page.viewportSize();
+        if (viewport != null) {
+            options.setViewportSize(viewport.width, viewport.height);
+        }
+        BrowserContext old = ctx.context;
+        ctx.context = ctx.browser.newContext(options);
+        ctx.page = ctx.context.newPage();
+        old.close();
+        setTimeouts(session, ctx.implicitWaitMs, ctx.pageLoadTimeoutMs);
+    }
+
     // ==================== Cookie Management ====================
 
     @Override
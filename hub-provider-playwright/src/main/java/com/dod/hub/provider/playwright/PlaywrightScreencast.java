@@ -0,0 +1,86 @@
+package com.dod.hub.provider.playwright;
+
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.provider.CdpScreencast;
+import com.dod.hub.core.provider.HubScreencast;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams screencast frames of a local Chromium page.
+ * <p>
+ * Playwright delivers CDP events only while the test thread is inside one of
+ * its calls, so frames are read over a DevTools connection of their own. The
+ * provider launches recorded sessions with {@code --remote-debugging-port=0};
+ * the port the browser picked is read from the {@code DevToolsActivePort} file
+ * of its profile, and {@link CdpScreencast} connects to the page's own
+ * endpoint, which no other browser serves.
+ */
+final class PlaywrightScreencast {
+
+    private static final String USER_DATA_DIR = "--user-data-dir=";
+
+    private PlaywrightScreencast() {
+    }
+
+    /**
+     * @param debuggable Whether the browser was launched with a DevTools port.
+     */
+    static HubScreencast start(Page page, boolean debuggable, HubVideoOptions options, Consumer<byte[]> frames) {
+        if (!debuggable) {
+            throw new UnsupportedOperationException(
+                    "Screencasts require a local Chromium session started with video options");
+        }
+        CDPSession cdp = page.context().newCDPSession(page);
+        String targetId;
+        try {
+            JsonObject info = cdp.send("Target.getTargetInfo");
+            targetId = info.getAsJsonObject("targetInfo").get("targetId").getAsString();
+        } finally {
+            cdp.detach();
+        }
+        URI endpoint = URI.create("ws://127.0.0.1:" + devToolsPort(page) + "/devtools/page/" + targetId);
+        return CdpScreencast.start(CdpScreencast.connect(endpoint), options, frames);
+    }
+
+    /**
+     * Reads the port from the profile Playwright launched the browser with;
+     * the command line is reported because Playwright enables automation.
+     */
+    private static int devToolsPort(Page page) {
+        CDPSession browserCdp = page.context().browser().newBrowserCDPSession();
+        JsonObject commandLine;
+        try {
+            commandLine = browserCdp.send("Browser.getBrowserCommandLine");
+        } finally {
+            browserCdp.detach();
+        }
+        for (JsonElement argument : commandLine.getAsJsonArray("arguments")) {
+            String value = argument.getAsString();
+            if (value.startsWith(USER_DATA_DIR)) {
+                return readPort(Paths.get(value.substring(USER_DATA_DIR.length())).resolve("DevToolsActivePort"));
+            }
+        }
+        throw new HubException("Browser command line has no profile directory");
+    }
+
+    private static int readPort(Path file) {
+        try {
+            List<String> lines = Files.readAllLines(file);
+            return Integer.parseInt(lines.get(0).trim());
+        } catch (IOException | RuntimeException e) {
+            throw new HubException("Failed to read the DevTools port from " + file, e);
+        }
+    }
+}
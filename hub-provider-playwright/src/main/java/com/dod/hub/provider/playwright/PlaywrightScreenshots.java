@@ -0,0 +1,94 @@
+package com.dod.hub.provider.playwright;
+
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubScreenshotArea;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.provider.ScreenshotTranscoder;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotType;
+
+import java.util.Base64;
+
+/**
+ * Captures screenshots for a {@link HubScreenshotSpec} with Playwright.
+ * <p>
+ * Area, format and JPEG quality map onto Playwright's screenshot options. A
+ * scale factor is applied in the browser through CDP on Chromium and by
+ * re-encoding the capture elsewhere. Shared with the hybrid provider, which
+ * captures through its Playwright page.
+ */
+public final class PlaywrightScreenshots {
+
+    private PlaywrightScreenshots() {
+    }
+
+    public static byte[] capture(Page page, HubScreenshotSpec spec) {
+        if (spec.isScaled() && isChromium(page)) {
+            return captureWithCdp(page, spec);
+        }
+        Page.ScreenshotOptions options = new Page.ScreenshotOptions()
+                .setFullPage(spec.getArea() == HubScreenshotArea.FULL_PAGE)
+                .setType(spec.getFormat() == HubImageFormat.JPEG ? ScreenshotType.JPEG : ScreenshotType.PNG);
+        if (spec.getFormat() == HubImageFormat.JPEG) {
+            options.setQuality(spec.getQuality());
+        }
+        return rescale(page.screenshot(options), spec);
+    }
+
+    public static byte[] capture(Locator locator, HubScreenshotSpec spec) {
+        Locator.ScreenshotOptions options = new Locator.ScreenshotOptions()
+                .setType(spec.getFormat() == HubImageFormat.JPEG ? ScreenshotType.JPEG : ScreenshotType.PNG);
+        if (spec.getFormat() == HubImageFormat.JPEG) {
+            options.setQuality(spec.getQuality());
+        }
+        return rescale(locator.screenshot(options), spec);
+    }
+
+    private static byte[] rescale(byte[] image, HubScreenshotSpec spec) {
+        // The capture is already in the target format; only the size changes
+        return spec.isScaled() ? ScreenshotTranscoder.transcode(image, spec) : image;
+    }
+
+    private static byte[] captureWithCdp(Page page, HubScreenshotSpec spec) {
+        CDPSession cdp = page.context().newCDPSession(page);
+        try {
+            JsonObject metrics = cdp.send("Page.getLayoutMetrics");
+            JsonObject clip = new JsonObject();
+            if (spec.getArea() == HubScreenshotArea.FULL_PAGE) {
+                JsonObject size = metrics.getAsJsonObject("cssContentSize");
+                clip.addProperty("x", 0);
+                clip.addProperty("y", 0);
+                clip.addProperty("width", size.get("width").getAsDouble());
+                clip.addProperty("height", size.get("height").getAsDouble());
+            } else {
+                JsonObject viewport = metrics.getAsJsonObject("cssLayoutViewport");
+                clip.addProperty("x", viewport.get("pageX").getAsDouble());
+                clip.addProperty("y", viewport.get("pageY").getAsDouble());
+                clip.addProperty("width", viewport.get("clientWidth").getAsDouble());
+                clip.addProperty("height", viewport.get("clientHeight").getAsDouble());
+            }
+            clip.addProperty("scale", spec.getScale());
+
+            JsonObject params = new JsonObject();
+            params.addProperty("format", spec.getFormat() == HubImageFormat.JPEG ? "jpeg" : "png");
+            if (spec.getFormat() == HubImageFormat.JPEG) {
+                params.addProperty("quality", spec.getQuality());
+            }
+            params.add("clip", clip);
+            params.addProperty("captureBeyondViewport", true);
+            JsonObject result = cdp.send("Page.captureScreenshot", params);
+            return Base64.getDecoder().decode(result.get("data").getAsString());
+        } finally {
+            cdp.detach();
+        }
+    }
+
+    private static boolean isChromium(Page page) {
+        Browser browser = page.context().browser();
+        return browser != null && "chromium".equals(browser.browserType().name());
+    }
+}
@@ -2,26 +2,45 @@ package com.dod.hub.provider.selenium;
 
 import com.dod.hub.core.locator.HubElementRef;
 import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubPageLoadStrategy;
+import com.dod.hub.core.config.HubScreenshotArea;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.core.config.HubVideoOptions;
 import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.locator.HubSelectors;
 import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.HubScreencast;
 import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.ScreenshotTranscoder;
 import com.dod.hub.core.provider.SessionCapabilities;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.HasFullPageScreenshot;
 import com.dod.hub.core.exception.HubTimeoutException;
 import com.dod.hub.core.exception.HubException;
+import org.openqa.selenium.remote.AbstractDriverOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +49,20 @@ import java.util.stream.Collectors;
  * Supports local and remote execution for various browser types.
  */
 public class SeleniumProvider implements HubProvider {
+
+    /** Readiness timeout when neither the policy nor the session sets one. */
+    private static final Logger log = LoggerFactory.getLogger(SeleniumProvider.class);
+    private static final long DEFAULT_READY_TIMEOUT_MS = 30000;
+    private static final long READY_POLL_INTERVAL_MS = 50;
+    private static final String READ_ALL_SCRIPT = "return (" + HubSelectors.READ_FIRST + ")(("
+            + HubSelectors.QUERY_ALL + ")(arguments[0], arguments[1], arguments[2]),"
+            + " arguments[3], arguments[4], (" + HubSelectors.READ_WEBDRIVER + ")(arguments[5]));";
+
+    /** Page load timeouts passed to {@link #setTimeouts}, by session id; WebDriver cannot report them locally. */
+    private final Map<String, Long> pageLoadTimeouts = new ConcurrentHashMap<>();
+    /** Sessions already warned that a per-call navigation policy was looser than theirs. */
+    private final Set<String> looserPolicyWarnings = ConcurrentHashMap.newKeySet();
+
     @Override
     public String getName() {
         return "selenium";
@@ -46,6 +79,7 @@ public class SeleniumProvider implements HubProvider {
                 FirefoxOptions fOptions = new FirefoxOptions();
                 if (caps.isHeadless())
                     fOptions.addArguments("-headless");
+                applyPageLoadStrategy(fOptions, caps.getNavigationPolicy());
                 applyOptions(fOptions, caps.getOptions());
                 driver = createDriver(caps, fOptions);
                 break;
@@ -54,6 +88,7 @@ public class SeleniumProvider implements HubProvider {
                 ChromeOptions cOptions = new ChromeOptions();
                 if (caps.isHeadless())
                     cOptions.addArguments("--headless=new");
+                applyPageLoadStrategy(cOptions, caps.getNavigationPolicy());
                 applyOptions(cOptions, caps.getOptions());
                 driver = createDriver(caps, cOptions);
                 break;
@@ -62,6 +97,28 @@ public class SeleniumProvider implements HubProvider {
         return new ProviderSession(getName(), caps, driver);
     }
 
+    /**
+     * Maps the session's default navigation policy onto the W3C pageLoadStrategy
+     * capability. Custom readiness conditions use "none" so that the condition,
+     * not the load event, decides when navigation returns.
+     */
+    private void applyPageLoadStrategy(AbstractDriverOptions<?> options, HubNavigationPolicy policy) {
+        if (policy != null) {
+            options.setPageLoadStrategy(toPageLoadStrategy(policy.getStrategy()));
+        }
+    }
+
+    private PageLoadStrategy toPageLoadStrategy(HubPageLoadStrategy strategy) {
+        switch (strategy) {
+            case EAGER:
+                return PageLoadStrategy.EAGER;
+            case NONE:
+                return PageLoadStrategy.NONE;
+            default:
+                return PageLoadStrategy.NORMAL;
+        }
+    }
+
     private void applyOptions(MutableCapabilities options, Map<String, Object> caps) {
         if (caps != null) {
             caps.forEach(options::setCapability);
@@ -88,6 +145,8 @@ public class SeleniumProvider implements HubProvider {
 
     @Override
     public void stop(ProviderSession session) {
+        pageLoadTimeouts.remove(session.getSessionId());
+        looserPolicyWarnings.remove(session.getSessionId());
         WebDriver driver = (WebDriver) session.getRawDriver();
         if (driver != null) {
             driver.quit();
@@ -213,9 +272,106 @@ public class SeleniumProvider implements HubProvider {
         return getElement(element).isSelected();
     }
 
+    /**
+     * Reads all values with one script when the browser can evaluate both
+     * locators, i.e. neither is a link text. Values are read like
+     * {@link #getAttribute} and {@link #getText} read them.
+     */
+    @Override
+    public List<String> readAll(ProviderSession session, HubElementRef scope, HubLocator items, HubLocator child,
+            String attribute) {
+        WebDriver driver = getDriver(session);
+        String itemsKind = HubSelectors.kind(items);
+        String childKind = HubSelectors.kind(child);
+        if (!(driver instanceof JavascriptExecutor) || itemsKind == null || childKind == null) {
+            return HubProvider.super.readAll(session, scope, items, child, attribute);
+        }
+        Object values = ((JavascriptExecutor) driver).executeScript(READ_ALL_SCRIPT,
+                scope == null ? null : getElement(scope), itemsKind, HubSelectors.selector(items),
+                childKind, HubSelectors.selector(child), attribute);
+        return ((List<?>) values).stream()
+                .map(value -> value == null ? null : value.toString())
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void navigate(ProviderSession session, String url) {
-        getDriver(session).get(url);
+        navigate(session, url, sessionPolicy(session));
+    }
+
+    /**
+     * Navigates and waits for the given readiness policy.
+     * <p>
+     * The W3C pageLoadStrategy is fixed when the session starts, so a per-call
+     * policy can only be stricter than the session's: a stricter load state is
+     * awaited by polling {@code document.readyState}, and custom conditions are
+     * polled in-page after {@code get()} returns. A looser policy, including a
+     * custom condition on a session that is not {@code NONE}, still waits for
+     * the session's strategy first; this is logged once per session.
+     */
+    @Override
+    public void navigate(ProviderSession session, String url, HubNavigationPolicy policy) {
+        HubPageLoadStrategy sessionStrategy = sessionPolicy(session).getStrategy();
+        if (policy.getStrategy().ordinal() > sessionStrategy.ordinal()
+                && looserPolicyWarnings.add(session.getSessionId())) {
+            log.warn("Navigation policy {} is looser than the session's page load strategy {}, which Selenium "
+                    + "still waits for; start the session with a looser navigation policy and pass stricter ones "
+                    + "per call instead", policy, sessionStrategy.name().toLowerCase());
+        }
+        WebDriver driver = getDriver(session);
+        driver.get(url);
+
+        if (policy.isCustom()) {
+            awaitReady(session, policy.toReadyExpression(), policy, url);
+            return;
+        }
+
+        if (policy.getStrategy().ordinal() < sessionStrategy.ordinal()) {
+            String expression = policy.getStrategy() == HubPageLoadStrategy.EAGER
+                    ? "document.readyState !== 'loading'"
+                    : "document.readyState === 'complete'";
+            awaitReady(session, expression, policy, url);
+        }
+    }
+
+    private HubNavigationPolicy sessionPolicy(ProviderSession session) {
+        SessionCapabilities caps = session.getCapabilities();
+        return caps != null ? caps.getNavigationPolicy() : HubNavigationPolicy.normal();
+    }
+
+    private void awaitReady(ProviderSession session, String expression, HubNavigationPolicy policy, String url) {
+        WebDriver driver = getDriver(session);
+        if (!(driver instanceof JavascriptExecutor)) {
+            throw new HubException("Cannot wait for page readiness (" + policy + "), the driver does not support "
+                    + "JavaScript execution: " + driver.getClass().getName());
+        }
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        String script = "try { return " + expression + "; } catch (e) { return false; }";
+        long timeoutMs = policy.getTimeoutMs() > 0 ? policy.getTimeoutMs()
+                : pageLoadTimeouts.getOrDefault(session.getSessionId(), DEFAULT_READY_TIMEOUT_MS);
+        long deadline = System.nanoTime() + Duration.ofMillis(timeoutMs).toNanos();
+
+        while (true) {
+            try {
+                if (Boolean.TRUE.equals(js.executeScript(script))) {
+                    return;
+                }
+            } catch (NoSuchSessionException e) {
+                throw new HubException("Session lost while waiting for page readiness: " + url, e);
+            } catch (WebDriverException e) {
+                // The document may be swapped out mid-navigation; treat as not ready yet.
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new HubTimeoutException(
+                        "Page did not become ready (" + policy + ") within " + timeoutMs + " ms: " + url);
+            }
+            try {
+                Thread.sleep(READY_POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HubException("Interrupted while waiting for page readiness: " + url, e);
+            }
+        }
     }
 
     @Override
@@ -253,13 +409,114 @@ public class SeleniumProvider implements HubProvider {
         return ((TakesScreenshot) getDriver(session)).getScreenshotAs(OutputType.BYTES);
     }
 
+    /**
+     * Returns the base64 string of the WebDriver response as is.
+     */
+    @Override
+    public String takeScreenshotBase64(ProviderSession session) {
+        return ((TakesScreenshot) getDriver(session)).getScreenshotAs(OutputType.BASE64);
+    }
+
+    /**
+     * Chromium drivers capture through CDP {@code Page.captureScreenshot}, which
+     * encodes JPEG and scales in the browser. Other drivers capture a PNG
+     * (full page via Firefox's native command) that is converted afterwards.
+     */
+    @Override
+    public byte[] takeScreenshot(ProviderSession session, HubScreenshotSpec spec) {
+        WebDriver driver = getDriver(session);
+        if (driver instanceof HasCdp) {
+            HasCdp cdp = (HasCdp) driver;
+            Map<String, Object> clip = null;
+            if (spec.getArea() == HubScreenshotArea.FULL_PAGE) {
+                Map<String, Object> size = layoutMetric(cdp, "cssContentSize");
+                clip = clip(0, 0, number(size, "width"), number(size, "height"));
+            } else if (spec.isScaled()) {
+                Map<String, Object> viewport = layoutMetric(cdp, "cssLayoutViewport");
+                clip = clip(number(viewport, "pageX"), number(viewport, "pageY"),
+                        number(viewport, "clientWidth"), number(viewport, "clientHeight"));
+            }
+            return captureWithCdp(cdp, spec, clip);
+        }
+
+        byte[] png;
+        if (spec.getArea() == HubScreenshotArea.FULL_PAGE) {
+            if (!(driver instanceof HasFullPageScreenshot)) {
+                throw new UnsupportedOperationException(
+                        "Full-page screenshots require a Chromium or Firefox driver: " + driver.getClass().getName());
+            }
+            png = ((HasFullPageScreenshot) driver).getFullPageScreenshotAs(OutputType.BYTES);
+        } else {
+            png = takeScreenshot(session);
+        }
+        return ScreenshotTranscoder.transcode(png, spec);
+    }
+
+    @Override
+    public byte[] takeElementScreenshot(ProviderSession session, HubElementRef element, HubScreenshotSpec spec) {
+        WebDriver driver = getDriver(session);
+        WebElement el = getElement(element);
+        if (driver instanceof HasCdp) {
+            // W3C element rects are relative to the document, as CDP clips are
+            Rectangle rect = el.getRect();
+            return captureWithCdp((HasCdp) driver, spec,
+                    clip(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight()));
+        }
+        return ScreenshotTranscoder.transcode(el.getScreenshotAs(OutputType.BYTES), spec);
+    }
+
+    private byte[] captureWithCdp(HasCdp cdp, HubScreenshotSpec spec, Map<String, Object> clip) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", spec.getFormat() == HubImageFormat.JPEG ? "jpeg" : "png");
+        if (spec.getFormat() == HubImageFormat.JPEG) {
+            params.put("quality", spec.getQuality());
+        }
+        if (clip != null) {
+            clip.put("scale", spec.getScale());
+            params.put("clip", clip);
+            params.put("captureBeyondViewport", true);
+        }
+        Map<String, Object> result = cdp.executeCdpCommand("Page.captureScreenshot", params);
+        return Base64.getDecoder().decode((String) result.get("data"));
+    }
+
+    /**
+     * Streams frames through a DevTools session of a Chromium driver, see
+     * {@link SeleniumScreencast}.
+     */
+    @Override
+    public HubScreencast startScreencast(ProviderSession session, HubVideoOptions options, Consumer<byte[]> frames) {
+        return SeleniumScreencast.start(getDriver(session), options, frames);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> layoutMetric(HasCdp cdp, String name) {
+        Map<String, Object> metrics = cdp.executeCdpCommand("Page.getLayoutMetrics", Collections.emptyMap());
+        return (Map<String, Object>) metrics.get(name);
+    }
+
+    private static double number(Map<String, Object> map, String key) {
+        return ((Number) map.get(key)).doubleValue();
+    }
+
+    private static Map<String, Object> clip(double x, double y, double width, double height) {
+        Map<String, Object> clip = new HashMap<>();
+        clip.put("x", x);
+        clip.put("y", y);
+        clip.put("width", width);
+        clip.put("height", height);
+        return clip;
+    }
+
     @Override
     public void setTimeouts(ProviderSession session, long implicitWaitMs, long pageLoadMs) {
         WebDriver.Options manage = getDriver(session).manage();
         if (implicitWaitMs > 0)
             manage.timeouts().implicitlyWait(Duration.ofMillis(implicitWaitMs));
-        if (pageLoadMs > 0)
+        if (pageLoadMs > 0) {
             manage.timeouts().pageLoadTimeout(Duration.ofMillis(pageLoadMs));
+            pageLoadTimeouts.put(session.getSessionId(), pageLoadMs);
+        }
     }
 
     // ==================== JavaScript Execution ====================
@@ -338,6 +595,50 @@ public class SeleniumProvider implements HubProvider {
         return map;
     }
 
+    // ==================== State Reset ====================
+
+    /**
+     * WebDriver has no isolated contexts, so {@link HubStateReset#NEW_CONTEXT}
+     * closes extra windows and, on Chromium, clears cookies of every domain and
+     * all storage of the current origin through CDP before loading
+     * {@code about:blank}.
+     */
+    @Override
+    public void resetState(ProviderSession session, HubStateReset reset) {
+        WebDriver driver = getDriver(session);
+        if (reset != HubStateReset.NEW_CONTEXT || !(driver instanceof HasCdp)) {
+            HubProvider.super.resetState(session, reset);
+            return;
+        }
+        String current = driver.getWindowHandle();
+        for (String handle : driver.getWindowHandles()) {
+            if (!handle.equals(current)) {
+                driver.switchTo().window(handle).close();
+            }
+        }
+        driver.switchTo().window(current);
+
+        HasCdp cdp = (HasCdp) driver;
+        cdp.executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        String origin = origin(driver.getCurrentUrl());
+        if (origin != null) {
+            cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+        }
+        driver.get("about:blank");
+    }
+
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // ==================== Window Management ====================
 
     @Override
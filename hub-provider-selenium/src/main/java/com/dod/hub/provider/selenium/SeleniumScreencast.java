@@ -0,0 +1,69 @@
+package com.dod.hub.provider.selenium;
+
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.provider.CdpScreencast;
+import com.dod.hub.core.provider.HubScreencast;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams screencast frames of a Chromium driver through its DevTools
+ * session, whose events arrive on Selenium's connection threads. Shared with
+ * the hybrid provider, which records through its WebDriver connection.
+ */
+public final class SeleniumScreencast {
+
+    private SeleniumScreencast() {
+    }
+
+    /**
+     * @param driver A Chromium driver; remote drivers are augmented with the
+     *               DevTools connection their grid advertises.
+     */
+    public static HubScreencast start(WebDriver driver, HubVideoOptions options, Consumer<byte[]> frames) {
+        if (driver instanceof RemoteWebDriver && !(driver instanceof HasDevTools)) {
+            driver = new Augmenter().augment(driver);
+        }
+        if (!(driver instanceof HasCdp) || !(driver instanceof HasDevTools)) {
+            throw new UnsupportedOperationException(
+                    "Screencasts require a Chromium driver: " + driver.getClass().getName());
+        }
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        return CdpScreencast.start(new DevToolsChannel(devTools), options, frames);
+    }
+
+    private static final class DevToolsChannel implements CdpScreencast.Channel {
+
+        private final DevTools devTools;
+
+        DevToolsChannel(DevTools devTools) {
+            this.devTools = devTools;
+        }
+
+        @Override
+        public void send(String method, Map<String, Object> params) {
+            devTools.send(new Command<>(method, params));
+        }
+
+        @Override
+        public void addListener(String event, Consumer<Map<String, Object>> listener) {
+            devTools.addListener(new Event<>(event, input -> input.read(Json.MAP_TYPE)), listener);
+        }
+
+        @Override
+        public void close() {
+            devTools.clearListeners();
+        }
+    }
+}
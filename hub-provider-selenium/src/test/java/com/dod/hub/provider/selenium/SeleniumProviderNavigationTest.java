@@ -0,0 +1,44 @@
+package com.dod.hub.provider.selenium;
+
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.exception.HubTimeoutException;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+class SeleniumProviderNavigationTest {
+
+    @Test
+    @DisplayName("Custom readiness without a timeout should wait up to the session's page load timeout")
+    void readinessUsesPageLoadTimeout() {
+        SeleniumProvider provider = new SeleniumProvider();
+        RemoteWebDriver driver = mock(RemoteWebDriver.class, RETURNS_DEEP_STUBS);
+        ProviderSession session = new ProviderSession("selenium", new SessionCapabilities(), driver);
+        provider.setTimeouts(session, 0, 200);
+
+        assertThatThrownBy(() -> provider.navigate(session, "http://localhost/app",
+                HubNavigationPolicy.whenScript("window.appReady === true")))
+                .isInstanceOf(HubTimeoutException.class)
+                .hasMessageContaining("within 200 ms");
+    }
+
+    @Test
+    @DisplayName("Custom readiness on a driver without JavaScript should fail with a HubException")
+    void readinessWithoutJavaScriptFails() {
+        SeleniumProvider provider = new SeleniumProvider();
+        ProviderSession session = new ProviderSession("selenium", new SessionCapabilities(), mock(WebDriver.class));
+
+        assertThatThrownBy(() -> provider.navigate(session, "http://localhost/app",
+                HubNavigationPolicy.whenSelector("#app")))
+                .isInstanceOf(HubException.class)
+                .hasMessageContaining("JavaScript");
+    }
+}
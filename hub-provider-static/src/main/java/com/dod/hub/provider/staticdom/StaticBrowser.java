@@ -0,0 +1,273 @@
+package com.dod.hub.provider.staticdom;
+
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.exception.HubTimeoutException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.CookieStore;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * The state of one static DOM session: the parsed document, the URLs visited
+ * before and after it, and the cookies exchanged with HTTP servers.
+ * <p>
+ * Documents are loaded from {@code http(s):}, {@code file:} and
+ * {@code data:} URLs. Back, forward and refresh load their URL again with a
+ * GET, also when it was the result of a POST.
+ */
+final class StaticBrowser {
+
+    static final String BLANK = "about:blank";
+
+    private final CookieManager cookies = new CookieManager(null, CookiePolicy.ACCEPT_ALL);
+    private final Deque<String> back = new ArrayDeque<>();
+    private final Deque<String> forward = new ArrayDeque<>();
+    private HttpClient http;
+    private Document document = Document.createShell(BLANK);
+    private String url = BLANK;
+    private long pageLoadTimeoutMs;
+
+    synchronized Document document() {
+        return document;
+    }
+
+    synchronized String url() {
+        return url;
+    }
+
+    CookieStore cookieStore() {
+        return cookies.getCookieStore();
+    }
+
+    synchronized void setPageLoadTimeout(long pageLoadTimeoutMs) {
+        this.pageLoadTimeoutMs = pageLoadTimeoutMs;
+    }
+
+    /**
+     * Loads a URL, absolute or relative to the current one, as a new history
+     * entry.
+     */
+    synchronized void open(String target) {
+        show(load(target, "GET", null));
+    }
+
+    /**
+     * Submits form data, URL-encoded, to {@code action}.
+     */
+    synchronized void submit(String method, String action, String data) {
+        URI uri = resolve(action);
+        if ("POST".equals(method) && isHttp(uri)) {
+            show(loadHttp(uri, method, data));
+            return;
+        }
+        // Browsers send GET data in the query; other schemes have no request body
+        String base = uri.toString();
+        int query = base.indexOf('?');
+        int fragment = base.indexOf('#');
+        int end = query >= 0 ? query : fragment >= 0 ? fragment : base.length();
+        show(load(base.substring(0, end) + (data.isEmpty() ? "" : "?" + data), "GET", null));
+    }
+
+    synchronized void back() {
+        if (!back.isEmpty()) {
+            forward.push(url);
+            replace(load(back.pop(), "GET", null));
+        }
+    }
+
+    synchronized void forward() {
+        if (!forward.isEmpty()) {
+            back.push(url);
+            replace(load(forward.pop(), "GET", null));
+        }
+    }
+
+    synchronized void refresh() {
+        replace(load(url, "GET", null));
+    }
+
+    private void show(Document loaded) {
+        back.push(url);
+        forward.clear();
+        replace(loaded);
+    }
+
+    private void replace(Document loaded) {
+        document = loaded;
+        url = loaded.location();
+    }
+
+    private URI resolve(String target) {
+        URI uri;
+        try {
+            uri = URI.create(target.trim());
+        } catch (IllegalArgumentException e) {
+            throw new HubException("Invalid URL: " + target, e);
+        }
+        if (uri.isAbsolute()) {
+            return uri;
+        }
+        if (BLANK.equals(url) || isData(url)) {
+            throw new HubException("Cannot resolve " + target + " against " + (isData(url) ? "a data URL" : url));
+        }
+        return URI.create(url).resolve(uri);
+    }
+
+    private Document load(String target, String method, String data) {
+        // Data URLs are taken as they are: browsers accept characters that URIs do not
+        if (isData(target)) {
+            return loadData(target);
+        }
+        URI uri = resolve(target);
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        switch (scheme) {
+            case "about":
+                if (!BLANK.equals(uri.toString())) {
+                    throw new HubException("Unsupported URL: " + uri);
+                }
+                return Document.createShell(BLANK);
+            case "file":
+                try {
+                    return parse(Files.readAllBytes(Path.of(uri)), null, null, uri.toString());
+                } catch (IOException | IllegalArgumentException e) {
+                    throw new HubException("Cannot read " + uri, e);
+                }
+            case "http":
+            case "https":
+                return loadHttp(uri, method, data);
+            default:
+                throw new HubException("Unsupported URL scheme: " + uri);
+        }
+    }
+
+    private Document loadHttp(URI uri, String method, String data) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri);
+        if (pageLoadTimeoutMs > 0) {
+            request.timeout(Duration.ofMillis(pageLoadTimeoutMs));
+        }
+        if ("POST".equals(method)) {
+            request.header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(data));
+        }
+        HttpResponse<byte[]> response;
+        try {
+            response = http().send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (HttpTimeoutException e) {
+            throw new HubTimeoutException("Timed out loading " + uri, e);
+        } catch (IOException e) {
+            throw new HubException("Cannot load " + uri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new HubException("Interrupted while loading " + uri, e);
+        }
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        return parse(response.body(), contentType, charset(contentType), response.uri().toString());
+    }
+
+    private HttpClient http() {
+        if (http == null) {
+            http = HttpClient.newBuilder()
+                    .cookieHandler(cookies)
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+        }
+        return http;
+    }
+
+    private static Document loadData(String url) {
+        String spec = url.substring("data:".length());
+        int comma = spec.indexOf(',');
+        if (comma < 0) {
+            throw new HubException("Invalid data URL: " + url);
+        }
+        String meta = spec.substring(0, comma);
+        String payload = spec.substring(comma + 1);
+        byte[] body;
+        try {
+            body = meta.endsWith(";base64") ? Base64.getDecoder().decode(payload) : percentDecode(payload);
+        } catch (IllegalArgumentException e) {
+            throw new HubException("Invalid data URL: " + url, e);
+        }
+        String contentType = meta.replace(";base64", "");
+        String charset = charset(contentType);
+        return parse(body, contentType, charset != null ? charset : "UTF-8", url);
+    }
+
+    /**
+     * Decodes {@code %XX} escapes like a browser does in data URLs: a
+     * {@code +} stays a plus sign and a {@code %} without two hex digits
+     * stays as it is.
+     */
+    private static byte[] percentDecode(String payload) {
+        byte[] raw = payload.getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream(raw.length);
+        for (int i = 0; i < raw.length; i++) {
+            int high = i + 2 < raw.length ? Character.digit(raw[i + 1], 16) : -1;
+            int low = i + 2 < raw.length ? Character.digit(raw[i + 2], 16) : -1;
+            if (raw[i] == '%' && high >= 0 && low >= 0) {
+                decoded.write(high << 4 | low);
+                i += 2;
+            } else {
+                decoded.write(raw[i]);
+            }
+        }
+        return decoded.toByteArray();
+    }
+
+    private static Document parse(byte[] body, String contentType, String charset, String location) {
+        String type = contentType == null ? "" : contentType.toLowerCase(Locale.ROOT);
+        if (!type.isEmpty() && !type.contains("html") && !type.contains("xml")) {
+            // Browsers show other text as a preformatted document
+            Document text = Document.createShell(location);
+            text.body().appendElement("pre").text(new String(body,
+                    charset != null ? Charset.forName(charset) : StandardCharsets.UTF_8));
+            return text;
+        }
+        try {
+            return Jsoup.parse(new ByteArrayInputStream(body), charset, location);
+        } catch (IOException e) {
+            throw new HubException("Cannot parse " + location, e);
+        }
+    }
+
+    private static String charset(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                return trimmed.substring("charset=".length()).replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private static boolean isData(String url) {
+        return url.regionMatches(true, 0, "data:", 0, 5);
+    }
+
+    private static boolean isHttp(URI uri) {
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        return scheme.equals("http") || scheme.equals("https");
+    }
+}
@@ -0,0 +1,672 @@
+package com.dod.hub.provider.staticdom;
+
+import com.dod.hub.core.locator.HubElementRef;
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.locator.HubSelectors;
+import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+import org.jsoup.Connection;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.FormElement;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Selector;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.InvalidElementStateException;
+import org.openqa.selenium.InvalidSelectorException;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Provides an implementation of the {@link HubProvider} over an HTML document
+ * parsed with jsoup, without a browser.
+ * <p>
+ * Meant for page-object tests that check locators, text and attributes of
+ * server-rendered pages: a session starts in microseconds and a lookup is a
+ * tree search. All locator strategies Selenium supports are available, and
+ * clicks follow links, toggle checkboxes and radio buttons, select options
+ * and submit forms; typing edits the values that forms submit. Scripts are
+ * not run and style sheets are not applied, so {@code isDisplayed} only sees
+ * the {@code hidden} attribute, hidden inputs and inline {@code display} and
+ * {@code visibility} styles, and screenshots are not supported.
+ * <p>
+ * Failures are reported with Selenium's exceptions: a missing element with
+ * {@link NoSuchElementException} and an element of a page that was navigated
+ * away from with {@link StaleElementReferenceException}.
+ */
+public class StaticDomProvider implements HubProvider {
+
+    private static final Pattern WHITESPACE = Pattern.compile("[ \\t\\r\\f\\u000B\\u00A0]+");
+    private static final Set<String> HIDDEN_TAGS = Set.of("head", "script", "style", "template", "noscript",
+            "title", "meta", "link", "base");
+    private static final Set<String> FORM_CONTROLS = Set.of("button", "input", "select", "textarea", "option",
+            "optgroup", "fieldset");
+    private static final Set<String> BOOLEAN_ATTRIBUTES = Set.of("async", "autofocus", "autoplay", "checked",
+            "defer", "disabled", "hidden", "multiple", "novalidate", "open", "readonly", "required", "selected");
+    private static final Set<String> TEXT_INPUTS = Set.of("", "text", "email", "password", "search", "tel", "url",
+            "number", "date", "datetime-local", "month", "time", "week", "color", "range", "file");
+    /** Enter as sent by {@code Keys.ENTER} and {@code Keys.RETURN}. */
+    private static final Pattern ENTER = Pattern.compile("[\\n\\uE006\\uE007]");
+
+    @Override
+    public String getName() {
+        return "static";
+    }
+
+    @Override
+    public ProviderSession start(SessionCapabilities caps) {
+        return new ProviderSession(getName(), caps, new StaticBrowser());
+    }
+
+    @Override
+    public void stop(ProviderSession session) {
+        // Nothing to release: the document and its history are garbage collected with the session
+    }
+
+    private static StaticBrowser browser(ProviderSession session) {
+        return (StaticBrowser) session.getRawDriver();
+    }
+
+    private static Element element(ProviderSession session, HubElementRef ref) {
+        Element element = (Element) ref.getProviderHandle();
+        if (element.ownerDocument() != browser(session).document()) {
+            throw new StaleElementReferenceException("Element of a previous page: " + ref.getLocator());
+        }
+        return element;
+    }
+
+    // ==================== Lookup ====================
+
+    @Override
+    public HubElementRef find(ProviderSession session, HubLocator locator) {
+        return first(select(browser(session).document(), locator), locator);
+    }
+
+    @Override
+    public List<HubElementRef> findAll(ProviderSession session, HubLocator locator) {
+        return refs(select(browser(session).document(), locator), locator);
+    }
+
+    @Override
+    public HubElementRef find(ProviderSession session, HubElementRef parent, HubLocator locator) {
+        return first(select(element(session, parent), locator), locator);
+    }
+
+    @Override
+    public List<HubElementRef> findAll(ProviderSession session, HubElementRef parent, HubLocator locator) {
+        return refs(select(element(session, parent), locator), locator);
+    }
+
+    private static HubElementRef first(List<Element> elements, HubLocator locator) {
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException("Unable to locate element: " + locator);
+        }
+        return new HubElementRef(locator, elements.get(0));
+    }
+
+    private static List<HubElementRef> refs(List<Element> elements, HubLocator locator) {
+        List<HubElementRef> refs = new ArrayList<>(elements.size());
+        for (Element element : elements) {
+            refs.add(new HubElementRef(locator, element));
+        }
+        return refs;
+    }
+
+    /**
+     * Returns the elements below {@code scope} matching the locator, in
+     * document order. Like a browser, the scope itself is not a match.
+     */
+    private static List<Element> select(Element scope, HubLocator locator) {
+        String value = locator.getValue();
+        List<Element> found;
+        try {
+            switch (locator.getStrategy()) {
+                case XPATH:
+                    found = scope.selectXpath(value);
+                    break;
+                case LINK_TEXT:
+                    found = links(scope, text -> text.equals(value.trim()));
+                    break;
+                case PARTIAL_LINK_TEXT:
+                    found = links(scope, text -> text.contains(value));
+                    break;
+                default:
+                    String css = HubSelectors.toCss(locator);
+                    if (css == null) {
+                        throw new IllegalArgumentException("Unsupported Locator for the static provider: "
+                                + locator.getStrategy());
+                    }
+                    found = scope.select(css);
+                    break;
+            }
+        } catch (Selector.SelectorParseException e) {
+            throw new InvalidSelectorException("Invalid selector " + locator + ": " + e.getMessage(), e);
+        }
+        if (!found.isEmpty() && found.get(0) == scope) {
+            found = found.subList(1, found.size());
+        }
+        return found;
+    }
+
+    private static List<Element> links(Element scope, Predicate<String> text) {
+        List<Element> links = new ArrayList<>();
+        for (Element link : scope.select("a")) {
+            if (link != scope && text.test(visibleText(link))) {
+                links.add(link);
+            }
+        }
+        return links;
+    }
+
+    // ==================== Interaction ====================
+
+    @Override
+    public void click(ProviderSession session, HubElementRef ref) {
+        Element element = element(session, ref);
+        if (!isDisplayed(element)) {
+            throw new ElementNotInteractableException("Element is not displayed: " + ref.getLocator());
+        }
+        click(browser(session), element);
+    }
+
+    private static void click(StaticBrowser browser, Element element) {
+        if (!isEnabled(element)) {
+            // Disabled controls ignore clicks
+            return;
+        }
+        String type = element.attr("type").toLowerCase(Locale.ROOT);
+        switch (element.normalName()) {
+            case "a":
+                String href = element.attr("href").trim();
+                if (element.hasAttr("href") && !href.startsWith("#") && !href.startsWith("javascript:")) {
+                    String absolute = element.absUrl("href");
+                    browser.open(absolute.isEmpty() ? href : absolute);
+                }
+                break;
+            case "input":
+                if (type.equals("checkbox")) {
+                    setFlag(element, "checked", !element.hasAttr("checked"));
+                } else if (type.equals("radio")) {
+                    checkRadio(element);
+                } else if (type.equals("submit") || type.equals("image")) {
+                    submit(browser, element);
+                }
+                break;
+            case "button":
+                if (type.isEmpty() || type.equals("submit")) {
+                    submit(browser, element);
+                }
+                break;
+            case "option":
+                selectOption(element);
+                break;
+            case "label":
+                Element control = labeledControl(element);
+                if (control != null) {
+                    click(browser, control);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void type(ProviderSession session, HubElementRef ref, String text) {
+        Element element = editable(session, ref);
+        StaticBrowser browser = browser(session);
+        synchronized (browser) {
+            element.val(element.val() + ENTER.matcher(text).replaceAll(""));
+        }
+        if (ENTER.matcher(text).find() && !element.normalName().equals("textarea")) {
+            // Enter in a field submits its form
+            submit(browser, element);
+        }
+    }
+
+    @Override
+    public void clear(ProviderSession session, HubElementRef ref) {
+        Element element = editable(session, ref);
+        synchronized (browser(session)) {
+            element.val("");
+        }
+    }
+
+    private static Element editable(ProviderSession session, HubElementRef ref) {
+        Element element = element(session, ref);
+        String tag = element.normalName();
+        boolean field = tag.equals("textarea")
+                || tag.equals("input") && TEXT_INPUTS.contains(element.attr("type").toLowerCase(Locale.ROOT));
+        if (!field || !isDisplayed(element)) {
+            throw new ElementNotInteractableException("Element is not editable: " + ref.getLocator());
+        }
+        if (!isEnabled(element) || element.hasAttr("readonly")) {
+            throw new InvalidElementStateException("Element is disabled or read-only: " + ref.getLocator());
+        }
+        return element;
+    }
+
+    private static void setFlag(Element element, String attribute, boolean on) {
+        if (on) {
+            element.attr(attribute, true);
+        } else {
+            element.removeAttr(attribute);
+        }
+    }
+
+    private static void checkRadio(Element radio) {
+        String name = radio.attr("name");
+        if (!name.isEmpty()) {
+            FormElement form = form(radio);
+            Element scope = form != null ? form : radio.ownerDocument();
+            for (Element other : scope.select("input[type=radio]")) {
+                if (other.attr("name").equals(name) && form(other) == form) {
+                    other.removeAttr("checked");
+                }
+            }
+        }
+        radio.attr("checked", true);
+    }
+
+    private static void selectOption(Element option) {
+        Element select = option.closest("select");
+        if (select != null && select.hasAttr("multiple")) {
+            setFlag(option, "selected", !option.hasAttr("selected"));
+            return;
+        }
+        if (select != null) {
+            for (Element other : select.select("option")) {
+                other.removeAttr("selected");
+            }
+        }
+        option.attr("selected", true);
+    }
+
+    private static Element labeledControl(Element label) {
+        String id = label.attr("for");
+        if (!id.isEmpty()) {
+            return label.ownerDocument().getElementById(id);
+        }
+        return label.selectFirst("input, select, textarea, button");
+    }
+
+    private static FormElement form(Element element) {
+        String id = element.attr("form");
+        Element form = id.isEmpty() ? element.closest("form") : element.ownerDocument().getElementById(id);
+        return form instanceof FormElement ? (FormElement) form : null;
+    }
+
+    /**
+     * Submits the form of {@code submitter} with its current values, as
+     * {@code application/x-www-form-urlencoded}.
+     */
+    private static void submit(StaticBrowser browser, Element submitter) {
+        FormElement form = form(submitter);
+        if (form == null) {
+            return;
+        }
+        StringBuilder data = new StringBuilder();
+        for (Connection.KeyVal field : form.formData()) {
+            append(data, field.key(), field.value());
+        }
+        boolean button = submitter.normalName().equals("button") || submitter.normalName().equals("input")
+                && !TEXT_INPUTS.contains(submitter.attr("type").toLowerCase(Locale.ROOT));
+        if (button && submitter.hasAttr("name")) {
+            append(data, submitter.attr("name"), submitter.attr("value"));
+        }
+        String formAction = submitter.hasAttr("formaction") ? submitter.absUrl("formaction") : form.absUrl("action");
+        String action = formAction.isEmpty() ? browser.url() : formAction;
+        String method = submitter.hasAttr("formmethod") ? submitter.attr("formmethod") : form.attr("method");
+        browser.submit(method.equalsIgnoreCase("post") ? "POST" : "GET", action, data.toString());
+    }
+
+    private static void append(StringBuilder data, String key, String value) {
+        if (data.length() > 0) {
+            data.append('&');
+        }
+        data.append(URLEncoder.encode(key, StandardCharsets.UTF_8)).append('=')
+                .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+    }
+
+    // ==================== State ====================
+
+    @Override
+    public String getText(ProviderSession session, HubElementRef ref) {
+        Element element = element(session, ref);
+        return isDisplayed(element) ? visibleText(element) : "";
+    }
+
+    /**
+     * Returns the value of a property for the names Selenium reads as
+     * properties ({@code value}, {@code checked}, {@code href}, ...), and the
+     * attribute otherwise.
+     */
+    @Override
+    public String getAttribute(ProviderSession session, HubElementRef ref, String attributeName) {
+        Element element = element(session, ref);
+        String name = attributeName.toLowerCase(Locale.ROOT);
+        String tag = element.normalName();
+        switch (name) {
+            case "value":
+                return value(element);
+            case "checked":
+            case "selected":
+                if (tag.equals("input") || tag.equals("option")) {
+                    return isSelected(element) ? "true" : null;
+                }
+                break;
+            case "href":
+            case "src":
+                if (element.hasAttr(name)) {
+                    String absolute = element.absUrl(name);
+                    return absolute.isEmpty() ? element.attr(name) : absolute;
+                }
+                return null;
+            case "tagname":
+                // The DOM property: upper case for HTML documents
+                return tag.toUpperCase(Locale.ROOT);
+            case "textcontent":
+                return element.wholeText();
+            case "innertext":
+                return visibleText(element);
+            case "innerhtml":
+                return element.html();
+            case "outerhtml":
+                return element.outerHtml();
+            default:
+                break;
+        }
+        if (BOOLEAN_ATTRIBUTES.contains(name)) {
+            return element.hasAttr(name) ? "true" : null;
+        }
+        return element.hasAttr(name) ? element.attr(name) : null;
+    }
+
+    private static String value(Element element) {
+        switch (element.normalName()) {
+            case "textarea":
+                return element.val();
+            case "select":
+                for (Element option : element.select("option")) {
+                    if (isSelected(option)) {
+                        return value(option);
+                    }
+                }
+                return "";
+            case "option":
+                return element.hasAttr("value") ? element.attr("value") : visibleText(element);
+            case "input":
+                String type = element.attr("type").toLowerCase(Locale.ROOT);
+                if (!element.hasAttr("value") && (type.equals("checkbox") || type.equals("radio"))) {
+                    return "on";
+                }
+                return element.attr("value");
+            default:
+                return element.hasAttr("value") ? element.attr("value") : null;
+        }
+    }
+
+    @Override
+    public boolean isDisplayed(ProviderSession session, HubElementRef ref) {
+        return isDisplayed(element(session, ref));
+    }
+
+    @Override
+    public boolean isEnabled(ProviderSession session, HubElementRef ref) {
+        return isEnabled(element(session, ref));
+    }
+
+    @Override
+    public boolean isSelected(ProviderSession session, HubElementRef ref) {
+        return isSelected(element(session, ref));
+    }
+
+    private static boolean isDisplayed(Element element) {
+        for (Element e = element; e != null; e = e.parent()) {
+            if (isHidden(e)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the element hides itself and its content, judging by its tag
+     * and attributes only.
+     */
+    private static boolean isHidden(Element element) {
+        if (element.hasAttr("hidden") || HIDDEN_TAGS.contains(element.normalName())) {
+            return true;
+        }
+        if (element.normalName().equals("input") && element.attr("type").equalsIgnoreCase("hidden")) {
+            return true;
+        }
+        String style = element.attr("style");
+        if (style.isEmpty()) {
+            return false;
+        }
+        String compact = style.replaceAll("\\s", "").toLowerCase(Locale.ROOT);
+        return compact.contains("display:none") || compact.contains("visibility:hidden");
+    }
+
+    private static boolean isEnabled(Element element) {
+        String tag = element.normalName();
+        if (!FORM_CONTROLS.contains(tag)) {
+            return true;
+        }
+        if (element.hasAttr("disabled")) {
+            return false;
+        }
+        for (Element parent = element.parent(); parent != null; parent = parent.parent()) {
+            String parentTag = parent.normalName();
+            if (parent.hasAttr("disabled") && (parentTag.equals("fieldset")
+                    || tag.equals("option") && (parentTag.equals("select") || parentTag.equals("optgroup")))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSelected(Element element) {
+        switch (element.normalName()) {
+            case "input":
+                String type = element.attr("type").toLowerCase(Locale.ROOT);
+                return (type.equals("checkbox") || type.equals("radio")) && element.hasAttr("checked");
+            case "option":
+                if (element.hasAttr("selected")) {
+                    return true;
+                }
+                // A single select without a selected option shows its first one
+                Element select = element.closest("select");
+                return select != null && !select.hasAttr("multiple") && select.selectFirst("option[selected]") == null
+                        && select.selectFirst("option") == element;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the text of the element as a browser renders it: hidden
+     * descendants left out, whitespace collapsed, blocks and line breaks on
+     * lines of their own and table cells separated by a space.
+     */
+    private static String visibleText(Element element) {
+        StringBuilder raw = new StringBuilder();
+        appendVisibleText(element, raw);
+        StringBuilder text = new StringBuilder();
+        for (String line : raw.toString().split("\n")) {
+            String collapsed = WHITESPACE.matcher(line).replaceAll(" ").trim();
+            if (!collapsed.isEmpty()) {
+                if (text.length() > 0) {
+                    text.append('\n');
+                }
+                text.append(collapsed);
+            }
+        }
+        return text.toString();
+    }
+
+    private static void appendVisibleText(Element element, StringBuilder text) {
+        for (Node child : element.childNodes()) {
+            if (child instanceof TextNode) {
+                text.append(((TextNode) child).getWholeText().replace('\n', ' '));
+            } else if (child instanceof Element) {
+                Element e = (Element) child;
+                if (isHidden(e)) {
+                    continue;
+                }
+                String tag = e.normalName();
+                if (tag.equals("br")) {
+                    text.append('\n');
+                    continue;
+                }
+                boolean cell = tag.equals("td") || tag.equals("th");
+                boolean block = !cell && e.isBlock();
+                if (block) {
+                    text.append('\n');
+                }
+                appendVisibleText(e, text);
+                text.append(block ? "\n" : cell ? " " : "");
+            }
+        }
+    }
+
+    // ==================== Navigation ====================
+
+    @Override
+    public void navigate(ProviderSession session, String url) {
+        browser(session).open(url);
+    }
+
+    @Override
+    public void back(ProviderSession session) {
+        browser(session).back();
+    }
+
+    @Override
+    public void forward(ProviderSession session) {
+        browser(session).forward();
+    }
+
+    @Override
+    public void refresh(ProviderSession session) {
+        browser(session).refresh();
+    }
+
+    @Override
+    public String getTitle(ProviderSession session) {
+        return browser(session).document().title();
+    }
+
+    @Override
+    public String getCurrentUrl(ProviderSession session) {
+        return browser(session).url();
+    }
+
+    @Override
+    public String getPageSource(ProviderSession session) {
+        Document document = browser(session).document();
+        return document.outerHtml();
+    }
+
+    @Override
+    public byte[] takeScreenshot(ProviderSession session) {
+        throw new UnsupportedOperationException("Screenshots are not supported by the static provider:"
+                + " it does not render pages.");
+    }
+
+    @Override
+    public void setTimeouts(ProviderSession session, long implicitWaitMs, long pageLoadMs) {
+        // Parsed documents do not change, so there is nothing to wait for besides loading
+        browser(session).setPageLoadTimeout(pageLoadMs);
+    }
+
+    // ==================== Cookie Management ====================
+
+    @Override
+    public void addCookie(ProviderSession session, String name, String value, String domain, String path) {
+        StaticBrowser browser = browser(session);
+        URI page = currentUri(browser);
+        HttpCookie cookie = new HttpCookie(name, value);
+        cookie.setDomain(domain != null ? domain : page != null ? page.getHost() : null);
+        cookie.setPath(path != null ? path : "/");
+        cookie.setVersion(0);
+        browser.cookieStore().add(page, cookie);
+    }
+
+    @Override
+    public void deleteCookie(ProviderSession session, String name) {
+        StaticBrowser browser = browser(session);
+        for (HttpCookie cookie : browser.cookieStore().getCookies()) {
+            if (cookie.getName().equals(name)) {
+                removeCookie(browser, cookie);
+            }
+        }
+    }
+
+    @Override
+    public void deleteAllCookies(ProviderSession session) {
+        browser(session).cookieStore().removeAll();
+    }
+
+    @Override
+    public Set<Map<String, Object>> getCookies(ProviderSession session) {
+        Set<Map<String, Object>> result = new HashSet<>();
+        for (HttpCookie cookie : browser(session).cookieStore().getCookies()) {
+            result.add(toMap(cookie));
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, Object> getCookie(ProviderSession session, String name) {
+        for (HttpCookie cookie : browser(session).cookieStore().getCookies()) {
+            if (cookie.getName().equals(name)) {
+                return toMap(cookie);
+            }
+        }
+        return null;
+    }
+
+    private static void removeCookie(StaticBrowser browser, HttpCookie cookie) {
+        // The store keys cookies by the URI they were added with; removing with null matches any
+        if (!browser.cookieStore().remove(null, cookie)) {
+            for (URI uri : browser.cookieStore().getURIs()) {
+                browser.cookieStore().remove(uri, cookie);
+            }
+        }
+    }
+
+    private static URI currentUri(StaticBrowser browser) {
+        String url = browser.url();
+        return url.startsWith("http://") || url.startsWith("https://") ? URI.create(url) : null;
+    }
+
+    private static Map<String, Object> toMap(HttpCookie cookie) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("name", cookie.getName());
+        map.put("value", cookie.getValue());
+        map.put("domain", cookie.getDomain());
+        map.put("path", cookie.getPath());
+        map.put("expiry", null);
+        map.put("secure", cookie.getSecure());
+        map.put("httpOnly", cookie.isHttpOnly());
+        return map;
+    }
+}
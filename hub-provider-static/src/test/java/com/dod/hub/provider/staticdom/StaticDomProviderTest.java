@@ -0,0 +1,198 @@
+package com.dod.hub.provider.staticdom;
+
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.facade.HubFactory;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.pagefactory.HubPageFactory;
+import com.dod.hub.test.HubFixtureServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Drives pages of a {@link HubFixtureServer} through the facade with the
+ * static provider, as a page-object test would.
+ */
+class StaticDomProviderTest {
+
+    private static final String FORM = "<html><head><title>Form</title></head><body>"
+            + "<form id='order' action='/echo' method='get'>"
+            + "<label for='qty'>Quantity</label><input id='qty' name='qty' value='1'>"
+            + "<input type='checkbox' name='gift' id='gift'>"
+            + "<input type='radio' name='ship' value='fast' checked><input type='radio' name='ship' value='slow' id='slow'>"
+            + "<select name='size'><option>S</option><option value='m'>M</option></select>"
+            + "<input type='hidden' name='token' value='t1'>"
+            + "<button type='submit' name='action' value='buy'>Buy</button>"
+            + "</form>"
+            + "<div id='info'>Hello   <b>world</b><br>second&nbsp;line<span style='display: none'>secret</span></div>"
+            + "<a href='/checkout' class='nav primary'>Go to checkout</a>"
+            + "<button id='off' disabled>Off</button>"
+            + "</body></html>";
+
+    private static HubFixtureServer server;
+    private HubWebDriver driver;
+
+    @BeforeAll
+    static void startServer() {
+        server = HubFixtureServer.start();
+        server.page("/form", FORM);
+        server.page("/echo", "<html><head><title>Echo</title></head><body><p id='query'>echoed</p></body></html>");
+        server.page("/checkout", "<html><head><title>Checkout</title></head><body id='checkout'></body></html>");
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        HubConfig config = new HubConfig();
+        config.setProvider(HubProviderType.STATIC);
+        driver = HubFactory.create(config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.quit();
+    }
+
+    @Test
+    @DisplayName("Every locator strategy should find elements of the loaded page")
+    void findsByEveryStrategy() {
+        driver.get(server.url("/"));
+
+        assertThat(driver.getTitle()).isNotEmpty();
+        assertThat(driver.findElement(By.id("email")).getTagName()).isEqualToIgnoringCase("input");
+        assertThat(driver.findElement(By.cssSelector("#password")).getAttribute("id")).isEqualTo("password");
+        assertThat(driver.findElement(By.xpath("//*[@id='submit']")).isDisplayed()).isTrue();
+
+        driver.get(server.url("/form"));
+        assertThat(driver.findElement(By.name("qty")).getAttribute("value")).isEqualTo("1");
+        assertThat(driver.findElement(By.className("primary")).getText()).isEqualTo("Go to checkout");
+        assertThat(driver.findElements(By.tagName("option"))).hasSize(2);
+        assertThat(driver.findElement(By.linkText("Go to checkout")).getAttribute("href"))
+                .isEqualTo(server.url("/checkout"));
+        WebElement form = driver.findElement(By.id("order"));
+        assertThat(form.findElements(By.xpath(".//input"))).hasSize(5);
+        assertThat(driver.findElements(By.id("missing"))).isEmpty();
+        assertThatThrownBy(() -> driver.findElement(By.id("missing"))).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Text and attributes should read like in a browser")
+    void readsTextAndAttributes() {
+        driver.get(server.url("/table?rows=3"));
+
+        List<WebElement> prices = driver.findElements(By.cssSelector("#results td.price"));
+        assertThat(prices).hasSize(3);
+        assertThat(prices.get(0).getAttribute("data-price")).isNotNull();
+
+        driver.get(server.url("/form"));
+        assertThat(driver.findElement(By.id("info")).getText()).isEqualTo("Hello world\nsecond line");
+        assertThat(driver.findElement(By.name("token")).isDisplayed()).isFalse();
+        assertThat(driver.findElement(By.name("size")).getAttribute("value")).isEqualTo("S");
+        assertThat(driver.findElement(By.id("gift")).getAttribute("value")).isEqualTo("on");
+        assertThat(driver.findElement(By.id("gift")).getAttribute("checked")).isNull();
+        assertThat(driver.findElement(By.id("off")).isEnabled()).isFalse();
+        assertThat(driver.findElement(By.id("off")).getAttribute("disabled")).isEqualTo("true");
+    }
+
+    @Test
+    @DisplayName("Clicks and typing should change form state and submit it")
+    void submitsForms() {
+        driver.get(server.url("/form"));
+
+        driver.findElement(By.id("qty")).clear();
+        driver.findElement(By.id("qty")).sendKeys("3");
+        driver.findElement(By.cssSelector("label[for=qty]")).click();
+        driver.findElement(By.id("gift")).click();
+        driver.findElement(By.id("slow")).click();
+        driver.findElement(By.xpath("//option[@value='m']")).click();
+        assertThat(driver.findElement(By.id("gift")).isSelected()).isTrue();
+        assertThat(driver.findElement(By.cssSelector("input[value=fast]")).isSelected()).isFalse();
+
+        driver.findElement(By.tagName("button")).click();
+
+        assertThat(driver.getTitle()).isEqualTo("Echo");
+        assertThat(driver.getCurrentUrl()).isEqualTo(
+                server.url("/echo?qty=3&gift=on&ship=slow&size=m&token=t1&action=buy"));
+    }
+
+    @Test
+    @DisplayName("Navigation should keep a history and make elements of left pages stale")
+    void navigatesHistory() {
+        driver.get(server.url("/form"));
+        WebElement link = driver.findElement(By.linkText("Go to checkout"));
+
+        link.click();
+        assertThat(driver.getTitle()).isEqualTo("Checkout");
+        assertThatThrownBy(link::getText).isInstanceOf(StaleElementReferenceException.class);
+
+        driver.navigate().back();
+        assertThat(driver.getCurrentUrl()).isEqualTo(server.url("/form"));
+        driver.navigate().forward();
+        assertThat(driver.getCurrentUrl()).isEqualTo(server.url("/checkout"));
+        driver.navigate().refresh();
+        assertThat(driver.findElement(By.id("checkout"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Pages should load from file and data URLs without a server")
+    void loadsFileAndDataUrls(@TempDir Path dir) throws Exception {
+        Path page = dir.resolve("page.html");
+        Files.writeString(page, "<html><head><title>File</title></head><body><a href='other.html'>Next</a></body></html>");
+        Files.writeString(dir.resolve("other.html"), "<title>Other</title>");
+
+        driver.get(page.toUri().toString());
+        assertThat(driver.getTitle()).isEqualTo("File");
+        driver.findElement(By.linkText("Next")).click();
+        assertThat(driver.getTitle()).isEqualTo("Other");
+
+        driver.get("data:text/html,<title>Data 100%</title><p id=p>a+b %3C</p>");
+        assertThat(driver.getTitle()).isEqualTo("Data 100%");
+        assertThat(driver.findElement(By.id("p")).getText()).isEqualTo("a+b <");
+    }
+
+    @Test
+    @DisplayName("Page objects should be initialized and used like with a browser")
+    void drivesPageObjects() {
+        driver.get(server.url("/"));
+        LoginPage login = new LoginPage();
+        HubPageFactory.initElements(driver, login);
+
+        login.email.sendKeys("user@example.com");
+        login.password.sendKeys("secret");
+
+        assertThat(login.email.getAttribute("value")).isEqualTo("user@example.com");
+        assertThat(login.submit.isDisplayed()).isTrue();
+    }
+
+    static class LoginPage {
+        @FindBy(id = "email")
+        WebElement email;
+
+        @FindBy(css = "#password")
+        WebElement password;
+
+        @FindBy(id = "submit")
+        WebElement submit;
+    }
+}
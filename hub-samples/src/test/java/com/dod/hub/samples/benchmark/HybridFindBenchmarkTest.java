@@ -0,0 +1,132 @@
+package com.dod.hub.samples.benchmark;
+
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.provider.hybrid.HybridSession;
+import com.dod.hub.samples.HubSamplesApplication;
+import com.dod.hub.starter.junit.HubDriver;
+import com.dod.hub.starter.junit.HubTest;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import org.junit.jupiter.api.*;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+
+/**
+ * Compares the per-find latency of the hybrid provider against the former
+ * double lookup (Playwright wait followed by a Selenium findElement), for a
+ * state read, typing and an attribute read on the found element.
+ */
+@SpringBootTest(classes = HubSamplesApplication.class)
+@HubTest
+@TestPropertySource(properties = {
+        "hub.provider=HYBRID",
+        "hub.browser=CHROME",
+        "hub.headless=true"
+})
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HybridFindBenchmarkTest {
+
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 200;
+    private static final String PAGE = "data:text/html,<html><body>"
+            + "<form><input id='q' name='q'><button id='submit' type='button'>Go</button></form>"
+            + "</body></html>";
+
+    @HubDriver
+    private HubWebDriver driver;
+
+    @BeforeEach
+    void openPage() {
+        driver.get(PAGE);
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("Before: Playwright wait + Selenium findElement per find")
+    void doubleLookup() {
+        HybridSession session = (HybridSession) driver.getSession();
+        long[] samples = measure(() -> {
+            Locator loc = session.getPlaywrightPage().locator("css=#submit").first();
+            loc.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+            WebElement el = session.getSeleniumDriver().findElement(By.cssSelector("#submit"));
+            el.isDisplayed();
+        });
+        report("BEFORE (double lookup)", samples);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("After: single resolution through HubWebDriver.findElement")
+    void singleResolution() {
+        long[] samples = measure(() -> driver.findElement(By.cssSelector("#submit")).isDisplayed());
+        report("AFTER (single resolution)", samples);
+    }
+
+    @Test
+    @Order(3)
+    @DisplayName("Before: find + sendKeys through the double lookup")
+    void doubleLookupType() {
+        HybridSession session = (HybridSession) driver.getSession();
+        long[] samples = measure(() -> {
+            Locator loc = session.getPlaywrightPage().locator("css=#q").first();
+            loc.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+            session.getSeleniumDriver().findElement(By.cssSelector("#q")).sendKeys("a");
+        });
+        report("BEFORE find+sendKeys (double lookup)", samples);
+    }
+
+    @Test
+    @Order(4)
+    @DisplayName("After: find + sendKeys through HubWebDriver.findElement")
+    void singleResolutionType() {
+        long[] samples = measure(() -> driver.findElement(By.cssSelector("#q")).sendKeys("a"));
+        report("AFTER find+sendKeys (single resolution)", samples);
+    }
+
+    @Test
+    @Order(5)
+    @DisplayName("Before: find + getAttribute through the double lookup")
+    void doubleLookupAttribute() {
+        HybridSession session = (HybridSession) driver.getSession();
+        long[] samples = measure(() -> {
+            Locator loc = session.getPlaywrightPage().locator("css=#q").first();
+            loc.waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+            session.getSeleniumDriver().findElement(By.cssSelector("#q")).getAttribute("name");
+        });
+        report("BEFORE find+getAttribute (double lookup)", samples);
+    }
+
+    @Test
+    @Order(6)
+    @DisplayName("After: find + getAttribute through HubWebDriver.findElement")
+    void singleResolutionAttribute() {
+        long[] samples = measure(() -> driver.findElement(By.cssSelector("#q")).getAttribute("name"));
+        report("AFTER find+getAttribute (single resolution)", samples);
+    }
+
+    private static long[] measure(Runnable find) {
+        for (int i = 0; i < WARMUP; i++) {
+            find.run();
+        }
+        long[] samples = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            find.run();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static void report(String label, long[] sorted) {
+        double avg = Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+        double p50 = sorted[sorted.length / 2] / 1_000_000.0;
+        double p95 = sorted[(int) (sorted.length * 0.95)] / 1_000_000.0;
+        System.out.printf(">>> %s: avg=%.2f ms, p50=%.2f ms, p95=%.2f ms per find (%d iterations) <<<%n",
+                label, avg, p50, p95, ITERATIONS);
+    }
+}
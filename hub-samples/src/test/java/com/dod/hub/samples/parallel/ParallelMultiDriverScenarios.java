@@ -0,0 +1,45 @@
+package com.dod.hub.samples.parallel;
+
+import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.starter.junit.HubDriver;
+import com.dod.hub.starter.junit.HubTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests with more than one browser. Both drivers of a test are started
+ * concurrently, and a test only starts once it can hold all of its browsers
+ * within {@code hub.parallel.max-concurrent-browsers}.
+ * Executed by {@link ParallelSuiteTest}.
+ */
+@HubTest
+@TestPropertySource(properties = {
+        "hub.headless=true",
+        "hub.parallel.max-concurrent-browsers=4"
+})
+class ParallelMultiDriverScenarios {
+
+    @HubDriver(provider = HubProviderType.SELENIUM)
+    private HubWebDriver selenium;
+
+    @HubDriver(provider = HubProviderType.PLAYWRIGHT)
+    private HubWebDriver playwright;
+
+    @Test
+    void enginesAgreeOnTitle() {
+        selenium.get("https://example.com");
+        playwright.get("https://example.com");
+        assertEquals(selenium.getTitle(), playwright.getTitle());
+    }
+
+    @Test
+    void parameterDriverIsIsolatedFromFields(@HubDriver(provider = HubProviderType.PLAYWRIGHT) HubWebDriver extra) {
+        selenium.get("https://example.com");
+        extra.get("https://example.org");
+        assertEquals("https://example.com/", selenium.getCurrentUrl());
+        assertEquals("https://example.org/", extra.getCurrentUrl());
+    }
+}
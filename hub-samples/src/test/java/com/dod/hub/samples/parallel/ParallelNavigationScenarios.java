@@ -0,0 +1,35 @@
+package com.dod.hub.samples.parallel;
+
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.starter.junit.HubDriver;
+import com.dod.hub.starter.junit.HubTest;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Independent single-driver tests sharing a pool of three browsers.
+ * Executed by {@link ParallelSuiteTest}.
+ */
+@HubTest
+@TestPropertySource(properties = {
+        "hub.headless=true",
+        "hub.performance.pooling.enabled=true",
+        "hub.performance.pooling.max-active=3"
+})
+class ParallelNavigationScenarios {
+
+    @HubDriver
+    private HubWebDriver driver;
+
+    @ParameterizedTest
+    @ValueSource(strings = { "https://example.com", "https://example.org", "https://example.net",
+            "https://www.iana.org/help/example-domains", "https://www.selenium.dev", "https://playwright.dev" })
+    void opensPage(String url) {
+        driver.get(url);
+        System.out.printf("[%s] %s -> %s%n", Thread.currentThread().getName(), url, driver.getTitle());
+        assertFalse(driver.getTitle().isBlank());
+    }
+}
@@ -0,0 +1,23 @@
+package com.dod.hub.samples.parallel;
+
+import org.junit.platform.suite.api.ConfigurationParameter;
+import org.junit.platform.suite.api.IncludeEngines;
+import org.junit.platform.suite.api.SelectClasses;
+import org.junit.platform.suite.api.Suite;
+
+/**
+ * Runs the parallel scenarios in one JVM with JUnit 5 parallel execution
+ * enabled. The browser limit comes from the pool capacity of each scenario's
+ * configuration, so more workers than browsers is fine: surplus tests wait in
+ * {@code HubExtension} instead of timing out in the pool.
+ */
+@Suite
+@IncludeEngines("junit-jupiter")
+@SelectClasses({ ParallelNavigationScenarios.class, ParallelMultiDriverScenarios.class })
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.enabled", value = "true")
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.mode.default", value = "concurrent")
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.mode.classes.default", value = "concurrent")
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.strategy", value = "fixed")
+@ConfigurationParameter(key = "junit.jupiter.execution.parallel.config.fixed.parallelism", value = "6")
+public class ParallelSuiteTest {
+}
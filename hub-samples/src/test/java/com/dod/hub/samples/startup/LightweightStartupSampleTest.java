@@ -0,0 +1,33 @@
+package com.dod.hub.samples.startup;
+
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
+import com.dod.hub.test.junit5.HubDriver;
+import com.dod.hub.test.junit5.HubDriverTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures JVM-to-first-test time with the Spring-free extension. Compare with
+ * {@link SpringStartupSampleTest}, each in its own JVM:
+ * <pre>
+ * mvn -pl hub-samples test -Dtest=LightweightStartupSampleTest
+ * mvn -pl hub-samples test -Dtest=SpringStartupSampleTest
+ * </pre>
+ * The driver is lazy (see {@code hub.properties}), so no browser is started.
+ */
+@HubDriverTest
+public class LightweightStartupSampleTest {
+
+    @HubDriver
+    private HubWebDriver driver;
+
+    @Test
+    void firstTest() {
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.out.println("JVM-to-first-test (@HubDriverTest): " + uptimeMs + " ms");
+        Assertions.assertInstanceOf(LazyHubWebDriver.class, driver);
+    }
+}
@@ -0,0 +1,30 @@
+package com.dod.hub.samples.startup;
+
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
+import com.dod.hub.starter.junit.HubDriver;
+import com.dod.hub.starter.junit.HubTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures JVM-to-first-test time with the Spring starter, including context
+ * startup. See {@link LightweightStartupSampleTest}.
+ */
+@HubTest
+@TestPropertySource(properties = { "hub.headless=true", "hub.performance.lazy-init=true" })
+public class SpringStartupSampleTest {
+
+    @HubDriver
+    private HubWebDriver driver;
+
+    @Test
+    void firstTest() {
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.out.println("JVM-to-first-test (@HubTest): " + uptimeMs + " ms");
+        Assertions.assertInstanceOf(LazyHubWebDriver.class, driver);
+    }
+}
@@ -1,38 +1,22 @@
 package com.dod.hub.samples.testng;
 
-import com.dod.hub.core.config.HubConfig;
-import com.dod.hub.core.config.HubProviderType;
-import com.dod.hub.facade.HubFactory;
 import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.test.HubDrivers;
+import com.dod.hub.test.testng.HubTestNGListener;
 import org.testng.Assert;
-import org.testng.annotations.AfterMethod;
-import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Listeners;
 import org.testng.annotations.Test;
 
 /**
  * Demonstrates how to use Hub Automation Framework with TestNG.
- * Since we don't have a specific TestNG extension yet, we manage the driver
- * manually.
+ * {@link HubTestNGListener} borrows a driver for every test method and binds it
+ * to the running thread, so the methods can run with {@code parallel="methods"}
+ * (see {@code testng-parallel.xml}). Settings come from {@code hub.properties}.
  */
+@Listeners(HubTestNGListener.class)
 public class TestNGSample {
 
-    private HubWebDriver driver;
-
-    @BeforeMethod
-    public void setup() {
-        HubConfig config = new HubConfig();
-        config.setProvider(HubProviderType.SELENIUM); // or PLAYWRIGHT
-        config.setHeadless(true);
-
-        driver = HubFactory.create(config);
-    }
-
-    @AfterMethod
-    public void tearDown() {
-        if (driver != null) {
-            driver.quit();
-        }
-    }
+    private final HubWebDriver driver = HubDrivers.bound();
 
     @Test
     public void testGoogleTitle() {
@@ -41,4 +25,10 @@ public class TestNGSample {
         System.out.println("Title: " + title);
         Assert.assertTrue(title.contains("Google"), "Title should contain Google");
     }
+
+    @Test
+    public void testExampleTitle() {
+        driver.get("https://example.com");
+        Assert.assertTrue(driver.getTitle().contains("Example"), "Title should contain Example");
+    }
 }
@@ -1,26 +1,41 @@
 package com.dod.hub.starter;
 
 import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubScreenshotArea;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.provider.ArtifactExecutor;
+import com.dod.hub.core.telemetry.FileTelemetryListener;
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.core.tracing.HubSpanExporter;
+import com.dod.hub.core.tracing.HubTracer;
+import com.dod.hub.core.tracing.HubTracingOptions;
 import com.dod.hub.facade.HubWebDriver;
 import com.dod.hub.facade.pool.HubDriverPool;
+import com.dod.hub.starter.context.ContextBoundHubWebDriver;
 import com.dod.hub.starter.context.HubContext;
 import com.dod.hub.starter.pagefactory.HubSpringFactory;
 import com.dod.hub.starter.artifacts.ArtifactManager;
+import com.dod.hub.starter.artifacts.ArtifactStore;
+import com.dod.hub.starter.artifacts.ContentAddressedArtifactManager;
 import com.dod.hub.starter.artifacts.LocalFileSystemArtifactManager;
 import com.dod.hub.starter.telemetry.TelemetryListener;
 import com.dod.hub.starter.telemetry.JsonFileTelemetryListener;
 
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.annotation.Scope;
-import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import java.nio.file.Paths;
+
 @AutoConfiguration
 @ConditionalOnClass(HubWebDriver.class)
 @EnableConfigurationProperties(HubProperties.class)
@@ -40,6 +55,7 @@ public class HubAutoConfiguration implements DisposableBean {
 
         if (properties.getPerformance() != null) {
             config.setLazyInit(properties.getPerformance().isLazyInit());
+            config.setElementCaching(properties.getPerformance().isElementCaching());
 
             if (properties.getPerformance().getPooling() != null) {
                 HubProperties.Performance.Pooling pooling = properties.getPerformance().getPooling();
@@ -52,19 +68,75 @@ public class HubAutoConfiguration implements DisposableBean {
         if (properties.getArtifacts() != null) {
             config.setArtifactPath(properties.getArtifacts().getPath());
             config.setArtifactPolicy(properties.getArtifacts().getPolicy());
+            config.setArtifactSampleRate(properties.getArtifacts().getSampleRate());
+        }
+
+        if (properties.getNavigation() != null) {
+            config.setNavigationPolicy(toNavigationPolicy(properties.getNavigation()));
+        }
+
+        if (properties.getScreenshot() != null) {
+            config.setScreenshotSpec(toScreenshotSpec(properties.getScreenshot()));
+        }
+
+        if (properties.getVideo() != null && properties.getVideo().isEnabled()) {
+            config.setVideoOptions(toVideoOptions(properties.getVideo()));
         }
         return config;
     }
 
+    private HubScreenshotSpec toScreenshotSpec(HubProperties.Screenshot screenshot) {
+        if (screenshot.getArea() == null && screenshot.getFormat() != HubImageFormat.JPEG
+                && screenshot.getScale() == 1.0) {
+            return null;
+        }
+        HubScreenshotSpec spec = HubScreenshotSpec.of(
+                screenshot.getArea() != null ? screenshot.getArea() : HubScreenshotArea.VIEWPORT);
+        if (screenshot.getFormat() == HubImageFormat.JPEG) {
+            spec = spec.jpeg(screenshot.getQuality());
+        }
+        return screenshot.getScale() != 1.0 ? spec.withScale(screenshot.getScale()) : spec;
+    }
+
+    private HubVideoOptions toVideoOptions(HubProperties.Video video) {
+        return HubVideoOptions.defaults()
+                .withMaxFps(video.getMaxFps())
+                .withMaxBufferBytes(video.getMaxBufferMb() * 1024L * 1024)
+                .withQuality(video.getQuality())
+                .withMaxSize(video.getMaxWidth(), video.getMaxHeight());
+    }
+
+    private HubNavigationPolicy toNavigationPolicy(HubProperties.Navigation navigation) {
+        HubNavigationPolicy policy;
+        if (navigation.getReadySelector() != null && !navigation.getReadySelector().isBlank()) {
+            policy = HubNavigationPolicy.whenSelector(navigation.getReadySelector());
+        } else if (navigation.getReadyScript() != null && !navigation.getReadyScript().isBlank()) {
+            policy = HubNavigationPolicy.whenScript(navigation.getReadyScript());
+        } else {
+            return HubNavigationPolicy.of(navigation.getPageLoadStrategy());
+        }
+        return navigation.getReadyTimeoutMs() > 0 ? policy.withTimeout(navigation.getReadyTimeoutMs()) : policy;
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public HubDriverFactory hubDriverFactory(HubConfig config) {
         return new HubDriverFactory(config);
     }
 
+    /**
+     * The artifact store selected by {@code hub.artifacts.store}. The
+     * content-addressed store is closed with the context, which writes the
+     * artifacts still queued.
+     */
     @Bean
     @ConditionalOnMissingBean
-    public ArtifactManager artifactManager(HubConfig config) {
+    public ArtifactManager artifactManager(HubConfig config, HubProperties properties) {
+        HubProperties.Artifacts artifacts = properties.getArtifacts();
+        if (artifacts != null && artifacts.getStore() == ArtifactStore.CONTENT_ADDRESSED) {
+            return new ContentAddressedArtifactManager(Paths.get(config.getArtifactPath()),
+                    artifacts.isCompressText(), artifacts.getQueueCapacity());
+        }
         return new LocalFileSystemArtifactManager(config);
     }
 
@@ -75,31 +147,74 @@ public class HubAutoConfiguration implements DisposableBean {
         String basePath = properties.getArtifacts() != null
                 ? properties.getArtifacts().getPath()
                 : "target/hub-artifacts";
-        return new JsonFileTelemetryListener(basePath);
+        HubProperties.Telemetry telemetry = properties.getTelemetry();
+        return new JsonFileTelemetryListener(basePath, FileTelemetryListener.Options.defaults()
+                .withRotation(telemetry.getMaxFileSizeMb() * 1024 * 1024, telemetry.getMaxFiles())
+                .withFsyncPolicy(telemetry.getFsync())
+                .withFlushInterval(telemetry.getFlushIntervalMs()));
+    }
+
+    /**
+     * Opens the store that {@code HubExtension} records test durations in,
+     * when {@code hub.durations.enabled=true}. Recorded durations are merged
+     * into the file when the context closes.
+     */
+    @Bean(destroyMethod = "save")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "hub.durations.enabled", havingValue = "true")
+    public HubDurationStore hubDurationStore(HubProperties properties) {
+        return HubDurationStore.open(Paths.get(properties.getDurations().getFile()));
+    }
+
+    /**
+     * Installs the JVM-wide {@link HubTracer}. A {@link HubSpanExporter} bean
+     * replaces the exporter selected by {@code hub.tracing.exporter}.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "hub.tracing.enabled", havingValue = "true")
+    public HubTracer hubTracer(HubProperties properties, ObjectProvider<HubSpanExporter> exporters) {
+        HubProperties.Tracing tracing = properties.getTracing();
+        String basePath = properties.getArtifacts() != null
+                ? properties.getArtifacts().getPath()
+                : "target/hub-artifacts";
+        HubTracingOptions options = HubTracingOptions.of(tracing.getExporter(), basePath, tracing.getEndpoint())
+                .withHeaders(tracing.getHeaders())
+                .withServiceName(tracing.getServiceName());
+        if (tracing.getFile() != null && !tracing.getFile().isBlank()) {
+            options = options.withFile(Paths.get(tracing.getFile()));
+        }
+        return HubTracer.install(exporters.getIfAvailable(options::createExporter));
     }
 
     /**
      * Exposes the active {@link HubWebDriver} as a Spring-managed bean.
+     * <p>
+     * The bean is a {@link ContextBoundHubWebDriver} that forwards each call to
+     * the calling thread's {@link HubContext} driver. No destroy method is
+     * inferred: the drivers belong to the tests, not to the context.
      */
-    @Bean
+    @Bean(destroyMethod = "")
     @ConditionalOnMissingBean
-    @Scope(value = "prototype", proxyMode = ScopedProxyMode.TARGET_CLASS)
     public HubWebDriver hubWebDriver() {
-        return HubContext.get();
+        return new ContextBoundHubWebDriver();
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public HubSpringFactory hubSpringFactory(ApplicationContext context) {
-        return new HubSpringFactory(context);
+    public HubSpringFactory hubSpringFactory(ApplicationContext context, HubProperties properties) {
+        return new HubSpringFactory(context,
+                properties.getPerformance() != null && properties.getPerformance().isPageReuse());
     }
 
     /**
      * Callback method invoked on application context shutdown.
-     * Ensures that all pooled drivers are gracefully quit and the pool is cleared.
+     * Waits for artifacts still being produced, then ensures that all pooled
+     * drivers are gracefully quit and the pool is cleared.
      */
     @Override
     public void destroy() throws Exception {
+        ArtifactExecutor.shared().awaitIdle();
         HubDriverPool.getInstance().clear();
     }
 }
@@ -4,8 +4,11 @@ import com.dod.hub.core.config.HubProviderType;
 import com.dod.hub.core.config.HubConfig;
 import com.dod.hub.facade.pool.HubDriverPool;
 import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
 import lombok.RequiredArgsConstructor;
 
+import java.util.HashMap;
+
 /**
  * Factory bean responsible for the programmatic creation of
  * {@link HubWebDriver} instances.
@@ -44,6 +47,16 @@ public class HubDriverFactory {
         override.setPoolMinIdle(defaultProperties.getPoolMinIdle());
         override.setGridUrl(defaultProperties.getGridUrl());
         override.setLazyInit(defaultProperties.isLazyInit());
+        override.setElementCaching(defaultProperties.isElementCaching());
+        override.setNavigationPolicy(defaultProperties.getNavigationPolicy());
+        override.setScreenshotSpec(defaultProperties.getScreenshotSpec());
+        override.setVideoOptions(defaultProperties.getVideoOptions());
+        override.setArtifactPath(defaultProperties.getArtifactPath());
+        override.setArtifactPolicy(defaultProperties.getArtifactPolicy());
+        override.setArtifactSampleRate(defaultProperties.getArtifactSampleRate());
+        if (defaultProperties.getProviderOptions() != null) {
+            override.setProviderOptions(new HashMap<>(defaultProperties.getProviderOptions()));
+        }
         override.setProvider(providerType);
 
         return create(override);
@@ -53,80 +66,30 @@ public class HubDriverFactory {
      * Creates a driver using a specific HubConfig object.
      * Useful when merging default properties with annotation overrides.
      * <p>
-     * If {@code config.isLazyInit()} is true, this method returns a Spring AOP
-     * proxy.
+     * If {@code config.isLazyInit()} is true, this method returns a
+     * {@link LazyHubWebDriver}.
      * The actual driver will only be borrowed/created when a method is invoked on
-     * the proxy.
+     * the handle.
      * </p>
      *
      * @param config The full configuration for the driver.
-     * @return A {@link HubWebDriver} instance (potentially a lazy proxy).
+     * @return A {@link HubWebDriver} instance (potentially a lazy handle).
      */
     public HubWebDriver create(HubConfig config) {
         if (config.isLazyInit()) {
-            return createLazyProxy(config);
+            return LazyHubWebDriver.borrowing(config);
         }
         return HubDriverPool.getInstance().borrowDriver(config);
     }
 
     /**
-     * Creates a Spring AOP proxy backed by a {@link HubLazyTargetSource}.
-     * This uses CGLIB (via {@code setProxyTargetClass(true)}) since
-     * {@link HubWebDriver}
-     * is a concrete class, not an interface.
-     */
-    private HubWebDriver createLazyProxy(HubConfig config) {
-        org.springframework.aop.framework.ProxyFactory factory = new org.springframework.aop.framework.ProxyFactory();
-        factory.setTargetSource(new HubLazyTargetSource(config));
-        factory.setProxyTargetClass(true);
-        return (HubWebDriver) factory.getProxy();
-    }
-
-    static class HubLazyTargetSource extends org.springframework.aop.target.AbstractLazyCreationTargetSource {
-        private final HubConfig config;
-
-        HubLazyTargetSource(HubConfig config) {
-            this.config = config;
-        }
-
-        @Override
-        protected Object createObject() throws Exception {
-            return HubDriverPool.getInstance().borrowDriver(config);
-        }
-
-        @Override
-        public Class<?> getTargetClass() {
-            return HubWebDriver.class;
-        }
-
-        public HubWebDriver getInitializedDriver() {
-            try {
-                return (HubWebDriver) super.getTarget();
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to retrieve lazy driver target", e);
-            }
-        }
-    }
-
-    /**
-     * Unwraps the driver if it is a Lazy Proxy.
-     * Returns null if the proxy was never initialized.
-     * Returns the original driver if it's not a proxy.
+     * Unwraps the driver if it is a lazy handle.
+     * Returns null if the handle was never initialized.
+     * Returns the original driver if it's not lazy.
      */
     public static HubWebDriver unwrapIfLazy(HubWebDriver driver) {
-        if (org.springframework.aop.support.AopUtils.isAopProxy(driver)) {
-            if (driver instanceof org.springframework.aop.framework.Advised) {
-                org.springframework.aop.TargetSource ts = ((org.springframework.aop.framework.Advised) driver)
-                        .getTargetSource();
-                if (ts instanceof HubLazyTargetSource) {
-                    HubLazyTargetSource lazyTs = (HubLazyTargetSource) ts;
-                    if (lazyTs.isInitialized()) {
-                        return lazyTs.getInitializedDriver();
-                    } else {
-                        return null;
-                    }
-                }
-            }
+        if (driver instanceof LazyHubWebDriver) {
+            return ((LazyHubWebDriver) driver).getIfInitialized();
         }
         return driver;
     }
@@ -7,6 +7,17 @@ import lombok.Data;
 import com.dod.hub.core.config.HubProviderType;
 import com.dod.hub.core.config.HubBrowserType;
 import com.dod.hub.core.config.HubArtifactPolicy;
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubPageLoadStrategy;
+import com.dod.hub.core.config.HubScreenshotArea;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.telemetry.FileTelemetryListener;
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.core.tracing.HubTracingOptions;
+import com.dod.hub.core.tracing.OtlpHttpSpanExporter;
+import com.dod.hub.starter.artifacts.ArtifactStore;
+import com.dod.hub.starter.artifacts.ContentAddressedArtifactManager;
 
 @Data
 @ConfigurationProperties(prefix = "hub")
@@ -59,6 +70,17 @@ public class HubProperties {
     @Data
     public static class Performance {
         private boolean lazyInit = false;
+
+        /**
+         * Page object fields keep their element until the driver navigates.
+         */
+        private boolean elementCaching = true;
+
+        /**
+         * HubSpringFactory returns the same page instance until the driver
+         * navigates. Pages must then be stateless.
+         */
+        private boolean pageReuse = false;
         private Pooling pooling = new Pooling();
 
         @Data
@@ -78,6 +100,107 @@ public class HubProperties {
          * Default: ON_FAILURE
          */
         private HubArtifactPolicy policy = HubArtifactPolicy.ON_FAILURE;
+
+        /**
+         * Fraction of passing tests captured under the ALWAYS policy, chosen
+         * by test name so the same tests are captured in every run. Failing
+         * tests are always captured.
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * DIRECTORY writes one file per artifact below class and method
+         * directories; CONTENT_ADDRESSED writes deduplicated blobs in the
+         * background and lists them in artifact-index.ndjson.
+         */
+        private ArtifactStore store = ArtifactStore.DIRECTORY;
+
+        /**
+         * Gzip text artifacts in the CONTENT_ADDRESSED store.
+         */
+        private boolean compressText = false;
+
+        /**
+         * Artifacts the CONTENT_ADDRESSED store queues before tests wait.
+         */
+        private int queueCapacity = ContentAddressedArtifactManager.DEFAULT_QUEUE_CAPACITY;
+    }
+
+    /**
+     * Navigation readiness configuration.
+     */
+    private Navigation navigation = new Navigation();
+
+    @Data
+    public static class Navigation {
+        /**
+         * When a navigation returns: NORMAL (load event), EAGER
+         * (DOMContentLoaded) or NONE (committed).
+         */
+        private HubPageLoadStrategy pageLoadStrategy = HubPageLoadStrategy.NORMAL;
+
+        /**
+         * CSS selector that marks the page as ready. Takes precedence over the
+         * page load strategy.
+         */
+        private String readySelector;
+
+        /**
+         * JavaScript predicate that marks the page as ready, e.g.
+         * "window.appReady === true".
+         */
+        private String readyScript;
+
+        /**
+         * Timeout for custom readiness conditions. 0 uses the page load timeout.
+         */
+        private long readyTimeoutMs = 0;
+    }
+
+    /**
+     * Screenshot capture configuration, also used for failure artifacts.
+     */
+    private Screenshot screenshot = new Screenshot();
+
+    @Data
+    public static class Screenshot {
+        /**
+         * VIEWPORT or FULL_PAGE. When unset and format/scale are defaults, each
+         * provider keeps its own default capture.
+         */
+        private HubScreenshotArea area;
+
+        /**
+         * PNG or JPEG.
+         */
+        private HubImageFormat format = HubImageFormat.PNG;
+
+        /**
+         * JPEG quality between 1 and 100.
+         */
+        private int quality = HubScreenshotSpec.DEFAULT_JPEG_QUALITY;
+
+        /**
+         * Scale factor applied to the image, greater than 0 and at most 1.
+         */
+        private double scale = 1.0;
+    }
+
+    /**
+     * Parallel test execution configuration.
+     */
+    private Parallel parallel = new Parallel();
+
+    @Data
+    public static class Parallel {
+        /**
+         * Maximum number of browsers held by concurrently running tests and
+         * started shared drivers. Tests beyond the limit wait before their
+         * drivers are created. 0 derives the
+         * limit from the pool capacity when pooling is enabled and leaves it
+         * unbounded otherwise.
+         */
+        private int maxConcurrentBrowsers = 0;
     }
 
     /**
@@ -88,5 +211,108 @@ public class HubProperties {
     @Data
     public static class Telemetry {
         private boolean enabled = true;
+
+        /**
+         * When the telemetry file is forced to disk: NONE, ON_CLOSE or PER_BATCH.
+         */
+        private FileTelemetryListener.FsyncPolicy fsync = FileTelemetryListener.FsyncPolicy.ON_CLOSE;
+
+        /**
+         * Size in megabytes after which the telemetry file is rotated.
+         */
+        private long maxFileSizeMb = 64;
+
+        /**
+         * Telemetry files kept, including the current one.
+         */
+        private int maxFiles = 5;
+
+        /**
+         * Longest time in milliseconds an event waits before it is written.
+         */
+        private long flushIntervalMs = 200;
+    }
+
+    /**
+     * Tracing configuration: a span per test and per driver command.
+     */
+    private Tracing tracing = new Tracing();
+
+    @Data
+    public static class Tracing {
+        private boolean enabled = false;
+
+        /**
+         * FILE writes OTLP JSON lines, OTLP_HTTP posts to a collector. Ignored
+         * when a HubSpanExporter bean is defined.
+         */
+        private HubTracingOptions.Exporter exporter = HubTracingOptions.Exporter.FILE;
+
+        /**
+         * File of the FILE exporter; defaults to hub-traces.jsonl in the
+         * artifacts directory.
+         */
+        private String file;
+
+        /**
+         * Traces URL of the OTLP_HTTP exporter.
+         */
+        private String endpoint = OtlpHttpSpanExporter.DEFAULT_ENDPOINT;
+
+        /**
+         * Extra headers sent by the OTLP_HTTP exporter.
+         */
+        private Map<String, String> headers = new HashMap<>();
+
+        /**
+         * The service.name resource attribute.
+         */
+        private String serviceName = HubTracingOptions.DEFAULT_SERVICE_NAME;
+    }
+
+    /**
+     * Test durations kept across runs for longest-first ordering and sharding.
+     * Off by default, since the store lives outside the build directory.
+     */
+    private Durations durations = new Durations();
+
+    @Data
+    public static class Durations {
+        private boolean enabled = false;
+
+        /**
+         * The duration store, usually shared by all modules of a build.
+         */
+        private String file = HubDurationStore.DEFAULT_FILE;
+    }
+
+    /**
+     * Screencast recording of Chromium sessions, kept for failing tests.
+     */
+    private Video video = new Video();
+
+    @Data
+    public static class Video {
+        private boolean enabled = false;
+
+        /**
+         * Frames per second kept, between 1 and 60.
+         */
+        private int maxFps = HubVideoOptions.defaults().getMaxFps();
+
+        /**
+         * Memory for the frames of one session; the oldest frames are dropped
+         * beyond it.
+         */
+        private int maxBufferMb = (int) (HubVideoOptions.defaults().getMaxBufferBytes() / (1024 * 1024));
+
+        /**
+         * JPEG quality of the frames between 1 and 100.
+         */
+        private int quality = HubVideoOptions.defaults().getQuality();
+
+        private int maxWidth = HubVideoOptions.defaults().getMaxWidth();
+
+        private int maxHeight = HubVideoOptions.defaults().getMaxHeight();
     }
 }
@@ -0,0 +1,14 @@
+package com.dod.hub.starter.artifacts;
+
+/**
+ * Layout of the default {@link ArtifactManager}.
+ */
+public enum ArtifactStore {
+    /** {@code <path>/<class>/<method>/<time>_<file>}, written on the test thread. */
+    DIRECTORY,
+    /**
+     * Deduplicated blobs named by content hash, written in the background and
+     * listed per test in {@code artifact-index.ndjson}.
+     */
+    CONTENT_ADDRESSED
+}
@@ -0,0 +1,277 @@
+package com.dod.hub.starter.artifacts;
+
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.exception.HubException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores artifacts once per distinct content, off the test thread.
+ * <p>
+ * {@link #saveArtifact} hashes the data and queues it; a background writer
+ * stores it as {@code blobs/<ab>/<sha256>.<ext>} below the artifact path,
+ * skipping blobs that already exist, so the same error page captured by many
+ * failing tests takes the space of one. Each saved artifact is listed in
+ * {@value #INDEX_FILE} with its test, original file name and blob. Text
+ * artifacts (logs, JSON, HTML, ...) can be gzip-compressed.
+ * <p>
+ * The returned path is the blob, which exists once the writer reaches it;
+ * {@link #flush()} waits for all queued artifacts. The queue is bounded, so
+ * tests that produce artifacts faster than the disk accepts them wait instead
+ * of buffering without limit.
+ */
+public class ContentAddressedArtifactManager implements ArtifactManager, AutoCloseable {
+
+    public static final String BLOB_DIR = "blobs";
+    public static final String INDEX_FILE = "artifact-index.ndjson";
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedArtifactManager.class);
+    private static final Set<String> TEXT_EXTENSIONS = Set.of("txt", "log", "json", "ndjson", "html", "htm", "xml",
+            "har", "csv");
+    private static final byte NEWLINE = '\n';
+    /** Queued by {@link #close()} after the last artifact; the writer stops when it takes it. */
+    private static final Job STOP = new Job(null, null, false, null);
+
+    private final Path baseDir;
+    private final boolean compressText;
+    private final BlockingQueue<Job> queue;
+    /** Blobs this manager has seen on disk, so duplicates skip the existence check. */
+    private final Set<String> storedBlobs = ConcurrentHashMap.newKeySet();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    public ContentAddressedArtifactManager(HubConfig config) {
+        this(Paths.get(config.getArtifactPath()), false, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * @param baseDir       Directory of the blobs and the index.
+     * @param compressText  Whether text artifacts are stored gzip-compressed,
+     *                      as {@code <sha256>.<ext>.gz}.
+     * @param queueCapacity Artifacts queued before {@link #saveArtifact} waits.
+     */
+    public ContentAddressedArtifactManager(Path baseDir, boolean compressText, int queueCapacity) {
+        if (queueCapacity < 1) {
+            throw new HubException("Artifact queue capacity must be positive: " + queueCapacity);
+        }
+        this.baseDir = baseDir;
+        this.compressText = compressText;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::run, "hub-artifact-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public Path saveArtifact(String className, String methodName, String fileName, byte[] data) {
+        if (data == null || data.length == 0) {
+            log.warn("Attempted to save empty artifact: {}", fileName);
+            return null;
+        }
+        String extension = extension(fileName);
+        boolean compress = compressText && TEXT_EXTENSIONS.contains(extension);
+        String hash = sha256(data);
+        Path blob = baseDir.resolve(BLOB_DIR).resolve(hash.substring(0, 2))
+                .resolve(hash + (extension.isEmpty() ? "" : "." + extension) + (compress ? ".gz" : ""));
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("timestamp", Instant.now().toString());
+        entry.put("testClass", className);
+        entry.put("testMethod", methodName);
+        entry.put("fileName", fileName);
+        entry.put("blob", baseDir.relativize(blob).toString().replace('\\', '/'));
+        entry.put("bytes", data.length);
+
+        // Every save carries the data: a duplicate stores the blob if the first write failed
+        Job job = new Job(blob, data, compress, entry);
+        if (closed) {
+            process(List.of(job));
+            return blob;
+        }
+        submitted.incrementAndGet();
+        try {
+            queue.put(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed.incrementAndGet();
+            log.error("Interrupted while queueing artifact: {}", fileName);
+            return null;
+        }
+        return blob;
+    }
+
+    /**
+     * Waits until every artifact saved before the call is on disk.
+     */
+    public void flush() {
+        long target = submitted.get();
+        while (completed.get() < target && writer.isAlive()) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Writes the queued artifacts and stops the writer. Later saves are
+     * written on the calling thread.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Not an interrupt: it would close the file channel being written and lose the writer's batch
+        try {
+            while (writer.isAlive() && !queue.offer(STOP, 100, TimeUnit.MILLISECONDS)) {
+                // The queue is full; the writer is draining it
+            }
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<Job> late = new ArrayList<>();
+        queue.drainTo(late);
+        if (!late.isEmpty()) {
+            process(late);
+            completed.addAndGet(late.size());
+        }
+    }
+
+    private void run() {
+        List<Job> batch = new ArrayList<>();
+        boolean stopped = false;
+        while (!stopped) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                // Only close() stops the writer
+                continue;
+            }
+            queue.drainTo(batch);
+            stopped = batch.remove(STOP);
+            if (!batch.isEmpty()) {
+                process(batch);
+                completed.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private synchronized void process(List<Job> batch) {
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        for (Job job : batch) {
+            try {
+                if (!storedBlobs.contains(job.blob.toString()) && !Files.exists(job.blob)) {
+                    writeBlob(job);
+                }
+                storedBlobs.add(job.blob.toString());
+                index.write(mapper.writeValueAsBytes(job.entry));
+                index.write(NEWLINE);
+            } catch (IOException e) {
+                // No index entry: it would point at a blob that does not exist
+                log.error("Failed to save artifact {}: {}", job.entry.get("fileName"), e.getMessage());
+            }
+        }
+        if (index.size() == 0) {
+            return;
+        }
+        try {
+            Files.createDirectories(baseDir);
+        } catch (IOException e) {
+            log.error("Failed to create artifact directory {}: {}", baseDir, e.getMessage());
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(baseDir.resolve(INDEX_FILE), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(index.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            log.error("Failed to update artifact index: {}", e.getMessage());
+        }
+    }
+
+    private void writeBlob(Job job) throws IOException {
+        Files.createDirectories(job.blob.getParent());
+        Path temp = Files.createTempFile(job.blob.getParent(), job.blob.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = job.compress
+                    ? new GZIPOutputStream(Files.newOutputStream(temp))
+                    : Files.newOutputStream(temp)) {
+                out.write(job.data);
+            }
+            try {
+                Files.move(temp, job.blob, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, job.blob, StandardCopyOption.REPLACE_EXISTING);
+            }
+            log.info("Artifact saved: {}", job.blob.toAbsolutePath());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 && dot < fileName.length() - 1
+                ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT)
+                : "";
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new HubException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Job {
+        final Path blob;
+        final byte[] data;
+        final boolean compress;
+        final Map<String, Object> entry;
+
+        Job(Path blob, byte[] data, boolean compress, Map<String, Object> entry) {
+            this.blob = blob;
+            this.data = data;
+            this.compress = compress;
+            this.entry = entry;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.dod.hub.starter.context;
+
+import com.dod.hub.facade.DelegatingHubWebDriver;
+import com.dod.hub.facade.HubWebDriver;
+
+/**
+ * The {@link HubWebDriver} exposed as a Spring bean. Every call is forwarded to
+ * the driver in {@link HubContext} for the calling thread, so a single instance
+ * can be injected into singletons and shared by parallel tests.
+ */
+public final class ContextBoundHubWebDriver extends DelegatingHubWebDriver {
+
+    @Override
+    protected HubWebDriver delegate() {
+        HubWebDriver driver = HubContext.get();
+        if (driver == null) {
+            throw new IllegalStateException("No HubWebDriver is bound to thread " + Thread.currentThread().getName()
+                    + "; use it from a @HubTest or bind one with HubContext.set()");
+        }
+        return driver;
+    }
+
+    @Override
+    public String toString() {
+        return "ContextBoundHubWebDriver[" + HubContext.get() + "]";
+    }
+}
@@ -5,6 +5,10 @@ import com.dod.hub.facade.HubWebDriver;
 /**
  * Holds the current HubWebDriver for the active thread.
  * Used to support Dependency Injection of the driver into Page Objects.
+ * <p>
+ * {@link com.dod.hub.starter.junit.HubExtension} sets the test's primary driver
+ * (the first declared {@code @HubDriver}) before each test and restores the
+ * previous value afterwards, so parallel tests each see their own driver.
  */
 public class HubContext {
 
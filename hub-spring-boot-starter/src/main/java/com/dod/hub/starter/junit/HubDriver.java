@@ -6,11 +6,15 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import com.dod.hub.core.config.HubProviderType;
 import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubDriverScope;
+import com.dod.hub.core.config.HubStateReset;
 
 /**
- * Marks a field or parameter to be injected with a managed HubWebDriver
- * instance.
- * The instance is created before the test and quit after the test.
+ * Marks a field or test method parameter to be injected with a managed
+ * HubWebDriver instance.
+ * By default the instance is created before the test and quit after the test.
+ * When a test declares several drivers, they are created concurrently. Fields
+ * can opt into a longer lifetime with {@link #scope()}.
  */
 @Target({ ElementType.FIELD, ElementType.PARAMETER })
 @Retention(RetentionPolicy.RUNTIME)
@@ -35,4 +39,18 @@ public @interface HubDriver {
     boolean useGlobalHeadless() default true;
 
     String[] options() default {};
+
+    /**
+     * Lifetime of the driver. {@code CLASS} and {@code SUITE} scoped drivers
+     * are shared by the tests of a class or of the whole run and are only
+     * supported on fields; parameters are always method-scoped.
+     */
+    HubDriverScope scope() default HubDriverScope.METHOD;
+
+    /**
+     * State cleared after each test when a {@code CLASS} or {@code SUITE}
+     * scoped driver is handed to the next test. Ignored for method-scoped
+     * drivers.
+     */
+    HubStateReset reset() default HubStateReset.COOKIES_AND_STORAGE;
 }
@@ -1,28 +1,60 @@
 package com.dod.hub.starter.junit;
 
 import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.pool.HubDriverPool;
 import com.dod.hub.starter.HubDriverFactory;
+import com.dod.hub.starter.HubProperties;
 import com.dod.hub.starter.context.HubContext;
 import com.dod.hub.core.config.HubConfig;
 import com.dod.hub.core.config.HubProviderType;
 import com.dod.hub.core.config.HubBrowserType;
-import com.dod.hub.core.config.HubArtifactPolicy;
+import com.dod.hub.core.config.HubDriverScope;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.core.provider.ArtifactExecutor;
+import com.dod.hub.core.telemetry.HubDurationStore;
 import com.dod.hub.core.telemetry.HubTestEvent;
 import com.dod.hub.core.telemetry.HubTestResult;
+import com.dod.hub.core.tracing.HubSpan;
+import com.dod.hub.core.tracing.HubTracer;
+import com.dod.hub.core.video.HubVideo;
+import com.dod.hub.core.video.HubVideoRecorder;
 import com.dod.hub.starter.artifacts.ArtifactManager;
+import com.dod.hub.starter.artifacts.ContentAddressedArtifactManager;
 import com.dod.hub.starter.telemetry.TelemetryListener;
+import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.*;
+import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.openqa.selenium.OutputType;
-import org.openqa.selenium.TakesScreenshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 /**
  * JUnit 5 Extension responsible for managing the lifecycle of
@@ -30,55 +62,564 @@ import java.util.List;
  * <p>
  * This extension performs the following duties:
  * <ul>
- * <li>Initializes drivers for fields annotated with {@link HubDriver} before
- * each test.</li>
+ * <li>Initializes drivers for fields and test method parameters annotated with
+ * {@link HubDriver} before each test. When a test declares several drivers
+ * they are created concurrently.</li>
+ * <li>Shares {@code CLASS} and {@code SUITE} scoped drivers between tests,
+ * clearing their state after each test as configured by
+ * {@link HubDriver#reset()}.</li>
  * <li>Handles configuration overrides provided via annotation attributes.</li>
- * <li>Manages thread-local driver context via {@link HubContext}.</li>
- * <li>Ensures all created drivers are properly disposed of after each test
- * session.</li>
+ * <li>Manages thread-local driver context via {@link HubContext}; the first
+ * declared driver is the test's primary driver.</li>
+ * <li>Limits the number of browsers held by concurrently running tests and
+ * started shared drivers, see {@code hub.parallel.max-concurrent-browsers}.</li>
+ * <li>Ensures all created drivers are properly disposed of after each test,
+ * class or run, depending on their scope.</li>
+ * <li>Records a span per test when {@code hub.tracing.enabled} is set; the
+ * commands of the test are nested under it.</li>
  * </ul>
+ * All per-test state lives in the test's {@link ExtensionContext.Store}, so the
+ * extension is safe to use with {@code junit.jupiter.execution.parallel.enabled}.
+ * A shared driver serves one test at a time; concurrent tests that need it
+ * wait. Tests with {@code PER_CLASS} lifecycle share their fields between
+ * concurrently running methods and should use {@link HubDriver} parameters
+ * instead.
  */
-public class HubExtension implements BeforeEachCallback, AfterEachCallback, TestWatcher {
+public class HubExtension implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback,
+        TestWatcher, ParameterResolver {
 
     private static final Logger log = LoggerFactory.getLogger(HubExtension.class);
     private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(HubExtension.class);
+    private static final String STATE_KEY = "state";
+    /** How long a test waits for browser slots before closing idle shared drivers. */
+    private static final long IDLE_SHARED_DRIVER_WAIT_MS = 100;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService DRIVER_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "hub-driver-" + THREAD_COUNTER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private static class DriverState {
         HubWebDriver driver;
         HubConfig config;
         long startTime;
+        boolean shared;
+        HubVideoRecorder recorder;
 
-        DriverState(HubWebDriver driver, HubConfig config) {
+        DriverState(HubWebDriver driver, HubConfig config, boolean shared) {
             this.driver = driver;
             this.config = config;
+            this.shared = shared;
             this.startTime = System.currentTimeMillis();
         }
     }
 
+    /**
+     * Drivers and resources held by a single test invocation.
+     */
+    private static class TestState {
+        final List<DriverState> drivers = new ArrayList<>();
+        final List<SharedDriver> sharedDrivers = new ArrayList<>();
+        final Map<Integer, HubWebDriver> parameterDrivers = new HashMap<>();
+        final HubWebDriver previousContextDriver;
+        final long startNanos = System.nanoTime();
+        HubSpan span = HubSpan.NOOP;
+        BrowserSlots browserSlots;
+        int permits;
+
+        TestState(HubWebDriver previousContextDriver) {
+            this.previousContextDriver = previousContextDriver;
+        }
+    }
+
+    /**
+     * The run-wide cap on concurrently held browsers.
+     */
+    private static final class BrowserSlots {
+        final int limit;
+        final Semaphore semaphore;
+        /** Other limits resolved by test classes, warned about once each. */
+        final Set<Integer> mismatches = ConcurrentHashMap.newKeySet();
+        /** Shared drivers holding a slot for their browser. */
+        final Set<SharedDriver> holders = ConcurrentHashMap.newKeySet();
+
+        BrowserSlots(int limit) {
+            this.limit = limit;
+            this.semaphore = new Semaphore(limit, true);
+        }
+    }
+
+    /**
+     * Artifacts of a test class still being produced on the
+     * {@link ArtifactExecutor}, awaited when the class finishes.
+     */
+    private static final class PendingArtifacts {
+        final Queue<CompletableFuture<?>> futures = new ConcurrentLinkedQueue<>();
+
+        void add(CompletableFuture<?> future) {
+            futures.add(future);
+            futures.removeIf(CompletableFuture::isDone);
+        }
+
+        void await() {
+            for (CompletableFuture<?> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException | CancellationException e) {
+                    // Already logged by the executor
+                }
+            }
+        }
+    }
+
+    /**
+     * A {@code CLASS} or {@code SUITE} scoped driver. It is created by the first
+     * test that needs it, held by one test at a time and released when its
+     * store is closed. While its browser is alive it holds one of the
+     * {@link BrowserSlots}, taken from those its first test reserved.
+     */
+    private static final class SharedDriver implements ExtensionContext.Store.CloseableResource {
+        final String key;
+        final HubConfig config;
+        final HubStateReset reset;
+        final Semaphore lock = new Semaphore(1, true);
+        volatile HubWebDriver driver;
+        volatile BrowserSlots slots;
+
+        SharedDriver(String key, HubConfig config, HubStateReset reset) {
+            this.key = key;
+            this.config = config;
+            this.reset = reset;
+        }
+
+        HubWebDriver acquire(HubDriverFactory factory, TestState state) throws InterruptedException {
+            lock.acquire();
+            try {
+                if (driver == null) {
+                    driver = factory.create(config);
+                    if (state.permits > 0) {
+                        state.permits--;
+                        slots = state.browserSlots;
+                        slots.holders.add(this);
+                    }
+                }
+                return driver;
+            } catch (RuntimeException e) {
+                lock.release();
+                throw e;
+            }
+        }
+
+        /**
+         * Clears the driver's state for the next test. A driver that cannot be
+         * reset is discarded and recreated on next use.
+         */
+        void release() {
+            try {
+                HubWebDriver realDriver = HubDriverFactory.unwrapIfLazy(driver);
+                if (realDriver != null && reset != HubStateReset.NONE) {
+                    realDriver.resetState(reset);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to reset shared driver {}, replacing it: {}", key, e.getMessage());
+                close();
+            } finally {
+                lock.release();
+            }
+        }
+
+        /**
+         * Closes the browser unless a test holds the driver; it is recreated
+         * on next use.
+         *
+         * @return Whether the browser was closed.
+         */
+        boolean closeIfIdle() {
+            if (!lock.tryAcquire()) {
+                return false;
+            }
+            try {
+                if (driver == null) {
+                    return false;
+                }
+                log.debug("Closing idle shared driver {} to free a browser slot", key);
+                close();
+                return true;
+            } finally {
+                lock.release();
+            }
+        }
+
+        @Override
+        public void close() {
+            HubWebDriver current = driver;
+            BrowserSlots held = slots;
+            driver = null;
+            slots = null;
+            try {
+                releaseQuietly(current, config);
+            } finally {
+                if (held != null && held.holders.remove(this)) {
+                    held.semaphore.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the {@code CLASS} and {@code SUITE} scoped drivers of the test
+     * class. The browsers themselves start with the first test that uses them.
+     */
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        List<Field> fields = driverFields(context.getRequiredTestClass());
+        if (fields.stream().allMatch(f -> f.getAnnotation(HubDriver.class).scope() == HubDriverScope.METHOD)) {
+            return;
+        }
+        HubConfig global = SpringExtension.getApplicationContext(context).getBean(HubDriverFactory.class)
+                .getDefaultConfig();
+        for (Field field : fields) {
+            HubDriver annotation = field.getAnnotation(HubDriver.class);
+            if (annotation.scope() != HubDriverScope.METHOD) {
+                sharedDriver(context, field, annotation, resolveConfig(global, annotation));
+            }
+        }
+    }
+
+    /**
+     * Waits for the screenshots and videos of the class to be stored, so that
+     * reporters running after it find them, and releases the {@code CLASS}
+     * scoped drivers. {@code SUITE} scoped drivers live in the root store and
+     * are released when the run ends.
+     * <p>
+     * JUnit runs this after the class's own {@code @AfterAll} methods; those
+     * that read artifacts call {@code ArtifactExecutor.shared().awaitIdle()}
+     * first.
+     */
+    @Override
+    public void afterAll(ExtensionContext context) {
+        PendingArtifacts pending = context.getStore(NAMESPACE).remove(PendingArtifacts.class, PendingArtifacts.class);
+        if (pending != null) {
+            pending.await();
+            ArtifactManager manager = SpringExtension.getApplicationContext(context)
+                    .getBeanProvider(ArtifactManager.class).getIfAvailable();
+            if (manager instanceof ContentAddressedArtifactManager) {
+                ((ContentAddressedArtifactManager) manager).flush();
+            }
+        }
+        for (Field field : driverFields(context.getRequiredTestClass())) {
+            if (field.getAnnotation(HubDriver.class).scope() == HubDriverScope.CLASS) {
+                SharedDriver shared = context.getStore(NAMESPACE).remove(classKey(field), SharedDriver.class);
+                if (shared != null) {
+                    shared.close();
+                }
+            }
+        }
+    }
+
     @Override
     public void beforeEach(ExtensionContext context) throws Exception {
         ApplicationContext springContext = SpringExtension.getApplicationContext(context);
         HubDriverFactory factory = springContext.getBean(HubDriverFactory.class);
         Object testInstance = context.getRequiredTestInstance();
 
-        List<DriverState> createdDrivers = new ArrayList<>();
+        TestState state = new TestState(HubContext.get());
+        getStore(context).put(STATE_KEY, state);
+        state.span = HubTracer.get().startTestSpan(context.getRequiredTestClass().getSimpleName(),
+                context.getRequiredTestMethod().getName());
+
+        List<Field> fields = driverFields(testInstance.getClass());
+        Parameter[] parameters = context.getRequiredTestMethod().getParameters();
+        List<Integer> parameterIndexes = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(HubDriver.class)) {
+                if (parameters[i].getAnnotation(HubDriver.class).scope() != HubDriverScope.METHOD) {
+                    throw new ExtensionConfigurationException(
+                            "@HubDriver parameters are always method-scoped; use a field for " + parameters[i]);
+                }
+                parameterIndexes.add(i);
+            }
+        }
+        if (fields.isEmpty() && parameterIndexes.isEmpty()) {
+            return;
+        }
+
+        // Every driver in declaration order: fields first, then parameters
+        List<HubConfig> configs = new ArrayList<>();
+        List<SharedDriver> shared = new ArrayList<>();
+        for (Field field : fields) {
+            HubDriver annotation = field.getAnnotation(HubDriver.class);
+            HubConfig config = resolveConfig(factory.getDefaultConfig(), annotation);
+            configs.add(config);
+            shared.add(annotation.scope() == HubDriverScope.METHOD ? null
+                    : sharedDriver(context, field, annotation, config));
+        }
+        for (int index : parameterIndexes) {
+            configs.add(resolveConfig(factory.getDefaultConfig(), parameters[index].getAnnotation(HubDriver.class)));
+            shared.add(null);
+        }
 
-        for (Field field : testInstance.getClass().getDeclaredFields()) {
+        List<HubConfig> ownConfigs = new ArrayList<>();
+        for (int i = 0; i < configs.size(); i++) {
+            if (shared.get(i) == null) {
+                ownConfigs.add(configs.get(i));
+            }
+        }
+        if (ownConfigs.size() > parameterIndexes.size()
+                && context.getTestInstanceLifecycle().orElse(null) == TestInstance.Lifecycle.PER_CLASS
+                && context.getExecutionMode() == ExecutionMode.CONCURRENT) {
+            log.warn("{} shares @HubDriver fields between concurrently running methods; "
+                    + "use @HubDriver method parameters instead", testInstance.getClass().getSimpleName());
+        }
+
+        // Browser slots before shared drivers: a test holding a shared driver never waits for slots.
+        // Shared drivers not started yet reserve a slot here and take it when they start.
+        List<SharedDriver> lockOrder = shared.stream().filter(Objects::nonNull).distinct()
+                .sorted(Comparator.comparing(d -> d.key)).collect(Collectors.toList());
+        int starting = (int) lockOrder.stream().filter(d -> d.driver == null).count();
+        if (!ownConfigs.isEmpty() || starting > 0) {
+            acquireBrowserSlots(context, springContext, factory.getDefaultConfig(), ownConfigs.size() + starting,
+                    lockOrder, state);
+        }
+        for (SharedDriver sharedDriver : lockOrder) {
+            sharedDriver.acquire(factory, state);
+            state.sharedDrivers.add(sharedDriver);
+        }
+        // Slots reserved for shared drivers that another test started meanwhile
+        int surplus = state.permits - ownConfigs.size();
+        if (surplus > 0) {
+            state.browserSlots.semaphore.release(surplus);
+            state.permits -= surplus;
+        }
+        List<HubWebDriver> ownDrivers = createDrivers(factory, ownConfigs);
+
+        List<HubWebDriver> drivers = new ArrayList<>();
+        int own = 0;
+        for (int i = 0; i < configs.size(); i++) {
+            SharedDriver sharedDriver = shared.get(i);
+            HubWebDriver driver = sharedDriver != null ? sharedDriver.driver : ownDrivers.get(own++);
+            drivers.add(driver);
+            DriverState driverState = new DriverState(driver, configs.get(i), sharedDriver != null);
+            driverState.recorder = startRecording(driver, configs.get(i));
+            state.drivers.add(driverState);
+        }
+
+        for (int i = 0; i < fields.size(); i++) {
+            Field field = fields.get(i);
+            field.setAccessible(true);
+            field.set(testInstance, drivers.get(i));
+        }
+        for (int i = 0; i < parameterIndexes.size(); i++) {
+            state.parameterDrivers.put(parameterIndexes.get(i), drivers.get(fields.size() + i));
+        }
+
+        HubContext.set(drivers.get(0));
+    }
+
+    /**
+     * Starts recording a driver whose configuration asks for video. Lazy
+     * drivers that have not started their browser yet are not recorded.
+     */
+    private static HubVideoRecorder startRecording(HubWebDriver driver, HubConfig config) {
+        if (config.getVideoOptions() == null) {
+            return null;
+        }
+        HubWebDriver realDriver = HubDriverFactory.unwrapIfLazy(driver);
+        if (realDriver == null) {
+            return null;
+        }
+        return HubVideoRecorder.start(realDriver.getProvider(), realDriver.getSession(), config.getVideoOptions());
+    }
+
+    private static List<Field> driverFields(Class<?> testClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : testClass.getDeclaredFields()) {
             if (field.isAnnotationPresent(HubDriver.class)) {
-                HubDriver annotation = field.getAnnotation(HubDriver.class);
-                HubConfig config = resolveConfig(factory.getDefaultConfig(), annotation);
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Looks up or registers a shared driver: {@code CLASS} drivers in the test
+     * class's store, {@code SUITE} drivers in the root store under their
+     * configuration, so equal configurations share one browser across classes.
+     */
+    private SharedDriver sharedDriver(ExtensionContext context, Field field, HubDriver annotation, HubConfig config) {
+        ExtensionContext owner;
+        String key;
+        if (annotation.scope() == HubDriverScope.CLASS) {
+            owner = classContext(context);
+            key = classKey(field);
+        } else {
+            owner = context.getRoot();
+            key = suiteKey(config, annotation.reset());
+        }
+        return owner.getStore(NAMESPACE).getOrComputeIfAbsent(key,
+                k -> new SharedDriver(k, config, annotation.reset()), SharedDriver.class);
+    }
 
-                HubWebDriver driver = factory.create(config);
-                createdDrivers.add(new DriverState(driver, config));
+    private static ExtensionContext classContext(ExtensionContext context) {
+        ExtensionContext current = context;
+        while (current.getTestMethod().isPresent() && current.getParent().isPresent()) {
+            current = current.getParent().get();
+        }
+        return current;
+    }
 
-                field.setAccessible(true);
-                field.set(testInstance, driver);
+    private static String classKey(Field field) {
+        return "class-driver:" + field.getDeclaringClass().getName() + "#" + field.getName();
+    }
 
-                HubContext.set(driver);
+    private static String suiteKey(HubConfig config, HubStateReset reset) {
+        return "suite-driver:" + String.join("|",
+                String.valueOf(config.getProvider()),
+                String.valueOf(config.getBrowser()),
+                String.valueOf(config.isHeadless()),
+                String.valueOf(config.getGridUrl()),
+                String.valueOf(config.getImplicitWaitMs()),
+                String.valueOf(config.getPageLoadTimeoutMs()),
+                String.valueOf(config.isLazyInit()),
+                String.valueOf(config.isPoolingEnabled()),
+                String.valueOf(config.getNavigationPolicy()),
+                String.valueOf(config.getScreenshotSpec()),
+                String.valueOf(new TreeMap<>(config.getProviderOptions())),
+                reset.name());
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.isAnnotated(HubDriver.class)
+                && parameterContext.getDeclaringExecutable() instanceof Method
+                && parameterContext.getParameter().getType().isAssignableFrom(HubWebDriver.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        TestState state = getState(extensionContext);
+        HubWebDriver driver = state != null ? state.parameterDrivers.get(parameterContext.getIndex()) : null;
+        if (driver == null) {
+            throw new ParameterResolutionException("@HubDriver parameters are only supported on test methods: "
+                    + parameterContext.getParameter());
+        }
+        return driver;
+    }
+
+    /**
+     * Waits until the test may hold {@code browsers} more browsers, besides
+     * the slots its started shared drivers already hold.
+     * <p>
+     * The limit is {@code hub.parallel.max-concurrent-browsers}, capped at the
+     * pool capacity when pooling is enabled so that tests queue here instead of
+     * timing out inside {@link HubDriverPool#borrowDriver}. The first limit
+     * resolved creates one semaphore for the whole run; test classes whose
+     * Spring context resolves another limit, including none, share it with a
+     * warning, so the cap holds across all running tests.
+     * <p>
+     * Started shared drivers hold a slot until their class or the run ends, so
+     * a test gets at most the slots they leave, like a test that declares more
+     * browsers than the limit. When they hold every slot, a waiting test closes
+     * those no test is using, other than its own; they start again when next
+     * needed.
+     */
+    private void acquireBrowserSlots(ExtensionContext context, ApplicationContext springContext, HubConfig global,
+            int browsers, List<SharedDriver> sharedDrivers, TestState state) throws InterruptedException {
+        int limit = browserLimit(springContext, global);
+        ExtensionContext.Store store = context.getRoot().getStore(NAMESPACE);
+        BrowserSlots slots = limit > 0
+                ? store.getOrComputeIfAbsent(BrowserSlots.class, k -> new BrowserSlots(limit), BrowserSlots.class)
+                : store.get(BrowserSlots.class, BrowserSlots.class);
+        if (slots == null) {
+            return;
+        }
+        if (limit != slots.limit && slots.mismatches.add(limit)) {
+            log.warn("{} resolves a browser limit of {}, but the run is already capped at {} concurrent browsers; "
+                    + "the first limit applies to all tests", context.getDisplayName(),
+                    limit > 0 ? limit : "none", slots.limit);
+        }
+        int held = (int) sharedDrivers.stream().filter(d -> d.slots == slots).count();
+        int permits = Math.min(browsers, Math.max(slots.limit - slots.holders.size(), held == 0 ? 1 : 0));
+        if (permits > 0 && !slots.semaphore.tryAcquire(permits)) {
+            log.debug("Waiting for {} of {} browser slot(s) for {}", permits, slots.limit, context.getDisplayName());
+            while (!slots.semaphore.tryAcquire(permits, IDLE_SHARED_DRIVER_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                closeIdleSharedDrivers(slots, permits - (slots.limit - slots.holders.size()), sharedDrivers);
             }
         }
+        state.browserSlots = slots;
+        state.permits = Math.max(permits, 0);
+    }
 
-        getStore(context).put("drivers", createdDrivers);
+    private static void closeIdleSharedDrivers(BrowserSlots slots, int count, List<SharedDriver> keep) {
+        for (SharedDriver holder : slots.holders) {
+            if (count <= 0) {
+                return;
+            }
+            if (!keep.contains(holder) && holder.closeIfIdle()) {
+                count--;
+            }
+        }
+    }
+
+    private int browserLimit(ApplicationContext springContext, HubConfig global) {
+        int configured = springContext.getBeanProvider(HubProperties.class)
+                .getIfAvailable(HubProperties::new)
+                .getParallel()
+                .getMaxConcurrentBrowsers();
+        if (!global.isPoolingEnabled()) {
+            return configured;
+        }
+        return configured > 0 ? Math.min(configured, global.getPoolMaxActive()) : global.getPoolMaxActive();
+    }
+
+    /**
+     * Creates the drivers in order. More than one eager driver is started
+     * concurrently; if any of them fails, the others are released before the
+     * failure is rethrown.
+     */
+    private List<HubWebDriver> createDrivers(HubDriverFactory factory, List<HubConfig> configs) {
+        long eager = configs.stream().filter(c -> !c.isLazyInit()).count();
+        List<HubWebDriver> drivers = new ArrayList<>();
+        if (eager <= 1) {
+            try {
+                for (HubConfig config : configs) {
+                    drivers.add(factory.create(config));
+                }
+            } catch (RuntimeException e) {
+                for (int i = 0; i < drivers.size(); i++) {
+                    releaseQuietly(drivers.get(i), configs.get(i));
+                }
+                throw e;
+            }
+            return drivers;
+        }
+
+        List<CompletableFuture<HubWebDriver>> futures = new ArrayList<>();
+        for (HubConfig config : configs) {
+            futures.add(CompletableFuture.supplyAsync(() -> factory.create(config), DRIVER_EXECUTOR));
+        }
+        RuntimeException failure = null;
+        for (CompletableFuture<HubWebDriver> future : futures) {
+            try {
+                drivers.add(future.join());
+            } catch (CompletionException e) {
+                drivers.add(null);
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+        if (failure != null) {
+            for (int i = 0; i < drivers.size(); i++) {
+                if (drivers.get(i) != null) {
+                    releaseQuietly(drivers.get(i), configs.get(i));
+                }
+            }
+            throw failure;
+        }
+        return drivers;
     }
 
     /**
@@ -102,8 +643,13 @@ public class HubExtension implements BeforeEachCallback, AfterEachCallback, Test
         config.setPoolMinIdle(global.getPoolMinIdle());
         config.setPoolMaxActive(global.getPoolMaxActive());
         config.setLazyInit(global.isLazyInit());
+        config.setElementCaching(global.isElementCaching());
         config.setArtifactPath(global.getArtifactPath());
         config.setArtifactPolicy(global.getArtifactPolicy());
+        config.setArtifactSampleRate(global.getArtifactSampleRate());
+        config.setNavigationPolicy(global.getNavigationPolicy());
+        config.setScreenshotSpec(global.getScreenshotSpec());
+        config.setVideoOptions(global.getVideoOptions());
 
         if (global.getProviderOptions() != null) {
             config.setProviderOptions(new java.util.HashMap<>(global.getProviderOptions()));
@@ -132,50 +678,104 @@ public class HubExtension implements BeforeEachCallback, AfterEachCallback, Test
         return config;
     }
 
+    /**
+     * Captures artifacts while the drivers still belong to this test, then
+     * releases them. Capturing later (from {@link TestWatcher}) would race with
+     * other tests borrowing the same pooled driver.
+     */
     @Override
-    @SuppressWarnings("unchecked")
     public void afterEach(ExtensionContext context) throws Exception {
-        List<DriverState> drivers = (List<DriverState>) getStore(context).get("drivers");
-        if (drivers != null) {
-            for (DriverState state : drivers) {
-                if (state.driver != null) {
-                    HubWebDriver realDriver = HubDriverFactory.unwrapIfLazy(state.driver);
-                    if (realDriver != null) {
-                        if (state.config.isPoolingEnabled()) {
-                            com.dod.hub.facade.pool.HubDriverPool.getInstance().returnDriver(realDriver, state.config);
-                        } else {
-                            realDriver.quit();
-                        }
-                    }
+        TestState state = getState(context);
+        if (state == null) {
+            return;
+        }
+        try {
+            if (!state.drivers.isEmpty()) {
+                handleArtifacts(context, state.drivers, context.getExecutionException().isEmpty());
+                stopRecordings(state.drivers);
+                releaseDrivers(state.drivers.stream().filter(d -> !d.shared).collect(Collectors.toList()));
+            }
+        } finally {
+            for (SharedDriver sharedDriver : state.sharedDrivers) {
+                sharedDriver.release();
+            }
+            state.sharedDrivers.clear();
+            if (state.browserSlots != null) {
+                state.browserSlots.semaphore.release(state.permits);
+                state.browserSlots = null;
+            }
+            if (state.previousContextDriver != null) {
+                HubContext.set(state.previousContextDriver);
+            } else {
+                HubContext.remove();
+            }
+            recordDuration(context, state);
+            state.span.end(context.getExecutionException().orElse(null));
+        }
+    }
+
+    private void recordDuration(ExtensionContext context, TestState state) {
+        if (state.drivers.isEmpty()) {
+            return;
+        }
+        long durationMs = (System.nanoTime() - state.startNanos) / 1_000_000;
+        SpringExtension.getApplicationContext(context).getBeanProvider(HubDurationStore.class)
+                .ifAvailable(store -> store.record(context.getRequiredTestClass().getName(),
+                        context.getRequiredTestMethod().getName(), durationMs,
+                        HubDurationStore.driverKey(state.drivers.stream().map(d -> d.config).toList())));
+    }
+
+    private void releaseDrivers(List<DriverState> drivers) {
+        if (drivers.isEmpty()) {
+            return;
+        }
+        if (drivers.size() == 1) {
+            releaseQuietly(drivers.get(0).driver, drivers.get(0).config);
+            return;
+        }
+        CompletableFuture.allOf(drivers.stream()
+                .map(state -> CompletableFuture.runAsync(() -> releaseQuietly(state.driver, state.config),
+                        DRIVER_EXECUTOR))
+                .toArray(CompletableFuture[]::new)).join();
+    }
+
+    private static void releaseQuietly(HubWebDriver driver, HubConfig config) {
+        if (driver == null) {
+            return;
+        }
+        try {
+            HubWebDriver realDriver = HubDriverFactory.unwrapIfLazy(driver);
+            if (realDriver != null) {
+                if (config.isPoolingEnabled()) {
+                    HubDriverPool.getInstance().returnDriver(realDriver, config);
+                } else {
+                    realDriver.quit();
                 }
             }
+        } catch (Exception e) {
+            log.warn("Failed to release driver: {}", e.getMessage());
         }
-        HubContext.remove();
     }
 
     @Override
     public void testSuccessful(ExtensionContext context) {
         emitTelemetry(context, HubTestEvent.TEST_PASSED, null);
-        handleArtifacts(context, null, true);
     }
 
     @Override
     public void testFailed(ExtensionContext context, Throwable cause) {
         emitTelemetry(context, HubTestEvent.TEST_FAILED, cause);
-        handleArtifacts(context, cause, false);
     }
 
-    @SuppressWarnings("unchecked")
     private void emitTelemetry(ExtensionContext context, HubTestEvent event, Throwable cause) {
-        List<DriverState> drivers = (List<DriverState>) getStore(context).get("drivers");
-        if (drivers == null || drivers.isEmpty())
+        TestState state = getState(context);
+        if (state == null || state.drivers.isEmpty())
             return;
 
         ApplicationContext springContext = SpringExtension.getApplicationContext(context);
         try {
             TelemetryListener listener = springContext.getBean(TelemetryListener.class);
-            DriverState state = drivers.get(0);
-            long duration = System.currentTimeMillis() - state.startTime;
+            long duration = System.currentTimeMillis() - state.drivers.get(0).startTime;
 
             HubTestResult result = new HubTestResult(
                     context.getRequiredTestClass().getSimpleName(),
@@ -190,14 +790,7 @@ public class HubExtension implements BeforeEachCallback, AfterEachCallback, Test
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private void handleArtifacts(ExtensionContext context, Throwable cause, boolean success) {
-        List<DriverState> drivers = (List<DriverState>) getStore(context).get("drivers");
-        if (drivers == null || drivers.isEmpty()) {
-            log.trace("No drivers found in context for artifact capture.");
-            return;
-        }
-
+    private void handleArtifacts(ExtensionContext context, List<DriverState> drivers, boolean success) {
         ApplicationContext springContext = SpringExtension.getApplicationContext(context);
         ArtifactManager artifactManager = null;
         try {
@@ -207,40 +800,85 @@ public class HubExtension implements BeforeEachCallback, AfterEachCallback, Test
             return;
         }
 
+        String testId = context.getRequiredTestClass().getName() + "#" + context.getRequiredTestMethod().getName();
+        String className = context.getRequiredTestClass().getSimpleName();
+        String methodName = context.getRequiredTestMethod().getName();
+        PendingArtifacts pending = pendingArtifacts(context);
         for (DriverState state : drivers) {
+            saveVideo(state, artifactManager, className, methodName, success, pending);
             HubConfig config = state.config;
-            HubArtifactPolicy policy = config.getArtifactPolicy();
-
-            boolean shouldCapture = false;
-            if (policy == HubArtifactPolicy.ALWAYS) {
-                shouldCapture = true;
-            } else if (policy == HubArtifactPolicy.ON_FAILURE && !success) {
-                shouldCapture = true;
+            if (state.driver == null
+                    || !config.getArtifactPolicy().shouldCapture(!success, config.getArtifactSampleRate(), testId)) {
+                continue;
             }
+            try {
+                HubWebDriver realDriver = HubDriverFactory.unwrapIfLazy(state.driver);
+                if (realDriver == null) {
+                    continue;
+                }
+                // Capture only; scaling, encoding and writing happen off the test thread
+                HubScreenshotSpec spec = config.getScreenshotSpec();
+                HubScreenshotSpec captureSpec = ArtifactExecutor.captureSpec(spec);
+                byte[] capture = captureSpec != null
+                        ? realDriver.getScreenshotAs(OutputType.BYTES, captureSpec)
+                        : realDriver.getScreenshotAs(OutputType.BYTES);
+
+                String extension = spec != null ? spec.getFileExtension() : "png";
+                String fileName = (success ? "screenshot." : "failure_screenshot.") + extension;
+                ArtifactManager manager = artifactManager;
+                pending.add(ArtifactExecutor.shared().submit(capture, spec,
+                        image -> manager.saveArtifact(className, methodName, fileName, image)));
+            } catch (Exception e) {
+                log.error("Failed to capture artifact: {}", e.getMessage());
+            }
+        }
+    }
 
-            if (shouldCapture && state.driver != null) {
-                try {
-                    HubWebDriver realDriver = HubDriverFactory.unwrapIfLazy(state.driver);
-                    byte[] screenshot = ((TakesScreenshot) realDriver)
-                            .getScreenshotAs(OutputType.BYTES);
+    /**
+     * Stops a driver's recording and, for a failing test, muxes and stores the
+     * video on the artifact workers. Passing tests only drop their frames.
+     */
+    private static void saveVideo(DriverState state, ArtifactManager manager, String className, String methodName,
+            boolean success, PendingArtifacts pending) {
+        if (state.recorder == null) {
+            return;
+        }
+        HubVideo video = state.recorder.stop();
+        state.recorder = null;
+        if (success || video.isEmpty()) {
+            return;
+        }
+        String fileName = "failure_video." + HubVideo.FILE_EXTENSION;
+        pending.add(ArtifactExecutor.shared()
+                .submit(() -> manager.saveArtifact(className, methodName, fileName, video.toAvi())));
+    }
 
-                    String fileName = "screenshot.png";
-                    if (!success) {
-                        fileName = "failure_screenshot.png";
-                    }
+    /**
+     * The pending artifacts of the test class, kept in the class's store so
+     * that {@link #afterAll} of the same class awaits them.
+     */
+    private static PendingArtifacts pendingArtifacts(ExtensionContext context) {
+        ExtensionContext classContext = context;
+        while (classContext.getTestMethod().isPresent() && classContext.getParent().isPresent()) {
+            classContext = classContext.getParent().get();
+        }
+        return classContext.getStore(NAMESPACE).getOrComputeIfAbsent(PendingArtifacts.class,
+                key -> new PendingArtifacts(), PendingArtifacts.class);
+    }
 
-                    artifactManager.saveArtifact(
-                            context.getRequiredTestClass().getSimpleName(),
-                            context.getRequiredTestMethod().getName(),
-                            fileName,
-                            screenshot);
-                } catch (Exception e) {
-                    log.error("Failed to capture artifact: {}", e.getMessage());
-                }
+    private static void stopRecordings(List<DriverState> drivers) {
+        for (DriverState state : drivers) {
+            if (state.recorder != null) {
+                state.recorder.stop();
+                state.recorder = null;
             }
         }
     }
 
+    private TestState getState(ExtensionContext context) {
+        return getStore(context).get(STATE_KEY, TestState.class);
+    }
+
     private ExtensionContext.Store getStore(ExtensionContext context) {
         return context.getStore(NAMESPACE);
     }
@@ -1,7 +1,10 @@
 package com.dod.hub.starter.pagefactory;
 
+import com.dod.hub.core.provider.ProviderSession;
 import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
 import com.dod.hub.facade.pagefactory.HubPageFactory;
+import com.dod.hub.starter.context.ContextBoundHubWebDriver;
 import com.dod.hub.starter.context.HubContext;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.context.ApplicationContext;
@@ -11,14 +14,27 @@ import org.springframework.stereotype.Component;
  * A Spring-aware PageFactory that creates Page Objects as full Spring Beans
  * (supporting @Autowired), while also initializing them with HubPageFactory
  * (supporting @FindBy for nested components).
+ * <p>
+ * With page reuse enabled ({@code hub.performance.page-reuse}), asking again
+ * for a page of the same class returns the same instance as long as the
+ * driver has neither navigated nor started a new session, so pages must not
+ * keep state of their own. Reused pages are kept in the driver's
+ * {@link HubWebDriver#getPageCache() page cache}: their elements refer to the
+ * driver, so a cache keyed by the driver would keep every driver alive.
  */
 @Component
 public class HubSpringFactory {
 
     private final AutowireCapableBeanFactory beanFactory;
+    private final boolean reusePages;
 
     public HubSpringFactory(ApplicationContext context) {
+        this(context, false);
+    }
+
+    public HubSpringFactory(ApplicationContext context, boolean reusePages) {
         this.beanFactory = context.getAutowireCapableBeanFactory();
+        this.reusePages = reusePages;
     }
 
     /**
@@ -44,6 +60,29 @@ public class HubSpringFactory {
      * Creates a new instance with a specific driver.
      */
     public <T> T createPage(HubWebDriver driver, Class<T> pageClass) {
+        if (driver instanceof ContextBoundHubWebDriver) {
+            // Pages are kept per test driver, not per shared bean
+            driver = HubContext.get();
+        }
+        if (!reusePages || driver == null
+                || (driver instanceof LazyHubWebDriver && !((LazyHubWebDriver) driver).isInitialized())) {
+            return newPage(driver, pageClass);
+        }
+        ProviderSession session = driver.getSession();
+        long navigation = driver.getNavigationCount();
+        Object cached = driver.getPageCache().get(pageClass);
+        if (cached instanceof PageEntry) {
+            PageEntry entry = (PageEntry) cached;
+            if (entry.session == session && entry.navigation == navigation) {
+                return pageClass.cast(entry.page);
+            }
+        }
+        T page = newPage(driver, pageClass);
+        driver.getPageCache().put(pageClass, new PageEntry(page, session, navigation));
+        return page;
+    }
+
+    private <T> T newPage(HubWebDriver driver, Class<T> pageClass) {
         // 1. Create and Autowire the bean
         // createBean() instantiates, autowires, and initializes (PostConstruct)
         T page = beanFactory.createBean(pageClass);
@@ -53,4 +92,16 @@ public class HubSpringFactory {
 
         return page;
     }
+
+    private static final class PageEntry {
+        final Object page;
+        final ProviderSession session;
+        final long navigation;
+
+        PageEntry(Object page, ProviderSession session, long navigation) {
+            this.page = page;
+            this.session = session;
+            this.navigation = navigation;
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.dod.hub.starter;
 
+import com.dod.hub.core.provider.ArtifactExecutor;
 import com.dod.hub.facade.HubWebDriver;
 import com.dod.hub.starter.junit.HubDriver;
 import com.dod.hub.starter.junit.HubTest;
@@ -46,6 +47,8 @@ public class ArtifactIntegrationTest {
 
     @AfterAll
     static void verifyFiles() throws IOException {
+        // Screenshots are stored off the test thread; HubExtension only waits for them after this method
+        ArtifactExecutor.shared().awaitIdle();
         if (Files.exists(TEST_PATH)) {
             try (Stream<Path> paths = Files.walk(TEST_PATH)) {
                 long pngCount = paths
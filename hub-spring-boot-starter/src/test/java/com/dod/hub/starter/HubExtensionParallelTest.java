@@ -0,0 +1,96 @@
+package com.dod.hub.starter;
+
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.starter.context.HubContext;
+import com.dod.hub.starter.junit.HubDriver;
+import com.dod.hub.starter.junit.HubTest;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifies per-test driver state, concurrent driver creation and the browser
+ * limit of {@link com.dod.hub.starter.junit.HubExtension} without launching
+ * browsers.
+ */
+@HubTest
+@Import(HubExtensionParallelTest.RecordingFactoryConfig.class)
+@TestPropertySource(properties = {
+        "hub.parallel.max-concurrent-browsers=4",
+        "hub.telemetry.enabled=false"
+})
+@Execution(ExecutionMode.CONCURRENT)
+public class HubExtensionParallelTest {
+
+    @HubDriver
+    private HubWebDriver primary;
+
+    @HubDriver(browser = HubBrowserType.FIREFOX)
+    private HubWebDriver secondary;
+
+    @Autowired
+    private RecordingFactory factory;
+
+    @RepeatedTest(6)
+    void fieldsShouldGetSeparateDriversCreatedConcurrently() throws InterruptedException {
+        assertThat(primary).isNotNull().isNotSameAs(secondary);
+        assertThat(HubContext.get()).as("first declared field is the primary driver").isSameAs(primary);
+
+        Thread.sleep(100);
+        assertThat(factory.maxOpen.get()).isLessThanOrEqualTo(4);
+        assertThat(factory.sequentialCreates.get()).as("multi-driver tests create drivers off-thread").isZero();
+    }
+
+    @Test
+    void methodParametersShouldBeResolvedPerTest(@HubDriver HubWebDriver extra) {
+        assertThat(extra).isNotNull().isNotSameAs(primary).isNotSameAs(secondary);
+        assertThat(HubContext.get()).isSameAs(primary);
+        assertThat(factory.maxOpen.get()).isLessThanOrEqualTo(4);
+    }
+
+    @TestConfiguration
+    static class RecordingFactoryConfig {
+        @Bean
+        @Primary
+        RecordingFactory recordingFactory(HubConfig config) {
+            return new RecordingFactory(config);
+        }
+    }
+
+    static class RecordingFactory extends HubDriverFactory {
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger maxOpen = new AtomicInteger();
+        final AtomicInteger sequentialCreates = new AtomicInteger();
+
+        RecordingFactory(HubConfig config) {
+            super(config);
+        }
+
+        @Override
+        public HubWebDriver create(HubConfig config) {
+            if (!Thread.currentThread().getName().startsWith("hub-driver-")) {
+                sequentialCreates.incrementAndGet();
+            }
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+
+            HubWebDriver driver = mock(HubWebDriver.class);
+            doAnswer(invocation -> open.decrementAndGet()).when(driver).quit();
+            return driver;
+        }
+    }
+}
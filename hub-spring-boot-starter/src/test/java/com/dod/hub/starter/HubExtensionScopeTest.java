@@ -0,0 +1,108 @@
+package com.dod.hub.starter;
+
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubDriverScope;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.starter.context.HubContext;
+import com.dod.hub.starter.junit.HubDriver;
+import com.dod.hub.starter.junit.HubTest;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verifies that class- and suite-scoped {@link HubDriver} fields are shared
+ * between tests and reset in between, without launching browsers.
+ */
+@HubTest
+@Import(HubExtensionScopeTest.MockFactoryConfig.class)
+@TestPropertySource(properties = "hub.telemetry.enabled=false")
+@Execution(ExecutionMode.SAME_THREAD)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class HubExtensionScopeTest {
+
+    private static HubWebDriver firstClassDriver;
+    private static HubWebDriver firstMethodDriver;
+    private static HubWebDriver firstSuiteDriver;
+
+    @HubDriver(scope = HubDriverScope.CLASS)
+    private HubWebDriver classDriver;
+
+    @HubDriver
+    private HubWebDriver methodDriver;
+
+    @HubDriver(browser = HubBrowserType.FIREFOX, scope = HubDriverScope.SUITE, reset = HubStateReset.NONE)
+    private HubWebDriver suiteDriver;
+
+    @Autowired
+    private MockFactory factory;
+
+    @Test
+    @Order(1)
+    void firstTestShouldCreateEveryDriver() {
+        assertThat(classDriver).isNotNull().isNotSameAs(methodDriver).isNotSameAs(suiteDriver);
+        assertThat(HubContext.get()).isSameAs(classDriver);
+        verify(classDriver, never()).resetState(HubStateReset.COOKIES_AND_STORAGE);
+
+        firstClassDriver = classDriver;
+        firstMethodDriver = methodDriver;
+        firstSuiteDriver = suiteDriver;
+    }
+
+    @Test
+    @Order(2)
+    void laterTestsShouldReuseSharedDriversAfterReset() {
+        assertThat(classDriver).isSameAs(firstClassDriver);
+        assertThat(suiteDriver).isSameAs(firstSuiteDriver);
+        assertThat(methodDriver).isNotSameAs(firstMethodDriver);
+
+        verify(classDriver, times(1)).resetState(HubStateReset.COOKIES_AND_STORAGE);
+        verify(classDriver, never()).quit();
+        verify(suiteDriver, never()).resetState(any());
+        verify(firstMethodDriver).quit();
+        assertThat(factory.created.get()).isEqualTo(4);
+    }
+
+    @TestConfiguration
+    static class MockFactoryConfig {
+        @Bean
+        @Primary
+        MockFactory mockFactory(HubConfig config) {
+            return new MockFactory(config);
+        }
+    }
+
+    static class MockFactory extends HubDriverFactory {
+        final AtomicInteger created = new AtomicInteger();
+
+        MockFactory(HubConfig config) {
+            super(config);
+        }
+
+        @Override
+        public HubWebDriver create(HubConfig config) {
+            created.incrementAndGet();
+            return mock(HubWebDriver.class);
+        }
+    }
+}
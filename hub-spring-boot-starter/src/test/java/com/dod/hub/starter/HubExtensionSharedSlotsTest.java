@@ -0,0 +1,108 @@
+package com.dod.hub.starter;
+
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubDriverScope;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.starter.junit.HubDriver;
+import com.dod.hub.starter.junit.HubTest;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifies that started shared drivers count against
+ * {@code hub.parallel.max-concurrent-browsers}, without launching browsers.
+ */
+@HubTest
+@Import(HubExtensionSharedSlotsTest.CountingFactoryConfig.class)
+@TestPropertySource(properties = {
+        "hub.parallel.max-concurrent-browsers=4",
+        "hub.telemetry.enabled=false"
+})
+@Execution(ExecutionMode.SAME_THREAD)
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+public class HubExtensionSharedSlotsTest {
+
+    @Nested
+    @Order(1)
+    class SuiteScoped {
+
+        @HubDriver(browser = HubBrowserType.EDGE, scope = HubDriverScope.SUITE, reset = HubStateReset.NONE)
+        private HubWebDriver suiteDriver;
+
+        @Test
+        void startsSuiteDriver() {
+            assertThat(suiteDriver).isNotNull();
+        }
+    }
+
+    @Nested
+    @Order(2)
+    @Execution(ExecutionMode.CONCURRENT)
+    class MethodScopedNextToSuiteDriver {
+
+        @HubDriver
+        private HubWebDriver first;
+        @HubDriver
+        private HubWebDriver second;
+
+        @Autowired
+        private CountingFactory factory;
+
+        @Test
+        void firstTestShouldShareTheRemainingSlots() throws InterruptedException {
+            Thread.sleep(300);
+            assertThat(factory.maxOpen.get()).isLessThanOrEqualTo(4);
+        }
+
+        @Test
+        void secondTestShouldShareTheRemainingSlots() throws InterruptedException {
+            Thread.sleep(300);
+            assertThat(factory.maxOpen.get()).isLessThanOrEqualTo(4);
+        }
+    }
+
+    @TestConfiguration
+    static class CountingFactoryConfig {
+        @Bean
+        @Primary
+        CountingFactory countingFactory(HubConfig config) {
+            return new CountingFactory(config);
+        }
+    }
+
+    static class CountingFactory extends HubDriverFactory {
+        final AtomicInteger open = new AtomicInteger();
+        final AtomicInteger maxOpen = new AtomicInteger();
+
+        CountingFactory(HubConfig config) {
+            super(config);
+        }
+
+        @Override
+        public HubWebDriver create(HubConfig config) {
+            maxOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+            HubWebDriver driver = mock(HubWebDriver.class);
+            doAnswer(invocation -> open.decrementAndGet()).when(driver).quit();
+            return driver;
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.dod.hub.starter;
 
+import com.dod.hub.core.telemetry.FileTelemetryListener;
 import com.dod.hub.facade.HubWebDriver;
 import com.dod.hub.starter.junit.HubDriver;
 import com.dod.hub.starter.junit.HubTest;
+import com.dod.hub.starter.telemetry.TelemetryListener;
 import org.junit.jupiter.api.*;
+import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.TestPropertySource;
 
 import java.io.IOException;
@@ -15,7 +18,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Integration test for the Telemetry system.
- * Verifies that hub-telemetry.json is created with expected events.
+ * Verifies that hub-telemetry.ndjson is created with expected events.
  */
 @HubTest
 @TestPropertySource(properties = {
@@ -28,7 +31,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class TelemetryIntegrationTest {
 
-    private static final Path TELEMETRY_FILE = Paths.get("target/telemetry-test/hub-telemetry.json");
+    private static final Path TELEMETRY_FILE = Paths.get("target/telemetry-test/hub-telemetry.ndjson");
 
     @HubDriver
     private HubWebDriver driver;
@@ -45,7 +48,8 @@ public class TelemetryIntegrationTest {
     }
 
     @AfterAll
-    static void verifyTelemetryFile() throws IOException {
+    static void verifyTelemetryFile(ApplicationContext context) throws IOException {
+        ((FileTelemetryListener) context.getBean(TelemetryListener.class)).flush();
         assertThat(Files.exists(TELEMETRY_FILE))
                 .as("Telemetry file should be created")
                 .isTrue();
@@ -0,0 +1,97 @@
+package com.dod.hub.starter.artifacts;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentAddressedArtifactManagerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Identical artifacts of different tests should share one blob and get an index entry each")
+    void deduplicatesBlobs(@TempDir Path dir) throws IOException {
+        byte[] errorPage = "same error page".getBytes(StandardCharsets.UTF_8);
+        Path first;
+        Path second;
+        try (ContentAddressedArtifactManager manager = new ContentAddressedArtifactManager(dir, false, 4)) {
+            first = manager.saveArtifact("LoginTest", "fails", "failure_screenshot.png", errorPage);
+            second = manager.saveArtifact("CartTest", "fails", "failure_screenshot.png", errorPage.clone());
+            manager.saveArtifact("CartTest", "fails", "other.png", new byte[] {1, 2, 3});
+            manager.flush();
+
+            assertThat(first).isEqualTo(second).hasBinaryContent(errorPage);
+        }
+        try (Stream<Path> files = Files.walk(dir.resolve(ContentAddressedArtifactManager.BLOB_DIR))) {
+            assertThat(files.filter(Files::isRegularFile)).hasSize(2);
+        }
+
+        List<String> lines = Files.readAllLines(dir.resolve(ContentAddressedArtifactManager.INDEX_FILE));
+        assertThat(lines).hasSize(3);
+        JsonNode entry = mapper.readTree(lines.get(1));
+        assertThat(entry.get("testClass").asText()).isEqualTo("CartTest");
+        assertThat(entry.get("fileName").asText()).isEqualTo("failure_screenshot.png");
+        assertThat(dir.resolve(entry.get("blob").asText())).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("A failed blob write should leave no index entry and be retried by a later duplicate")
+    void retriesFailedBlobs(@TempDir Path dir) throws Exception {
+        byte[] errorPage = "same error page".getBytes(StandardCharsets.UTF_8);
+        String hash = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(errorPage));
+        // A file where the blob's directory belongs makes the writes fail
+        Path obstacle = dir.resolve(ContentAddressedArtifactManager.BLOB_DIR).resolve(hash.substring(0, 2));
+        Files.createDirectories(obstacle.getParent());
+        Files.write(obstacle, new byte[0]);
+        Path index = dir.resolve(ContentAddressedArtifactManager.INDEX_FILE);
+        Path blob;
+        try (ContentAddressedArtifactManager manager = new ContentAddressedArtifactManager(dir, false, 4)) {
+            blob = manager.saveArtifact("LoginTest", "fails", "failure_screenshot.png", errorPage);
+            manager.saveArtifact("CartTest", "fails", "failure_screenshot.png", errorPage.clone());
+            manager.flush();
+            assertThat(index).doesNotExist();
+
+            Files.delete(obstacle);
+            manager.saveArtifact("SearchTest", "fails", "failure_screenshot.png", errorPage.clone());
+        }
+
+        assertThat(blob).hasBinaryContent(errorPage);
+        List<String> lines = Files.readAllLines(index);
+        assertThat(lines).hasSize(1);
+        assertThat(mapper.readTree(lines.get(0)).get("testClass").asText()).isEqualTo("SearchTest");
+    }
+
+    @Test
+    @DisplayName("Text artifacts should be gzipped when compression is enabled")
+    void compressesText(@TempDir Path dir) throws IOException {
+        byte[] log = "line\n".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        Path blob;
+        try (ContentAddressedArtifactManager manager = new ContentAddressedArtifactManager(dir, true, 4)) {
+            blob = manager.saveArtifact("LoginTest", "fails", "console.log", log);
+        }
+
+        assertThat(blob.getFileName().toString()).endsWith(".log.gz");
+        assertThat(Files.size(blob)).isLessThan(log.length);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(blob))) {
+            assertThat(in.readAllBytes()).isEqualTo(log);
+        }
+        List<String> lines = Files.readAllLines(dir.resolve(ContentAddressedArtifactManager.INDEX_FILE));
+        assertThat(lines).hasSize(1);
+        assertThat(mapper.readTree(lines.get(0)).get("fileName").asText()).isEqualTo("console.log");
+    }
+}
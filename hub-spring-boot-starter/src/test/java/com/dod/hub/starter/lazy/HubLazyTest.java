@@ -1,6 +1,7 @@
 package com.dod.hub.starter.lazy;
 
 import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
 import com.dod.hub.starter.HubDriverFactory;
 import com.dod.hub.starter.junit.HubDriver;
 import com.dod.hub.starter.junit.HubTest;
@@ -29,9 +30,12 @@ public class HubLazyTest {
 
     @Test
     void testLazyProxyInitialization() {
+        assertThat(driver)
+                .as("Injected driver should be a lazy handle")
+                .isInstanceOf(LazyHubWebDriver.class);
         assertThat(org.springframework.aop.support.AopUtils.isAopProxy(driver))
-                .as("Injected driver should be a Spring AOP Proxy")
-                .isTrue();
+                .as("Lazy handle should not need a Spring AOP Proxy")
+                .isFalse();
 
         HubWebDriver realDriver = HubDriverFactory.unwrapIfLazy(driver);
         assertThat(realDriver)
@@ -0,0 +1,78 @@
+package com.dod.hub.starter.pagefactory;
+
+import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.dod.hub.facade.HubWebDriver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HubSpringFactoryTest {
+
+    private AnnotationConfigApplicationContext context;
+    private HubWebDriver driver;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext();
+        context.refresh();
+        HubProvider provider = mock(HubProvider.class);
+        when(provider.getName()).thenReturn("mock");
+        when(provider.start(any())).thenAnswer(inv -> new ProviderSession("mock", inv.getArgument(0), new Object()));
+        driver = new HubWebDriver(provider, new SessionCapabilities());
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Reused pages should be returned until the driver navigates")
+    void reusesPagesUntilNavigation() {
+        HubSpringFactory factory = new HubSpringFactory(context, true);
+
+        SearchPage page = factory.createPage(driver, SearchPage.class);
+        assertThat(page.query).isNotNull();
+        assertThat(factory.createPage(driver, SearchPage.class)).isSameAs(page);
+
+        driver.navigate().refresh();
+        assertThat(factory.createPage(driver, SearchPage.class)).isNotSameAs(page);
+    }
+
+    @Test
+    @DisplayName("Reused pages should be kept on the driver and dropped when it quits")
+    void dropsPagesOnQuit() {
+        HubSpringFactory factory = new HubSpringFactory(context, true);
+        factory.createPage(driver, SearchPage.class);
+        assertThat(driver.getPageCache()).containsKey(SearchPage.class);
+
+        driver.quit();
+
+        assertThat(driver.getPageCache()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Pages should be created on every call by default")
+    void createsPagesByDefault() {
+        HubSpringFactory factory = new HubSpringFactory(context);
+
+        assertThat(factory.createPage(driver, SearchPage.class))
+                .isNotSameAs(factory.createPage(driver, SearchPage.class));
+    }
+
+    public static class SearchPage {
+        @FindBy(name = "q")
+        WebElement query;
+    }
+}
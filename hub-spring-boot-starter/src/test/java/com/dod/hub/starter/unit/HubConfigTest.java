@@ -3,7 +3,11 @@ package com.dod.hub.starter.unit;
 import com.dod.hub.core.config.HubArtifactPolicy;
 import com.dod.hub.core.config.HubBrowserType;
 import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubPageLoadStrategy;
 import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.core.config.HubScreenshotSpec;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +27,8 @@ public class HubConfigTest {
         assertThat(config.isPoolingEnabled()).isFalse();
         assertThat(config.isLazyInit()).isFalse();
         assertThat(config.getArtifactPolicy()).isEqualTo(HubArtifactPolicy.ON_FAILURE);
+        assertThat(config.getNavigationPolicy().getStrategy()).isEqualTo(HubPageLoadStrategy.NORMAL);
+        assertThat(config.getScreenshotSpec()).isNull();
     }
 
     @Test
@@ -35,6 +41,8 @@ public class HubConfigTest {
         config.setPoolMaxActive(10);
         config.setLazyInit(true);
         config.setArtifactPolicy(HubArtifactPolicy.ALWAYS);
+        config.setNavigationPolicy(HubNavigationPolicy.eager());
+        config.setScreenshotSpec(HubScreenshotSpec.fullPage().jpeg(70));
 
         assertThat(config.getProvider()).isEqualTo(HubProviderType.PLAYWRIGHT);
         assertThat(config.getBrowser()).isEqualTo(HubBrowserType.FIREFOX);
@@ -43,5 +51,17 @@ public class HubConfigTest {
         assertThat(config.getPoolMaxActive()).isEqualTo(10);
         assertThat(config.isLazyInit()).isTrue();
         assertThat(config.getArtifactPolicy()).isEqualTo(HubArtifactPolicy.ALWAYS);
+        assertThat(config.getNavigationPolicy()).isEqualTo(HubNavigationPolicy.eager());
+        assertThat(config.getScreenshotSpec().getFormat()).isEqualTo(HubImageFormat.JPEG);
+        assertThat(config.getScreenshotSpec().getFileExtension()).isEqualTo("jpg");
+    }
+
+    @Test
+    void customNavigationPolicyShouldBeDetected() {
+        HubNavigationPolicy policy = HubNavigationPolicy.whenScript("window.appReady === true");
+
+        assertThat(policy.isCustom()).isTrue();
+        assertThat(policy.getStrategy()).isEqualTo(HubPageLoadStrategy.NONE);
+        assertThat(HubNavigationPolicy.of(HubPageLoadStrategy.EAGER).isCustom()).isFalse();
     }
 }
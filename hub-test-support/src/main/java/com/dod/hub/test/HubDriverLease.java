@@ -0,0 +1,176 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.provider.ArtifactExecutor;
+import com.dod.hub.core.video.HubVideo;
+import com.dod.hub.core.video.HubVideoRecorder;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
+import com.dod.hub.facade.pool.HubDriverPool;
+import org.openqa.selenium.OutputType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A driver held by one test: borrowed from {@link HubDriverPool} (or created as
+ * a {@link LazyHubWebDriver} handle when lazy initialization is enabled) and
+ * returned or quit by {@link #release()}.
+ */
+public final class HubDriverLease {
+
+    private static final Logger log = LoggerFactory.getLogger(HubDriverLease.class);
+
+    private final HubWebDriver driver;
+    private final HubConfig config;
+    private final long startTime;
+    private volatile HubVideoRecorder recorder;
+
+    private HubDriverLease(HubConfig config) {
+        this.config = config;
+        this.startTime = System.currentTimeMillis();
+        this.driver = config.isLazyInit()
+                ? new LazyHubWebDriver(() -> startRecording(HubDriverPool.getInstance().borrowDriver(config)))
+                : startRecording(HubDriverPool.getInstance().borrowDriver(config));
+    }
+
+    /**
+     * Borrows a driver. When the configuration asks for video, recording
+     * starts with the borrow, or with the first call of a lazy driver.
+     */
+    public static HubDriverLease borrow(HubConfig config) {
+        return new HubDriverLease(config);
+    }
+
+    private HubWebDriver startRecording(HubWebDriver realDriver) {
+        if (config.getVideoOptions() != null) {
+            recorder = HubVideoRecorder.start(realDriver.getProvider(), realDriver.getSession(),
+                    config.getVideoOptions());
+        }
+        return realDriver;
+    }
+
+    public HubWebDriver getDriver() {
+        return driver;
+    }
+
+    public HubConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return Milliseconds since the driver was borrowed.
+     */
+    public long elapsedMs() {
+        return System.currentTimeMillis() - startTime;
+    }
+
+    /**
+     * Captures a screenshot when the artifact policy asks for one and saves it
+     * below {@code artifactPath/<testClass>/<testName>}. Only the capture runs
+     * on the calling thread; scaling, encoding and writing are left to
+     * {@link ArtifactExecutor#shared()}. Lazy drivers that were never used
+     * are skipped.
+     *
+     * @return The file the screenshot is written to, or null if nothing was
+     *         captured.
+     */
+    public Path captureArtifact(String testClass, String testName, boolean failed) {
+        if (!config.getArtifactPolicy().shouldCapture(failed, config.getArtifactSampleRate(),
+                testClass + "#" + testName)) {
+            return null;
+        }
+        try {
+            HubWebDriver realDriver = unwrap(driver);
+            if (realDriver == null) {
+                return null;
+            }
+            HubScreenshotSpec spec = config.getScreenshotSpec();
+            HubScreenshotSpec captureSpec = ArtifactExecutor.captureSpec(spec);
+            byte[] capture = captureSpec != null
+                    ? realDriver.getScreenshotAs(OutputType.BYTES, captureSpec)
+                    : realDriver.getScreenshotAs(OutputType.BYTES);
+            String extension = spec != null ? spec.getFileExtension() : "png";
+            Path targetDir = Paths.get(config.getArtifactPath()).resolve(testClass).resolve(testName);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss_SSS"));
+            Path target = targetDir.resolve(timestamp + "_" + (failed ? "failure_screenshot." : "screenshot.")
+                    + extension);
+            ArtifactExecutor.shared().submit(capture, spec, image -> write(target, image));
+            return target;
+        } catch (RuntimeException e) {
+            log.error("Failed to capture artifact: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Stops recording the session, if it is recorded, and keeps the video of
+     * a failed test as {@code artifactPath/<testClass>/<testName>/..._failure_video.avi}.
+     * The video is muxed and written by {@link ArtifactExecutor#shared()};
+     * a passing test only drops the frames.
+     *
+     * @return The file the video is written to, or null if none is kept.
+     */
+    public Path captureVideo(String testClass, String testName, boolean failed) {
+        if (recorder == null) {
+            return null;
+        }
+        HubVideo video = recorder.stop();
+        recorder = null;
+        if (!failed || video.isEmpty()) {
+            return null;
+        }
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("HHmmss_SSS"));
+        Path target = Paths.get(config.getArtifactPath()).resolve(testClass).resolve(testName)
+                .resolve(timestamp + "_failure_video." + HubVideo.FILE_EXTENSION);
+        ArtifactExecutor.shared().submit(() -> write(target, video.toAvi()));
+        return target;
+    }
+
+    private static Path write(Path target, byte[] image) {
+        try {
+            Files.createDirectories(target.getParent());
+            Files.write(target, image);
+            log.info("Artifact saved: {}", target.toAbsolutePath());
+            return target;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the driver to the pool, or quits it when pooling is disabled.
+     * Failures are logged, not thrown.
+     */
+    public void release() {
+        if (recorder != null) {
+            recorder.stop();
+            recorder = null;
+        }
+        try {
+            HubWebDriver realDriver = unwrap(driver);
+            if (realDriver == null) {
+                return;
+            }
+            if (config.isPoolingEnabled()) {
+                HubDriverPool.getInstance().returnDriver(realDriver, config);
+            } else {
+                realDriver.quit();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release driver: {}", e.getMessage());
+        }
+    }
+
+    private static HubWebDriver unwrap(HubWebDriver driver) {
+        return driver instanceof LazyHubWebDriver ? ((LazyHubWebDriver) driver).getIfInitialized() : driver;
+    }
+}
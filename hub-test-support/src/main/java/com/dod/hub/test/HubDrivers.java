@@ -0,0 +1,65 @@
+package com.dod.hub.test;
+
+import com.dod.hub.facade.DelegatingHubWebDriver;
+import com.dod.hub.facade.HubWebDriver;
+
+/**
+ * Binds the driver of the running test to its thread, for frameworks that
+ * share test instances between threads (TestNG {@code parallel="methods"},
+ * Cucumber parallel scenarios).
+ * <p>
+ * {@link #current()} returns the bound driver; {@link #bound()} returns a
+ * handle that can be kept in a field or step definition and always forwards to
+ * the calling thread's driver.
+ */
+public final class HubDrivers {
+
+    private static final ThreadLocal<HubWebDriver> CURRENT = new ThreadLocal<>();
+    private static final HubWebDriver BOUND = new ThreadBoundHubWebDriver();
+
+    private HubDrivers() {
+    }
+
+    /**
+     * @return The driver of the test running on this thread.
+     * @throws IllegalStateException if no driver is bound.
+     */
+    public static HubWebDriver current() {
+        HubWebDriver driver = CURRENT.get();
+        if (driver == null) {
+            throw new IllegalStateException("No HubWebDriver is bound to thread " + Thread.currentThread().getName()
+                    + "; is the Hub listener or plugin registered?");
+        }
+        return driver;
+    }
+
+    /**
+     * @return A shared handle forwarding each call to {@link #current()}.
+     */
+    public static HubWebDriver bound() {
+        return BOUND;
+    }
+
+    /**
+     * Binds a driver to this thread. Called by the framework integrations.
+     */
+    public static void bind(HubWebDriver driver) {
+        CURRENT.set(driver);
+    }
+
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    private static final class ThreadBoundHubWebDriver extends DelegatingHubWebDriver {
+        @Override
+        protected HubWebDriver delegate() {
+            return current();
+        }
+
+        @Override
+        public String toString() {
+            return "HubDrivers.bound()";
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.dod.hub.test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * An HTTP server on the loopback interface serving fixed pages, so that
+ * browser tests and benchmarks run offline and against the same content
+ * every time.
+ * <p>
+ * Built-in pages:
+ * <ul>
+ * <li>{@code /}: a login form ({@code #email}, {@code #password},
+ * {@code #submit}) with links to the other pages</li>
+ * <li>{@code /table?rows=N}: a table {@code #results} of N rows (default
+ * {@value #DEFAULT_ROWS}, at most {@value #MAX_ROWS}), each a {@code tr.row} with {@code td.name} and a
+ * {@code td.price} carrying a {@code data-price} attribute</li>
+ * <li>{@code /slow?ms=N}: a page answered after N milliseconds (at most
+ * {@value #MAX_DELAY_MS})</li>
+ * <li>{@code /spa} and every path below it: the same single-page app shell,
+ * which renders the route into {@code #app} and switches routes on clicks on
+ * {@code a[data-route]} through {@code history.pushState}, without loading a
+ * document</li>
+ * </ul>
+ * {@link #page(String, String)} adds pages of a test's own.
+ */
+public final class HubFixtureServer implements AutoCloseable {
+
+    public static final int DEFAULT_ROWS = 100;
+    public static final int MAX_ROWS = 100_000;
+    public static final long MAX_DELAY_MS = 10_000;
+
+    private static final String SPA = "<!DOCTYPE html><html><head><title>Fixture SPA</title></head><body>"
+            + "<nav><a href=\"/spa/home\" data-route=\"/spa/home\">Home</a> "
+            + "<a href=\"/spa/orders\" data-route=\"/spa/orders\">Orders</a> "
+            + "<a href=\"/spa/profile\" data-route=\"/spa/profile\">Profile</a></nav>"
+            + "<main id=\"app\"></main><script>"
+            + "function render(path) {"
+            + " var route = path.replace(/^\\/spa\\/?/, '') || 'home';"
+            + " document.title = 'Fixture SPA - ' + route;"
+            + " document.getElementById('app').innerHTML = '<h1 id=\"route\">' + route + '</h1>'; }"
+            + "document.addEventListener('click', function(e) {"
+            + " var link = e.target.closest('a[data-route]');"
+            + " if (!link) { return; }"
+            + " e.preventDefault(); history.pushState(null, '', link.dataset.route); render(link.dataset.route); });"
+            + "window.addEventListener('popstate', function() { render(location.pathname); });"
+            + "render(location.pathname);"
+            + "</script></body></html>";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, String> pages = new ConcurrentHashMap<>();
+
+    private HubFixtureServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a server on a free port of the loopback interface.
+     */
+    public static HubFixtureServer start() {
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start fixture server", e);
+        }
+        ExecutorService executor = Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "hub-fixture-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        HubFixtureServer fixture = new HubFixtureServer(server, executor);
+        server.createContext("/", fixture::handle);
+        server.setExecutor(executor);
+        server.start();
+        return fixture;
+    }
+
+    /**
+     * @return The base URL, e.g. {@code http://127.0.0.1:54321}, without a
+     *         trailing slash.
+     */
+    public String getBaseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * @param path A path starting with {@code /}, optionally with a query.
+     * @return The absolute URL of the path on this server.
+     */
+    public String url(String path) {
+        return getBaseUrl() + path;
+    }
+
+    /**
+     * Serves {@code html} at {@code path}, replacing a page registered
+     * earlier or a built-in one.
+     *
+     * @return This server.
+     */
+    public HubFixtureServer page(String path, String html) {
+        pages.put(path, html);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            route(exchange);
+        } catch (IllegalArgumentException e) {
+            respond(exchange, 400, "<!DOCTYPE html><html><head><title>Bad Request</title></head><body>"
+                    + "<h1>" + e.getMessage() + "</h1></body></html>");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException, InterruptedException {
+        URI uri = exchange.getRequestURI();
+        String path = uri.getPath();
+        Map<String, String> query = query(uri.getRawQuery());
+        String custom = pages.get(path);
+        if (custom != null) {
+            respond(exchange, 200, custom);
+        } else if (path.equals("/")) {
+            respond(exchange, 200, index());
+        } else if (path.equals("/table")) {
+            respond(exchange, 200, table(Math.min(Math.max(0, intParam(query, "rows", DEFAULT_ROWS)), MAX_ROWS)));
+        } else if (path.equals("/slow")) {
+            long delay = Math.min(Math.max(0, intParam(query, "ms", 1000)), MAX_DELAY_MS);
+            Thread.sleep(delay);
+            respond(exchange, 200, "<!DOCTYPE html><html><head><title>Slow</title></head><body>"
+                    + "<p id=\"delay\">" + delay + "</p></body></html>");
+        } else if (path.equals("/spa") || path.startsWith("/spa/")) {
+            respond(exchange, 200, SPA);
+        } else {
+            respond(exchange, 404, "<!DOCTYPE html><html><head><title>Not Found</title></head><body>"
+                    + "<h1>Not Found</h1></body></html>");
+        }
+    }
+
+    private static String index() {
+        return "<!DOCTYPE html><html><head><title>Fixture Login</title></head><body>"
+                + "<form id=\"login\" action=\"/spa/home\">"
+                + "<input id=\"email\" name=\"email\" type=\"email\">"
+                + "<input id=\"password\" name=\"password\" type=\"password\">"
+                + "<button id=\"submit\" type=\"submit\">Sign in</button></form>"
+                + "<ul><li><a href=\"/table\">Table</a></li><li><a href=\"/slow\">Slow page</a></li>"
+                + "<li><a href=\"/spa\">Single-page app</a></li></ul></body></html>";
+    }
+
+    private static String table(int rows) {
+        StringBuilder html = new StringBuilder(64 * rows + 256)
+                .append("<!DOCTYPE html><html><head><title>Fixture Table</title></head><body>")
+                .append("<table id=\"results\"><thead><tr><th>Name</th><th>Price</th></tr></thead><tbody>");
+        for (int i = 0; i < rows; i++) {
+            int cents = 100 + i * 7 % 9900;
+            html.append("<tr class=\"row\"><td class=\"name\">Item ").append(i)
+                    .append("</td><td class=\"price\" data-price=\"").append(cents).append("\">")
+                    .append(cents / 100).append('.').append(String.format("%02d", cents % 100))
+                    .append("</td></tr>");
+        }
+        return html.append("</tbody></table></body></html>").toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String html) throws IOException {
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                params.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+        }
+        return params;
+    }
+
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parameter " + name + " is not a number: " + value);
+        }
+    }
+}
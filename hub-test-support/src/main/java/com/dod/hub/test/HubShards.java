@@ -0,0 +1,119 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.telemetry.HubDurationStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits test classes into shards of similar predicted duration.
+ * <p>
+ * Classes known to the {@link HubDurationStore} are assigned longest first,
+ * each to the shard with the least predicted time so far; classes the store
+ * has not seen yet are spread by name hash. Nested classes stay with their
+ * top-level class. The plan only depends on the store contents, so CI jobs
+ * that share a store file and differ only in {@code hub.shard.index} run
+ * disjoint sets of classes that together cover the whole suite.
+ */
+public final class HubShards {
+
+    private final int total;
+    private final Map<String, Integer> assignments;
+    private final long[] predictedMs;
+
+    private HubShards(int total, Map<String, Integer> assignments, long[] predictedMs) {
+        this.total = total;
+        this.assignments = assignments;
+        this.predictedMs = predictedMs;
+    }
+
+    /**
+     * Plans {@code total} shards from the classes recorded in a store.
+     *
+     * @param store Recorded durations; null spreads every class by hash.
+     */
+    public static HubShards plan(HubDurationStore store, int total) {
+        Map<String, Long> weights = new TreeMap<>();
+        for (String testClass : store != null ? store.testClasses() : Collections.<String>emptySet()) {
+            weights.merge(topLevel(testClass), store.predictClassMs(testClass), Long::sum);
+        }
+        List<List<String>> shards = balance(weights.keySet(), weights::get, total);
+        Map<String, Integer> assignments = new HashMap<>();
+        long[] predictedMs = new long[total];
+        for (int shard = 0; shard < total; shard++) {
+            for (String testClass : shards.get(shard)) {
+                assignments.put(testClass, shard);
+                predictedMs[shard] += weights.get(testClass);
+            }
+        }
+        return new HubShards(total, Collections.unmodifiableMap(assignments), predictedMs);
+    }
+
+    /**
+     * Longest-processing-time-first partitioning: items are taken in order of
+     * decreasing weight and each goes to the currently lightest shard. Equal
+     * weights keep their iteration order, so the result is deterministic for
+     * an ordered input.
+     *
+     * @return {@code shards} lists, some possibly empty.
+     */
+    public static <T> List<List<T>> balance(Collection<T> items, ToLongFunction<? super T> weight, int shards) {
+        if (shards < 1) {
+            throw new HubException("Shard count must be positive: " + shards);
+        }
+        List<T> sorted = new ArrayList<>(items);
+        sorted.sort(Comparator.comparingLong(weight).reversed());
+
+        List<List<T>> result = new ArrayList<>(shards);
+        long[] loads = new long[shards];
+        PriorityQueue<Integer> lightest = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(shard -> loads[shard]).thenComparingInt(shard -> shard));
+        for (int shard = 0; shard < shards; shard++) {
+            result.add(new ArrayList<>());
+            lightest.add(shard);
+        }
+        for (T item : sorted) {
+            int shard = lightest.poll();
+            result.get(shard).add(item);
+            loads[shard] += weight.applyAsLong(item);
+            lightest.add(shard);
+        }
+        return result;
+    }
+
+    /**
+     * @param testClass Fully qualified class name; nested classes follow their
+     *                  top-level class.
+     * @return The shard, from 0 to {@code total - 1}, that runs the class.
+     */
+    public int shardOf(String testClass) {
+        String key = topLevel(testClass);
+        Integer shard = assignments.get(key);
+        return shard != null ? shard : Math.floorMod(key.hashCode(), total);
+    }
+
+    /**
+     * @return The predicted duration of the known classes of a shard.
+     */
+    public long predictedMs(int shard) {
+        return predictedMs[shard];
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    private static String topLevel(String testClass) {
+        int nested = testClass.indexOf('$');
+        return nested > 0 ? testClass.substring(0, nested) : testClass;
+    }
+}
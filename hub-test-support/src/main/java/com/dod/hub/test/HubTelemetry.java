@@ -0,0 +1,138 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.provider.ArtifactExecutor;
+import com.dod.hub.core.telemetry.FileTelemetryListener;
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.core.telemetry.HubTelemetryListener;
+import com.dod.hub.core.telemetry.HubTestEvent;
+import com.dod.hub.core.telemetry.HubTestResult;
+import com.dod.hub.core.tracing.HubSpan;
+import com.dod.hub.core.tracing.HubTracer;
+import com.dod.hub.core.tracing.HubTracingOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Emits the test events the Spring starter emits, for the Spring-free
+ * integrations.
+ * <p>
+ * Events go to every {@link HubTelemetryListener} registered with
+ * {@link ServiceLoader} and, unless {@code hub.telemetry.enabled=false}, to
+ * {@code hub-telemetry.ndjson} below {@code hub.artifacts.path}. With
+ * {@code hub.tracing.enabled=true} a {@link HubTracer} is installed for the
+ * JVM and each test gets a span that its commands are nested under. Test
+ * durations are recorded in the {@link HubDurationStore} of
+ * {@code hub.durations.file}.
+ */
+public final class HubTelemetry {
+
+    private static final Logger log = LoggerFactory.getLogger(HubTelemetry.class);
+    private static volatile HubTelemetry instance;
+
+    private final List<HubTelemetryListener> listeners;
+    private final HubDurationStore durations;
+
+    HubTelemetry(List<HubTelemetryListener> listeners, HubDurationStore durations) {
+        this.listeners = listeners;
+        this.durations = durations;
+    }
+
+    public static HubTelemetry get() {
+        HubTelemetry telemetry = instance;
+        if (telemetry == null) {
+            synchronized (HubTelemetry.class) {
+                telemetry = instance;
+                if (telemetry == null) {
+                    telemetry = create(HubTestSettings.get());
+                    instance = telemetry;
+                }
+            }
+        }
+        return telemetry;
+    }
+
+    private static HubTelemetry create(HubTestSettings settings) {
+        HubTracingOptions tracing = settings.getTracingOptions();
+        if (tracing != null && !HubTracer.get().isEnabled()) {
+            HubTracer tracer = HubTracer.install(tracing.createExporter());
+            Runtime.getRuntime().addShutdownHook(new Thread(tracer::shutdown, "hub-tracer-shutdown"));
+        }
+        List<HubTelemetryListener> listeners = new ArrayList<>();
+        if (settings.isTelemetryEnabled()) {
+            listeners.add(new FileTelemetryListener(settings.getConfig().getArtifactPath(),
+                    settings.getTelemetryOptions()));
+            ServiceLoader.load(HubTelemetryListener.class).forEach(listeners::add);
+        }
+        HubDurationStore durations = settings.getDurationsFile() != null
+                ? HubDurationStore.open(settings.getDurationsFile())
+                : null;
+        return new HubTelemetry(Collections.unmodifiableList(listeners), durations);
+    }
+
+    /**
+     * Starts the span of a test on the calling thread; end it with
+     * {@link HubSpan#end(Throwable)} on the same thread.
+     */
+    public HubSpan testStarted(String testClass, String testMethod) {
+        return HubTracer.get().startTestSpan(testClass, testMethod);
+    }
+
+    /**
+     * Emits {@code TEST_PASSED} or {@code TEST_FAILED}.
+     *
+     * @param failure The failure, or null if the test passed.
+     */
+    public void testFinished(String testClass, String testMethod, long durationMs, Throwable failure,
+            List<Path> artifacts) {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        HubTestEvent event = failure == null ? HubTestEvent.TEST_PASSED : HubTestEvent.TEST_FAILED;
+        HubTestResult result = new HubTestResult(testClass, testMethod, event, durationMs,
+                failure != null ? failure.getMessage() : null, artifacts);
+        for (HubTelemetryListener listener : listeners) {
+            try {
+                listener.onEvent(event, result);
+            } catch (RuntimeException e) {
+                log.warn("Telemetry listener {} failed: {}", listener.getClass().getName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Records how long a test took, for longest-first ordering and sharding in
+     * later runs.
+     *
+     * @param testClass Fully qualified class name, or the feature of a scenario.
+     * @param driverKey See {@link HubDurationStore#driverKey}; may be null.
+     */
+    public void recordDuration(String testClass, String testMethod, long durationMs, String driverKey) {
+        if (durations != null) {
+            durations.record(testClass, testMethod, durationMs, driverKey);
+        }
+    }
+
+    /**
+     * Waits until file listeners and the tracer have written all events and
+     * spans emitted so far and artifacts are stored, and saves recorded
+     * durations.
+     */
+    public void flush() {
+        ArtifactExecutor.shared().awaitIdle();
+        HubTracer.get().flush();
+        if (durations != null) {
+            durations.save();
+        }
+        for (HubTelemetryListener listener : listeners) {
+            if (listener instanceof FileTelemetryListener file) {
+                file.flush();
+            }
+        }
+    }
+}
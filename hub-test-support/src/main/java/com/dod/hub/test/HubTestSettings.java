@@ -0,0 +1,374 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.config.HubArtifactPolicy;
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubPageLoadStrategy;
+import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.core.config.HubScreenshotArea;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.telemetry.FileTelemetryListener;
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.core.tracing.HubTracingOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Hub configuration for test runners that do not start a Spring context.
+ * <p>
+ * Settings use the keys of the Spring Boot starter ({@code hub.provider},
+ * {@code hub.performance.pooling.enabled}, {@code hub.provider-options.*}, ...)
+ * and are read, in increasing precedence, from {@code hub.properties} on the
+ * classpath, the file named by the {@code hub.config} system property and
+ * {@code hub.*} system properties. Keys are matched leniently, so
+ * {@code hub.implicit-wait-ms} and {@code hub.implicitWaitMs} are equivalent.
+ */
+public final class HubTestSettings {
+
+    public static final String RESOURCE_NAME = "hub.properties";
+    public static final String CONFIG_FILE_PROPERTY = "hub.config";
+
+    private static final String PREFIX = "hub.";
+    private static final String OPTIONS_PREFIX = "hub.provideroptions.";
+    private static final String TRACING_HEADERS_PREFIX = "hub.tracing.headers.";
+
+    private static volatile HubTestSettings current;
+
+    private final HubConfig config;
+    private final int maxConcurrentBrowsers;
+    private final boolean telemetryEnabled;
+    private final FileTelemetryListener.Options telemetryOptions;
+    private final HubTracingOptions tracingOptions;
+    private final Path durationsFile;
+    private final int shardIndex;
+    private final int shardTotal;
+
+    private HubTestSettings(HubConfig config, int maxConcurrentBrowsers, boolean telemetryEnabled,
+            FileTelemetryListener.Options telemetryOptions, HubTracingOptions tracingOptions, Path durationsFile,
+            int shardIndex, int shardTotal) {
+        if (shardTotal < 1 || shardIndex < 0 || shardIndex >= shardTotal) {
+            throw new HubException("Invalid shard " + shardIndex + " of " + shardTotal
+                    + ": hub.shard.index must be between 0 and hub.shard.total - 1");
+        }
+        this.config = config;
+        this.maxConcurrentBrowsers = maxConcurrentBrowsers;
+        this.telemetryEnabled = telemetryEnabled;
+        this.telemetryOptions = telemetryOptions;
+        this.tracingOptions = tracingOptions;
+        this.durationsFile = durationsFile;
+        this.shardIndex = shardIndex;
+        this.shardTotal = shardTotal;
+    }
+
+    /**
+     * Returns the settings of this JVM, loading them on first use.
+     */
+    public static HubTestSettings get() {
+        HubTestSettings settings = current;
+        if (settings == null) {
+            synchronized (HubTestSettings.class) {
+                settings = current;
+                if (settings == null) {
+                    settings = load();
+                    current = settings;
+                }
+            }
+        }
+        return settings;
+    }
+
+    /**
+     * Reads the settings from the classpath, the {@code hub.config} file and
+     * system properties, without caching them.
+     */
+    public static HubTestSettings load() {
+        Properties properties = new Properties();
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        try (InputStream in = (loader != null ? loader : HubTestSettings.class.getClassLoader())
+                .getResourceAsStream(RESOURCE_NAME)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new HubException("Failed to read " + RESOURCE_NAME + " from the classpath", e);
+        }
+
+        String file = System.getProperty(CONFIG_FILE_PROPERTY);
+        if (file != null && !file.isBlank()) {
+            Path path = Paths.get(file);
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new HubException("Failed to read Hub configuration file " + path.toAbsolutePath(), e);
+            }
+        }
+
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(PREFIX) && !name.equals(CONFIG_FILE_PROPERTY)) {
+                properties.setProperty(name, System.getProperty(name));
+            }
+        }
+        return from(properties);
+    }
+
+    /**
+     * Builds settings from the given properties; unset keys keep the defaults
+     * of {@link HubConfig}.
+     *
+     * @throws HubException if a value cannot be parsed.
+     */
+    public static HubTestSettings from(Properties properties) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, Object> options = new HashMap<>();
+        Map<String, String> tracingHeaders = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            String key = normalize(name);
+            String value = properties.getProperty(name).trim();
+            if (key.startsWith(OPTIONS_PREFIX)) {
+                // Option names are passed to providers verbatim
+                options.put(name.substring(name.indexOf('.', PREFIX.length()) + 1), value);
+            } else if (key.startsWith(TRACING_HEADERS_PREFIX)) {
+                tracingHeaders.put(name.substring(TRACING_HEADERS_PREFIX.length()), value);
+            } else {
+                values.put(key, value);
+            }
+        }
+
+        HubConfig config = new HubConfig();
+        Values v = new Values(values);
+        config.setProvider(v.enumValue("hub.provider", HubProviderType.class, config.getProvider()));
+        config.setBrowser(v.enumValue("hub.browser", HubBrowserType.class, config.getBrowser()));
+        config.setHeadless(v.bool("hub.headless", config.isHeadless()));
+        config.setImplicitWaitMs(v.number("hub.implicitwaitms", config.getImplicitWaitMs()));
+        config.setPageLoadTimeoutMs(v.number("hub.pageloadtimeoutms", config.getPageLoadTimeoutMs()));
+        config.setGridUrl(v.string("hub.gridurl", config.getGridUrl()));
+        config.setProviderOptions(options);
+
+        config.setLazyInit(v.bool("hub.performance.lazyinit", config.isLazyInit()));
+        config.setElementCaching(v.bool("hub.performance.elementcaching", config.isElementCaching()));
+        config.setPoolingEnabled(v.bool("hub.performance.pooling.enabled", config.isPoolingEnabled()));
+        config.setPoolMinIdle((int) v.number("hub.performance.pooling.minidle", config.getPoolMinIdle()));
+        config.setPoolMaxActive((int) v.number("hub.performance.pooling.maxactive", config.getPoolMaxActive()));
+
+        config.setArtifactPath(v.string("hub.artifacts.path", config.getArtifactPath()));
+        config.setArtifactPolicy(v.enumValue("hub.artifacts.policy", HubArtifactPolicy.class,
+                config.getArtifactPolicy()));
+        config.setArtifactSampleRate(v.decimal("hub.artifacts.samplerate", config.getArtifactSampleRate()));
+        config.setNavigationPolicy(navigationPolicy(v));
+        config.setScreenshotSpec(screenshotSpec(v));
+        config.setVideoOptions(videoOptions(v));
+
+        return new HubTestSettings(config,
+                (int) v.number("hub.parallel.maxconcurrentbrowsers", 0),
+                v.bool("hub.telemetry.enabled", true),
+                telemetryOptions(v),
+                tracingOptions(v, config.getArtifactPath(), tracingHeaders),
+                v.bool("hub.durations.enabled", false)
+                        ? Paths.get(v.string("hub.durations.file", HubDurationStore.DEFAULT_FILE))
+                        : null,
+                (int) v.number("hub.shard.index", 0),
+                (int) v.number("hub.shard.total", 1));
+    }
+
+    private static HubTracingOptions tracingOptions(Values v, String artifactPath, Map<String, String> headers) {
+        if (!v.bool("hub.tracing.enabled", false)) {
+            return null;
+        }
+        HubTracingOptions options = HubTracingOptions.of(
+                v.enumValue("hub.tracing.exporter", HubTracingOptions.Exporter.class, HubTracingOptions.Exporter.FILE),
+                artifactPath, v.string("hub.tracing.endpoint", null))
+                .withHeaders(headers)
+                .withServiceName(v.string("hub.tracing.servicename", HubTracingOptions.DEFAULT_SERVICE_NAME));
+        String file = v.string("hub.tracing.file", null);
+        return file != null ? options.withFile(Paths.get(file)) : options;
+    }
+
+    private static FileTelemetryListener.Options telemetryOptions(Values v) {
+        FileTelemetryListener.Options defaults = FileTelemetryListener.Options.defaults();
+        return defaults
+                .withRotation(v.number("hub.telemetry.maxfilesizemb", defaults.getMaxFileBytes() / (1024 * 1024))
+                        * 1024 * 1024, (int) v.number("hub.telemetry.maxfiles", defaults.getMaxFiles()))
+                .withFsyncPolicy(v.enumValue("hub.telemetry.fsync", FileTelemetryListener.FsyncPolicy.class,
+                        defaults.getFsyncPolicy()))
+                .withFlushInterval(v.number("hub.telemetry.flushintervalms", defaults.getFlushIntervalMs()));
+    }
+
+    private static HubNavigationPolicy navigationPolicy(Values v) {
+        String selector = v.string("hub.navigation.readyselector", null);
+        String script = v.string("hub.navigation.readyscript", null);
+        HubNavigationPolicy policy;
+        if (selector != null && !selector.isBlank()) {
+            policy = HubNavigationPolicy.whenSelector(selector);
+        } else if (script != null && !script.isBlank()) {
+            policy = HubNavigationPolicy.whenScript(script);
+        } else {
+            return HubNavigationPolicy.of(v.enumValue("hub.navigation.pageloadstrategy", HubPageLoadStrategy.class,
+                    HubPageLoadStrategy.NORMAL));
+        }
+        long timeoutMs = v.number("hub.navigation.readytimeoutms", 0);
+        return timeoutMs > 0 ? policy.withTimeout(timeoutMs) : policy;
+    }
+
+    private static HubScreenshotSpec screenshotSpec(Values v) {
+        HubScreenshotArea area = v.enumValue("hub.screenshot.area", HubScreenshotArea.class, null);
+        HubImageFormat format = v.enumValue("hub.screenshot.format", HubImageFormat.class, HubImageFormat.PNG);
+        double scale = v.decimal("hub.screenshot.scale", 1.0);
+        if (area == null && format != HubImageFormat.JPEG && scale == 1.0) {
+            return null;
+        }
+        HubScreenshotSpec spec = HubScreenshotSpec.of(area != null ? area : HubScreenshotArea.VIEWPORT);
+        if (format == HubImageFormat.JPEG) {
+            spec = spec.jpeg((int) v.number("hub.screenshot.quality", HubScreenshotSpec.DEFAULT_JPEG_QUALITY));
+        }
+        return scale != 1.0 ? spec.withScale(scale) : spec;
+    }
+
+    private static HubVideoOptions videoOptions(Values v) {
+        if (!v.bool("hub.video.enabled", false)) {
+            return null;
+        }
+        HubVideoOptions defaults = HubVideoOptions.defaults();
+        return defaults
+                .withMaxFps((int) v.number("hub.video.maxfps", defaults.getMaxFps()))
+                .withMaxBufferBytes(v.number("hub.video.maxbuffermb", defaults.getMaxBufferBytes() / (1024 * 1024))
+                        * 1024 * 1024)
+                .withQuality((int) v.number("hub.video.quality", defaults.getQuality()))
+                .withMaxSize((int) v.number("hub.video.maxwidth", defaults.getMaxWidth()),
+                        (int) v.number("hub.video.maxheight", defaults.getMaxHeight()));
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT).replace("-", "").replace("_", "");
+    }
+
+    /**
+     * The global configuration. Callers must not modify it; per-driver
+     * overrides belong on a copy.
+     */
+    public HubConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * {@code hub.parallel.max-concurrent-browsers}; 0 when unset.
+     */
+    public int getMaxConcurrentBrowsers() {
+        return maxConcurrentBrowsers;
+    }
+
+    public boolean isTelemetryEnabled() {
+        return telemetryEnabled;
+    }
+
+    /**
+     * Writer options from {@code hub.telemetry.fsync}, {@code max-file-size-mb},
+     * {@code max-files} and {@code flush-interval-ms}.
+     */
+    public FileTelemetryListener.Options getTelemetryOptions() {
+        return telemetryOptions;
+    }
+
+    /**
+     * Span exporter settings from {@code hub.tracing.*}, or null unless
+     * {@code hub.tracing.enabled=true}.
+     */
+    public HubTracingOptions getTracingOptions() {
+        return tracingOptions;
+    }
+
+    /**
+     * The {@link HubDurationStore} file from {@code hub.durations.file}, or
+     * null unless {@code hub.durations.enabled=true}.
+     */
+    public Path getDurationsFile() {
+        return durationsFile;
+    }
+
+    /**
+     * {@code hub.shard.index}, counted from 0.
+     */
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    /**
+     * {@code hub.shard.total}; 1 runs every test.
+     */
+    public int getShardTotal() {
+        return shardTotal;
+    }
+
+    /**
+     * Typed access to normalized property values, reporting the key on
+     * malformed input.
+     */
+    private static final class Values {
+        private final Map<String, String> values;
+
+        Values(Map<String, String> values) {
+            this.values = values;
+        }
+
+        String string(String key, String defaultValue) {
+            String value = values.get(key);
+            return value == null || value.isEmpty() ? defaultValue : value;
+        }
+
+        boolean bool(String key, boolean defaultValue) {
+            String value = string(key, null);
+            if (value == null) {
+                return defaultValue;
+            }
+            if (!value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+                throw invalid(key, value);
+            }
+            return Boolean.parseBoolean(value);
+        }
+
+        long number(String key, long defaultValue) {
+            String value = string(key, null);
+            try {
+                return value == null ? defaultValue : Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw invalid(key, value);
+            }
+        }
+
+        double decimal(String key, double defaultValue) {
+            String value = string(key, null);
+            try {
+                return value == null ? defaultValue : Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                throw invalid(key, value);
+            }
+        }
+
+        <E extends Enum<E>> E enumValue(String key, Class<E> type, E defaultValue) {
+            String value = string(key, null);
+            try {
+                return value == null ? defaultValue
+                        : Enum.valueOf(type, value.toUpperCase(Locale.ROOT).replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw invalid(key, value);
+            }
+        }
+
+        private HubException invalid(String key, String value) {
+            return new HubException("Invalid value '" + value + "' for " + key);
+        }
+    }
+}
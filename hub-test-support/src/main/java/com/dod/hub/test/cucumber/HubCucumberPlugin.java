@@ -0,0 +1,106 @@
+package com.dod.hub.test.cucumber;
+
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.core.tracing.HubSpan;
+import com.dod.hub.facade.pool.HubDriverPool;
+import com.dod.hub.test.HubDriverLease;
+import com.dod.hub.test.HubDrivers;
+import com.dod.hub.test.HubTelemetry;
+import com.dod.hub.test.HubTestSettings;
+import io.cucumber.plugin.ConcurrentEventListener;
+import io.cucumber.plugin.event.EventPublisher;
+import io.cucumber.plugin.event.Result;
+import io.cucumber.plugin.event.Status;
+import io.cucumber.plugin.event.TestCase;
+import io.cucumber.plugin.event.TestCaseFinished;
+import io.cucumber.plugin.event.TestCaseStarted;
+import io.cucumber.plugin.event.TestRunFinished;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cucumber plugin that gives every scenario its own {@link com.dod.hub.facade.HubWebDriver}.
+ * <p>
+ * As a {@link ConcurrentEventListener} it receives scenario events on the
+ * thread running the scenario, so the driver borrowed at
+ * {@link TestCaseStarted} is bound to that thread (see {@link HubDrivers}) for
+ * the hooks and steps, including with parallel scenarios. At
+ * {@link TestCaseFinished} failure screenshots and telemetry are written and
+ * the driver is released. Step definitions receive the driver through
+ * {@link HubObjectFactory}.
+ * <p>
+ * Register with {@code cucumber.plugin=com.dod.hub.test.cucumber.HubCucumberPlugin}.
+ */
+public class HubCucumberPlugin implements ConcurrentEventListener {
+
+    private final Map<UUID, HubDriverLease> leases = new ConcurrentHashMap<>();
+    private final Map<UUID, HubSpan> spans = new ConcurrentHashMap<>();
+
+    @Override
+    public void setEventPublisher(EventPublisher publisher) {
+        publisher.registerHandlerFor(TestCaseStarted.class, this::scenarioStarted);
+        publisher.registerHandlerFor(TestCaseFinished.class, this::scenarioFinished);
+        publisher.registerHandlerFor(TestRunFinished.class, event -> {
+            HubDriverPool.getInstance().clear();
+            HubTelemetry.get().flush();
+        });
+    }
+
+    private void scenarioStarted(TestCaseStarted event) {
+        HubDriverLease lease = HubDriverLease.borrow(HubTestSettings.get().getConfig());
+        leases.put(event.getTestCase().getId(), lease);
+        HubDrivers.bind(lease.getDriver());
+        TestCase testCase = event.getTestCase();
+        spans.put(testCase.getId(), HubTelemetry.get().testStarted(
+                fileName(testCase.getUri().getSchemeSpecificPart()), testCase.getName()));
+    }
+
+    private void scenarioFinished(TestCaseFinished event) {
+        HubDriverLease lease = leases.remove(event.getTestCase().getId());
+        HubSpan span = spans.remove(event.getTestCase().getId());
+        if (lease == null) {
+            return;
+        }
+        Result result = event.getResult();
+        Throwable failure = result.getStatus() != Status.FAILED ? null
+                : result.getError() != null ? result.getError() : new AssertionError("Scenario failed");
+        try {
+            TestCase testCase = event.getTestCase();
+            String feature = fileName(testCase.getUri().getSchemeSpecificPart());
+            String scenario = testCase.getName();
+
+            List<Path> artifacts = new ArrayList<>();
+            Path artifact = lease.captureArtifact(feature, sanitize(scenario), failure != null);
+            if (artifact != null) {
+                artifacts.add(artifact);
+            }
+            Path video = lease.captureVideo(feature, sanitize(scenario), failure != null);
+            if (video != null) {
+                artifacts.add(video);
+            }
+            lease.release();
+            HubTelemetry.get().testFinished(feature, scenario, result.getDuration().toMillis(), failure, artifacts);
+            HubTelemetry.get().recordDuration(testCase.getUri().toString(), scenario,
+                    result.getDuration().toMillis(), HubDurationStore.driverKey(List.of(lease.getConfig())));
+        } finally {
+            HubDrivers.unbind();
+            if (span != null) {
+                span.end(failure);
+            }
+        }
+    }
+
+    private static String fileName(String uriPath) {
+        String name = uriPath.substring(uriPath.lastIndexOf('/') + 1);
+        return name.endsWith(".feature") ? name.substring(0, name.length() - ".feature".length()) : name;
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
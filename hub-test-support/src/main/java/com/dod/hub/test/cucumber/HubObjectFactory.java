@@ -0,0 +1,66 @@
+package com.dod.hub.test.cucumber;
+
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.test.HubDrivers;
+import io.cucumber.core.backend.CucumberBackendException;
+import io.cucumber.core.backend.ObjectFactory;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cucumber object factory that creates glue classes once per scenario and
+ * passes the scenario's driver to constructors declaring a single
+ * {@link HubWebDriver} parameter. The driver handed out is
+ * {@link HubDrivers#bound()}, backed by {@link HubCucumberPlugin}.
+ * <p>
+ * Select it with {@code cucumber.object-factory=com.dod.hub.test.cucumber.HubObjectFactory}
+ * when another object factory is also on the classpath.
+ */
+public class HubObjectFactory implements ObjectFactory {
+
+    private final Map<Class<?>, Object> instances = new HashMap<>();
+
+    @Override
+    public boolean addClass(Class<?> glueClass) {
+        return true;
+    }
+
+    @Override
+    public void start() {
+        // Instances are created on demand
+    }
+
+    @Override
+    public void stop() {
+        instances.clear();
+    }
+
+    @Override
+    public <T> T getInstance(Class<T> glueClass) {
+        return glueClass.cast(instances.computeIfAbsent(glueClass, this::newInstance));
+    }
+
+    private Object newInstance(Class<?> glueClass) {
+        try {
+            for (Constructor<?> constructor : glueClass.getConstructors()) {
+                Class<?>[] types = constructor.getParameterTypes();
+                if (types.length == 1 && types[0].isAssignableFrom(HubWebDriver.class)) {
+                    return constructor.newInstance(HubDrivers.bound());
+                }
+            }
+            Constructor<?> constructor = glueClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new CucumberBackendException(glueClass + " needs a public no-arg constructor or one taking a "
+                    + "HubWebDriver", e);
+        } catch (InvocationTargetException e) {
+            throw new CucumberBackendException("Failed to instantiate " + glueClass, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new CucumberBackendException("Failed to instantiate " + glueClass, e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.dod.hub.test.junit5;
+
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubProviderType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a field or test method parameter to be injected with a HubWebDriver by
+ * {@link HubDriverExtension}.
+ * The instance is borrowed before the test and returned (or quit) after it.
+ * Attributes override the settings from {@link com.dod.hub.test.HubTestSettings}
+ * and mirror those of the Spring starter's {@code @HubDriver}.
+ */
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface HubDriver {
+    HubProviderType provider() default HubProviderType.DEFAULT;
+
+    HubBrowserType browser() default HubBrowserType.DEFAULT;
+
+    String gridUrl() default "";
+
+    /**
+     * When useGlobalHeadless is false, this value will override the global headless
+     * setting.
+     */
+    boolean headless() default false;
+
+    /**
+     * Indicates if the headless setting should be inherited from global config.
+     * When true (default), the annotation's headless value is ignored.
+     */
+    boolean useGlobalHeadless() default true;
+
+    String[] options() default {};
+}
@@ -0,0 +1,294 @@
+package com.dod.hub.test.junit5;
+
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.core.tracing.HubSpan;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.facade.LazyHubWebDriver;
+import com.dod.hub.facade.pool.HubDriverPool;
+import com.dod.hub.test.HubDriverLease;
+import com.dod.hub.test.HubDrivers;
+import com.dod.hub.test.HubTelemetry;
+import com.dod.hub.test.HubTestSettings;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * JUnit 5 extension that manages {@link HubWebDriver} instances without Spring.
+ * <p>
+ * Configuration comes from {@link HubTestSettings}. Drivers are borrowed from
+ * {@link HubDriverPool} (or created as {@link LazyHubWebDriver} handles when
+ * lazy initialization is enabled) for fields and test method parameters
+ * annotated with {@link HubDriver}, and released after each test. The first
+ * driver is bound to the test thread (see {@link HubDrivers}). Failure
+ * screenshots and telemetry are written below {@code hub.artifacts.path} like
+ * the Spring starter does.
+ * <p>
+ * Annotated fields and their resolved configurations are computed once per
+ * test class, so per-test overhead is limited to borrowing the drivers. All
+ * per-test state lives in the test's {@link ExtensionContext.Store}, which makes
+ * the extension safe for parallel execution; {@code hub.parallel.max-concurrent-browsers}
+ * limits the browsers held at once.
+ */
+public class HubDriverExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace
+            .create(HubDriverExtension.class);
+    private static final String STATE_KEY = "state";
+
+    private static final ClassValue<List<DriverField>> FIELDS = new ClassValue<>() {
+        @Override
+        protected List<DriverField> computeValue(Class<?> type) {
+            return scanFields(type);
+        }
+    };
+    private static final Map<Method, Map<Integer, HubConfig>> PARAMETERS = new ConcurrentHashMap<>();
+
+    private static final class DriverField {
+        final Field field;
+        final HubConfig config;
+
+        DriverField(Field field, HubConfig config) {
+            this.field = field;
+            this.config = config;
+        }
+    }
+
+    private static final class TestState {
+        final List<HubDriverLease> leases = Collections.synchronizedList(new ArrayList<>());
+        final long startNanos = System.nanoTime();
+        HubSpan span = HubSpan.NOOP;
+        Semaphore browserSlots;
+        int permits;
+    }
+
+    /**
+     * Waits for screenshots and telemetry when the test run ends.
+     */
+    static final class RunFinished implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            HubTelemetry.get().flush();
+        }
+    }
+
+    /**
+     * Clears the pool when the test run ends.
+     */
+    static final class PoolShutdown implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            HubDriverPool.getInstance().clear();
+        }
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) throws Exception {
+        Object testInstance = context.getRequiredTestInstance();
+        List<DriverField> fields = FIELDS.get(testInstance.getClass());
+        Map<Integer, HubConfig> parameters = parameterConfigs(context.getRequiredTestMethod());
+        if (fields.isEmpty() && parameters.isEmpty()) {
+            return;
+        }
+
+        HubTestSettings settings = HubTestSettings.get();
+        if (settings.getConfig().isPoolingEnabled()) {
+            context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(PoolShutdown.class);
+        }
+
+        context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(RunFinished.class);
+        TestState state = new TestState();
+        context.getStore(NAMESPACE).put(STATE_KEY, state);
+        state.span = HubTelemetry.get().testStarted(context.getRequiredTestClass().getSimpleName(),
+                context.getRequiredTestMethod().getName());
+        acquireBrowserSlots(context, settings, fields.size() + parameters.size(), state);
+
+        for (DriverField driverField : fields) {
+            driverField.field.set(testInstance, borrow(driverField.config, state));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        return parameterContext.isAnnotated(HubDriver.class)
+                && parameterContext.getDeclaringExecutable() instanceof Method
+                && parameterContext.getParameter().getType().isAssignableFrom(HubWebDriver.class);
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        TestState state = extensionContext.getStore(NAMESPACE).get(STATE_KEY, TestState.class);
+        HubConfig config = parameterConfigs((Method) parameterContext.getDeclaringExecutable())
+                .get(parameterContext.getIndex());
+        if (state == null || config == null) {
+            throw new ParameterResolutionException("@HubDriver parameters are only supported on test methods: "
+                    + parameterContext.getParameter());
+        }
+        return borrow(config, state);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        TestState state = context.getStore(NAMESPACE).remove(STATE_KEY, TestState.class);
+        if (state == null) {
+            return;
+        }
+        Throwable failure = context.getExecutionException().orElse(null);
+        try {
+            String testClass = context.getRequiredTestClass().getSimpleName();
+            String testName = context.getRequiredTestMethod().getName();
+            List<Path> artifacts = new ArrayList<>();
+            for (HubDriverLease lease : state.leases) {
+                Path artifact = lease.captureArtifact(testClass, testName, failure != null);
+                if (artifact != null) {
+                    artifacts.add(artifact);
+                }
+                Path video = lease.captureVideo(testClass, testName, failure != null);
+                if (video != null) {
+                    artifacts.add(video);
+                }
+                lease.release();
+            }
+            if (!state.leases.isEmpty()) {
+                HubTelemetry.get().testFinished(testClass, testName, state.leases.get(0).elapsedMs(), failure,
+                        artifacts);
+                HubTelemetry.get().recordDuration(context.getRequiredTestClass().getName(), testName,
+                        (System.nanoTime() - state.startNanos) / 1_000_000,
+                        HubDurationStore.driverKey(state.leases.stream().map(HubDriverLease::getConfig).toList()));
+            }
+        } finally {
+            HubDrivers.unbind();
+            if (state.browserSlots != null) {
+                state.browserSlots.release(state.permits);
+            }
+            state.span.end(failure);
+        }
+    }
+
+    private HubWebDriver borrow(HubConfig config, TestState state) {
+        HubDriverLease lease = HubDriverLease.borrow(config);
+        state.leases.add(lease);
+        if (state.leases.size() == 1) {
+            HubDrivers.bind(lease.getDriver());
+        }
+        return lease.getDriver();
+    }
+
+    /**
+     * Waits for browser slots as the Spring extension does: the limit is
+     * {@code hub.parallel.max-concurrent-browsers}, capped at the pool capacity
+     * when pooling is enabled.
+     */
+    private void acquireBrowserSlots(ExtensionContext context, HubTestSettings settings, int browsers,
+            TestState state) throws InterruptedException {
+        HubConfig global = settings.getConfig();
+        int limit = settings.getMaxConcurrentBrowsers();
+        if (global.isPoolingEnabled()) {
+            limit = limit > 0 ? Math.min(limit, global.getPoolMaxActive()) : global.getPoolMaxActive();
+        }
+        if (limit <= 0) {
+            return;
+        }
+        int capacity = limit;
+        Semaphore slots = context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent("browser-slots:" + capacity, k -> new Semaphore(capacity, true),
+                        Semaphore.class);
+        int permits = Math.min(browsers, capacity);
+        slots.acquire(permits);
+        state.browserSlots = slots;
+        state.permits = permits;
+    }
+
+    private static List<DriverField> scanFields(Class<?> type) {
+        List<DriverField> fields = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                HubDriver annotation = field.getAnnotation(HubDriver.class);
+                if (annotation == null || Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                fields.add(new DriverField(field, resolveConfig(HubTestSettings.get().getConfig(), annotation)));
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    private static Map<Integer, HubConfig> parameterConfigs(Method method) {
+        return PARAMETERS.computeIfAbsent(method, m -> {
+            Map<Integer, HubConfig> configs = new HashMap<>();
+            Parameter[] parameters = m.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                HubDriver annotation = parameters[i].getAnnotation(HubDriver.class);
+                if (annotation != null) {
+                    configs.put(i, resolveConfig(HubTestSettings.get().getConfig(), annotation));
+                }
+            }
+            return configs.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(configs);
+        });
+    }
+
+    /**
+     * Copies the global configuration and applies the annotation's overrides.
+     */
+    static HubConfig resolveConfig(HubConfig global, HubDriver annotation) {
+        HubConfig config = new HubConfig();
+        config.setProvider(global.getProvider());
+        config.setBrowser(global.getBrowser());
+        config.setHeadless(global.isHeadless());
+        config.setImplicitWaitMs(global.getImplicitWaitMs());
+        config.setPageLoadTimeoutMs(global.getPageLoadTimeoutMs());
+        config.setGridUrl(global.getGridUrl());
+        config.setPoolingEnabled(global.isPoolingEnabled());
+        config.setPoolMinIdle(global.getPoolMinIdle());
+        config.setPoolMaxActive(global.getPoolMaxActive());
+        config.setLazyInit(global.isLazyInit());
+        config.setElementCaching(global.isElementCaching());
+        config.setArtifactPath(global.getArtifactPath());
+        config.setArtifactPolicy(global.getArtifactPolicy());
+        config.setArtifactSampleRate(global.getArtifactSampleRate());
+        config.setNavigationPolicy(global.getNavigationPolicy());
+        config.setScreenshotSpec(global.getScreenshotSpec());
+        config.setVideoOptions(global.getVideoOptions());
+        config.setProviderOptions(new HashMap<>(global.getProviderOptions()));
+
+        if (annotation.provider() != HubProviderType.DEFAULT) {
+            config.setProvider(annotation.provider());
+        }
+        if (annotation.browser() != HubBrowserType.DEFAULT) {
+            config.setBrowser(annotation.browser());
+        }
+        if (!annotation.gridUrl().isEmpty()) {
+            config.setGridUrl(annotation.gridUrl());
+        }
+        if (!annotation.useGlobalHeadless()) {
+            config.setHeadless(annotation.headless());
+        }
+        for (String option : annotation.options()) {
+            String[] parts = option.split("=", 2);
+            if (parts.length == 2) {
+                config.addOption(parts[0].trim(), parts[1].trim());
+            }
+        }
+        return config;
+    }
+}
@@ -0,0 +1,19 @@
+package com.dod.hub.test.junit5;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Convenience meta-annotation for tests that only need drivers.
+ * Registers {@link HubDriverExtension} without starting a Spring context; use
+ * the starter's {@code @HubTest} when the test needs beans.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(HubDriverExtension.class)
+public @interface HubDriverTest {
+}
@@ -0,0 +1,64 @@
+package com.dod.hub.test.junit5;
+
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.test.HubShards;
+import com.dod.hub.test.HubTestSettings;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Keeps only the tests of shard {@code hub.shard.index} out of
+ * {@code hub.shard.total}, as planned by {@link HubShards}.
+ * <p>
+ * The filter is registered with the JUnit Platform launcher through
+ * {@code META-INF/services} and does nothing unless {@code hub.shard.total}
+ * is greater than 1. Run one build per shard, e.g. in a CI matrix with
+ * {@code -Dhub.shard.index=<i> -Dhub.shard.total=<n>}; within a build the
+ * tests of a shard can still run in parallel or in several forks. Tests
+ * without a class, such as Cucumber scenarios, are spread by unique id.
+ */
+public class HubShardFilter implements PostDiscoveryFilter {
+
+    private volatile HubShards shards;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        HubTestSettings settings = HubTestSettings.get();
+        if (settings.getShardTotal() <= 1 || !descriptor.isTest()) {
+            return FilterResult.included("Sharding disabled");
+        }
+        int index = settings.getShardIndex();
+        int shard = shardOf(descriptor, settings);
+        return FilterResult.includedIf(shard == index,
+                () -> "In shard " + index + " of " + settings.getShardTotal(),
+                () -> "In shard " + shard + " of " + settings.getShardTotal());
+    }
+
+    private int shardOf(TestDescriptor descriptor, HubTestSettings settings) {
+        String testClass = descriptor.getSource().map(HubShardFilter::className).orElse(null);
+        if (testClass == null) {
+            return Math.floorMod(descriptor.getUniqueId().toString().hashCode(), settings.getShardTotal());
+        }
+        HubShards plan = shards;
+        if (plan == null) {
+            plan = HubShards.plan(settings.getDurationsFile() != null
+                    ? HubDurationStore.open(settings.getDurationsFile()) : null, settings.getShardTotal());
+            shards = plan;
+        }
+        return plan.shardOf(testClass);
+    }
+
+    private static String className(TestSource source) {
+        if (source instanceof MethodSource method) {
+            return method.getClassName();
+        }
+        if (source instanceof ClassSource type) {
+            return type.getClassName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.dod.hub.test.junit5;
+
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.test.HubTestSettings;
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * Runs the test classes with the longest recorded durations first, so that
+ * with parallel execution the slowest classes do not start last and leave the
+ * other workers idle at the end of the run.
+ * <p>
+ * Durations come from the {@link HubDurationStore} of
+ * {@code hub.durations.file}; classes without recorded runs are assumed to
+ * take the average class duration. Enable it for a whole run with
+ * {@code junit.jupiter.testclass.order.default=com.dod.hub.test.junit5.LongestFirstClassOrderer}
+ * in {@code junit-platform.properties}.
+ */
+public class LongestFirstClassOrderer implements ClassOrderer {
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        Path file = HubTestSettings.get().getDurationsFile();
+        if (file == null) {
+            return;
+        }
+        HubDurationStore store = HubDurationStore.open(file);
+        long unknown = store.averageClassMs();
+        context.getClassDescriptors().sort(Comparator.comparingLong((ClassDescriptor descriptor) -> {
+            long predicted = store.predictClassMs(descriptor.getTestClass().getName());
+            return predicted >= 0 ? predicted : unknown;
+        }).reversed());
+    }
+}
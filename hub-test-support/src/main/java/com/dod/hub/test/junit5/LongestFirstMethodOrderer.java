@@ -0,0 +1,36 @@
+package com.dod.hub.test.junit5;
+
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.test.HubTestSettings;
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+
+/**
+ * Runs the test methods of a class with the longest recorded durations first;
+ * see {@link LongestFirstClassOrderer}. Methods without recorded runs are
+ * assumed to take the average test duration.
+ * <p>
+ * Apply it with {@code @TestMethodOrder(LongestFirstMethodOrderer.class)} or
+ * {@code junit.jupiter.testmethod.order.default}.
+ */
+public class LongestFirstMethodOrderer implements MethodOrderer {
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        Path file = HubTestSettings.get().getDurationsFile();
+        if (file == null) {
+            return;
+        }
+        HubDurationStore store = HubDurationStore.open(file);
+        String testClass = context.getTestClass().getName();
+        long unknown = store.averageTestMs();
+        context.getMethodDescriptors().sort(Comparator.comparingLong((MethodDescriptor descriptor) -> {
+            long predicted = store.predictMs(testClass, descriptor.getMethod().getName());
+            return predicted >= 0 ? predicted : unknown;
+        }).reversed());
+    }
+}
@@ -0,0 +1,184 @@
+package com.dod.hub.test.testng;
+
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.core.tracing.HubSpan;
+import com.dod.hub.facade.pool.HubDriverPool;
+import com.dod.hub.test.HubDriverLease;
+import com.dod.hub.test.HubDrivers;
+import com.dod.hub.test.HubTelemetry;
+import com.dod.hub.test.HubTestSettings;
+import org.testng.IConfigurationListener;
+import org.testng.IExecutionListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TestNG listener that gives every test method its own {@link com.dod.hub.facade.HubWebDriver}.
+ * <p>
+ * The driver is borrowed from the pool (or created lazily, following
+ * {@link HubTestSettings}) before the first {@code @BeforeMethod} of a test,
+ * or before the test method itself, and bound to the invoking thread, so tests
+ * and their {@code @BeforeMethod}/{@code @AfterMethod} configurations read the
+ * same driver through {@link HubDrivers#current()} or keep
+ * {@link HubDrivers#bound()} in a field. That is safe with
+ * {@code parallel="methods"}, where one test instance serves several threads.
+ * After the test method, failure screenshots and telemetry are written as the
+ * JUnit 5 integrations do; the driver is released once the test's
+ * {@code @AfterMethod} configurations have run or been skipped. Class-, test-
+ * and suite-level configurations get no driver.
+ * <p>
+ * Register with {@code @Listeners(HubTestNGListener.class)} or in
+ * {@code testng.xml}.
+ */
+public class HubTestNGListener implements IInvokedMethodListener, IConfigurationListener, IExecutionListener {
+
+    private static final String SPAN_ATTRIBUTE = HubSpan.class.getName();
+
+    private final ThreadLocal<Invocation> current = new ThreadLocal<>();
+    private final Set<HubDriverLease> open = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The lease of the test running on one thread, and how many of its
+     * {@code @AfterMethod} configurations are still to come.
+     */
+    private static final class Invocation {
+        final HubDriverLease lease;
+        boolean testDone;
+        int afterMethodsLeft;
+
+        Invocation(HubDriverLease lease) {
+            this.lease = lease;
+        }
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            Invocation invocation = current.get();
+            if (invocation == null || invocation.testDone) {
+                start();
+            }
+            testResult.setAttribute(SPAN_ATTRIBUTE, HubTelemetry.get().testStarted(
+                    testResult.getTestClass().getRealClass().getSimpleName(), testResult.getMethod().getMethodName()));
+        } else if (method.getTestMethod().isBeforeMethodConfiguration()) {
+            Invocation invocation = current.get();
+            if (invocation == null || invocation.testDone) {
+                start();
+            }
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Invocation invocation = current.get();
+        if (method.isTestMethod()) {
+            Object span = testResult.removeAttribute(SPAN_ATTRIBUTE);
+            if (invocation == null || invocation.testDone) {
+                return;
+            }
+            Throwable failure = testResult.getStatus() == ITestResult.SUCCESS ? null
+                    : testResult.getThrowable() != null ? testResult.getThrowable()
+                            : new AssertionError("Test did not succeed");
+            try {
+                finish(invocation.lease, testResult, failure);
+            } finally {
+                if (span instanceof HubSpan) {
+                    ((HubSpan) span).end(failure);
+                }
+                testDone(invocation, testResult);
+            }
+        } else if (invocation != null) {
+            ITestNGMethod config = method.getTestMethod();
+            if (config.isBeforeMethodConfiguration() && testResult.getStatus() != ITestResult.SUCCESS) {
+                // The test will be skipped; only its @AfterMethod configurations may still run
+                testDone(invocation, testResult);
+            } else if (config.isAfterMethodConfiguration() && invocation.testDone) {
+                afterMethodDone(invocation);
+            }
+        }
+    }
+
+    @Override
+    public void onConfigurationSkip(ITestResult testResult) {
+        Invocation invocation = current.get();
+        if (invocation == null) {
+            return;
+        }
+        if (testResult.getMethod().isBeforeMethodConfiguration() && !invocation.testDone) {
+            testDone(invocation, testResult);
+        } else if (testResult.getMethod().isAfterMethodConfiguration() && invocation.testDone) {
+            afterMethodDone(invocation);
+        }
+    }
+
+    private void start() {
+        Invocation leftover = current.get();
+        if (leftover != null) {
+            end(leftover);
+        }
+        HubDriverLease lease = HubDriverLease.borrow(HubTestSettings.get().getConfig());
+        open.add(lease);
+        current.set(new Invocation(lease));
+        HubDrivers.bind(lease.getDriver());
+    }
+
+    private void testDone(Invocation invocation, ITestResult testResult) {
+        invocation.testDone = true;
+        invocation.afterMethodsLeft = testResult.getMethod().getTestClass().getAfterTestMethods().length;
+        if (invocation.afterMethodsLeft == 0) {
+            end(invocation);
+        }
+    }
+
+    private void afterMethodDone(Invocation invocation) {
+        if (--invocation.afterMethodsLeft <= 0) {
+            end(invocation);
+        }
+    }
+
+    private void end(Invocation invocation) {
+        current.remove();
+        HubDrivers.unbind();
+        if (open.remove(invocation.lease)) {
+            invocation.lease.release();
+        }
+    }
+
+    private void finish(HubDriverLease lease, ITestResult testResult, Throwable failure) {
+        String testClass = testResult.getTestClass().getRealClass().getSimpleName();
+        String testName = testResult.getMethod().getMethodName();
+        List<Path> artifacts = new ArrayList<>();
+        Path artifact = lease.captureArtifact(testClass, testName, failure != null);
+        if (artifact != null) {
+            artifacts.add(artifact);
+        }
+        Path video = lease.captureVideo(testClass, testName, failure != null);
+        if (video != null) {
+            artifacts.add(video);
+        }
+        HubTelemetry.get().testFinished(testClass, testName, lease.elapsedMs(), failure, artifacts);
+        HubTelemetry.get().recordDuration(testResult.getTestClass().getRealClass().getName(), testName,
+                testResult.getEndMillis() - testResult.getStartMillis(),
+                HubDurationStore.driverKey(List.of(lease.getConfig())));
+    }
+
+    @Override
+    public void onExecutionFinish() {
+        // Tests whose @AfterMethod configurations were neither run nor reported as skipped
+        for (HubDriverLease lease : open) {
+            if (open.remove(lease)) {
+                lease.release();
+            }
+        }
+        HubDriverPool.getInstance().clear();
+        HubTelemetry.get().flush();
+    }
+}
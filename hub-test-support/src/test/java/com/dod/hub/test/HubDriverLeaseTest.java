@@ -0,0 +1,32 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubVideoOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubDriverLeaseTest {
+
+    @Test
+    @DisplayName("A lazy lease should start recording when its driver is first used")
+    void recordsLazyDriverFromFirstUse(@TempDir Path dir) {
+        HubConfig config = new HubConfig();
+        config.setLazyInit(true);
+        config.setVideoOptions(HubVideoOptions.defaults());
+        config.setArtifactPath(dir.toString());
+
+        HubDriverLease unused = HubDriverLease.borrow(config);
+        assertThat(unused.captureVideo("LeaseTest", "unused", true)).isNull();
+        unused.release();
+
+        HubDriverLease lease = HubDriverLease.borrow(config);
+        assertThat(lease.getDriver().getTitle()).isEqualTo("Stub");
+        assertThat(lease.captureVideo("LeaseTest", "used", true)).isNotNull();
+        lease.release();
+    }
+}
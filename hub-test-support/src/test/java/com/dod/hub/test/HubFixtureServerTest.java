@@ -0,0 +1,65 @@
+package com.dod.hub.test;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubFixtureServerTest {
+
+    private static HubFixtureServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void start() {
+        server = HubFixtureServer.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void stop() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("Built-in pages should be served from the loopback interface")
+    void servesBuiltInPages() throws Exception {
+        assertThat(server.getBaseUrl()).startsWith("http://127.0.0.1:");
+        assertThat(get("/").body()).contains("id=\"email\"", "id=\"submit\"");
+        assertThat(get("/table?rows=250").body().split("class=\"row\"", -1)).hasSize(251);
+        assertThat(get("/spa/orders/42").body()).contains("id=\"app\"");
+        assertThat(get("/missing").statusCode()).isEqualTo(404);
+        assertThat(get("/table?rows=many").statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Slow pages should be answered after the requested delay")
+    void delaysSlowPages() throws Exception {
+        long start = System.nanoTime();
+        HttpResponse<String> response = get("/slow?ms=200");
+
+        assertThat(response.body()).contains("<p id=\"delay\">200</p>");
+        assertThat((System.nanoTime() - start) / 1_000_000).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Registered pages should be served at their path")
+    void servesRegisteredPages() throws Exception {
+        server.page("/checkout", "<html><body id=\"checkout\"></body></html>");
+
+        assertThat(get("/checkout").body()).contains("id=\"checkout\"");
+    }
+
+    private static HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(server.url(path))).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,44 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.telemetry.HubDurationStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HubShardsTest {
+
+    @Test
+    @DisplayName("Items should be placed longest first on the lightest shard")
+    void balancesByWeight() {
+        List<List<Integer>> shards = HubShards.balance(List.of(1, 7, 3, 5, 4, 2), Integer::longValue, 3);
+
+        assertThat(shards).containsExactly(List.of(7, 1), List.of(5, 2), List.of(4, 3));
+    }
+
+    @Test
+    @DisplayName("Known classes should be balanced by predicted time, nested classes following their outer class")
+    void plansFromStore(@TempDir Path dir) {
+        HubDurationStore store = new HubDurationStore(dir.resolve("durations.tsv"));
+        store.record("com.example.SlowTest", "a", 6000, null);
+        store.record("com.example.SlowTest$Nested", "b", 3000, null);
+        store.record("com.example.MediumTest", "a", 5000, null);
+        store.record("com.example.FastTest", "a", 2000, null);
+        store.record("com.example.TinyTest", "a", 1000, null);
+
+        HubShards shards = HubShards.plan(store, 2);
+
+        assertThat(shards.shardOf("com.example.SlowTest")).isEqualTo(0);
+        assertThat(shards.shardOf("com.example.SlowTest$Nested")).isEqualTo(0);
+        assertThat(shards.shardOf("com.example.MediumTest")).isEqualTo(1);
+        assertThat(shards.shardOf("com.example.FastTest")).isEqualTo(1);
+        assertThat(shards.shardOf("com.example.TinyTest")).isEqualTo(1);
+        assertThat(shards.predictedMs(0)).isEqualTo(9000);
+        assertThat(shards.predictedMs(1)).isEqualTo(8000);
+        assertThat(shards.shardOf("com.example.NewTest")).isBetween(0, 1);
+    }
+}
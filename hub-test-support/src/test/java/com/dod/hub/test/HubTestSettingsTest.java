@@ -0,0 +1,118 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.config.HubArtifactPolicy;
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.config.HubImageFormat;
+import com.dod.hub.core.config.HubPageLoadStrategy;
+import com.dod.hub.core.config.HubProviderType;
+import com.dod.hub.core.exception.HubException;
+import com.dod.hub.core.telemetry.FileTelemetryListener;
+import com.dod.hub.core.tracing.HubTracingOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HubTestSettingsTest {
+
+    @Test
+    @DisplayName("Starter keys should be read in kebab-case and camelCase")
+    void readsStarterKeys() {
+        Properties properties = new Properties();
+        properties.setProperty("hub.provider", "playwright");
+        properties.setProperty("hub.browser", "FIREFOX");
+        properties.setProperty("hub.implicit-wait-ms", "250");
+        properties.setProperty("hub.pageLoadTimeoutMs", "5000");
+        properties.setProperty("hub.performance.pooling.enabled", "true");
+        properties.setProperty("hub.performance.pooling.max-active", "3");
+        properties.setProperty("hub.performance.lazy-init", "true");
+        properties.setProperty("hub.performance.element-caching", "false");
+        properties.setProperty("hub.artifacts.policy", "always");
+        properties.setProperty("hub.navigation.page-load-strategy", "eager");
+        properties.setProperty("hub.screenshot.format", "jpeg");
+        properties.setProperty("hub.parallel.max-concurrent-browsers", "4");
+        properties.setProperty("hub.telemetry.enabled", "false");
+        properties.setProperty("hub.telemetry.fsync", "per_batch");
+        properties.setProperty("hub.telemetry.max-files", "2");
+        properties.setProperty("hub.video.enabled", "true");
+        properties.setProperty("hub.video.max-fps", "2");
+        properties.setProperty("hub.provider-options.hybrid.routing.get_title", "playwright");
+
+        HubTestSettings settings = HubTestSettings.from(properties);
+
+        assertThat(settings.getConfig().getProvider()).isEqualTo(HubProviderType.PLAYWRIGHT);
+        assertThat(settings.getConfig().getBrowser()).isEqualTo(HubBrowserType.FIREFOX);
+        assertThat(settings.getConfig().getImplicitWaitMs()).isEqualTo(250);
+        assertThat(settings.getConfig().getPageLoadTimeoutMs()).isEqualTo(5000);
+        assertThat(settings.getConfig().isPoolingEnabled()).isTrue();
+        assertThat(settings.getConfig().getPoolMaxActive()).isEqualTo(3);
+        assertThat(settings.getConfig().isLazyInit()).isTrue();
+        assertThat(settings.getConfig().isElementCaching()).isFalse();
+        assertThat(settings.getConfig().getArtifactPolicy()).isEqualTo(HubArtifactPolicy.ALWAYS);
+        assertThat(settings.getConfig().getNavigationPolicy().getStrategy())
+                .isEqualTo(HubPageLoadStrategy.EAGER);
+        assertThat(settings.getConfig().getScreenshotSpec().getFormat()).isEqualTo(HubImageFormat.JPEG);
+        assertThat(settings.getConfig().getProviderOptions())
+                .containsEntry("hybrid.routing.get_title", "playwright");
+        assertThat(settings.getMaxConcurrentBrowsers()).isEqualTo(4);
+        assertThat(settings.isTelemetryEnabled()).isFalse();
+        assertThat(settings.getTelemetryOptions().getFsyncPolicy())
+                .isEqualTo(FileTelemetryListener.FsyncPolicy.PER_BATCH);
+        assertThat(settings.getTelemetryOptions().getMaxFiles()).isEqualTo(2);
+        assertThat(settings.getConfig().getVideoOptions().getMaxFps()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Unset keys should keep the HubConfig defaults")
+    void keepsDefaults() {
+        HubTestSettings settings = HubTestSettings.from(new Properties());
+
+        assertThat(settings.getConfig().getProvider()).isEqualTo(HubProviderType.SELENIUM);
+        assertThat(settings.getConfig().getPageLoadTimeoutMs()).isEqualTo(30000);
+        assertThat(settings.getConfig().getScreenshotSpec()).isNull();
+        assertThat(settings.getConfig().getVideoOptions()).isNull();
+        assertThat(settings.isTelemetryEnabled()).isTrue();
+        assertThat(settings.getTracingOptions()).isNull();
+        assertThat(settings.getDurationsFile()).isNull();
+        assertThat(settings.getShardTotal()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Tracing keys should select the exporter and keep header names verbatim")
+    void readsTracingKeys() {
+        Properties properties = new Properties();
+        properties.setProperty("hub.tracing.enabled", "true");
+        properties.setProperty("hub.tracing.exporter", "otlp_http");
+        properties.setProperty("hub.tracing.endpoint", "http://collector:4318/v1/traces");
+        properties.setProperty("hub.tracing.service-name", "checkout-suite");
+        properties.setProperty("hub.tracing.headers.X-Api-Key", "secret");
+
+        HubTracingOptions tracing = HubTestSettings.from(properties).getTracingOptions();
+
+        assertThat(tracing.getExporter()).isEqualTo(HubTracingOptions.Exporter.OTLP_HTTP);
+        assertThat(tracing.getEndpoint()).isEqualTo("http://collector:4318/v1/traces");
+        assertThat(tracing.getServiceName()).isEqualTo("checkout-suite");
+        assertThat(tracing.getHeaders()).containsEntry("X-Api-Key", "secret");
+    }
+
+    @Test
+    @DisplayName("Malformed values should name the offending key")
+    void rejectsMalformedValues() {
+        Properties properties = new Properties();
+        properties.setProperty("hub.performance.pooling.max-active", "many");
+
+        assertThatThrownBy(() -> HubTestSettings.from(properties))
+                .isInstanceOf(HubException.class)
+                .hasMessageContaining("hub.performance.pooling.maxactive");
+
+        Properties shard = new Properties();
+        shard.setProperty("hub.shard.index", "4");
+        shard.setProperty("hub.shard.total", "4");
+        assertThatThrownBy(() -> HubTestSettings.from(shard))
+                .isInstanceOf(HubException.class)
+                .hasMessageContaining("hub.shard.index");
+    }
+}
@@ -0,0 +1,150 @@
+package com.dod.hub.test;
+
+import com.dod.hub.core.config.HubVideoOptions;
+import com.dod.hub.core.locator.HubElementRef;
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.HubScreencast;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Browser-free provider registered under the "selenium" name for the test
+ * classpath, so that the extensions can be exercised without a browser.
+ */
+public class StubProvider implements HubProvider {
+
+    public static final byte[] SCREENSHOT = { (byte) 0x89, 'P', 'N', 'G' };
+    public static final byte[] FRAME = { (byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xD9 };
+    public static final AtomicInteger STARTED = new AtomicInteger();
+    public static final AtomicInteger STOPPED = new AtomicInteger();
+
+    @Override
+    public String getName() {
+        return "selenium";
+    }
+
+    @Override
+    public ProviderSession start(SessionCapabilities caps) {
+        STARTED.incrementAndGet();
+        return new ProviderSession(getName(), caps, new Object());
+    }
+
+    @Override
+    public void stop(ProviderSession session) {
+        STOPPED.incrementAndGet();
+    }
+
+    @Override
+    public HubElementRef find(ProviderSession session, HubLocator locator) {
+        return null;
+    }
+
+    @Override
+    public List<HubElementRef> findAll(ProviderSession session, HubLocator locator) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public HubElementRef find(ProviderSession session, HubElementRef parent, HubLocator locator) {
+        return null;
+    }
+
+    @Override
+    public List<HubElementRef> findAll(ProviderSession session, HubElementRef parent, HubLocator locator) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public void click(ProviderSession session, HubElementRef element) {
+    }
+
+    @Override
+    public void type(ProviderSession session, HubElementRef element, String text) {
+    }
+
+    @Override
+    public void clear(ProviderSession session, HubElementRef element) {
+    }
+
+    @Override
+    public String getText(ProviderSession session, HubElementRef element) {
+        return "";
+    }
+
+    @Override
+    public String getAttribute(ProviderSession session, HubElementRef element, String attributeName) {
+        return null;
+    }
+
+    @Override
+    public boolean isDisplayed(ProviderSession session, HubElementRef element) {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled(ProviderSession session, HubElementRef element) {
+        return true;
+    }
+
+    @Override
+    public boolean isSelected(ProviderSession session, HubElementRef element) {
+        return false;
+    }
+
+    @Override
+    public void navigate(ProviderSession session, String url) {
+    }
+
+    @Override
+    public void back(ProviderSession session) {
+    }
+
+    @Override
+    public void forward(ProviderSession session) {
+    }
+
+    @Override
+    public void refresh(ProviderSession session) {
+    }
+
+    @Override
+    public String getTitle(ProviderSession session) {
+        return "Stub";
+    }
+
+    @Override
+    public String getCurrentUrl(ProviderSession session) {
+        return "about:blank";
+    }
+
+    @Override
+    public String getPageSource(ProviderSession session) {
+        return "<html></html>";
+    }
+
+    @Override
+    public byte[] takeScreenshot(ProviderSession session) {
+        return SCREENSHOT.clone();
+    }
+
+    /**
+     * Delivers a single frame right away, as a browser does for the current
+     * page.
+     */
+    @Override
+    public HubScreencast startScreencast(ProviderSession session, HubVideoOptions options, Consumer<byte[]> frames) {
+        frames.accept(FRAME.clone());
+        return () -> {
+        };
+    }
+
+    @Override
+    public void setTimeouts(ProviderSession session, long implicitWaitMs, long pageLoadMs) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.dod.hub.test.cucumber;
+
+import com.dod.hub.test.StubProvider;
+import com.dod.hub.test.cucumber.glue.DriverSteps;
+import io.cucumber.core.cli.Main;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a feature with parallel scenarios against {@link StubProvider}.
+ */
+class HubCucumberPluginTest {
+
+    @Test
+    @DisplayName("Parallel scenarios should each get their own driver, injected into the steps")
+    void drivesScenarios() throws IOException {
+        StubProvider.STARTED.set(0);
+        StubProvider.STOPPED.set(0);
+        DriverSteps.DRIVERS.clear();
+
+        byte status = Main.run(new String[] {
+                "--threads", "3",
+                "--glue", "com.dod.hub.test.cucumber.glue",
+                "--plugin", HubCucumberPlugin.class.getName(),
+                "--object-factory", HubObjectFactory.class.getName(),
+                "classpath:com/dod/hub/test/cucumber/drivers.feature"
+        }, Thread.currentThread().getContextClassLoader());
+
+        assertThat(status).as("the failing scenario fails the run").isEqualTo((byte) 1);
+        assertThat(DriverSteps.DRIVERS).hasSize(3);
+        assertThat(StubProvider.STOPPED.get()).isEqualTo(3);
+
+        Path dir = Paths.get("target/hub-test-artifacts/drivers/Failing_scenario");
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName().toString()))
+                    .anyMatch(name -> name.endsWith("_failure_screenshot.png"));
+        }
+    }
+}
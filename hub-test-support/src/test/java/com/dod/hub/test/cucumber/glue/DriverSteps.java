@@ -0,0 +1,33 @@
+package com.dod.hub.test.cucumber.glue;
+
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.test.HubDrivers;
+import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DriverSteps {
+
+    public static final Set<HubWebDriver> DRIVERS = ConcurrentHashMap.newKeySet();
+
+    private final HubWebDriver driver;
+
+    public DriverSteps(HubWebDriver driver) {
+        this.driver = driver;
+    }
+
+    @Given("the page is opened")
+    public void opened() {
+        driver.get("about:blank");
+        DRIVERS.add(HubDrivers.current());
+    }
+
+    @Then("the title is {string}")
+    public void title(String expected) {
+        assertThat(driver.getTitle()).isEqualTo(expected);
+    }
+}
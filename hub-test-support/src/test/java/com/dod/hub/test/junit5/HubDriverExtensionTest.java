@@ -0,0 +1,137 @@
+package com.dod.hub.test.junit5;
+
+import com.dod.hub.core.config.HubBrowserType;
+import com.dod.hub.core.tracing.HubSpan;
+import com.dod.hub.core.tracing.HubTracer;
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.test.StubProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.testkit.engine.EngineTestKit;
+import org.junit.platform.testkit.engine.Events;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Runs fixture classes through the Jupiter engine against {@link StubProvider}.
+ */
+class HubDriverExtensionTest {
+
+    private static final Path ARTIFACTS = Paths.get("target/hub-test-artifacts");
+
+    @BeforeEach
+    void resetCounters() {
+        StubProvider.STARTED.set(0);
+        StubProvider.STOPPED.set(0);
+    }
+
+    @Test
+    @DisplayName("Fields and parameters should get their own drivers, released after each test")
+    void injectsAndReleasesDrivers() {
+        Events tests = run(InjectionFixture.class);
+
+        tests.assertStatistics(stats -> stats.started(2).succeeded(2));
+        assertThat(StubProvider.STARTED.get()).isEqualTo(5);
+        assertThat(StubProvider.STOPPED.get()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("A failing test should leave a screenshot below the artifact path")
+    void capturesFailureScreenshot() throws IOException {
+        run(FailingFixture.class).assertStatistics(stats -> stats.failed(1));
+
+        Path dir = ARTIFACTS.resolve("FailingFixture").resolve("fails");
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files.map(p -> p.getFileName().toString()))
+                    .anyMatch(name -> name.endsWith("_failure_screenshot.png"));
+        }
+        assertThat(StubProvider.STOPPED.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A failing test should keep its screencast as a video, a passing test should not")
+    void keepsVideoOfFailingTest() throws IOException {
+        run(FailingFixture.class).assertStatistics(stats -> stats.failed(1));
+        run(InjectionFixture.class).assertStatistics(stats -> stats.succeeded(2));
+
+        try (Stream<Path> files = Files.list(ARTIFACTS.resolve("FailingFixture").resolve("fails"))) {
+            assertThat(files.map(p -> p.getFileName().toString()))
+                    .anyMatch(name -> name.endsWith("_failure_video.avi"));
+        }
+        assertThat(ARTIFACTS.resolve("InjectionFixture")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Commands of a test should be traced as children of its span")
+    void tracesCommandsUnderTestSpan() {
+        List<HubSpan> spans = new CopyOnWriteArrayList<>();
+        HubTracer tracer = HubTracer.install(spans::addAll);
+        try {
+            run(FailingFixture.class);
+        } finally {
+            tracer.shutdown();
+        }
+
+        HubSpan test = spans.stream().filter(span -> span.getName().equals("FailingFixture.fails"))
+                .findFirst().orElseThrow();
+        assertThat(test.getStatus()).isEqualTo(HubSpan.Status.ERROR);
+        assertThat(spans).filteredOn(span -> test.getSpanId().equals(span.getParentSpanId()))
+                .extracting(HubSpan::getName)
+                .contains("NAVIGATE_TO");
+    }
+
+    private Events run(Class<?> fixture) {
+        return EngineTestKit.engine("junit-jupiter")
+                .selectors(selectClass(fixture))
+                .execute()
+                .testEvents();
+    }
+
+    abstract static class BaseFixture {
+        @HubDriver
+        HubWebDriver inherited;
+    }
+
+    @HubDriverTest
+    static class InjectionFixture extends BaseFixture {
+
+        @HubDriver(browser = HubBrowserType.FIREFOX)
+        private HubWebDriver firefox;
+
+        @Test
+        void fieldsAreInjected() {
+            assertThat(inherited).isNotNull().isNotSameAs(firefox);
+            assertThat(inherited.getTitle()).isEqualTo("Stub");
+            assertThat(firefox.getTitle()).isEqualTo("Stub");
+        }
+
+        @Test
+        void parametersAreInjected(@HubDriver HubWebDriver extra) {
+            assertThat(extra).isNotNull().isNotSameAs(inherited).isNotSameAs(firefox);
+            Stream.of(inherited, firefox, extra).forEach(HubWebDriver::getTitle);
+        }
+    }
+
+    @HubDriverTest
+    static class FailingFixture {
+
+        @HubDriver
+        private HubWebDriver driver;
+
+        @Test
+        void fails() {
+            driver.get("about:blank");
+            throw new AssertionError("expected");
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.dod.hub.test.junit5;
+
+import com.dod.hub.core.telemetry.HubDurationStore;
+import com.dod.hub.test.HubTestSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Runs fixtures with durations recorded in the store of {@code hub.properties}.
+ */
+class LongestFirstOrdererTest {
+
+    private static final List<String> EXECUTED = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("Classes and methods with the longest recorded durations should run first")
+    void runsLongestFirst() {
+        HubDurationStore store = HubDurationStore.open(HubTestSettings.get().getDurationsFile());
+        store.record(ShortFixture.class.getName(), "only", 100, null);
+        store.record(LongFixture.class.getName(), "fast", 200, null);
+        store.record(LongFixture.class.getName(), "slow", 900, null);
+        EXECUTED.clear();
+
+        EngineTestKit.engine("junit-jupiter")
+                .configurationParameter("junit.jupiter.testclass.order.default",
+                        LongestFirstClassOrderer.class.getName())
+                .selectors(selectClass(ShortFixture.class), selectClass(LongFixture.class))
+                .execute()
+                .testEvents()
+                .assertStatistics(stats -> stats.succeeded(4));
+
+        assertThat(EXECUTED).hasSize(4).filteredOn(name -> !name.equals("unknown"))
+                .containsExactly("slow", "fast", "only");
+    }
+
+    @TestMethodOrder(LongestFirstMethodOrderer.class)
+    static class ShortFixture {
+
+        @Test
+        void only() {
+            EXECUTED.add("only");
+        }
+    }
+
+    @TestMethodOrder(LongestFirstMethodOrderer.class)
+    static class LongFixture {
+
+        @Test
+        void fast() {
+            EXECUTED.add("fast");
+        }
+
+        @Test
+        void unknown() {
+            EXECUTED.add("unknown");
+        }
+
+        @Test
+        void slow() {
+            EXECUTED.add("slow");
+        }
+    }
+}
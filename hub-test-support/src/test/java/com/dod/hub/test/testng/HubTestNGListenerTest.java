@@ -0,0 +1,144 @@
+package com.dod.hub.test.testng;
+
+import com.dod.hub.facade.HubWebDriver;
+import com.dod.hub.test.HubDrivers;
+import com.dod.hub.test.StubProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.xml.XmlSuite;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a TestNG class with {@code parallel="methods"} against {@link StubProvider}.
+ */
+class HubTestNGListenerTest {
+
+    private static final Path TELEMETRY = Paths.get("target/hub-test-artifacts/hub-telemetry.ndjson");
+
+    @BeforeEach
+    void resetCounters() {
+        StubProvider.STARTED.set(0);
+        StubProvider.STOPPED.set(0);
+        ParallelFixture.DRIVERS.clear();
+        ConfigurationFixture.DRIVERS.clear();
+    }
+
+    @Test
+    @DisplayName("Parallel methods should each get a thread-bound driver that is released afterwards")
+    void bindsDriverPerMethod() throws Exception {
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG(false);
+        testng.setTestClasses(new Class[] { ParallelFixture.class });
+        testng.setParallel(XmlSuite.ParallelMode.METHODS);
+        testng.setThreadCount(3);
+        testng.setUseDefaultListeners(false);
+        testng.addListener(new HubTestNGListener());
+        testng.addListener(results);
+        testng.run();
+
+        assertThat(results.getPassedTests()).hasSize(3);
+        assertThat(results.getFailedTests()).hasSize(1);
+        assertThat(Set.copyOf(ParallelFixture.DRIVERS.values())).hasSize(4);
+        assertThat(StubProvider.STARTED.get()).isEqualTo(4);
+        assertThat(StubProvider.STOPPED.get()).isEqualTo(4);
+        assertThat(Files.readString(TELEMETRY)).contains("\"testMethod\":\"fails\"", "TEST_FAILED");
+    }
+
+    @Test
+    @DisplayName("@BeforeMethod and @AfterMethod should see the driver of the test they surround")
+    void bindsDriverForMethodConfigurations() {
+        TestListenerAdapter results = new TestListenerAdapter();
+        TestNG testng = new TestNG(false);
+        testng.setTestClasses(new Class[] { ConfigurationFixture.class });
+        testng.setParallel(XmlSuite.ParallelMode.METHODS);
+        testng.setThreadCount(2);
+        testng.setUseDefaultListeners(false);
+        testng.addListener(new HubTestNGListener());
+        testng.addListener(results);
+        testng.run();
+
+        assertThat(results.getPassedTests()).hasSize(2);
+        assertThat(results.getConfigurationFailures()).isEmpty();
+        for (String test : List.of("first", "second")) {
+            HubWebDriver driver = ConfigurationFixture.DRIVERS.get(test);
+            assertThat(driver).isNotNull();
+            assertThat(ConfigurationFixture.DRIVERS.get(test + ":before")).isSameAs(driver);
+            assertThat(ConfigurationFixture.DRIVERS.get(test + ":after")).isSameAs(driver);
+        }
+        assertThat(StubProvider.STARTED.get()).isEqualTo(2);
+        assertThat(StubProvider.STOPPED.get()).isEqualTo(2);
+    }
+
+    public static class ConfigurationFixture {
+        static final Map<String, HubWebDriver> DRIVERS = new ConcurrentHashMap<>();
+
+        @BeforeMethod
+        public void open(Method test) {
+            assertThat(HubDrivers.current().getTitle()).isEqualTo("Stub");
+            DRIVERS.put(test.getName() + ":before", HubDrivers.current());
+        }
+
+        @AfterMethod
+        public void close(Method test) {
+            DRIVERS.put(test.getName() + ":after", HubDrivers.current());
+        }
+
+        @org.testng.annotations.Test
+        public void first() {
+            DRIVERS.put("first", HubDrivers.current());
+        }
+
+        @org.testng.annotations.Test
+        public void second() {
+            DRIVERS.put("second", HubDrivers.current());
+        }
+    }
+
+    public static class ParallelFixture {
+        static final Map<String, HubWebDriver> DRIVERS = new ConcurrentHashMap<>();
+
+        private final HubWebDriver driver = HubDrivers.bound();
+
+        @org.testng.annotations.Test
+        public void first() throws InterruptedException {
+            record("first");
+        }
+
+        @org.testng.annotations.Test
+        public void second() throws InterruptedException {
+            record("second");
+        }
+
+        @org.testng.annotations.Test
+        public void third() throws InterruptedException {
+            record("third");
+        }
+
+        @org.testng.annotations.Test
+        public void fails() throws InterruptedException {
+            record("fails");
+            throw new AssertionError("expected");
+        }
+
+        private void record(String name) throws InterruptedException {
+            assertThat(driver.getTitle()).isEqualTo("Stub");
+            Thread.sleep(50);
+            DRIVERS.put(name, HubDrivers.current());
+        }
+    }
+}
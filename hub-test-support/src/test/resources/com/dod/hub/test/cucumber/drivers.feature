@@ -0,0 +1,13 @@
+Feature: Scenario drivers
+
+  Scenario: First scenario
+    Given the page is opened
+    Then the title is "Stub"
+
+  Scenario: Second scenario
+    Given the page is opened
+    Then the title is "Stub"
+
+  Scenario: Failing scenario
+    Given the page is opened
+    Then the title is "Other"
@@ -0,0 +1,169 @@
+package com.dod.hub.facade;
+
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.core.pipeline.CommandPipeline;
+import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.ProviderSession;
+import org.openqa.selenium.By;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link HubWebDriver} that forwards every call to another driver chosen by
+ * {@link #delegate()}.
+ * <p>
+ * This is a plain subclass rather than a runtime proxy: each call costs one
+ * virtual dispatch plus whatever {@code delegate()} does. Subclasses decide
+ * when and how the target is resolved, e.g. {@link LazyHubWebDriver} on first
+ * use. Every public method of {@link HubWebDriver} must be overridden here.
+ */
+public abstract class DelegatingHubWebDriver extends HubWebDriver {
+
+    protected DelegatingHubWebDriver() {
+        super();
+    }
+
+    /**
+     * Returns the driver that receives the call.
+     *
+     * @return The target driver, never null.
+     */
+    protected abstract HubWebDriver delegate();
+
+    @Override
+    public ProviderSession getSession() {
+        return delegate().getSession();
+    }
+
+    @Override
+    public HubProvider getProvider() {
+        return delegate().getProvider();
+    }
+
+    @Override
+    public CommandPipeline getPipeline() {
+        return delegate().getPipeline();
+    }
+
+    @Override
+    public long getNavigationCount() {
+        return delegate().getNavigationCount();
+    }
+
+    @Override
+    public boolean isElementCaching() {
+        return delegate().isElementCaching();
+    }
+
+    @Override
+    public Map<Class<?>, Object> getPageCache() {
+        return delegate().getPageCache();
+    }
+
+    @Override
+    public void get(String url) {
+        delegate().get(url);
+    }
+
+    @Override
+    public void get(String url, HubNavigationPolicy policy) {
+        delegate().get(url, policy);
+    }
+
+    @Override
+    public String getCurrentUrl() {
+        return delegate().getCurrentUrl();
+    }
+
+    @Override
+    public String getTitle() {
+        return delegate().getTitle();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return delegate().findElements(by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return delegate().findElement(by);
+    }
+
+    @Override
+    public List<String> readAll(By items, By child, String attribute) {
+        return delegate().readAll(items, child, attribute);
+    }
+
+    @Override
+    public String getPageSource() {
+        return delegate().getPageSource();
+    }
+
+    @Override
+    public void close() {
+        delegate().close();
+    }
+
+    @Override
+    public void quit() {
+        delegate().quit();
+    }
+
+    @Override
+    public void resetState(HubStateReset reset) {
+        delegate().resetState(reset);
+    }
+
+    @Override
+    public Set<String> getWindowHandles() {
+        return delegate().getWindowHandles();
+    }
+
+    @Override
+    public String getWindowHandle() {
+        return delegate().getWindowHandle();
+    }
+
+    @Override
+    public TargetLocator switchTo() {
+        return delegate().switchTo();
+    }
+
+    @Override
+    public Navigation navigate() {
+        return delegate().navigate();
+    }
+
+    @Override
+    public Options manage() {
+        return delegate().manage();
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        return delegate().getScreenshotAs(target);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target, HubScreenshotSpec spec) throws WebDriverException {
+        return delegate().getScreenshotAs(target, spec);
+    }
+
+    @Override
+    public Object executeScript(String script, Object... args) {
+        return delegate().executeScript(script, args);
+    }
+
+    @Override
+    public Object executeAsyncScript(String script, Object... args) {
+        return delegate().executeAsyncScript(script, args);
+    }
+}
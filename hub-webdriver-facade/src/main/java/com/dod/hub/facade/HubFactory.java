@@ -17,6 +17,10 @@ public class HubFactory {
         caps.setHeadless(config.isHeadless());
         caps.setOptions(config.getProviderOptions());
         caps.setGridUrl(config.getGridUrl());
+        caps.setNavigationPolicy(config.getNavigationPolicy());
+        caps.setScreenshotSpec(config.getScreenshotSpec());
+        caps.setElementCaching(config.isElementCaching());
+        caps.setVideoOptions(config.getVideoOptions());
 
         HubWebDriver driver = new HubWebDriver(provider, caps);
         // Apply timeouts immediately
@@ -2,6 +2,9 @@ package com.dod.hub.facade;
 
 import com.dod.hub.core.command.CommandType;
 import com.dod.hub.core.command.HubCommand;
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubScreenshotSpec;
+import com.dod.hub.core.config.HubStateReset;
 import com.dod.hub.core.locator.HubElementRef;
 import com.dod.hub.core.locator.HubLocator;
 import com.dod.hub.core.pipeline.CommandContext;
@@ -22,7 +25,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecutor {
@@ -31,6 +36,8 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
     private final CommandPipeline pipeline;
     private final SessionCapabilities caps;
     private volatile ProviderSession session;
+    private final AtomicLong navigations = new AtomicLong();
+    private final Map<Class<?>, Object> pageCache = new ConcurrentHashMap<>();
 
     private long implicitWaitMs = 0;
     private long pageLoadTimeoutMs = 0;
@@ -80,6 +87,36 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
         return pipeline;
     }
 
+    /**
+     * Counts the navigations made through this driver: {@code get}, back,
+     * forward, refresh and state resets. Elements found before the count last
+     * changed may belong to a previous document.
+     *
+     * @return The number of navigations so far.
+     */
+    public long getNavigationCount() {
+        return navigations.get();
+    }
+
+    /**
+     * @return Whether page objects initialized with this driver cache the
+     *         elements of their fields between navigations.
+     */
+    public boolean isElementCaching() {
+        return caps.isElementCaching();
+    }
+
+    /**
+     * Page objects kept for reuse with this driver, by page class. They live
+     * as long as the driver and are dropped when it quits; whoever reuses them
+     * checks that the session and navigation count still match.
+     *
+     * @return The mutable, thread-safe cache.
+     */
+    public Map<Class<?>, Object> getPageCache() {
+        return pageCache;
+    }
+
     private CommandContext ctx(CommandType type, String target) {
         ProviderSession s = getSession();
         HubCommand cmd = new HubCommand(type, s.getSessionId(), provider.getName());
@@ -88,20 +125,54 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
     }
 
     /**
-     * Navigation to a specified URL.
+     * Navigation to a specified URL, using the session's default readiness
+     * policy.
      *
      * @param url The target URL.
      */
     @Override
     public void get(String url) {
+        navigateTo(url, null);
+    }
+
+    /**
+     * Navigation to a specified URL that returns once the given readiness policy
+     * is satisfied, e.g. {@code HubNavigationPolicy.eager()} or
+     * {@code HubNavigationPolicy.whenSelector("#app")}.
+     * <p>
+     * Selenium sessions fix their page load strategy at start, so a policy
+     * looser than the session's still waits for the session's strategy first.
+     * Start such sessions with the loosest policy needed, e.g.
+     * {@code hub.navigation.page-load-strategy=NONE}, and pass stricter ones
+     * per call.
+     *
+     * @param url    The target URL.
+     * @param policy The readiness policy for this navigation only.
+     */
+    public void get(String url, HubNavigationPolicy policy) {
+        if (policy == null) {
+            throw new IllegalArgumentException("Navigation policy must not be null");
+        }
+        navigateTo(url, policy);
+    }
+
+    private void navigateTo(String url, HubNavigationPolicy policy) {
         ProviderSession s = getSession();
         HubCommand cmd = new HubCommand(CommandType.NAVIGATE_TO, s.getSessionId(), provider.getName());
         cmd.addParam("url", url);
+        if (policy != null) {
+            cmd.addParam("readiness", policy.toString());
+        }
         cmd.setTarget(url);
 
         CommandContext context = new CommandContext(s, provider, cmd);
         pipeline.execute(context, () -> {
-            provider.navigate(s, url);
+            navigations.incrementAndGet();
+            if (policy != null) {
+                provider.navigate(s, url, policy);
+            } else {
+                provider.navigate(s, url);
+            }
             return null;
         });
     }
@@ -131,6 +202,20 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
         });
     }
 
+    /**
+     * Reads the text, or the given attribute when it is not null, of the
+     * first {@code child} of each element matching {@code items}, in a single
+     * provider call where the provider supports it. Items without such a
+     * child yield null.
+     */
+    public List<String> readAll(By items, By child, String attribute) {
+        HubLocator itemLocator = HubBy.toHubLocator(items);
+        HubLocator childLocator = HubBy.toHubLocator(child);
+        CommandContext context = ctx(CommandType.READ_ALL, itemLocator.toString());
+        return pipeline.execute(context,
+                () -> provider.readAll(getSession(), null, itemLocator, childLocator, attribute));
+    }
+
     /**
      * Finds the first element matching the given locator.
      *
@@ -170,6 +255,29 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
             return null;
         });
         session = null;
+        pageCache.clear();
+    }
+
+    /**
+     * Clears browser state so that the driver can be reused by another test,
+     * e.g. by a pool or a class-scoped {@code @HubDriver}.
+     *
+     * @param reset The state to clear.
+     */
+    public void resetState(HubStateReset reset) {
+        if (reset == null) {
+            throw new IllegalArgumentException("State reset must not be null");
+        }
+        if (reset == HubStateReset.NONE) {
+            return;
+        }
+        CommandContext context = ctx(CommandType.RESET_STATE, HubCommand.TARGET_BROWSER);
+        context.getCommand().addParam("reset", reset.name());
+        pipeline.execute(context, () -> {
+            navigations.incrementAndGet();
+            provider.resetState(getSession(), reset);
+            return null;
+        });
     }
 
     @Override
@@ -194,6 +302,7 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
             public void back() {
                 CommandContext context = ctx(CommandType.NAV_BACK, HubCommand.TARGET_BROWSER);
                 pipeline.execute(context, () -> {
+                    navigations.incrementAndGet();
                     provider.back(getSession());
                     return null;
                 });
@@ -203,6 +312,7 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
             public void forward() {
                 CommandContext context = ctx(CommandType.NAV_FORWARD, HubCommand.TARGET_BROWSER);
                 pipeline.execute(context, () -> {
+                    navigations.incrementAndGet();
                     provider.forward(getSession());
                     return null;
                 });
@@ -222,6 +332,7 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
             public void refresh() {
                 CommandContext context = ctx(CommandType.NAV_REFRESH, HubCommand.TARGET_BROWSER);
                 pipeline.execute(context, () -> {
+                    navigations.incrementAndGet();
                     provider.refresh(getSession());
                     return null;
                 });
@@ -405,12 +516,43 @@ public class HubWebDriver implements WebDriver, TakesScreenshot, JavascriptExecu
         };
     }
 
+    /**
+     * Captures a screenshot using the configured default spec, or the
+     * provider's own default capture when none is configured. BASE64 output of
+     * the default capture comes straight from the provider.
+     */
     @Override
     @SuppressWarnings("unchecked")
     public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
+        HubScreenshotSpec spec = caps.getScreenshotSpec();
+        if (spec == null) {
+            CommandContext context = ctx(CommandType.SCREENSHOT, HubCommand.TARGET_BROWSER);
+            if (target == OutputType.BASE64) {
+                return (X) pipeline.execute(context, () -> provider.takeScreenshotBase64(getSession()));
+            }
+            return convertScreenshot(pipeline.execute(context, () -> provider.takeScreenshot(getSession())), target);
+        }
+        return getScreenshotAs(target, spec);
+    }
+
+    /**
+     * Captures a screenshot as described by the spec, e.g.
+     * {@code HubScreenshotSpec.viewport().jpeg(70).withScale(0.5)}.
+     *
+     * @param target The output type; BYTES or BASE64.
+     * @param spec   Area, format and scale of this screenshot.
+     */
+    public <X> X getScreenshotAs(OutputType<X> target, HubScreenshotSpec spec) throws WebDriverException {
+        if (spec == null) {
+            throw new IllegalArgumentException("Screenshot spec must not be null");
+        }
         CommandContext context = ctx(CommandType.SCREENSHOT, HubCommand.TARGET_BROWSER);
-        byte[] bytes = pipeline.execute(context, () -> provider.takeScreenshot(getSession()));
+        context.getCommand().addParam("spec", spec.toString());
+        return convertScreenshot(pipeline.execute(context, () -> provider.takeScreenshot(getSession(), spec)), target);
+    }
 
+    @SuppressWarnings("unchecked")
+    static <X> X convertScreenshot(byte[] bytes, OutputType<X> target) {
         if (target == OutputType.BYTES)
             return (X) bytes;
         if (target == OutputType.BASE64)
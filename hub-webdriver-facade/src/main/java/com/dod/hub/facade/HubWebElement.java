@@ -2,6 +2,7 @@ package com.dod.hub.facade;
 
 import com.dod.hub.core.command.CommandType;
 import com.dod.hub.core.command.HubCommand;
+import com.dod.hub.core.config.HubScreenshotSpec;
 import com.dod.hub.core.locator.HubElementRef;
 import com.dod.hub.core.locator.HubLocator;
 import com.dod.hub.core.pipeline.CommandContext;
@@ -129,6 +130,19 @@ public class HubWebElement implements WebElement {
                 .collect(java.util.stream.Collectors.toList());
     }
 
+    /**
+     * Reads the text, or the given attribute when it is not null, of the
+     * first {@code child} of each element matching {@code items} inside this
+     * element, in a single provider call where the provider supports it.
+     */
+    public List<String> readAll(By items, By child, String attribute) {
+        HubLocator itemLocator = HubBy.toHubLocator(items);
+        HubLocator childLocator = HubBy.toHubLocator(child);
+        CommandContext context = ctx(CommandType.READ_ALL, itemLocator.toString());
+        return pipeline.execute(context,
+                () -> provider.readAll(session, elementRef, itemLocator, childLocator, attribute));
+    }
+
     @Override
     public WebElement findElement(By by) {
         HubLocator locator = HubBy.toHubLocator(by);
@@ -163,8 +177,30 @@ public class HubWebElement implements WebElement {
         return "";
     }
 
+    /**
+     * Captures a screenshot clipped to this element, encoded with the
+     * configured default spec (PNG if none is configured).
+     */
     @Override
     public <X> X getScreenshotAs(OutputType<X> target) throws WebDriverException {
-        throw new UnsupportedOperationException("Element-level screenshots are not supported in the current version.");
+        HubScreenshotSpec spec = session.getCapabilities().getScreenshotSpec();
+        return getScreenshotAs(target, spec != null ? spec : HubScreenshotSpec.viewport());
+    }
+
+    /**
+     * Captures a screenshot clipped to this element. The area of the spec is
+     * ignored; format and scale apply.
+     *
+     * @param target The output type; BYTES or BASE64.
+     * @param spec   Format and scale of this screenshot.
+     */
+    public <X> X getScreenshotAs(OutputType<X> target, HubScreenshotSpec spec) throws WebDriverException {
+        if (spec == null) {
+            throw new IllegalArgumentException("Screenshot spec must not be null");
+        }
+        CommandContext context = ctx(CommandType.SCREENSHOT, elementRef.getLocator().toString());
+        context.getCommand().addParam("spec", spec.toString());
+        byte[] bytes = pipeline.execute(context, () -> provider.takeElementScreenshot(session, elementRef, spec));
+        return HubWebDriver.convertScreenshot(bytes, target);
     }
 }
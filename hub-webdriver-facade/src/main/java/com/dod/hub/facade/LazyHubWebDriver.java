@@ -0,0 +1,102 @@
+package com.dod.hub.facade;
+
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubStateReset;
+import com.dod.hub.facade.pool.HubDriverPool;
+
+import java.util.function.Supplier;
+
+/**
+ * A driver handle that creates (or borrows) its real driver on first use.
+ * <p>
+ * Unlike {@link HubWebDriver#getSession()}, which only defers starting the
+ * browser, this also defers the pool borrow, so a test that never touches its
+ * driver never holds a pool slot. Once resolved, calls cost a volatile read
+ * and one delegation.
+ * <p>
+ * {@link #quit()}, {@link #close()} and {@link #resetState} on an unresolved
+ * handle do nothing.
+ */
+public class LazyHubWebDriver extends DelegatingHubWebDriver {
+
+    private final Supplier<HubWebDriver> factory;
+    private volatile HubWebDriver target;
+
+    /**
+     * @param factory Creates the real driver; invoked at most once.
+     */
+    public LazyHubWebDriver(Supplier<HubWebDriver> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Creates a handle that borrows from {@link HubDriverPool} on first use.
+     *
+     * @param config The configuration of the driver to borrow.
+     * @return The unresolved handle.
+     */
+    public static LazyHubWebDriver borrowing(HubConfig config) {
+        return new LazyHubWebDriver(() -> HubDriverPool.getInstance().borrowDriver(config));
+    }
+
+    @Override
+    protected HubWebDriver delegate() {
+        HubWebDriver driver = target;
+        if (driver == null) {
+            synchronized (this) {
+                driver = target;
+                if (driver == null) {
+                    driver = factory.get();
+                    if (driver == null) {
+                        throw new IllegalStateException("Lazy driver factory returned null");
+                    }
+                    target = driver;
+                }
+            }
+        }
+        return driver;
+    }
+
+    /**
+     * @return true if the real driver has been created.
+     */
+    public boolean isInitialized() {
+        return target != null;
+    }
+
+    /**
+     * Returns the real driver without creating it.
+     *
+     * @return The real driver, or null if the handle was never used.
+     */
+    public HubWebDriver getIfInitialized() {
+        return target;
+    }
+
+    @Override
+    public void close() {
+        quit();
+    }
+
+    @Override
+    public void quit() {
+        HubWebDriver driver = target;
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    @Override
+    public void resetState(HubStateReset reset) {
+        HubWebDriver driver = target;
+        if (driver != null) {
+            driver.resetState(reset);
+        }
+    }
+
+    @Override
+    public String toString() {
+        HubWebDriver driver = target;
+        return "LazyHubWebDriver[" + (driver == null ? "uninitialized" : driver) + "]";
+    }
+}
@@ -16,10 +16,17 @@ public abstract class HubComponent {
     /**
      * Called by HubFieldDecorator to inject the root element
      * and initialize internal @FindBy fields relative to this root.
+     * Roots created for a HubWebDriver give the fields the same element
+     * caching as page fields.
      */
     public void init(WebElement root) {
         // Initialize fields inside this component, scoped to the root element
-        PageFactory.initElements(new DefaultElementLocatorFactory(root), this);
+        HubElementLocator rootLocator = HubLocatingElementHandler.locatorOf(root);
+        if (rootLocator != null) {
+            HubPageModel.of(getClass()).initElements(this, rootLocator.getDriver(), rootLocator);
+        } else {
+            PageFactory.initElements(new HubFieldDecorator(new DefaultElementLocatorFactory(root)), this);
+        }
         this.root = root;
     }
 
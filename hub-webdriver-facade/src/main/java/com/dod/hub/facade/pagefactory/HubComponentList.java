@@ -0,0 +1,158 @@
+package com.dod.hub.facade.pagefactory;
+
+import com.dod.hub.facade.HubWebElement;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * List of components injected into {@code List<SomeComponent>} fields.
+ * <p>
+ * The roots of all items are found with a single lookup, cached like any
+ * other field of a page initialized with a
+ * {@link com.dod.hub.facade.HubWebDriver HubWebDriver}, and a component is only
+ * created when its item is first accessed. Its root re-resolves by index, so
+ * a component stays usable after the list was re-rendered.
+ * <p>
+ * {@link #readTexts} and {@link #readAttributes} read one field of every item
+ * in a single provider call instead of a lookup and a read per item.
+ *
+ * @param <T> the component type
+ */
+public class HubComponentList<T extends HubComponent> extends AbstractList<T> {
+
+    private final Class<T> type;
+    private final ElementLocator locator;
+    private final List<T> components = new ArrayList<>();
+
+    HubComponentList(Class<T> type, ElementLocator locator) {
+        this.type = type;
+        this.locator = locator;
+    }
+
+    @Override
+    public int size() {
+        return roots().size();
+    }
+
+    @Override
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        return component(index);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        // One lookup for the whole iteration, not one per hasNext()
+        return IntStream.range(0, size()).mapToObj(this::component).iterator();
+    }
+
+    /**
+     * Returns the text of the element {@code field} selects in each item.
+     * Items without that element yield null.
+     *
+     * @param field selects a {@code @FindBy} field of the component, e.g.
+     *              {@code row -> row.name}
+     */
+    public List<String> readTexts(Function<? super T, WebElement> field) {
+        return read(field, null);
+    }
+
+    /**
+     * Returns the given attribute of the element {@code field} selects in
+     * each item. Items without that element yield null.
+     */
+    public List<String> readAttributes(Function<? super T, WebElement> field, String attribute) {
+        return read(field, Objects.requireNonNull(attribute, "attribute"));
+    }
+
+    private List<String> read(Function<? super T, WebElement> field, String attribute) {
+        if (locator instanceof HubElementLocator) {
+            HubElementLocator items = (HubElementLocator) locator;
+            // A component that is never attached to an item: applying the field costs no lookup
+            HubElementLocator child = HubLocatingElementHandler.locatorOf(field.apply(newComponent(root(0))));
+            if (child != null && child.getParent() != null && child.getParent().getParent() == items
+                    && child.getParent().getIndex() >= 0) {
+                try {
+                    return readAll(items, child, attribute);
+                } catch (RuntimeException e) {
+                    if (items.getParent() == null || !HubLocatingElementHandler.isStale(e)) {
+                        throw e;
+                    }
+                    items.invalidate();
+                    return readAll(items, child, attribute);
+                }
+            }
+        }
+        List<String> values = new ArrayList<>();
+        for (T item : this) {
+            try {
+                WebElement element = field.apply(item);
+                values.add(attribute == null ? element.getText() : element.getAttribute(attribute));
+            } catch (NoSuchElementException e) {
+                values.add(null);
+            }
+        }
+        return values;
+    }
+
+    private static List<String> readAll(HubElementLocator items, HubElementLocator child, String attribute) {
+        if (items.getParent() == null) {
+            return items.getDriver().readAll(items.getBy(), child.getBy(), attribute);
+        }
+        if (items.getScopedBy() != null) {
+            return items.getDriver().readAll(items.getScopedBy(), child.getBy(), attribute);
+        }
+        WebElement scope = items.getParent().findElement();
+        if (!(scope instanceof HubWebElement)) {
+            throw new IllegalStateException("Cannot read items inside " + scope);
+        }
+        return ((HubWebElement) scope).readAll(items.getBy(), child.getBy(), attribute);
+    }
+
+    private List<WebElement> roots() {
+        if (locator instanceof HubElementLocator) {
+            return ((HubElementLocator) locator).findItems();
+        }
+        return locator.findElements();
+    }
+
+    private T component(int index) {
+        if (!(locator instanceof HubElementLocator)) {
+            // Without a Hub locator the root is a plain element, which may go stale
+            return newComponent(roots().get(index));
+        }
+        synchronized (components) {
+            while (components.size() <= index) {
+                components.add(null);
+            }
+            T component = components.get(index);
+            if (component == null) {
+                component = newComponent(root(index));
+                components.set(index, component);
+            }
+            return component;
+        }
+    }
+
+    private WebElement root(int index) {
+        return HubLocatingElementHandler.proxy(type, new HubElementLocator((HubElementLocator) locator, index));
+    }
+
+    private T newComponent(WebElement root) {
+        return HubFieldDecorator.newComponent(type, root);
+    }
+
+    @Override
+    public String toString() {
+        return "Components " + type.getSimpleName() + " " + locator;
+    }
+}
@@ -0,0 +1,292 @@
+package com.dod.hub.facade.pagefactory;
+
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.locator.HubSelectors;
+import com.dod.hub.core.locator.LocatorStrategy;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.facade.HubBy;
+import com.dod.hub.facade.HubWebDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Locates the element of a page object field and keeps it until the driver
+ * navigates, so repeated use of a field costs one lookup per page instead of
+ * one per call.
+ * <p>
+ * An element that goes stale without a navigation, e.g. because a script
+ * re-rendered it, is dropped by {@link #invalidate()}; the proxies created by
+ * {@link HubFieldDecorator} do that and look it up again. Lists are looked up
+ * on every access unless the field is annotated with
+ * {@link org.openqa.selenium.support.CacheLookup @CacheLookup}, which also
+ * keeps single elements across navigations. Drivers configured without
+ * element caching look every element up on each access.
+ * <p>
+ * Fields of a {@link HubComponent} are located relative to the locator of the
+ * component's root, and the items of a {@link HubComponentList} by their
+ * index in the list's cached lookup. When the root and the field combine into
+ * one selector that finds the same element (see {@link HubSelectors#compose}),
+ * a field of a component nested N levels deep is found with one provider call
+ * instead of N + 1; other combinations look up the root first.
+ */
+public class HubElementLocator implements ElementLocator {
+
+    private final HubWebDriver driver;
+    private final HubElementLocator parent;
+    private final By by;
+    private final HubLocator hubLocator;
+    private final int index;
+    private final boolean cacheLookup;
+    private final HubLocator scoped;
+    private final By scopedBy;
+
+    private WebElement cachedElement;
+    private ProviderSession cachedSession;
+    private long cachedNavigation;
+    private List<WebElement> cachedElementList;
+    private List<WebElement> cachedItems;
+    private ProviderSession cachedItemsSession;
+    private long cachedItemsNavigation;
+
+    public HubElementLocator(HubWebDriver driver, Field field) {
+        this(driver, new Annotations(field));
+    }
+
+    public HubElementLocator(HubWebDriver driver, AbstractAnnotations annotations) {
+        this(driver, null, annotations.buildBy(), annotations.isLookupCached());
+    }
+
+    /**
+     * Locates a field of a component inside the element of {@code parent}.
+     */
+    public HubElementLocator(HubElementLocator parent, Field field) {
+        this(parent, new Annotations(field));
+    }
+
+    public HubElementLocator(HubElementLocator parent, AbstractAnnotations annotations) {
+        this(parent.driver, parent, annotations.buildBy(), annotations.isLookupCached());
+    }
+
+    private HubElementLocator(HubWebDriver driver, HubElementLocator parent, By by, boolean cacheLookup) {
+        this(driver, parent, by, toHubLocator(by), -1, cacheLookup);
+    }
+
+    /**
+     * Locates the item at {@code index} of the elements found by {@code list}.
+     */
+    HubElementLocator(HubElementLocator list, int index) {
+        this(list.driver, list, list.by, list.hubLocator, index, list.cacheLookup);
+    }
+
+    /**
+     * @param hubLocator {@code by} converted by {@link #toHubLocator(By)}
+     */
+    HubElementLocator(HubWebDriver driver, HubElementLocator parent, By by, HubLocator hubLocator, int index,
+            boolean cacheLookup) {
+        this.driver = driver;
+        this.parent = parent;
+        this.by = by;
+        this.hubLocator = hubLocator;
+        this.index = index;
+        this.cacheLookup = cacheLookup;
+        this.scoped = scope(parent, hubLocator, index);
+        this.scopedBy = parent == null || scoped == null ? null : toBy(scoped);
+    }
+
+    /**
+     * Returns the locator of the element relative to the page, or null if it
+     * cannot be expressed as a single locator.
+     */
+    private static HubLocator scope(HubElementLocator parent, HubLocator hubLocator, int index) {
+        if (parent == null) {
+            return hubLocator;
+        }
+        if (parent.scoped == null) {
+            return null;
+        }
+        if (index >= 0) {
+            return HubSelectors.item(parent.scoped, index);
+        }
+        return hubLocator == null ? null : HubSelectors.compose(parent.scoped, hubLocator);
+    }
+
+    /**
+     * Returns the Hub form of a Selenium locator, or null for locators without
+     * one.
+     */
+    static HubLocator toHubLocator(By by) {
+        try {
+            return HubBy.toHubLocator(by);
+        } catch (IllegalArgumentException e) {
+            // @FindBys, @FindAll and custom locators
+            return null;
+        }
+    }
+
+    private static By toBy(HubLocator locator) {
+        return locator.getStrategy() == LocatorStrategy.XPATH
+                ? By.xpath(locator.getValue())
+                : By.cssSelector(locator.getValue());
+    }
+
+    /**
+     * Returns the cached element if it was found in the current session since
+     * the last navigation, otherwise looks it up.
+     */
+    @Override
+    public synchronized WebElement findElement() {
+        // Asked on use, so that lazy drivers are not started by page initialization
+        if (!isCaching()) {
+            return lookup();
+        }
+        // Read before the lookup: a navigation racing with it invalidates the result
+        ProviderSession session = driver.getSession();
+        long navigation = driver.getNavigationCount();
+        if (cachedElement != null && cachedSession == session
+                && (cacheLookup || cachedNavigation == navigation)) {
+            return cachedElement;
+        }
+        WebElement element = lookup();
+        cachedElement = element;
+        cachedSession = session;
+        cachedNavigation = navigation;
+        return element;
+    }
+
+    @Override
+    public synchronized List<WebElement> findElements() {
+        if (index >= 0) {
+            return Collections.singletonList(findElement());
+        }
+        if (cacheLookup && cachedElementList != null) {
+            return cachedElementList;
+        }
+        List<WebElement> elements = lookupAll();
+        if (cacheLookup) {
+            cachedElementList = elements;
+        }
+        return elements;
+    }
+
+    /**
+     * Drops the cached element, and that of the parent, e.g. after it turned
+     * out to be stale: an element re-rendered by a script usually takes its
+     * ancestors along.
+     */
+    public synchronized void invalidate() {
+        cachedElement = null;
+        cachedSession = null;
+        cachedItems = null;
+        cachedItemsSession = null;
+        if (parent != null) {
+            parent.invalidate();
+        }
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    HubWebDriver getDriver() {
+        return driver;
+    }
+
+    HubElementLocator getParent() {
+        return parent;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the flattened locator of an element inside a component, or null
+     * if it is not nested or cannot be flattened.
+     */
+    By getScopedBy() {
+        return scopedBy;
+    }
+
+    /**
+     * Returns the elements of a component list, cached like single elements
+     * so that items can be resolved by index without a lookup each.
+     */
+    synchronized List<WebElement> findItems() {
+        if (!isCaching()) {
+            return lookupAll();
+        }
+        ProviderSession session = driver.getSession();
+        long navigation = driver.getNavigationCount();
+        if (cachedItems != null && cachedItemsSession == session
+                && (cacheLookup || cachedItemsNavigation == navigation)) {
+            return cachedItems;
+        }
+        List<WebElement> items = lookupAll();
+        cachedItems = items;
+        cachedItemsSession = session;
+        cachedItemsNavigation = navigation;
+        return items;
+    }
+
+    private boolean isCaching() {
+        return cacheLookup || driver.isElementCaching();
+    }
+
+    private WebElement lookup() {
+        // Cached items are free; otherwise a flattened item costs one call instead of a list lookup
+        if (index >= 0 && (isCaching() || scopedBy == null)) {
+            List<WebElement> items = parent.findItems();
+            if (index >= items.size()) {
+                throw new NoSuchElementException("No item " + index + " among " + items.size() + " " + parent);
+            }
+            return items.get(index);
+        }
+        if (parent == null) {
+            return driver.findElement(by);
+        }
+        if (scopedBy != null) {
+            return driver.findElement(scopedBy);
+        }
+        try {
+            return parent.findElement().findElement(by);
+        } catch (RuntimeException e) {
+            if (!HubLocatingElementHandler.isStale(e)) {
+                throw e;
+            }
+            parent.invalidate();
+            return parent.findElement().findElement(by);
+        }
+    }
+
+    private List<WebElement> lookupAll() {
+        if (parent == null) {
+            return driver.findElements(by);
+        }
+        if (scopedBy != null) {
+            return driver.findElements(scopedBy);
+        }
+        try {
+            return parent.findElement().findElements(by);
+        } catch (RuntimeException e) {
+            if (!HubLocatingElementHandler.isStale(e)) {
+                throw e;
+            }
+            parent.invalidate();
+            return parent.findElement().findElements(by);
+        }
+    }
+
+    @Override
+    public String toString() {
+        String located = index >= 0 ? "Item " + index + " of " + parent : "Located by " + by;
+        return parent != null && index < 0 ? located + " in " + parent : located;
+    }
+}
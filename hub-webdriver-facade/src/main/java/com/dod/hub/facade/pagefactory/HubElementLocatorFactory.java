@@ -0,0 +1,33 @@
+package com.dod.hub.facade.pagefactory;
+
+import com.dod.hub.facade.HubWebDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+
+/**
+ * Creates {@link HubElementLocator}s, which cache each field's element until
+ * the driver navigates, for the fields of a page or, relative to its root, of
+ * a component.
+ */
+public class HubElementLocatorFactory implements ElementLocatorFactory {
+
+    private final HubWebDriver driver;
+    private final HubElementLocator root;
+
+    public HubElementLocatorFactory(HubWebDriver driver) {
+        this.driver = driver;
+        this.root = null;
+    }
+
+    public HubElementLocatorFactory(HubElementLocator root) {
+        this.driver = null;
+        this.root = root;
+    }
+
+    @Override
+    public ElementLocator createLocator(Field field) {
+        return root == null ? new HubElementLocator(driver, field) : new HubElementLocator(root, field);
+    }
+}
@@ -1,11 +1,17 @@
 package com.dod.hub.facade.pagefactory;
 
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
 import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
 import java.util.List;
 
 /**
@@ -16,7 +22,8 @@ import java.util.List;
  * The decoration logic first attempts standard Selenium decoration. If no
  * standard element is detected,
  * and the field type extends HubComponent, it instantiates the component and
- * injects a managed proxy.
+ * injects a managed proxy. {@code List<SomeComponent>} fields receive a
+ * {@link HubComponentList}.
  */
 public class HubFieldDecorator extends DefaultFieldDecorator {
 
@@ -32,15 +39,27 @@ public class HubFieldDecorator extends DefaultFieldDecorator {
             return decorated;
         }
 
-        // Collection of components is not yet supported in the current version
+        // Collection of components, resolved lazily item by item
         if (List.class.isAssignableFrom(field.getType())) {
-            return null;
+            return decorateComponentList(loader, field);
         }
 
         // Try to instantiate as a Component
         return decorateComponent(loader, field);
     }
 
+    /**
+     * Proxies backed by a {@link HubElementLocator} recover from a stale
+     * cached element by locating it again.
+     */
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        if (!(locator instanceof HubElementLocator)) {
+            return super.proxyForLocator(loader, locator);
+        }
+        return HubLocatingElementHandler.proxy(loader, (HubElementLocator) locator);
+    }
+
     private Object decorateComponent(ClassLoader loader, Field field) {
         // Enforce HubComponent extension
         if (!HubComponent.class.isAssignableFrom(field.getType())) {
@@ -52,22 +71,53 @@ public class HubFieldDecorator extends DefaultFieldDecorator {
             return null;
         }
 
-        // Proxy the element
-        WebElement proxy = proxyForLocator(loader, locator);
+        // Proxy the element and initialize the component with it as root
+        return newComponent(field.getType().asSubclass(HubComponent.class), proxyForLocator(loader, locator));
+    }
 
-        try {
-            // Instantiate using no-args constructor
-            Object instance = field.getType().getDeclaredConstructor().newInstance();
+    private Object decorateComponentList(ClassLoader loader, Field field) {
+        Class<? extends HubComponent> type = componentListType(field);
+        if (type == null) {
+            return null;
+        }
 
-            // Initialize the component with the proxy root
-            ((HubComponent) instance).init(proxy);
+        ElementLocator locator = factory.createLocator(field);
+        if (locator == null) {
+            return null;
+        }
+        return new HubComponentList<>(type, locator);
+    }
+
+    /**
+     * Returns the component type of a field that takes a
+     * {@link HubComponentList}, or null for any other field.
+     */
+    static Class<? extends HubComponent> componentListType(Field field) {
+        if (!field.getType().isAssignableFrom(HubComponentList.class)
+                || !(field.getGenericType() instanceof ParameterizedType)
+                || !(field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                        || field.isAnnotationPresent(FindAll.class))) {
+            return null;
+        }
+        Type argument = ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+        if (argument instanceof WildcardType) {
+            argument = ((WildcardType) argument).getUpperBounds()[0];
+        }
+        if (!(argument instanceof Class) || !HubComponent.class.isAssignableFrom((Class<?>) argument)) {
+            return null;
+        }
+        return ((Class<?>) argument).asSubclass(HubComponent.class);
+    }
 
-            return instance;
-        } catch (NoSuchMethodException e) {
-            throw new RuntimeException(
-                    "Component " + field.getType().getName() + " must have a public no-args constructor.", e);
+    static <T extends HubComponent> T newComponent(Class<T> type, WebElement root) {
+        // Instantiate using the cached no-args constructor
+        T instance = type.cast(HubPageModel.instantiate(type));
+        try {
+            // Initialize the component with the proxy root
+            instance.init(root);
         } catch (Exception e) {
-            throw new RuntimeException("Failed to instantiate component: " + field.getType().getName(), e);
+            throw new RuntimeException("Failed to instantiate component: " + type.getName(), e);
         }
+        return instance;
     }
 }
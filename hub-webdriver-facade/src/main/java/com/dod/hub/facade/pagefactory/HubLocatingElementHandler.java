@@ -0,0 +1,111 @@
+package com.dod.hub.facade.pagefactory;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Invocation handler of field proxies backed by a {@link HubElementLocator}.
+ * A call that fails because the cached element went stale is retried once
+ * with a freshly located element.
+ */
+final class HubLocatingElementHandler implements InvocationHandler {
+
+    private static final Class<?>[] INTERFACES = { WebElement.class, WrapsElement.class, Locatable.class };
+
+    /**
+     * Constructors of the proxy class in the class loader of a page or
+     * component class, sparing {@link Proxy#newProxyInstance} its lookups.
+     */
+    private static final ClassValue<MethodHandle> PROXY_CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> owner) {
+            return HubPageModel.proxyConstructor(owner.getClassLoader(), INTERFACES)
+                    .asType(MethodType.methodType(WebElement.class, InvocationHandler.class));
+        }
+    };
+
+    private final HubElementLocator locator;
+
+    HubLocatingElementHandler(HubElementLocator locator) {
+        this.locator = locator;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        WebElement element;
+        try {
+            element = locator.findElement();
+        } catch (NoSuchElementException e) {
+            if ("toString".equals(method.getName())) {
+                return "Proxy element for: " + locator;
+            }
+            throw e;
+        }
+        if ("getWrappedElement".equals(method.getName())) {
+            return element;
+        }
+        try {
+            return method.invoke(element, args);
+        } catch (InvocationTargetException e) {
+            if (!isStale(e.getCause())) {
+                throw e.getCause();
+            }
+        }
+        locator.invalidate();
+        try {
+            return method.invoke(locator.findElement(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Returns the locator behind a proxy created by {@link #proxy}, or null
+     * for any other element.
+     */
+    static HubElementLocator locatorOf(Object element) {
+        if (element == null || !Proxy.isProxyClass(element.getClass())) {
+            return null;
+        }
+        InvocationHandler handler = Proxy.getInvocationHandler(element);
+        return handler instanceof HubLocatingElementHandler ? ((HubLocatingElementHandler) handler).locator : null;
+    }
+
+    static WebElement proxy(ClassLoader loader, HubElementLocator locator) {
+        return (WebElement) Proxy.newProxyInstance(loader, INTERFACES, new HubLocatingElementHandler(locator));
+    }
+
+    /**
+     * Same as {@link #proxy(ClassLoader, HubElementLocator)} in the class
+     * loader of {@code owner}, through a cached constructor.
+     */
+    static WebElement proxy(Class<?> owner, HubElementLocator locator) {
+        try {
+            return (WebElement) PROXY_CONSTRUCTORS.get(owner)
+                    .invokeExact((InvocationHandler) new HubLocatingElementHandler(locator));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create element proxy", e);
+        }
+    }
+
+    static boolean isStale(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof StaleElementReferenceException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
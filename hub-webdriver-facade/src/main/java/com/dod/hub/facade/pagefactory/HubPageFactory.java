@@ -1,17 +1,26 @@
 package com.dod.hub.facade.pagefactory;
 
+import com.dod.hub.facade.HubWebDriver;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
 
 /**
  * Extended PageFactory that supports Nested Components.
+ * <p>
+ * Fields of pages initialized with a {@link HubWebDriver} keep their element
+ * until the driver navigates (see {@link HubElementLocator}), unless element
+ * caching is disabled in the driver's configuration. Such pages are
+ * initialized from metadata resolved once per class (see
+ * {@link HubPageModel}) instead of walking their fields on every call.
  */
 public class HubPageFactory {
 
     public static void initElements(WebDriver driver, Object page) {
-        PageFactory.initElements(
-                new HubFieldDecorator(new DefaultElementLocatorFactory(driver)),
-                page);
+        if (driver instanceof HubWebDriver) {
+            HubPageModel.of(page.getClass()).initElements(page, (HubWebDriver) driver, null);
+            return;
+        }
+        PageFactory.initElements(new HubFieldDecorator(new DefaultElementLocatorFactory(driver)), page);
     }
 }
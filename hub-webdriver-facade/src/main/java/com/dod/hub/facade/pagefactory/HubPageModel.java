@@ -0,0 +1,227 @@
+package com.dod.hub.facade.pagefactory;
+
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.facade.HubWebDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The decoratable fields of a page or component class, resolved once per
+ * class.
+ * <p>
+ * {@link org.openqa.selenium.support.PageFactory PageFactory} walks the fields
+ * of every new page reflectively, parses their annotations again and creates
+ * each proxy through {@link Proxy#newProxyInstance}. The model does that work
+ * on the first instance: it keeps each field's locator, a setter and the
+ * component constructors as method handles, and the constructors of the proxy
+ * classes, so that initializing a page only creates its locators and proxies.
+ * It decorates the same fields as {@link HubFieldDecorator}.
+ */
+final class HubPageModel {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<HubPageModel> MODELS = new ClassValue<HubPageModel>() {
+        @Override
+        protected HubPageModel computeValue(Class<?> type) {
+            return new HubPageModel(type);
+        }
+    };
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            Constructor<?> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException(
+                        "Component " + type.getName() + " must have a public no-args constructor.", e);
+            }
+            try {
+                return LOOKUP.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Failed to instantiate component: " + type.getName(), e);
+            }
+        }
+    };
+
+    private enum Kind {
+        ELEMENT, ELEMENT_LIST, COMPONENT, COMPONENT_LIST
+    }
+
+    private static final class FieldModel {
+        final Kind kind;
+        final By by;
+        final HubLocator hubLocator;
+        final boolean cacheLookup;
+        final Class<? extends HubComponent> componentType;
+        final MethodHandle setter;
+
+        FieldModel(Field field, Kind kind, Class<? extends HubComponent> componentType) {
+            Annotations annotations = new Annotations(field);
+            this.kind = kind;
+            this.by = annotations.buildBy();
+            this.hubLocator = HubElementLocator.toHubLocator(by);
+            this.cacheLookup = annotations.isLookupCached();
+            this.componentType = componentType;
+            this.setter = setter(field);
+        }
+    }
+
+    private final Class<?> type;
+    private final List<FieldModel> fields = new ArrayList<>();
+    private final MethodHandle listProxy;
+
+    private HubPageModel(Class<?> type) {
+        this.type = type;
+        // HubComponent's own root field is assigned by init(), not decorated
+        for (Class<?> c = type; c != Object.class && c != HubComponent.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                FieldModel model = model(field);
+                if (model != null) {
+                    fields.add(model);
+                }
+            }
+        }
+        this.listProxy = proxyConstructor(type.getClassLoader(), List.class)
+                .asType(MethodType.methodType(Object.class, InvocationHandler.class));
+    }
+
+    static HubPageModel of(Class<?> type) {
+        return MODELS.get(type);
+    }
+
+    /**
+     * Creates an instance of a class with a no-args constructor.
+     */
+    static Object instantiate(Class<?> type) {
+        MethodHandle constructor = CONSTRUCTORS.get(type);
+        try {
+            return constructor.invokeExact();
+        } catch (Throwable e) {
+            throw new RuntimeException("Failed to instantiate component: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Returns the constructor of the proxy class implementing the given
+     * interfaces in the given class loader.
+     */
+    static MethodHandle proxyConstructor(ClassLoader loader, Class<?>... interfaces) {
+        Class<?> proxyClass = Proxy.newProxyInstance(loader, interfaces, (proxy, method, args) -> null).getClass();
+        try {
+            return MethodHandles.publicLookup().findConstructor(proxyClass,
+                    MethodType.methodType(void.class, InvocationHandler.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot access proxy class " + proxyClass.getName(), e);
+        }
+    }
+
+    /**
+     * Decorates the fields of {@code target}: a page when {@code root} is
+     * null, otherwise a component whose fields are located inside it.
+     */
+    void initElements(Object target, HubWebDriver driver, HubElementLocator root) {
+        for (FieldModel field : fields) {
+            HubElementLocator locator = new HubElementLocator(driver, root, field.by, field.hubLocator, -1,
+                    field.cacheLookup);
+            Object value;
+            switch (field.kind) {
+                case ELEMENT:
+                    value = HubLocatingElementHandler.proxy(type, locator);
+                    break;
+                case ELEMENT_LIST:
+                    value = listProxy(locator);
+                    break;
+                case COMPONENT:
+                    value = HubFieldDecorator.newComponent(field.componentType,
+                            HubLocatingElementHandler.proxy(type, locator));
+                    break;
+                default:
+                    value = new HubComponentList<>(field.componentType, locator);
+                    break;
+            }
+            try {
+                field.setter.invokeExact(target, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to set field of " + type.getName(), e);
+            }
+        }
+    }
+
+    private Object listProxy(HubElementLocator locator) {
+        try {
+            return listProxy.invokeExact((InvocationHandler) new LocatingElementListHandler(locator));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create list proxy", e);
+        }
+    }
+
+    private static FieldModel model(Field field) {
+        Class<?> fieldType = field.getType();
+        if (WebElement.class.isAssignableFrom(fieldType)) {
+            return new FieldModel(field, Kind.ELEMENT, null);
+        }
+        if (List.class.isAssignableFrom(fieldType)) {
+            if (isElementList(field)) {
+                return new FieldModel(field, Kind.ELEMENT_LIST, null);
+            }
+            Class<? extends HubComponent> componentType = HubFieldDecorator.componentListType(field);
+            return componentType == null ? null : new FieldModel(field, Kind.COMPONENT_LIST, componentType);
+        }
+        if (HubComponent.class.isAssignableFrom(fieldType)) {
+            return new FieldModel(field, Kind.COMPONENT, fieldType.asSubclass(HubComponent.class));
+        }
+        return null;
+    }
+
+    /**
+     * Mirrors {@code DefaultFieldDecorator.isDecoratableList}.
+     */
+    private static boolean isElementList(Field field) {
+        if (!(field.getGenericType() instanceof ParameterizedType)
+                || ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0] != WebElement.class) {
+            return false;
+        }
+        return field.isAnnotationPresent(FindBy.class)
+                || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class);
+    }
+
+    private static MethodHandle setter(Field field) {
+        field.setAccessible(true);
+        MethodHandle setter;
+        try {
+            setter = LOOKUP.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot set field " + field, e);
+        }
+        if (Modifier.isStatic(field.getModifiers())) {
+            setter = MethodHandles.dropArguments(setter, 0, Object.class);
+        }
+        return setter.asType(SETTER);
+    }
+}
@@ -1,12 +1,14 @@
 package com.dod.hub.facade.pool;
 
 import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubStateReset;
 import com.dod.hub.facade.HubFactory;
 import com.dod.hub.facade.HubWebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -15,7 +17,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * Singleton pool for managing reusable HubWebDriver instances.
  * <p>
  * This pool distinguishes drivers based on their unique configuration signature
- * (Provider + Browser + Headless + GridUrl).
+ * (Provider + Browser + Headless + GridUrl + every other per-driver setting).
  * Drivers are borrowed when needed and returned (after cleanup) when tests
  * finish.
  */
@@ -118,12 +120,7 @@ public class HubDriverPool {
 
         try {
             driver.getCurrentUrl();
-            driver.manage().deleteAllCookies();
-
-            try {
-                driver.executeScript("window.sessionStorage.clear(); window.localStorage.clear();");
-            } catch (Exception ignored) {
-            }
+            driver.resetState(HubStateReset.COOKIES_AND_STORAGE);
 
             BlockingQueue<HubWebDriver> queue = poolStore.get(key);
             if (queue == null) {
@@ -178,11 +175,22 @@ public class HubDriverPool {
         activeCounts.clear();
     }
 
-    private String generateKey(HubConfig config) {
-        return String.format("%s:%s:%s:%s",
+    /**
+     * Every setting {@link HubFactory} applies to a driver is part of the key,
+     * so a pooled driver is only reused by configurations it was created for.
+     */
+    static String generateKey(HubConfig config) {
+        return String.format("%s:%s:%s:%s:%s:%s:%s:%s:%s:%s:%s",
                 config.getProvider(),
                 config.getBrowser(),
                 config.isHeadless(),
-                config.getGridUrl() == null ? "local" : config.getGridUrl());
+                config.getGridUrl() == null ? "local" : config.getGridUrl(),
+                config.getProviderOptions() == null ? "{}" : new TreeMap<>(config.getProviderOptions()),
+                config.getImplicitWaitMs(),
+                config.getPageLoadTimeoutMs(),
+                config.getNavigationPolicy(),
+                config.getScreenshotSpec() == null ? "default" : config.getScreenshotSpec(),
+                config.isElementCaching(),
+                config.getVideoOptions() == null ? "no-video" : config.getVideoOptions());
     }
 }
@@ -1,5 +1,7 @@
 package com.dod.hub.facade;
 
+import com.dod.hub.core.config.HubNavigationPolicy;
+import com.dod.hub.core.config.HubScreenshotSpec;
 import com.dod.hub.core.locator.HubElementRef;
 import com.dod.hub.core.locator.HubLocator;
 import com.dod.hub.core.provider.HubProvider;
@@ -11,9 +13,14 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.Cookie;
 import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
 import org.openqa.selenium.Point;
 import org.openqa.selenium.WebDriver;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -251,9 +258,166 @@ class HubWebDriverTest {
         }
     }
 
+    @Nested
+    @DisplayName("Navigation Tests")
+    class NavigationTests {
+
+        @Test
+        @DisplayName("get(url) should use the session default navigation")
+        void getUsesSessionDefault() {
+            driver.get("https://example.com");
+
+            assertEquals("https://example.com", mockProvider.lastNavigatedUrl);
+            assertNull(mockProvider.lastNavigationPolicy);
+        }
+
+        @Test
+        @DisplayName("get(url, policy) should pass the readiness policy to the provider")
+        void getWithPolicyDelegatesToProvider() {
+            HubNavigationPolicy policy = HubNavigationPolicy.whenSelector("#app").withTimeout(5000);
+
+            driver.get("https://example.com", policy);
+
+            assertEquals("https://example.com", mockProvider.lastNavigatedUrl);
+            assertEquals(policy, mockProvider.lastNavigationPolicy);
+        }
+
+        @Test
+        @DisplayName("get(url, null) should be rejected")
+        void getWithNullPolicyIsRejected() {
+            assertThrows(IllegalArgumentException.class, () -> driver.get("https://example.com", null));
+        }
+
+        @Test
+        @DisplayName("custom policies should build in-page readiness expressions")
+        void customPoliciesBuildReadyExpressions() {
+            assertEquals("document.querySelector('a[title=\\'x\\']') !== null",
+                    HubNavigationPolicy.whenSelector("a[title='x']").toReadyExpression());
+            assertEquals("!!(window.appReady)", HubNavigationPolicy.whenScript("window.appReady").toReadyExpression());
+            assertNull(HubNavigationPolicy.eager().toReadyExpression());
+        }
+    }
+
+    @Nested
+    @DisplayName("Screenshot Tests")
+    class ScreenshotTests {
+
+        @Test
+        @DisplayName("getScreenshotAs without a configured spec should use the provider default capture")
+        void defaultCaptureWithoutSpec() {
+            driver.getScreenshotAs(OutputType.BYTES);
+
+            assertTrue(mockProvider.defaultScreenshotTaken);
+            assertNull(mockProvider.lastScreenshotSpec);
+        }
+
+        @Test
+        @DisplayName("getScreenshotAs should apply the configured default spec")
+        void configuredSpecIsApplied() {
+            SessionCapabilities caps = new SessionCapabilities();
+            caps.setScreenshotSpec(HubScreenshotSpec.fullPage().jpeg(60));
+            HubWebDriver configured = new HubWebDriver(mockProvider, caps);
+
+            configured.getScreenshotAs(OutputType.BYTES);
+
+            assertEquals(HubScreenshotSpec.fullPage().jpeg(60), mockProvider.lastScreenshotSpec);
+        }
+
+        @Test
+        @DisplayName("getScreenshotAs(target, spec) should pass the spec and convert the output")
+        void explicitSpec() {
+            HubScreenshotSpec spec = HubScreenshotSpec.viewport().jpeg(70).withScale(0.5);
+
+            String base64 = driver.getScreenshotAs(OutputType.BASE64, spec);
+
+            assertEquals(spec, mockProvider.lastScreenshotSpec);
+            assertEquals(Base64.getEncoder().encodeToString(MockProvider.SPEC_SCREENSHOT), base64);
+            assertEquals("viewport/jpeg(q=70)@0.5x", spec.toString());
+            assertThrows(IllegalArgumentException.class, () -> driver.getScreenshotAs(OutputType.BYTES, null));
+        }
+
+        @Test
+        @DisplayName("element getScreenshotAs should capture the element through the provider")
+        void elementScreenshot() {
+            HubElementRef ref = new HubElementRef(HubLocator.css("#logo"), new Object());
+            HubWebElement element = new HubWebElement(driver, ref);
+
+            element.getScreenshotAs(OutputType.BYTES);
+
+            assertSame(ref, mockProvider.lastScreenshotElement);
+            assertEquals(HubScreenshotSpec.viewport(), mockProvider.lastScreenshotSpec);
+        }
+
+        @Test
+        @DisplayName("default provider implementation should re-encode and scale viewport captures")
+        void defaultImplementationTranscodes() throws Exception {
+            BufferedImage image = new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB);
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", png);
+            mockProvider.screenshot = png.toByteArray();
+            mockProvider.useDefaultSpecCapture = true;
+            ProviderSession session = driver.getSession();
+
+            byte[] jpeg = mockProvider.takeScreenshot(session, HubScreenshotSpec.viewport().jpeg(50).withScale(0.5));
+
+            assertEquals((byte) 0xFF, jpeg[0]);
+            assertEquals((byte) 0xD8, jpeg[1]);
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(jpeg));
+            assertEquals(50, decoded.getWidth());
+            assertEquals(25, decoded.getHeight());
+            assertSame(mockProvider.screenshot, mockProvider.takeScreenshot(session, HubScreenshotSpec.viewport()),
+                    "A capture matching the spec should be returned without re-encoding");
+            assertThrows(UnsupportedOperationException.class,
+                    () -> mockProvider.takeScreenshot(session, HubScreenshotSpec.fullPage()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Handle Tests")
+    class LazyHandleTests {
+
+        @Test
+        @DisplayName("lazy handle should create its driver once, on first use")
+        void createsOnFirstUse() {
+            int[] created = { 0 };
+            LazyHubWebDriver lazy = new LazyHubWebDriver(() -> {
+                created[0]++;
+                return driver;
+            });
+
+            assertFalse(lazy.isInitialized());
+            assertNull(lazy.getIfInitialized());
+            lazy.quit();
+            assertEquals(0, created[0], "quit() on an unused handle should not create a driver");
+
+            lazy.getTitle();
+            lazy.get("https://example.com");
+            assertEquals(1, created[0]);
+            assertSame(driver, lazy.getIfInitialized());
+            assertSame(driver.getSession(), lazy.getSession());
+        }
+
+        @Test
+        @DisplayName("delegating driver should override every public HubWebDriver method")
+        void overridesEveryPublicMethod() {
+            for (java.lang.reflect.Method method : HubWebDriver.class.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if (!java.lang.reflect.Modifier.isPublic(modifiers) || java.lang.reflect.Modifier.isStatic(modifiers)) {
+                    continue;
+                }
+                assertDoesNotThrow(
+                        () -> DelegatingHubWebDriver.class.getDeclaredMethod(method.getName(),
+                                method.getParameterTypes()),
+                        "DelegatingHubWebDriver does not forward " + method);
+            }
+        }
+    }
+
     // Concrete Mock Implementation
     static class MockProvider implements HubProvider {
 
+        static final byte[] SPEC_SCREENSHOT = { 1, 2, 3 };
+
         boolean maximizeWindowCalled = false;
         boolean minimizeWindowCalled = false;
         boolean fullscreenWindowCalled = false;
@@ -285,6 +449,15 @@ class HubWebDriverTest {
         long lastImplicitWait;
         long lastPageLoadTimeout;
 
+        String lastNavigatedUrl;
+        HubNavigationPolicy lastNavigationPolicy;
+
+        boolean defaultScreenshotTaken;
+        boolean useDefaultSpecCapture;
+        byte[] screenshot = new byte[0];
+        HubScreenshotSpec lastScreenshotSpec;
+        HubElementRef lastScreenshotElement;
+
         @Override
         public String getName() {
             return "mock";
@@ -358,6 +531,13 @@ class HubWebDriverTest {
 
         @Override
         public void navigate(ProviderSession session, String url) {
+            this.lastNavigatedUrl = url;
+        }
+
+        @Override
+        public void navigate(ProviderSession session, String url, HubNavigationPolicy policy) {
+            this.lastNavigatedUrl = url;
+            this.lastNavigationPolicy = policy;
         }
 
         @Override
@@ -389,7 +569,24 @@ class HubWebDriverTest {
 
         @Override
         public byte[] takeScreenshot(ProviderSession session) {
-            return new byte[0];
+            defaultScreenshotTaken = true;
+            return screenshot;
+        }
+
+        @Override
+        public byte[] takeScreenshot(ProviderSession session, HubScreenshotSpec spec) {
+            lastScreenshotSpec = spec;
+            if (useDefaultSpecCapture) {
+                return HubProvider.super.takeScreenshot(session, spec);
+            }
+            return SPEC_SCREENSHOT;
+        }
+
+        @Override
+        public byte[] takeElementScreenshot(ProviderSession session, HubElementRef element, HubScreenshotSpec spec) {
+            lastScreenshotElement = element;
+            lastScreenshotSpec = spec;
+            return SPEC_SCREENSHOT;
         }
 
         @Override
@@ -0,0 +1,200 @@
+package com.dod.hub.facade.pagefactory;
+
+import com.dod.hub.core.locator.HubElementRef;
+import com.dod.hub.core.locator.HubLocator;
+import com.dod.hub.core.provider.HubProvider;
+import com.dod.hub.core.provider.ProviderSession;
+import com.dod.hub.core.provider.SessionCapabilities;
+import com.dod.hub.facade.HubWebDriver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Counts provider calls of page flows to check the element cache and the
+ * lazy component lists.
+ */
+class HubPageFactoryTest {
+
+    private HubProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = mock(HubProvider.class);
+        when(provider.getName()).thenReturn("mock");
+        when(provider.start(any())).thenAnswer(inv -> new ProviderSession("mock", inv.getArgument(0), new Object()));
+        when(provider.find(any(ProviderSession.class), any(HubLocator.class)))
+                .thenAnswer(inv -> new HubElementRef(inv.getArgument(1), new Object()));
+    }
+
+    @Test
+    @DisplayName("Fields should be looked up once per page and again after a navigation")
+    void cachesElementsUntilNavigation() {
+        LoginPage page = loginFlow(true);
+
+        // 3 fields on 2 pages; 10 field accesses without caching
+        verify(provider, times(6)).find(any(ProviderSession.class), any(HubLocator.class));
+        page.submit.click();
+        verify(provider, times(6)).find(any(ProviderSession.class), any(HubLocator.class));
+    }
+
+    @Test
+    @DisplayName("Disabled element caching should look fields up on every access")
+    void looksUpEveryAccessWhenDisabled() {
+        loginFlow(false);
+
+        verify(provider, times(10)).find(any(ProviderSession.class), any(HubLocator.class));
+    }
+
+    @Test
+    @DisplayName("A stale cached element should be located again and the call retried")
+    void retriesStaleElement() {
+        HubWebDriver driver = driver(true);
+        LoginPage page = new LoginPage();
+        HubPageFactory.initElements(driver, page);
+        page.submit.isDisplayed();
+        doThrow(new StaleElementReferenceException("re-rendered")).doNothing()
+                .when(provider).click(any(ProviderSession.class), any(HubElementRef.class));
+
+        page.submit.click();
+
+        verify(provider, times(2)).find(any(ProviderSession.class), any(HubLocator.class));
+        verify(provider, times(2)).click(any(ProviderSession.class), any(HubElementRef.class));
+    }
+
+    @Test
+    @DisplayName("Component lists should find all rows once and create components on access")
+    void findsComponentRootsOnce() {
+        when(provider.findAll(any(ProviderSession.class), any(HubLocator.class))).thenAnswer(inv -> List.of(
+                new HubElementRef(inv.getArgument(1), new Object()),
+                new HubElementRef(inv.getArgument(1), new Object()),
+                new HubElementRef(inv.getArgument(1), new Object())));
+        when(provider.find(any(ProviderSession.class), any(HubElementRef.class), any(HubLocator.class)))
+                .thenAnswer(inv -> new HubElementRef(inv.getArgument(2), new Object()));
+        ResultsPage page = new ResultsPage();
+        HubPageFactory.initElements(driver(true), page);
+
+        assertEquals(3, page.rows.size());
+        page.rows.get(1).name.getText();
+        page.rows.get(1).name.getText();
+        page.rows.forEach(row -> assertNotNull(row.getRoot()));
+
+        verify(provider, times(1)).findAll(any(ProviderSession.class), any(HubLocator.class));
+        verify(provider, times(1)).find(any(ProviderSession.class), any(HubElementRef.class), any(HubLocator.class));
+        verify(provider, times(2)).getText(any(ProviderSession.class), any(HubElementRef.class));
+    }
+
+    @Test
+    @DisplayName("Reading a field of every component should cost a single provider call")
+    void readsComponentFieldsInOneCall() {
+        when(provider.readAll(any(ProviderSession.class), isNull(), eq(HubLocator.css(".row")),
+                eq(HubLocator.css(".name")), isNull())).thenReturn(List.of("first", "second"));
+        ResultsPage page = new ResultsPage();
+        HubPageFactory.initElements(driver(true), page);
+
+        assertEquals(List.of("first", "second"), page.rows.readTexts(row -> row.name));
+
+        verify(provider, times(1)).readAll(any(), any(), any(), any(), any());
+        verify(provider, never()).findAll(any(ProviderSession.class), any(HubLocator.class));
+        verify(provider, never()).getText(any(ProviderSession.class), any(HubElementRef.class));
+    }
+
+    @Test
+    @DisplayName("Fields of nested components should be found with one flattened selector")
+    void flattensNestedComponentSelectors() {
+        when(provider.find(any(ProviderSession.class), any(HubElementRef.class), any(HubLocator.class)))
+                .thenAnswer(inv -> new HubElementRef(inv.getArgument(2), new Object()));
+        CartPage page = new CartPage();
+        HubPageFactory.initElements(driver(false), page);
+
+        page.cart.summary.total.getText();
+        verify(provider).find(any(ProviderSession.class), eq(HubLocator.css("#cart .summary .total")));
+        verify(provider, never()).find(any(ProviderSession.class), any(HubElementRef.class), any(HubLocator.class));
+
+        // A link text cannot be flattened into CSS: the root is looked up first
+        page.cart.checkout.click();
+        verify(provider).find(any(ProviderSession.class), eq(HubLocator.css("#cart")));
+        verify(provider).find(any(ProviderSession.class), any(HubElementRef.class), any(HubLocator.class));
+    }
+
+    private LoginPage loginFlow(boolean elementCaching) {
+        HubWebDriver driver = driver(elementCaching);
+        LoginPage page = new LoginPage();
+        HubPageFactory.initElements(driver, page);
+        page.login("user", "secret");
+        driver.navigate().refresh();
+        page.login("user", "secret");
+        return page;
+    }
+
+    private HubWebDriver driver(boolean elementCaching) {
+        SessionCapabilities caps = new SessionCapabilities();
+        caps.setElementCaching(elementCaching);
+        return new HubWebDriver(provider, caps);
+    }
+
+    static class ResultsPage {
+        @FindBy(css = ".row")
+        HubComponentList<Row> rows;
+    }
+
+    public static class Row extends HubComponent {
+        @FindBy(css = ".name")
+        WebElement name;
+    }
+
+    static class CartPage {
+        @FindBy(css = "#cart")
+        Cart cart;
+    }
+
+    public static class Cart extends HubComponent {
+        @FindBy(css = ".summary")
+        Summary summary;
+
+        @FindBy(linkText = "Checkout")
+        WebElement checkout;
+    }
+
+    public static class Summary extends HubComponent {
+        @FindBy(css = ".total")
+        WebElement total;
+    }
+
+    static class LoginPage {
+        @FindBy(id = "username")
+        WebElement username;
+
+        @FindBy(id = "password")
+        WebElement password;
+
+        @FindBy(css = "button[type=submit]")
+        WebElement submit;
+
+        void login(String user, String secret) {
+            username.clear();
+            username.sendKeys(user);
+            password.clear();
+            password.sendKeys(secret);
+            submit.click();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.dod.hub.facade.pool;
+
+import com.dod.hub.core.config.HubConfig;
+import com.dod.hub.core.config.HubVideoOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HubDriverPoolTest {
+
+    @Test
+    @DisplayName("Configurations differing in any per-driver setting should not share pooled drivers")
+    void keyCoversPerDriverSettings() {
+        String base = HubDriverPool.generateKey(new HubConfig());
+
+        assertNotEquals(base, keyWith(c -> c.setElementCaching(false)));
+        assertNotEquals(base, keyWith(c -> c.setVideoOptions(HubVideoOptions.defaults())));
+        assertNotEquals(base, keyWith(c -> c.setImplicitWaitMs(500)));
+        assertNotEquals(base, keyWith(c -> c.setPageLoadTimeoutMs(5000)));
+        assertNotEquals(base, keyWith(c -> c.getProviderOptions().put("hybrid.routing.get_title", "playwright")));
+    }
+
+    @Test
+    @DisplayName("Provider options in a different order should share pooled drivers")
+    void keyIgnoresOptionOrder() {
+        Map<String, Object> first = new LinkedHashMap<>();
+        first.put("a", 1);
+        first.put("b", 2);
+        Map<String, Object> second = new LinkedHashMap<>();
+        second.put("b", 2);
+        second.put("a", 1);
+
+        assertEquals(keyWith(c -> c.setProviderOptions(first)), keyWith(c -> c.setProviderOptions(second)));
+    }
+
+    private static String keyWith(Consumer<HubConfig> change) {
+        HubConfig config = new HubConfig();
+        change.accept(config);
+        return HubDriverPool.generateKey(config);
+    }
+}